@@ -0,0 +1,86 @@
+package jp.co.nova.gate.api.features.authentication.domain;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.ECGenParameterSpec;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for signing and verifying JWT authentication tokens with the {@link JwtTokenCreationFactory} class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenCreationFactoryBenchmark {
+
+    private static final String ISSUER = "NovaGate API";
+    private static final Duration LIFE_SPAN = Duration.ofMinutes(30);
+    private static final String SUBJECT = UUID.randomUUID().toString();
+
+    @Param({"RS256", "ES256"})
+    private String algorithmKey;
+
+    private JwtSigningAlgorithm algorithm;
+    private KeyPair keyPair;
+    private JwtTokenCreationFactory tokenCreationFactory;
+    private JWSVerifier verifier;
+    private String serializedToken;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException, InvalidAlgorithmParameterException, JOSEException {
+        algorithm = JwtSigningAlgorithm.findByKey(algorithmKey).orElseThrow();
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(algorithm.getKeyFactoryAlgorithm());
+
+        if (algorithm == JwtSigningAlgorithm.ES256) {
+            keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        } else {
+            keyPairGenerator.initialize(2048);
+        }
+
+        keyPair = keyPairGenerator.generateKeyPair();
+        tokenCreationFactory = new JwtTokenCreationFactory(ISSUER, LIFE_SPAN, algorithm, keyPair.getPrivate());
+        verifier = algorithm.createVerifier(keyPair.getPublic());
+        serializedToken = tokenCreationFactory.generate(SUBJECT).serialize();
+    }
+
+    /**
+     * Signs a token with the shared factory, the way the authentication token service does.
+     */
+    @Benchmark
+    @Threads(4)
+    public String sign() {
+        return tokenCreationFactory.generate(SUBJECT).serialize();
+    }
+
+    /**
+     * Signs a token with a new factory, which sets up a new signer and header for every token.
+     */
+    @Benchmark
+    @Threads(4)
+    public String signWithNewFactory() {
+        return new JwtTokenCreationFactory(ISSUER, LIFE_SPAN, algorithm, keyPair.getPrivate()).generate(SUBJECT).serialize();
+    }
+
+    /**
+     * Parses and verifies a signed token.
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean verify() throws ParseException, JOSEException {
+        return SignedJWT.parse(serializedToken).verify(verifier);
+    }
+}
@@ -0,0 +1,62 @@
+package jp.co.nova.gate.api.features.pod.domain;
+
+import jp.co.nova.gate.api.features.booking.domain.Booking;
+import jp.co.nova.gate.api.features.catalog.domain.MealPreference;
+import jp.co.nova.gate.api.features.catalog.domain.PackageType;
+import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayout;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.utils.features.booking.BookingTestDataBuilder;
+import jp.co.nova.gate.utils.features.user.UserTestDataBuilder;
+import jp.co.nova.gate.utils.features.voyage.VoyageTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for allocating the pods of a booking with the {@link PodAllocationFactory} class.
+ * <p>
+ * Every invocation starts from a new {@link PodAvailabilityIndex}, so the measured time includes building the index
+ * from the existing reservations, as a first booking of a voyage does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodAllocationFactoryBenchmark {
+
+    @Param({"1", "4"})
+    private int passengerCount;
+
+    @Param({"false", "true"})
+    private boolean groupSeating;
+
+    private Voyage voyage;
+    private SpaceShuttleLayout layout;
+    private Map<Passenger, String> requestedPodCodes;
+
+    @Setup
+    public void setUp() {
+        voyage = new VoyageTestDataBuilder().create();
+        layout = voyage.getSpaceShuttle().getLayout();
+
+        Booking booking = new BookingTestDataBuilder().create(new UserTestDataBuilder().create(), voyage);
+
+        requestedPodCodes = new LinkedHashMap<>();
+
+        for (int index = 0; index < passengerCount; index++) {
+            requestedPodCodes.put(Passenger.create(MealPreference.STANDARD, PackageType.ECONOMY, booking, voyage), null);
+        }
+    }
+
+    @Benchmark
+    public List<PodReservation> create() {
+        PodAvailabilityIndex availabilityIndex = PodAvailabilityIndex.create(layout, List.of());
+        return new PodAllocationFactory(voyage, requestedPodCodes, availabilityIndex, groupSeating).create();
+    }
+}
@@ -0,0 +1,41 @@
+package jp.co.nova.gate.api.features.route.domain;
+
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.utils.features.voyage.VoyageTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for calculating the distance of a {@link Route} with the {@link RouteDistanceFactory} class, and reading it
+ * from the {@link RouteDistanceMatrix}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteDistanceFactoryBenchmark {
+
+    private Route route;
+
+    @Setup
+    public void setUp() {
+        Voyage voyage = new VoyageTestDataBuilder().create();
+        route = voyage.getRoute();
+
+        RouteDistanceMatrix.register(List.of(route));
+    }
+
+    @Benchmark
+    public double calculate() {
+        return RouteDistanceFactory.create(route).calculate();
+    }
+
+    @Benchmark
+    public double getDistanceFromMatrix() {
+        return RouteDistanceMatrix.getDistance(route);
+    }
+}
@@ -0,0 +1,70 @@
+package jp.co.nova.gate.api.features.spaceShuttle.domain;
+
+import jp.co.nova.gate.api.features.booking.domain.Booking;
+import jp.co.nova.gate.api.features.catalog.domain.MealPreference;
+import jp.co.nova.gate.api.features.catalog.domain.PackageType;
+import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.pod.domain.Pod;
+import jp.co.nova.gate.api.features.pod.domain.PodReservation;
+import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.utils.features.booking.BookingTestDataBuilder;
+import jp.co.nova.gate.utils.features.spaceShuttle.SpaceShuttleTestDataBuilder;
+import jp.co.nova.gate.utils.features.spaceShuttleModel.SpaceShuttleModelTestDataBuilder;
+import jp.co.nova.gate.utils.features.user.UserTestDataBuilder;
+import jp.co.nova.gate.utils.features.voyage.VoyageTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for creating a {@link SpaceShuttleLayout} and reading its pods with their availability.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpaceShuttleLayoutBenchmark {
+
+    @Param({"100", "1000"})
+    private int maxCapacity;
+
+    @Param({"0", "25", "90"})
+    private int reservedPercentage;
+
+    private SpaceShuttleModel model;
+    private SpaceShuttleLayout layout;
+    private List<PodReservation> podReservations;
+
+    @Setup
+    public void setUp() {
+        model = new SpaceShuttleModelTestDataBuilder().withMaxCapacity(maxCapacity).create();
+        layout = new SpaceShuttleLayoutFactory(model).create();
+
+        Voyage voyage = new VoyageTestDataBuilder()
+                .withSpaceShuttle(new SpaceShuttleTestDataBuilder().withModel(model).create())
+                .create();
+        Booking booking = new BookingTestDataBuilder().create(new UserTestDataBuilder().create(), voyage);
+
+        List<Pod> allPods = layout.getAllPods();
+        int reservationCount = allPods.size() * reservedPercentage / 100;
+
+        podReservations = allPods.stream()
+                .limit(reservationCount)
+                .map(pod -> PodReservation.create(pod.getCode(), Passenger.create(MealPreference.STANDARD, PackageType.ECONOMY, booking, voyage), voyage))
+                .toList();
+    }
+
+    @Benchmark
+    public SpaceShuttleLayout createLayout() {
+        return new SpaceShuttleLayoutFactory(model).create();
+    }
+
+    @Benchmark
+    public List<Pod> getAllPodsWithAvailability() {
+        return layout.getAllPodsWithAvailability(podReservations);
+    }
+}
@@ -0,0 +1,31 @@
+package jp.co.nova.gate.api.features.voyage.domain;
+
+import jp.co.nova.gate.utils.features.voyage.VoyageTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for calculating the duration of a {@link Voyage} with the {@link VoyageDurationFactory} class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoyageDurationFactoryBenchmark {
+
+    private Voyage voyage;
+
+    @Setup
+    public void setUp() {
+        voyage = new VoyageTestDataBuilder().create();
+    }
+
+    @Benchmark
+    public Duration calculate() {
+        return VoyageDurationFactory.create(voyage.getRoute(), voyage.getSpaceShuttle()).calculate();
+    }
+}
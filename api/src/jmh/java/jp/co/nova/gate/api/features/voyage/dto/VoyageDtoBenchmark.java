@@ -0,0 +1,46 @@
+package jp.co.nova.gate.api.features.voyage.dto;
+
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.utils.features.voyage.VoyageTestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks for mapping {@link Voyage}s to their DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoyageDtoBenchmark {
+
+    @Param({"20", "100"})
+    private int voyageCount;
+
+    private Voyage voyage;
+    private List<Voyage> voyages;
+
+    @Setup
+    public void setUp() {
+        voyage = new VoyageTestDataBuilder().create();
+        voyages = IntStream.range(0, voyageCount)
+                .mapToObj(index -> new VoyageTestDataBuilder().withDepartureDate(ZonedDateTime.now().plusDays(index)).create())
+                .toList();
+    }
+
+    @Benchmark
+    public VoyageDto createVoyageDto() {
+        return VoyageDto.create(voyage);
+    }
+
+    @Benchmark
+    public List<VoyageBasicDto> createVoyageBasicDtos() {
+        return voyages.stream().map(VoyageBasicDto::create).toList();
+    }
+}
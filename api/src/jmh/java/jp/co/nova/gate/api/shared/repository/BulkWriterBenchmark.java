@@ -0,0 +1,124 @@
+package jp.co.nova.gate.api.shared.repository;
+
+import jakarta.persistence.EntityManager;
+import jp.co.nova.gate.api.application.startup.SeedFingerprint;
+import jp.co.nova.gate.api.features.booking.domain.Booking;
+import jp.co.nova.gate.api.features.location.domain.Location;
+import jp.co.nova.gate.api.features.locationCharacteristic.domain.LocationCharacteristic;
+import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.passenger.domain.PersonalInformation;
+import jp.co.nova.gate.api.features.pod.domain.PodReservation;
+import jp.co.nova.gate.api.features.route.domain.Route;
+import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttle;
+import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
+import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
+import jp.co.nova.gate.api.features.user.domain.User;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.utils.features.location.LocationTestDataBuilder;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for saving a list of {@link Location}s with the {@link BulkWriter} class, compared with saving them one
+ * at a time as the repositories did before, with a lookup by ID for every entity.
+ * <p>
+ * The entities are saved in an in-memory H2 database migrated with Flyway, with the JDBC batch settings of the
+ * {@code domain} persistence unit. Every invocation saves new locations, like the seeding on start-up does, and rolls
+ * its transaction back, so the database stays the same between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkWriterBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+
+    @Param({"100", "1000"})
+    private int entityCount;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private List<Location> locations;
+    private int invocationCount;
+
+    @Setup
+    public void setUp() {
+        Flyway.configure().dataSource(URL, "", "").load().migrate();
+
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.ORDER_UPDATES, "true")
+                .setProperty(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+
+        List.of(SpaceShuttle.class, SpaceShuttleModel.class, Location.class, SpaceStation.class, Route.class, User.class,
+                        Voyage.class, Booking.class, PodReservation.class, Passenger.class, PersonalInformation.class,
+                        LocationCharacteristic.class, SeedFingerprint.class)
+                .forEach(configuration::addAnnotatedClass);
+
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        locations = new ArrayList<>(entityCount);
+        invocationCount++;
+
+        for (int index = 0; index < entityCount; index++) {
+            locations.add(new LocationTestDataBuilder().withName(String.format("Location %d-%d", invocationCount, index)).create());
+        }
+
+        entityManager = sessionFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<Location> saveOneAtATime() {
+        List<Location> savedLocations = new ArrayList<>(locations.size());
+
+        for (Location location : locations) {
+            boolean exists = entityManager.createNamedQuery("Location.selectById", Location.class)
+                    .setParameter("id", location.getId())
+                    .getResultStream()
+                    .findFirst()
+                    .isPresent();
+
+            if (exists) {
+                savedLocations.add(entityManager.merge(location));
+            } else {
+                entityManager.persist(location);
+                savedLocations.add(location);
+            }
+        }
+
+        entityManager.flush();
+        return savedLocations;
+    }
+
+    @Benchmark
+    public List<Location> save() {
+        return BulkWriter.save(entityManager, Location.class, Location::getId, locations);
+    }
+}
@@ -0,0 +1,64 @@
+package jp.co.nova.gate.api.shared.util;
+
+import jp.co.nova.gate.api.shared.exception.DomainError;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A copy of the {@link LogBuilder} as it was before it built its messages in a single pass, which trimmed the message
+ * with a regular expression and joined the properties with a stream. It only exists so that
+ * {@link LogBuilderBenchmark} can measure both side by side.
+ */
+class BaselineLogBuilder {
+
+    private final String message;
+    private String key;
+    private Throwable exception;
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    BaselineLogBuilder(String message) {
+        this.message = message;
+    }
+
+    BaselineLogBuilder(DomainError error) {
+        this.message = error.getDescription();
+        this.key = error.getKey();
+    }
+
+    BaselineLogBuilder withException(Throwable exception) {
+        this.exception = exception;
+        return this;
+    }
+
+    BaselineLogBuilder withProperty(String key, Object value) {
+        properties.put(key, value);
+        return this;
+    }
+
+    String build() {
+        String logMessage;
+
+        if (key != null) {
+            logMessage = "[" + key + "] " + message;
+        } else {
+            logMessage = message;
+        }
+
+        if (exception != null) {
+            logMessage = logMessage.replaceAll("[!.,;:?\\s]+$", "");
+            logMessage += ": " + exception.getMessage();
+        }
+
+        if (!properties.isEmpty()) {
+            String detailString = properties.entrySet().stream()
+                    .map(e -> e.getKey() + "=" + e.getValue())
+                    .collect(Collectors.joining(", "));
+
+            logMessage += " [" + detailString + "]";
+        }
+
+        return logMessage;
+    }
+}
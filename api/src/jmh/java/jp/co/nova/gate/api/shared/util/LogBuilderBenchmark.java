@@ -0,0 +1,99 @@
+package jp.co.nova.gate.api.shared.util;
+
+import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Benchmarks for building log messages with the {@link LogBuilder} class.
+ * <p>
+ * Every {@code build} benchmark has a {@code Baseline} twin building the same message with the
+ * {@link BaselineLogBuilder}, the regular expression and stream based builder it replaced.
+ * <p>
+ * The {@code logDisabled} benchmarks compare logging to a disabled level with a message that is built eagerly, like all
+ * log calls did before the {@link LogBuilder} was a {@link java.util.function.Supplier}, against passing the builder
+ * itself, which skips building the message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogBuilderBenchmark {
+
+    private final String voyageId = UUID.randomUUID().toString();
+    private final IllegalArgumentException exception = new IllegalArgumentException("The voyage is missing.");
+
+    private final Logger disabledLogger = Logger.getLogger(LogBuilderBenchmark.class.getName());
+
+    @Setup
+    public void setup() {
+        disabledLogger.setLevel(Level.WARNING);
+    }
+
+    @Benchmark
+    public String buildMessage() {
+        return new LogBuilder("Created a new voyage").build();
+    }
+
+    @Benchmark
+    public String buildMessageBaseline() {
+        return new BaselineLogBuilder("Created a new voyage").build();
+    }
+
+    @Benchmark
+    public String buildMessageWithProperties() {
+        return new LogBuilder("Created a new voyage")
+                .withProperty("voyage.id", voyageId)
+                .withProperty("passengers", 4)
+                .build();
+    }
+
+    @Benchmark
+    public String buildMessageWithPropertiesBaseline() {
+        return new BaselineLogBuilder("Created a new voyage")
+                .withProperty("voyage.id", voyageId)
+                .withProperty("passengers", 4)
+                .build();
+    }
+
+    @Benchmark
+    public String buildErrorWithException() {
+        return new LogBuilder(VoyageError.FIND_BY_ID)
+                .withException(exception)
+                .withProperty("voyage.id", voyageId)
+                .build();
+    }
+
+    @Benchmark
+    public String buildErrorWithExceptionBaseline() {
+        return new BaselineLogBuilder(VoyageError.FIND_BY_ID)
+                .withException(exception)
+                .withProperty("voyage.id", voyageId)
+                .build();
+    }
+
+    @Benchmark
+    public void logDisabledEagerly() {
+        disabledLogger.fine(
+                new LogBuilder(VoyageError.FIND_BY_ID)
+                        .withException(exception)
+                        .withProperty("voyage.id", voyageId)
+                        .build()
+        );
+    }
+
+    @Benchmark
+    public void logDisabledLazily() {
+        disabledLogger.fine(
+                new LogBuilder(VoyageError.FIND_BY_ID)
+                        .withException(exception)
+                        .withProperty("voyage.id", voyageId)
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package jp.co.nova.gate.utils.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the results of a JMH run with the published baseline results and fails when a benchmark regressed.
+ * <p>
+ * When no baseline exists yet, the results of the run are published as the new baseline. To accept intended changes,
+ * delete the baseline file and run the benchmarks again.
+ * <p>
+ * Arguments: the baseline file, the results file and the tolerated regression as a fraction, e.g. 0.2 for 20%.
+ */
+public class BenchmarkBaselineComparison {
+
+    private static final Logger LOGGER = Logger.getLogger(BenchmarkBaselineComparison.class.getName());
+
+    /**
+     * The JMH mode where a higher score is better.
+     */
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    public static void main(String[] arguments) throws IOException {
+        if (arguments.length != 3) {
+            throw new IllegalArgumentException("Expected the baseline file, the results file and the tolerance as arguments.");
+        }
+
+        Path baselineFile = Path.of(arguments[0]);
+        Path resultsFile = Path.of(arguments[1]);
+        double tolerance = Double.parseDouble(arguments[2]);
+
+        if (!Files.exists(resultsFile)) {
+            throw new IllegalArgumentException("The benchmark results file could not be found: " + resultsFile);
+        }
+
+        if (!Files.exists(baselineFile)) {
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            Files.copy(resultsFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.warning("No benchmark baseline found, nothing was compared. Published the results as the new baseline, commit it: " + baselineFile);
+            return;
+        }
+
+        Map<String, JsonObject> baseline = readScores(baselineFile);
+        Map<String, JsonObject> results = readScores(resultsFile);
+        Map<String, String> regressions = new TreeMap<>();
+
+        results.forEach((benchmark, result) -> {
+            JsonObject baselineResult = baseline.get(benchmark);
+
+            if (baselineResult == null) {
+                LOGGER.info("No baseline for " + benchmark + ", skipping it.");
+                return;
+            }
+
+            double baselineScore = getScore(baselineResult);
+            double score = getScore(result);
+            boolean higherIsBetter = THROUGHPUT_MODE.equals(result.get("mode").getAsString());
+
+            double change = higherIsBetter ? (baselineScore - score) / baselineScore : (score - baselineScore) / baselineScore;
+            String summary = String.format("%s: %.3f -> %.3f %s (%+.1f%%)", benchmark, baselineScore, score, getUnit(result), (higherIsBetter ? -change : change) * 100);
+
+            if (change > tolerance) {
+                regressions.put(benchmark, summary);
+            } else {
+                LOGGER.info(summary);
+            }
+        });
+
+        if (!regressions.isEmpty()) {
+            String report = regressions.values().stream().collect(Collectors.joining(System.lineSeparator()));
+            LOGGER.severe("Benchmarks regressed by more than " + Math.round(tolerance * 100) + "%:" + System.lineSeparator() + report);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the results of a JMH JSON result file by benchmark name and parameters.
+     *
+     * @param file The JMH JSON result file.
+     * @return The results by benchmark name and parameters.
+     */
+    private static Map<String, JsonObject> readScores(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            JsonArray runs = JsonParser.parseReader(reader).getAsJsonArray();
+            Map<String, JsonObject> scores = new LinkedHashMap<>();
+
+            for (JsonElement run : runs) {
+                JsonObject result = run.getAsJsonObject();
+                scores.put(getName(result), result);
+            }
+
+            return scores;
+        }
+    }
+
+    private static String getName(JsonObject result) {
+        String name = result.get("benchmark").getAsString();
+
+        if (!result.has("params")) {
+            return name;
+        }
+
+        String params = result.getAsJsonObject("params").entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue().getAsString())
+                .sorted()
+                .collect(Collectors.joining(", "));
+
+        return name + " [" + params + "]";
+    }
+
+    private static double getScore(JsonObject result) {
+        return result.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+    }
+
+    private static String getUnit(JsonObject result) {
+        return result.getAsJsonObject("primaryMetric").get("scoreUnit").getAsString();
+    }
+}
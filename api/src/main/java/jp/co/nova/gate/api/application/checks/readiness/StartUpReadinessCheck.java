@@ -0,0 +1,31 @@
+package jp.co.nova.gate.api.application.checks.readiness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jp.co.nova.gate.api.application.startup.StartUpLoader;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * This class is a readiness check for the initial data, reporting the time every start up stage took.
+ */
+@Readiness
+@ApplicationScoped
+public class StartUpReadinessCheck implements HealthCheck {
+
+    @Inject
+    private StartUpLoader startUpLoader;
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder responseBuilder = HealthCheckResponse.named("StartUpReadinessCheck")
+                .withData("description", "Tests if the initial data is loaded.");
+
+        startUpLoader.getStageDurations().forEach((stage, duration) -> responseBuilder.withData(stage.getKey() + "Millis", duration.toMillis()));
+        startUpLoader.getTimeToReady().ifPresent(timeToReady -> responseBuilder.withData("timeToReadyMillis", timeToReady.toMillis()));
+
+        return responseBuilder.status(startUpLoader.getTimeToReady().isPresent()).build();
+    }
+}
@@ -0,0 +1,77 @@
+package jp.co.nova.gate.api.application.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * A class reporting the state of the database connection pool as gauges.
+ * <p>
+ * The Hikari connection pool publishes its state as an MBean when {@code registerMbeans} is enabled on the data source.
+ * The gauges read that MBean, so they report zero until the pool is started.
+ */
+@ApplicationScoped
+public class ConnectionPoolMetrics {
+
+    /**
+     * The prefix of the metrics of the connection pool.
+     */
+    private static final String METRIC_PREFIX = "hikari.connections.";
+
+    @Inject
+    @ConfigProperty(name = "javax.sql.DataSource.novaGateApiDs.poolName", defaultValue = "novaGateApiDs")
+    private String poolName;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    private ObjectName poolObjectName;
+
+    protected ConnectionPoolMetrics() {
+    }
+
+    /**
+     * Registers the gauges of the connection pool at start up.
+     *
+     * @param init The event that triggers the start up.
+     */
+    public void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws JMException {
+        poolObjectName = new ObjectName(String.format("com.zaxxer.hikari:type=Pool (%s)", poolName));
+
+        Tag poolTag = new Tag("pool", poolName);
+
+        metricRegistry.gauge(METRIC_PREFIX + "active", this, metrics -> metrics.getPoolAttribute("ActiveConnections"), poolTag);
+        metricRegistry.gauge(METRIC_PREFIX + "idle", this, metrics -> metrics.getPoolAttribute("IdleConnections"), poolTag);
+        metricRegistry.gauge(METRIC_PREFIX + "total", this, metrics -> metrics.getPoolAttribute("TotalConnections"), poolTag);
+        metricRegistry.gauge(METRIC_PREFIX + "pending", this, metrics -> metrics.getPoolAttribute("ThreadsAwaitingConnection"), poolTag);
+    }
+
+    /**
+     * Returns an attribute of the MBean of the connection pool.
+     *
+     * @param attribute The name of the attribute.
+     * @return The value of the attribute, or zero while the pool is not started.
+     */
+    private int getPoolAttribute(String attribute) {
+        try {
+            if (!mBeanServer.isRegistered(poolObjectName)) {
+                return 0;
+            }
+
+            return ((Number) mBeanServer.getAttribute(poolObjectName, attribute)).intValue();
+        } catch (JMException | ClassCastException exception) {
+            return 0;
+        }
+    }
+}
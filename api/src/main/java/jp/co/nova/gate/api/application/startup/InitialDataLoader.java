@@ -0,0 +1,40 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jakarta.json.JsonObject;
+
+import java.util.List;
+
+/**
+ * An interface for services loading the initial data of a {@link StartUpStage}.
+ * <p>
+ * The {@link StartUpLoader} calls every loader once at start up, after the loaders of the stage's dependencies have
+ * finished. Loaders of independent stages run at the same time on different threads, so a loader must only rely on
+ * the data of its dependencies.
+ * <p>
+ * The seed file of a stage is only loaded again when its checksum changed, see {@link SeedFingerprint}.
+ */
+public interface InitialDataLoader {
+
+    /**
+     * Returns the stage this loader loads the initial data of.
+     *
+     * @return A {@link StartUpStage}.
+     */
+    StartUpStage getStage();
+
+    /**
+     * Loads the provided records of the seed file of the stage into the database. Only the records that were added or
+     * changed since the last load are provided, so existing data must be updated rather than replaced. Large seed
+     * files are provided in several chunks, each of them loaded in its own transaction.
+     *
+     * @param records The records to load.
+     */
+    void loadInitialData(List<JsonObject> records);
+
+    /**
+     * Called once the data of the stage is loaded, also when the seed file was unchanged and nothing was loaded, to
+     * prepare any state that is not kept in the database.
+     */
+    default void onInitialDataLoaded() {
+    }
+}
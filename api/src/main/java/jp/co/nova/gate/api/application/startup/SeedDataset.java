@@ -0,0 +1,173 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.stream.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * A POJO reading the seed file of a {@link StartUpStage} as a stream of records with their SHA-256 checksums.
+ * <p>
+ * The checksums are compared with the {@link SeedFingerprint} of the last load: an unchanged seed file does not need
+ * to be loaded again, and of a changed seed file only the records that were added or changed need to be loaded. The
+ * records are parsed one at a time and handed over in chunks of a bounded size, so the heap used does not grow with
+ * the size of the seed file, apart from the checksum of every record.
+ */
+public class SeedDataset {
+
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+    /**
+     * The size of the buffer used to calculate the checksum of a seed file.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Opens the seed file of the provided {@link StartUpStage} and calculates its checksum.
+     *
+     * @param stage The stage to open the seed file of.
+     * @return A new {@link SeedDataset}.
+     * @throws StartUpException When the seed file cannot be read.
+     */
+    public static SeedDataset open(StartUpStage stage) throws StartUpException {
+        MessageDigest digest = createDigest();
+
+        try (InputStream inputStream = new DigestInputStream(openSeedResource(stage), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            while (inputStream.read(buffer) != -1) {
+                // Reading the stream updates the digest.
+            }
+        } catch (IOException exception) {
+            throw new StartUpException(StartUpError.READ_SEED, exception);
+        }
+
+        return new SeedDataset(stage, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static InputStream openSeedResource(StartUpStage stage) throws StartUpException {
+        InputStream inputStream = SeedDataset.class.getResourceAsStream(stage.getSeedResource());
+
+        if (inputStream == null) {
+            throw new StartUpException(StartUpError.READ_SEED);
+        }
+
+        return inputStream;
+    }
+
+    private static MessageDigest createDigest() throws StartUpException {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new StartUpException(StartUpError.READ_SEED, exception);
+        }
+    }
+
+    /**
+     * The stage of the seed file.
+     */
+    private final StartUpStage stage;
+
+    /**
+     * The checksum of the seed file.
+     */
+    private final String checksum;
+
+    private SeedDataset(StartUpStage stage, String checksum) {
+        this.stage = stage;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Tests whether the seed file is unchanged since the provided {@link SeedFingerprint} was taken.
+     *
+     * @param fingerprint The fingerprint of the last load.
+     * @return True when the seed file is unchanged, false otherwise.
+     */
+    public boolean isUnchanged(SeedFingerprint fingerprint) {
+        return fingerprint != null && checksum.equals(fingerprint.getChecksum());
+    }
+
+    /**
+     * Streams the records of the seed file and hands the records that were added or changed since the provided
+     * {@link SeedFingerprint} was taken, or all records when there is no fingerprint, to the provided consumer in
+     * chunks of at most the provided size, in file order.
+     *
+     * @param fingerprint   The optional fingerprint of the last load.
+     * @param chunkSize     The maximum number of records in a chunk.
+     * @param chunkConsumer The consumer of the chunks of changed records.
+     * @return A new {@link SeedFingerprint} of the seed file.
+     * @throws StartUpException When the seed file cannot be parsed or a record has no ID.
+     */
+    public SeedFingerprint forEachChangedChunk(Optional<SeedFingerprint> fingerprint, int chunkSize, Consumer<List<JsonObject>> chunkConsumer) throws StartUpException {
+        if (chunkSize <= 0) {
+            throw new StartUpException(StartUpError.INVALID_CHUNK_SIZE);
+        }
+
+        Map<String, String> knownChecksums = fingerprint.map(SeedFingerprint::getRecordChecksums).orElse(Map.of());
+        Map<String, String> recordChecksums = new HashMap<>();
+        List<JsonObject> chunk = new ArrayList<>(chunkSize);
+        MessageDigest digest = createDigest();
+
+        try (JsonParser parser = Json.createParser(openSeedResource(stage))) {
+            if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+                throw new StartUpException(StartUpError.READ_SEED);
+            }
+
+            while (parser.hasNext()) {
+                JsonParser.Event event = parser.next();
+
+                if (event == JsonParser.Event.END_ARRAY) {
+                    break;
+                } else if (event != JsonParser.Event.START_OBJECT) {
+                    throw new StartUpException(StartUpError.READ_SEED);
+                }
+
+                JsonObject record = parser.getObject();
+                JsonString id = record.getJsonString("id");
+
+                if (id == null) {
+                    throw new StartUpException(StartUpError.MISSING_SEED_RECORD_ID);
+                }
+
+                String recordChecksum = HexFormat.of().formatHex(digest.digest(record.toString().getBytes(StandardCharsets.UTF_8)));
+                recordChecksums.put(id.getString(), recordChecksum);
+
+                if (!recordChecksum.equals(knownChecksums.get(id.getString()))) {
+                    chunk.add(record);
+                }
+
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (JsonException | ClassCastException exception) {
+            throw new StartUpException(StartUpError.READ_SEED, exception);
+        }
+
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(List.copyOf(chunk));
+        }
+
+        return SeedFingerprint.create(stage.getKey(), checksum, recordChecksums);
+    }
+
+    public StartUpStage getStage() {
+        return stage;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+}
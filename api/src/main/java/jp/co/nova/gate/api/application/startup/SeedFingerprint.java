@@ -0,0 +1,115 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jakarta.persistence.*;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A class representing the checksums of the last loaded seed file of a {@link StartUpStage} and of its records.
+ */
+@Entity
+@Table(name = "seed_fingerprints")
+@Access(AccessType.FIELD)
+public class SeedFingerprint {
+
+    /**
+     * Creates a new {@link SeedFingerprint}.
+     *
+     * @param dataset         The key of the dataset of the seed file.
+     * @param checksum        The checksum of the seed file.
+     * @param recordChecksums The checksums of the records of the seed file by record ID.
+     * @return A new {@link SeedFingerprint}.
+     */
+    public static SeedFingerprint create(String dataset, String checksum, Map<String, String> recordChecksums) throws StartUpException {
+        return new SeedFingerprint(dataset, checksum, ZonedDateTime.now(), recordChecksums);
+    }
+
+    /**
+     * The key of the dataset of the seed file.
+     */
+    @Id
+    @Column(nullable = false, updatable = false, unique = true)
+    private String dataset;
+
+    /**
+     * The SHA-256 checksum of the seed file.
+     */
+    @Basic(optional = false)
+    @Column(nullable = false)
+    private String checksum;
+
+    /**
+     * The moment the seed file was last loaded.
+     */
+    @Basic(optional = false)
+    @Column(name = "load_date", nullable = false)
+    private ZonedDateTime loadDate;
+
+    /**
+     * The SHA-256 checksums of the records of the seed file by record ID.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "seed_record_fingerprints", joinColumns = @JoinColumn(name = "dataset"))
+    @MapKeyColumn(name = "record_id")
+    @Column(name = "checksum", nullable = false)
+    private Map<String, String> recordChecksums = new HashMap<>();
+
+    protected SeedFingerprint() {
+    }
+
+    private SeedFingerprint(String dataset, String checksum, ZonedDateTime loadDate, Map<String, String> recordChecksums) throws StartUpException {
+        if (dataset == null) {
+            throw new StartUpException(StartUpError.MISSING_DATASET);
+        } else if (checksum == null) {
+            throw new StartUpException(StartUpError.MISSING_CHECKSUM);
+        }
+
+        this.dataset = dataset;
+        this.checksum = checksum;
+        this.loadDate = loadDate;
+        this.recordChecksums = new HashMap<>(recordChecksums);
+    }
+
+    /**
+     * @return The key of the dataset of the seed file.
+     */
+    public String getDataset() {
+        return dataset;
+    }
+
+    /**
+     * @return The SHA-256 checksum of the seed file.
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * @return The moment the seed file was last loaded.
+     */
+    public ZonedDateTime getLoadDate() {
+        return loadDate;
+    }
+
+    /**
+     * @return The SHA-256 checksums of the records of the seed file by record ID.
+     */
+    public Map<String, String> getRecordChecksums() {
+        return Map.copyOf(recordChecksums);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        SeedFingerprint that = (SeedFingerprint) o;
+        return Objects.equals(dataset, that.dataset) && Objects.equals(checksum, that.checksum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataset, checksum);
+    }
+}
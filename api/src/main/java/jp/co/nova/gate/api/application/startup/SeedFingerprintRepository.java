@@ -0,0 +1,51 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.*;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
+
+import java.util.Optional;
+
+/**
+ * The class for {@link SeedFingerprint} DB actions.
+ */
+@ApplicationScoped
+@Timed
+@Traced
+public class SeedFingerprintRepository {
+
+    @PersistenceContext(unitName = "domain")
+    private EntityManager entityManager;
+
+    protected SeedFingerprintRepository() {
+    }
+
+    /**
+     * Searches an {@link Optional} {@link SeedFingerprint} by its dataset.
+     *
+     * @param dataset The key of the dataset to search for.
+     * @return An {@link Optional} {@link SeedFingerprint}.
+     */
+    public Optional<SeedFingerprint> findByDataset(String dataset) throws StartUpException {
+        try {
+            return Optional.ofNullable(entityManager.find(SeedFingerprint.class, dataset));
+        } catch (IllegalArgumentException | PersistenceException exception) {
+            throw new StartUpException(StartUpError.FIND_SEED_FINGERPRINT, exception);
+        }
+    }
+
+    /**
+     * Saves a {@link SeedFingerprint}, replacing the previous fingerprint of its dataset.
+     *
+     * @param seedFingerprint The {@link SeedFingerprint} to save.
+     * @return The saved {@link SeedFingerprint}.
+     */
+    public SeedFingerprint save(SeedFingerprint seedFingerprint) throws StartUpException {
+        try {
+            return entityManager.merge(seedFingerprint);
+        } catch (IllegalArgumentException | PersistenceException exception) {
+            throw new StartUpException(StartUpError.SAVE_SEED_FINGERPRINT, exception);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
+
+import java.util.Optional;
+
+/**
+ * A service class handling the {@link SeedFingerprint}s of the seed files.
+ */
+@ApplicationScoped
+@Timed
+@Traced
+public class SeedFingerprintService {
+
+    @Inject
+    private SeedFingerprintRepository repository;
+
+    protected SeedFingerprintService() {
+    }
+
+    /**
+     * Gets the {@link SeedFingerprint} of the last load of the provided {@link StartUpStage}.
+     *
+     * @param stage The stage to get the fingerprint of.
+     * @return An {@link Optional} {@link SeedFingerprint}, empty when the stage was never loaded.
+     */
+    public Optional<SeedFingerprint> findByStage(StartUpStage stage) throws StartUpException {
+        return repository.findByDataset(stage.getKey());
+    }
+
+    /**
+     * Saves the {@link SeedFingerprint} of a completed load, replacing the previous fingerprint of its dataset.
+     *
+     * @param fingerprint The fingerprint to save.
+     * @return The saved {@link SeedFingerprint}.
+     */
+    @Transactional
+    public SeedFingerprint save(SeedFingerprint fingerprint) throws StartUpException {
+        return repository.save(fingerprint);
+    }
+}
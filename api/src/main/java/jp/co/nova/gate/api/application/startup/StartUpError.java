@@ -0,0 +1,38 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jp.co.nova.gate.api.shared.exception.ApplicationError;
+
+/**
+ * An enum with start up error messages.
+ */
+public enum StartUpError implements ApplicationError {
+    MISSING_LOADER("startUp.missingLoader", "No initial data loader exists for a start up stage."),
+    DUPLICATE_LOADER("startUp.duplicateLoader", "Several initial data loaders exist for a start up stage."),
+    STAGE("startUp.stage", "Failed to load the initial data of a start up stage."),
+    READ_SEED("startUp.readSeed", "Failed to read the seed file of a start up stage."),
+    INVALID_CHUNK_SIZE("startUp.invalidChunkSize", "The chunk size to load seed records in must be positive."),
+    MISSING_SEED_RECORD_ID("startUp.missingSeedRecordId", "A record of a seed file has no ID."),
+    MISSING_DATASET("startUp.missingDataset", "The dataset of the seed fingerprint is missing."),
+    MISSING_CHECKSUM("startUp.missingChecksum", "The checksum of the seed fingerprint is missing."),
+    FIND_SEED_FINGERPRINT("startUp.findSeedFingerprint", "Failed to find the seed fingerprint of a dataset."),
+    SAVE_SEED_FINGERPRINT("startUp.saveSeedFingerprint", "Failed to save the seed fingerprint of a dataset."),
+    LOAD_INITIAL_DATA("startUp.loadInitialData", "Failed to load the initial data of the API.");
+
+    private final String key;
+    private final String description;
+
+    StartUpError(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+}
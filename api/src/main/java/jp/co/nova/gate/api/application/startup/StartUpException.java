@@ -0,0 +1,16 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jp.co.nova.gate.api.shared.exception.ApplicationException;
+
+/**
+ * An {@link ApplicationException} for start up exceptions.
+ */
+public class StartUpException extends ApplicationException {
+    public StartUpException(StartUpError error) {
+        super(error);
+    }
+
+    public StartUpException(StartUpError error, Throwable throwable) {
+        super(error, throwable);
+    }
+}
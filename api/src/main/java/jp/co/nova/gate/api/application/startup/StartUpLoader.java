@@ -0,0 +1,205 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A class loading the initial data of the API at start up with the {@link InitialDataLoader}s of all
+ * {@link StartUpStage}s.
+ * <p>
+ * Every stage starts as soon as the stages it depends on are loaded, so independent stages, like the locations and the
+ * space shuttle models, load at the same time on a small pool of start up threads. The start up waits until all stages
+ * are loaded, and the time every stage took is logged and kept to report how long the API took to get ready.
+ * <p>
+ * A stage whose seed file is unchanged since the last load is skipped, and of a changed seed file only the added or
+ * changed records are loaded, which makes a restart against a database that is already seeded close to instant. The
+ * seed files are streamed and loaded in chunks of a bounded size, each chunk in its own transaction.
+ */
+@ApplicationScoped
+public class StartUpLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(StartUpLoader.class.getName());
+
+    @Inject
+    @Any
+    private Instance<InitialDataLoader> loaders;
+
+    @Inject
+    private SeedFingerprintService seedFingerprintService;
+
+    @Inject
+    @ConfigProperty(name = "startup.loader.threads", defaultValue = "0")
+    private int threadCount;
+
+    @Inject
+    @ConfigProperty(name = "startup.seed.skip-unchanged", defaultValue = "true")
+    private boolean skipUnchangedSeeds;
+
+    @Inject
+    @ConfigProperty(name = "startup.seed.chunk-size", defaultValue = "500")
+    private int chunkSize;
+
+    /**
+     * The time every loaded stage took.
+     */
+    private final Map<StartUpStage, Duration> stageDurations = new ConcurrentHashMap<>();
+
+    /**
+     * The time loading all stages took, empty until all stages are loaded.
+     */
+    private volatile Duration timeToReady;
+
+    protected StartUpLoader() {
+    }
+
+    /**
+     * Loads the initial data of all {@link StartUpStage}s.
+     *
+     * @param init The event that triggers the start up.
+     */
+    public void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws StartUpRuntimeException {
+        Map<StartUpStage, InitialDataLoader> loadersByStage = getLoadersByStage();
+
+        int workers = threadCount > 0 ? threadCount : Math.min(StartUpStage.values().length, Runtime.getRuntime().availableProcessors());
+        AtomicInteger workerCounter = new AtomicInteger(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "start-up-loader-" + workerCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startTime = System.nanoTime();
+
+        try {
+            Map<StartUpStage, CompletableFuture<Void>> loadedStages = new EnumMap<>(StartUpStage.class);
+
+            for (StartUpStage stage : StartUpStage.values()) {
+                CompletableFuture<?>[] dependencies = stage.getDependencies().stream()
+                        .map(loadedStages::get)
+                        .toArray(CompletableFuture[]::new);
+
+                InitialDataLoader loader = loadersByStage.get(stage);
+                loadedStages.put(stage, CompletableFuture.allOf(dependencies).thenRunAsync(() -> load(stage, loader, startTime), executor));
+            }
+
+            CompletableFuture.allOf(loadedStages.values().toArray(CompletableFuture[]::new)).join();
+            timeToReady = Duration.ofNanos(System.nanoTime() - startTime);
+
+            LOGGER.info(
+                    new LogBuilder("The initial data is loaded!")
+                            .withProperty("workers", workers)
+                            .withProperty("timeToReadyMillis", timeToReady.toMillis())
+            );
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+
+            LOGGER.severe(new LogBuilder(StartUpError.LOAD_INITIAL_DATA.getDescription()).withKey(StartUpError.LOAD_INITIAL_DATA.getKey()).withException(cause));
+            throw new StartUpRuntimeException(StartUpError.LOAD_INITIAL_DATA, cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the time every loaded {@link StartUpStage} took.
+     *
+     * @return A {@link Map} with the duration of every loaded stage.
+     */
+    public Map<StartUpStage, Duration> getStageDurations() {
+        Map<StartUpStage, Duration> durations = new EnumMap<>(StartUpStage.class);
+        durations.putAll(stageDurations);
+        return durations;
+    }
+
+    /**
+     * Returns the time loading all {@link StartUpStage}s took.
+     *
+     * @return An {@link Optional} {@link Duration}, empty while the initial data is not loaded yet.
+     */
+    public Optional<Duration> getTimeToReady() {
+        return Optional.ofNullable(timeToReady);
+    }
+
+    /**
+     * Loads the added or changed records of the seed file of a {@link StartUpStage} and keeps the time it took.
+     *
+     * @param stage     The stage to load.
+     * @param loader    The loader of the stage.
+     * @param startTime The {@link System#nanoTime()} the start up began at.
+     */
+    private void load(StartUpStage stage, InitialDataLoader loader, long startTime) {
+        long stageStartTime = System.nanoTime();
+
+        AtomicInteger loadedRecords = new AtomicInteger();
+
+        try {
+            SeedDataset dataset = SeedDataset.open(stage);
+            Optional<SeedFingerprint> fingerprint = skipUnchangedSeeds ? seedFingerprintService.findByStage(stage) : Optional.empty();
+
+            if (fingerprint.isEmpty() || !dataset.isUnchanged(fingerprint.get())) {
+                SeedFingerprint newFingerprint = dataset.forEachChangedChunk(fingerprint, chunkSize, records -> {
+                    loader.loadInitialData(records);
+                    loadedRecords.addAndGet(records.size());
+                });
+
+                seedFingerprintService.save(newFingerprint);
+            }
+
+            loader.onInitialDataLoaded();
+        } catch (RuntimeException exception) {
+            LOGGER.severe(new LogBuilder(StartUpError.STAGE.getDescription()).withKey(StartUpError.STAGE.getKey()).withException(exception).withProperty("stage", stage.getKey()));
+            throw exception;
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - stageStartTime);
+        stageDurations.put(stage, duration);
+
+        LOGGER.info(
+                new LogBuilder("Loaded the initial data of a start up stage.")
+                        .withProperty("stage", stage.getKey())
+                        .withProperty("loadedRecords", loadedRecords.get())
+                        .withProperty("startedAfterMillis", Duration.ofNanos(stageStartTime - startTime).toMillis())
+                        .withProperty("durationMillis", duration.toMillis())
+        );
+    }
+
+    /**
+     * Returns the {@link InitialDataLoader} of every {@link StartUpStage}.
+     *
+     * @return A {@link Map} with the loader of every stage.
+     */
+    private Map<StartUpStage, InitialDataLoader> getLoadersByStage() throws StartUpRuntimeException {
+        Map<StartUpStage, InitialDataLoader> loadersByStage = new EnumMap<>(StartUpStage.class);
+
+        for (InitialDataLoader loader : loaders) {
+            if (loadersByStage.putIfAbsent(loader.getStage(), loader) != null) {
+                LOGGER.severe(new LogBuilder(StartUpError.DUPLICATE_LOADER.getDescription()).withKey(StartUpError.DUPLICATE_LOADER.getKey()).withProperty("stage", loader.getStage().getKey()));
+                throw new StartUpRuntimeException(StartUpError.DUPLICATE_LOADER);
+            }
+        }
+
+        for (StartUpStage stage : StartUpStage.values()) {
+            if (!loadersByStage.containsKey(stage)) {
+                LOGGER.severe(new LogBuilder(StartUpError.MISSING_LOADER.getDescription()).withKey(StartUpError.MISSING_LOADER.getKey()).withProperty("stage", stage.getKey()));
+                throw new StartUpRuntimeException(StartUpError.MISSING_LOADER);
+            }
+        }
+
+        return loadersByStage;
+    }
+}
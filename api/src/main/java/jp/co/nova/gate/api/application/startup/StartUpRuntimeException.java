@@ -0,0 +1,16 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jp.co.nova.gate.api.shared.exception.ApplicationRuntimeException;
+
+/**
+ * An {@link ApplicationRuntimeException} for start up exceptions.
+ */
+public class StartUpRuntimeException extends ApplicationRuntimeException {
+    public StartUpRuntimeException(StartUpError error) {
+        super(error);
+    }
+
+    public StartUpRuntimeException(StartUpError error, Throwable throwable) {
+        super(error, throwable);
+    }
+}
@@ -0,0 +1,51 @@
+package jp.co.nova.gate.api.application.startup;
+
+import java.util.List;
+
+/**
+ * The stages loading the initial data of the API at start up, with the stages each of them depends on.
+ * <p>
+ * The stages form a directed acyclic graph: a stage starts as soon as all of its dependencies are loaded, so
+ * independent stages load at the same time. A stage can only depend on stages declared before it.
+ */
+public enum StartUpStage {
+    LOCATIONS("locations", "/static/locations.json"),
+    SPACE_STATIONS("spaceStations", "/static/space-stations.json", LOCATIONS),
+    SPACE_SHUTTLE_MODELS("spaceShuttleModels", "/static/space-shuttle-models.json"),
+    SPACE_SHUTTLES("spaceShuttles", "/static/space-shuttles.json", SPACE_SHUTTLE_MODELS),
+    ROUTES("routes", "/static/routes.json", SPACE_STATIONS, SPACE_SHUTTLE_MODELS),
+    VOYAGES("voyages", "/static/voyages.json", ROUTES, SPACE_SHUTTLES);
+
+    /**
+     * The key of the stage.
+     */
+    private final String key;
+
+    /**
+     * The classpath resource of the seed file of the stage, a JSON array of records with an ID.
+     */
+    private final String seedResource;
+
+    /**
+     * The stages that must be loaded before this stage.
+     */
+    private final List<StartUpStage> dependencies;
+
+    StartUpStage(String key, String seedResource, StartUpStage... dependencies) {
+        this.key = key;
+        this.seedResource = seedResource;
+        this.dependencies = List.of(dependencies);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getSeedResource() {
+        return seedResource;
+    }
+
+    public List<StartUpStage> getDependencies() {
+        return dependencies;
+    }
+}
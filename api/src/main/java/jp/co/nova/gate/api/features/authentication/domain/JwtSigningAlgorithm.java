@@ -0,0 +1,118 @@
+package jp.co.nova.gate.api.features.authentication.domain;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The algorithms that can sign a JWT authentication token.
+ * <p>
+ * The keys are the names the MicroProfile JWT verifier uses, so one configuration property selects the algorithm for
+ * both signing and verifying tokens.
+ */
+public enum JwtSigningAlgorithm {
+    /**
+     * RSASSA-PKCS1-v1_5 with SHA-256, using an RSA key pair.
+     */
+    RS256("RS256", "RSA", JWSAlgorithm.RS256) {
+        @Override
+        public JWSSigner createSigner(PrivateKey privateKey) {
+            return new RSASSASigner(privateKey);
+        }
+
+        @Override
+        public JWSVerifier createVerifier(PublicKey publicKey) {
+            return new RSASSAVerifier((RSAPublicKey) publicKey);
+        }
+    },
+    /**
+     * ECDSA with the P-256 curve and SHA-256, using an EC key pair. Signing is considerably cheaper than with RS256.
+     */
+    ES256("ES256", "EC", JWSAlgorithm.ES256) {
+        @Override
+        public JWSSigner createSigner(PrivateKey privateKey) throws JOSEException {
+            return new ECDSASigner((ECPrivateKey) privateKey);
+        }
+
+        @Override
+        public JWSVerifier createVerifier(PublicKey publicKey) throws JOSEException {
+            return new ECDSAVerifier((ECPublicKey) publicKey);
+        }
+    };
+
+    /**
+     * Searches a {@link JwtSigningAlgorithm} by its key.
+     *
+     * @param key The key to search a signing algorithm with.
+     * @return An {@link Optional} {@link JwtSigningAlgorithm}.
+     */
+    public static Optional<JwtSigningAlgorithm> findByKey(String key) {
+        return Arrays.stream(JwtSigningAlgorithm.values()).filter(algorithm -> algorithm.key.equals(key)).findFirst();
+    }
+
+    /**
+     * The key of the algorithm.
+     */
+    private final String key;
+
+    /**
+     * The name of the {@link java.security.KeyFactory} algorithm reading the keys of the algorithm.
+     */
+    private final String keyFactoryAlgorithm;
+
+    /**
+     * The JWS algorithm set in the header of a signed token.
+     */
+    private final JWSAlgorithm jwsAlgorithm;
+
+    JwtSigningAlgorithm(String key, String keyFactoryAlgorithm, JWSAlgorithm jwsAlgorithm) {
+        this.key = key;
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+        this.jwsAlgorithm = jwsAlgorithm;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getKeyFactoryAlgorithm() {
+        return keyFactoryAlgorithm;
+    }
+
+    public JWSAlgorithm getJwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    /**
+     * Creates a thread-safe {@link JWSSigner} for the provided private key.
+     *
+     * @param privateKey The private key matching the algorithm.
+     * @return A {@link JWSSigner}.
+     * @throws JOSEException      When the private key can't be used by the algorithm.
+     * @throws ClassCastException When the private key doesn't belong to the algorithm.
+     */
+    public abstract JWSSigner createSigner(PrivateKey privateKey) throws JOSEException;
+
+    /**
+     * Creates a thread-safe {@link JWSVerifier} for the provided public key.
+     *
+     * @param publicKey The public key matching the algorithm.
+     * @return A {@link JWSVerifier}.
+     * @throws JOSEException      When the public key can't be used by the algorithm.
+     * @throws ClassCastException When the public key doesn't belong to the algorithm.
+     */
+    public abstract JWSVerifier createVerifier(PublicKey publicKey) throws JOSEException;
+}
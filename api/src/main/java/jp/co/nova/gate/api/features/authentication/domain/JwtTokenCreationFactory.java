@@ -1,80 +1,93 @@
 package jp.co.nova.gate.api.features.authentication.domain;
 
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationError;
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationException;
 
-import java.security.interfaces.RSAPrivateKey;
+import java.security.PrivateKey;
 import java.time.Duration;
-import java.time.ZonedDateTime;
+import java.time.Instant;
 import java.util.Date;
 
 /**
- * A factory creating a new JWT authentication token.
+ * A factory creating new JWT authentication tokens.
+ * <p>
+ * The signer and the header are created once and shared by every token, which keeps signing free of key set up work.
+ * A factory is thread-safe and is meant to be created once and reused.
  */
 public class JwtTokenCreationFactory {
 
     /**
-     * The subject of the JWT authentication token.
+     * The issuer of the JWT authentication tokens.
      */
-    private final String subject;
+    private final String issuer;
 
     /**
-     * The issuer of the JWT authentication token.
+     * The life span of the JWT authentication tokens.
      */
-    private final String issuer;
+    private final Duration lifeSpan;
 
     /**
-     * The life span of the JWT authentication token.
+     * The header of the JWT authentication tokens.
      */
-    private final Duration lifeSpan;
+    private final JWSHeader header;
 
     /**
-     * The public key of the JWT authentication token.
+     * The signer of the JWT authentication tokens.
      */
-    private final RSAPrivateKey privateKey;
+    private final JWSSigner signer;
 
     /**
      * Creates a new {@link JwtTokenCreationFactory}.
      *
-     * @param subject    The subject of the JWT authentication token.
-     * @param issuer     The issuer of the JWT authentication token.
-     * @param lifeSpan   The life span of the JWT authentication token.
-     * @param privateKey The private key of the JWT authentication token.
+     * @param issuer     The issuer of the JWT authentication tokens.
+     * @param lifeSpan   The life span of the JWT authentication tokens.
+     * @param algorithm  The algorithm signing the JWT authentication tokens.
+     * @param privateKey The private key of the JWT authentication tokens.
+     * @throws AuthenticationException When the private key can't be used by the algorithm.
      */
-    public JwtTokenCreationFactory(String subject, String issuer, Duration lifeSpan, RSAPrivateKey privateKey) {
-        this.subject = subject;
+    public JwtTokenCreationFactory(String issuer, Duration lifeSpan, JwtSigningAlgorithm algorithm, PrivateKey privateKey) throws AuthenticationException {
+        if (lifeSpan == null || lifeSpan.isNegative() || lifeSpan.isZero()) {
+            throw new AuthenticationException(AuthenticationError.TOKEN_CREATE_INVALID_LIFE_SPAN);
+        } else if (algorithm == null) {
+            throw new AuthenticationException(AuthenticationError.MISSING_TOKEN_ALGORITHM);
+        } else if (privateKey == null) {
+            throw new AuthenticationException(AuthenticationError.MISSING_TOKEN_PRIVATE_KEY);
+        }
+
         this.issuer = issuer;
         this.lifeSpan = lifeSpan;
-        this.privateKey = privateKey;
+        this.header = new JWSHeader.Builder(algorithm.getJwsAlgorithm()).build();
+
+        try {
+            this.signer = algorithm.createSigner(privateKey);
+        } catch (JOSEException | ClassCastException exception) {
+            throw new AuthenticationException(AuthenticationError.INVALID_TOKEN_PRIVATE_KEY, exception);
+        }
     }
 
     /**
-     * Creates a new JWT authentication token.
+     * Creates a new JWT authentication token for the provided subject.
      *
+     * @param subject The subject of the JWT authentication token.
      * @return A JWT authentication token.
      */
-    public SignedJWT generate() throws AuthenticationException {
+    public SignedJWT generate(String subject) throws AuthenticationException {
         try {
-            ZonedDateTime issueDate = ZonedDateTime.now();
-            ZonedDateTime expirationDate = issueDate.plus(lifeSpan);
+            Instant issueDate = Instant.now();
 
             JWTClaimsSet claims = new JWTClaimsSet.Builder()
                     .subject(subject)
                     .issuer(issuer)
-                    .issueTime(Date.from(issueDate.toInstant()))
-                    .expirationTime(Date.from(expirationDate.toInstant()))
+                    .issueTime(Date.from(issueDate))
+                    .expirationTime(Date.from(issueDate.plus(lifeSpan)))
                     .build();
 
-            JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256).build();
-
             SignedJWT signedJWT = new SignedJWT(header, claims);
-            RSASSASigner signer = new RSASSASigner(privateKey);
             signedJWT.sign(signer);
 
             return signedJWT;
@@ -7,6 +7,7 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NewCookie;
 import jakarta.ws.rs.core.Response;
@@ -14,6 +15,7 @@ import jp.co.nova.gate.api.features.authentication.domain.AuthenticationTokenCoo
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationError;
 import jp.co.nova.gate.api.features.authentication.input.LoginRequestForm;
 import jp.co.nova.gate.api.features.authentication.service.AuthenticationService;
+import jp.co.nova.gate.api.features.authentication.service.PasswordWorkerService;
 import jp.co.nova.gate.api.features.user.dto.NewUserDto;
 import jp.co.nova.gate.api.features.user.input.UserCreationForm;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
@@ -42,6 +44,11 @@ public class AuthenticationEndpoint {
 
     private final static Logger LOGGER = Logger.getLogger(AuthenticationEndpoint.class.getName());
 
+    /**
+     * The amount of seconds a client is asked to wait before retrying a rejected password check.
+     */
+    private static final int RETRY_AFTER_SECONDS = 1;
+
     @Inject
     private AuthenticationService authenticationService;
 
@@ -65,6 +72,8 @@ public class AuthenticationEndpoint {
     @RequestBody(name = "form", description = "A form with details about the user registration request.", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = UserCreationForm.class)))
     @APIResponses({
             @APIResponse(description = "The newly created user's details.", responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = NewUserDto.class))),
+            @APIResponse(description = "Too many password checks are waiting, try again later.", responseCode = "429", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "A password check took too long, try again later.", responseCode = "503", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
             @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
@@ -73,7 +82,12 @@ public class AuthenticationEndpoint {
             NewUserDto newUser = NewUserDto.create(authenticationService.registerUser(form));
             return Response.ok().entity(newUser).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(AuthenticationError.REGISTER).withException(exception).build());
+            LOGGER.warning(new LogBuilder(AuthenticationError.REGISTER).withException(exception));
+
+            if (PasswordWorkerService.isRejection(exception)) {
+                return createRejectionResponse(exception);
+            }
+
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withCause().build()).build();
         }
     }
@@ -85,7 +99,9 @@ public class AuthenticationEndpoint {
     @RequestBody(name = "loginForm", description = "A form with details for a login attempt.", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = LoginRequestForm.class)))
     @APIResponses({
             @APIResponse(description = "The login attempt is unsuccessful.", responseCode = "200"),
-            @APIResponse(description = "The login attempt is unsuccessful.", responseCode = "401", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
+            @APIResponse(description = "The login attempt is unsuccessful.", responseCode = "401", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "Too many password checks are waiting, try again later.", responseCode = "429", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "A password check took too long, try again later.", responseCode = "503", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
     public Response login(@RequestBody LoginRequestForm loginForm) {
@@ -95,8 +111,30 @@ public class AuthenticationEndpoint {
 
             return Response.ok().cookie(authenticationCookie).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(AuthenticationError.LOGIN).withException(exception).build());
+            LOGGER.warning(new LogBuilder(AuthenticationError.LOGIN).withException(exception));
+
+            if (PasswordWorkerService.isRejection(exception)) {
+                return createRejectionResponse(exception);
+            }
+
             return ResponseFactory.unauthorized().entity(new DomainErrorDtoBuilder(exception).withCause().build()).build();
         }
     }
+
+    /**
+     * Creates the response for a request the password workers could not take on. An overloaded queue asks the client
+     * to retry shortly, a check that took too long reports the service as unavailable.
+     *
+     * @param exception The rejection of the password workers.
+     * @return A {@link Response}.
+     */
+    private Response createRejectionResponse(DomainException exception) {
+        DomainErrorDto error = new DomainErrorDtoBuilder(exception).build();
+
+        if (AuthenticationError.PASSWORD_WORKERS_OVERLOADED.getKey().equals(exception.getKey())) {
+            return ResponseFactory.tooManyRequests().header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).entity(error).build();
+        }
+
+        return ResponseFactory.serviceUnavailable().header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).entity(error).build();
+    }
 }
@@ -8,6 +8,9 @@ import jp.co.nova.gate.api.shared.exception.DomainError;
 public enum AuthenticationError implements DomainError {
     MISSING_TOKEN_PUBLIC_KEY("authentication.missingTokenPublicKey", "The public key for a new authentication token is missing."),
     MISSING_TOKEN_PRIVATE_KEY("authentication.missingTokenPrivateKey", "The private key for a new authentication token is missing."),
+    INVALID_TOKEN_PRIVATE_KEY("authentication.invalidTokenPrivateKey", "The private key for a new authentication token doesn't match the signing algorithm."),
+    MISSING_TOKEN_ALGORITHM("authentication.missingTokenAlgorithm", "The signing algorithm for a new authentication token is missing."),
+    INVALID_TOKEN_ALGORITHM("authentication.invalidTokenAlgorithm", "The configured signing algorithm for authentication tokens is not supported."),
 
     MISSING_LOGIN_FORM("authentication.missingLoginForm", "A login form is missing."),
     MISSING_LOGIN_USER("authentication.missingLoginUser", "A user is missing during login."),
@@ -26,6 +29,12 @@ public enum AuthenticationError implements DomainError {
     LOGIN_MISMATCH_CREDENTIALS("authentication.loginMisMatchCredentials", "The provided credentials don't match the existing credentials."),
 
     REGISTER("authentication.register", "A user registration request has been rejected."),
+    MISSING_REGISTRATION_FORM("authentication.missingRegistrationForm", "A user registration form is missing."),
+
+    PASSWORD_WORKERS_START_UP("authentication.passwordWorkersStartUp", "Failed to start up the password workers."),
+    PASSWORD_WORKERS_OVERLOADED("authentication.passwordWorkersOverloaded", "Too many password checks are waiting, please try again later."),
+    PASSWORD_WORKERS_TIMEOUT("authentication.passwordWorkersTimeout", "A password check took too long, please try again later."),
+    PASSWORD_WORKERS_FAILED("authentication.passwordWorkersFailed", "A password check failed."),
 
     FORBIDDEN("authentication.forbidden", "Access denied.");
 
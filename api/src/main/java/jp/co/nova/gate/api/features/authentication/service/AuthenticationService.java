@@ -3,15 +3,15 @@ package jp.co.nova.gate.api.features.authentication.service;
 import com.nimbusds.jwt.SignedJWT;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jp.co.nova.gate.api.features.authentication.domain.PasswordValidationFactory;
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationError;
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationException;
 import jp.co.nova.gate.api.features.authentication.input.LoginRequestForm;
 import jp.co.nova.gate.api.features.user.domain.User;
-import jp.co.nova.gate.api.features.user.exception.UserException;
 import jp.co.nova.gate.api.features.user.input.UserCreationForm;
 import jp.co.nova.gate.api.features.user.service.UserService;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.logging.Logger;
 
@@ -19,6 +19,8 @@ import java.util.logging.Logger;
  * A service class handling the authentication topic.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class AuthenticationService {
 
     private static final Logger LOGGER = Logger.getLogger(AuthenticationService.class.getName());
@@ -29,6 +31,9 @@ public class AuthenticationService {
     @Inject
     private AuthenticationTokenService authenticationTokenService;
 
+    @Inject
+    private PasswordWorkerService passwordWorkerService;
+
     protected AuthenticationService() {
     }
 
@@ -40,9 +45,20 @@ public class AuthenticationService {
      */
     public User registerUser(UserCreationForm form) throws AuthenticationException {
         try {
-            return userService.create(form);
-        } catch (UserException exception) {
-            LOGGER.warning(new LogBuilder(AuthenticationError.REGISTER).withException(exception).build());
+            if (form == null) {
+                throw new AuthenticationException(AuthenticationError.MISSING_REGISTRATION_FORM);
+            }
+
+            return userService.create(form, passwordWorkerService.hash(form.password));
+        } catch (AuthenticationException exception) {
+            if (PasswordWorkerService.isRejection(exception)) {
+                throw exception;
+            }
+
+            LOGGER.warning(new LogBuilder(AuthenticationError.REGISTER).withException(exception));
+            throw new AuthenticationException(AuthenticationError.REGISTER, exception);
+        } catch (IllegalArgumentException exception) {
+            LOGGER.warning(new LogBuilder(AuthenticationError.REGISTER).withException(exception));
             throw new AuthenticationException(AuthenticationError.REGISTER, exception);
         }
     }
@@ -61,13 +77,20 @@ public class AuthenticationService {
 
             User selectedUser = userService.findByEmailAddress(loginForm.emailAddress).orElseThrow(() -> new AuthenticationException(AuthenticationError.MISSING_LOGIN_USER));
 
-            if (!new PasswordValidationFactory(loginForm.password, selectedUser.getPassword()).validate()) {
+            if (!passwordWorkerService.validate(loginForm.password, selectedUser.getPassword())) {
                 throw new AuthenticationException(AuthenticationError.LOGIN_MISMATCH_CREDENTIALS);
             }
 
             return authenticationTokenService.generateToken(selectedUser.getId());
+        } catch (AuthenticationException exception) {
+            if (PasswordWorkerService.isRejection(exception)) {
+                throw exception;
+            }
+
+            LOGGER.warning(new LogBuilder(AuthenticationError.LOGIN).withException(exception));
+            throw new AuthenticationException(AuthenticationError.LOGIN, exception);
         } catch (IllegalArgumentException exception) {
-            LOGGER.warning(new LogBuilder(AuthenticationError.LOGIN).withException(exception).build());
+            LOGGER.warning(new LogBuilder(AuthenticationError.LOGIN).withException(exception));
             throw new AuthenticationException(AuthenticationError.LOGIN, exception);
         }
     }
@@ -7,19 +7,22 @@ import jakarta.enterprise.event.ObserverException;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.features.authentication.domain.JwtSigningAlgorithm;
 import jp.co.nova.gate.api.features.authentication.domain.JwtTokenCreationFactory;
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationError;
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationException;
 import jp.co.nova.gate.api.features.authentication.exception.AuthenticationRuntimeException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
-import java.security.interfaces.RSAPrivateKey;
+import java.security.PrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
@@ -33,6 +36,8 @@ import java.util.logging.Logger;
  * A service class handling the authentication token topic.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class AuthenticationTokenService {
 
     private static final Logger LOGGER = Logger.getLogger(AuthenticationTokenService.class.getName());
@@ -40,7 +45,7 @@ public class AuthenticationTokenService {
     /**
      * The default token life span in seconds.
      */
-    private static final int DEFAULT_TOKEN_LIFE_SPAN = 30 * 60 * 1000;
+    private static final int DEFAULT_TOKEN_LIFE_SPAN = 30 * 60;
 
     /**
      * The default name of the token issuer.
@@ -63,7 +68,14 @@ public class AuthenticationTokenService {
     @ConfigProperty(name = "mp.jwt.verify.issuer")
     private String tokenIssuer;
 
-    private RSAPrivateKey privateKey;
+    @Inject
+    @ConfigProperty(name = "mp.jwt.verify.publickey.algorithm", defaultValue = "RS256")
+    private String tokenAlgorithm;
+
+    /**
+     * The factory signing every authentication token, created once at start up.
+     */
+    private JwtTokenCreationFactory tokenCreationFactory;
 
     protected AuthenticationTokenService() {}
 
@@ -75,19 +87,21 @@ public class AuthenticationTokenService {
     @Transactional
     public void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws AuthenticationRuntimeException {
         try {
-            LOGGER.info(new LogBuilder("Initializing the authentication token service.").build());
+            LOGGER.info(new LogBuilder("Initializing the authentication token service."));
 
             try {
-                validateTokenPublicKey();
-                privateKey = loadPrivateKey();
+                JwtSigningAlgorithm algorithm = getTokenAlgorithm();
+
+                validateTokenPublicKey(algorithm);
+                tokenCreationFactory = new JwtTokenCreationFactory(getTokenIssuer(), getTokenLifeSpan(), algorithm, loadPrivateKey(algorithm));
             } catch (AuthenticationException exception) {
-                LOGGER.severe(new LogBuilder(AuthenticationError.TOKEN_SERVICE_LOAD_INITIAL_DATA).withException(exception).build());
+                LOGGER.severe(new LogBuilder(AuthenticationError.TOKEN_SERVICE_LOAD_INITIAL_DATA).withException(exception));
                 throw exception;
             }
 
-            LOGGER.info(new LogBuilder("The authentication token service is ready!").build());
+            LOGGER.info(new LogBuilder("The authentication token service is ready!").withProperty("algorithm", tokenAlgorithm));
         } catch (IllegalArgumentException | ObserverException exception) {
-            LOGGER.severe(new LogBuilder(AuthenticationError.TOKEN_SERVICE_START_UP).withException(exception).build());
+            LOGGER.severe(new LogBuilder(AuthenticationError.TOKEN_SERVICE_START_UP).withException(exception));
             throw new AuthenticationRuntimeException(AuthenticationError.TOKEN_SERVICE_START_UP, exception);
         }
     }
@@ -100,9 +114,9 @@ public class AuthenticationTokenService {
      */
     public SignedJWT generateToken(String subject) {
         try {
-            return new JwtTokenCreationFactory(subject, getTokenIssuer(), getTokenLifeSpan(), privateKey).generate();
+            return tokenCreationFactory.generate(subject);
         } catch (AuthenticationException exception) {
-            LOGGER.warning(new LogBuilder(AuthenticationError.TOKEN_CREATE).withException(exception).build());
+            LOGGER.warning(new LogBuilder(AuthenticationError.TOKEN_CREATE).withException(exception));
             throw new AuthenticationException(AuthenticationError.TOKEN_CREATE, exception);
         }
     }
@@ -111,6 +125,13 @@ public class AuthenticationTokenService {
         return Optional.ofNullable(tokenIssuer).orElse(DEFAULT_TOKEN_ISSUER);
     }
 
+    private JwtSigningAlgorithm getTokenAlgorithm() throws AuthenticationException {
+        return JwtSigningAlgorithm.findByKey(tokenAlgorithm).orElseThrow(() -> {
+            LOGGER.warning(new LogBuilder(AuthenticationError.INVALID_TOKEN_ALGORITHM).withProperty("algorithm", tokenAlgorithm));
+            return new AuthenticationException(AuthenticationError.INVALID_TOKEN_ALGORITHM);
+        });
+    }
+
     private Duration getTokenLifeSpan() {
         try {
             int lifeSpan = DEFAULT_TOKEN_LIFE_SPAN;
@@ -122,26 +143,26 @@ public class AuthenticationTokenService {
                         new LogBuilder(AuthenticationError.TOKEN_CREATE_INVALID_EXPIRATION_MINUTES)
                                 .withException(exception)
                                 .withProperty("expirationTime", tokenLifeSpan)
-                                .build()
                 );
                 LOGGER.info(
                         new LogBuilder("Using the default authentication token expiration time.")
                                 .withProperty("defaultExpirationTime", DEFAULT_TOKEN_LIFE_SPAN)
-                                .build()
                 );
             }
 
             return Duration.ofSeconds(lifeSpan);
         } catch (ArithmeticException exception) {
-            LOGGER.warning(new LogBuilder(AuthenticationError.TOKEN_CREATE_INVALID_LIFE_SPAN).withException(exception).build());
+            LOGGER.warning(new LogBuilder(AuthenticationError.TOKEN_CREATE_INVALID_LIFE_SPAN).withException(exception));
             throw new AuthenticationException(AuthenticationError.TOKEN_CREATE_INVALID_LIFE_SPAN);
         }
     }
 
     /**
      * Validates the authentication token's public key.
+     *
+     * @param algorithm The algorithm the public key belongs to.
      */
-    private void validateTokenPublicKey() throws AuthenticationException {
+    private void validateTokenPublicKey(JwtSigningAlgorithm algorithm) throws AuthenticationException {
         try (InputStream publicKeyStream = AuthenticationTokenService.class.getClassLoader().getResourceAsStream(tokenPublicKeyFilePath)) {
             if (publicKeyStream == null) {
                 throw new IllegalArgumentException("The authentication token's public key file could not be found with the provided path.");
@@ -150,14 +171,13 @@ public class AuthenticationTokenService {
             String pemContent = readPemFile(publicKeyStream);
             byte[] decoded = Base64.getDecoder().decode(pemContent);
             X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decoded);
-            KeyFactory.getInstance("RSA").generatePublic(keySpec);
+            KeyFactory.getInstance(algorithm.getKeyFactoryAlgorithm()).generatePublic(keySpec);
         } catch (IOException | IllegalArgumentException | NullPointerException | NoSuchAlgorithmException |
                  InvalidKeySpecException exception) {
             LOGGER.warning(
                     new LogBuilder(AuthenticationError.MISSING_TOKEN_PUBLIC_KEY)
                             .withException(exception)
                             .withProperty("filePath", tokenPublicKeyFilePath)
-                            .build()
             );
             throw new AuthenticationException(AuthenticationError.MISSING_TOKEN_PUBLIC_KEY, exception);
         }
@@ -166,9 +186,10 @@ public class AuthenticationTokenService {
     /**
      * Returns the authentication token's private key.
      *
-     * @return A {@link RSAPrivateKey}.
+     * @param algorithm The algorithm the private key belongs to.
+     * @return A {@link PrivateKey}.
      */
-    private RSAPrivateKey loadPrivateKey() throws AuthenticationException {
+    private PrivateKey loadPrivateKey(JwtSigningAlgorithm algorithm) throws AuthenticationException {
         try (InputStream privateKeyStream = AuthenticationTokenService.class.getClassLoader().getResourceAsStream(tokenPrivateKeyFilePath)) {
             if (privateKeyStream == null) {
                 throw new IllegalArgumentException("The authentication token's private key file could not be found with the provided path.");
@@ -177,14 +198,13 @@ public class AuthenticationTokenService {
             String pemContent = readPemFile(privateKeyStream);
             byte[] decoded = Base64.getDecoder().decode(pemContent);
             PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(decoded);
-            return (RSAPrivateKey) KeyFactory.getInstance("RSA").generatePrivate(keySpec);
+            return KeyFactory.getInstance(algorithm.getKeyFactoryAlgorithm()).generatePrivate(keySpec);
         } catch (IOException | IllegalArgumentException | NullPointerException | NoSuchAlgorithmException |
                  InvalidKeySpecException exception) {
             LOGGER.warning(
                     new LogBuilder(AuthenticationError.MISSING_TOKEN_PRIVATE_KEY)
                             .withException(exception)
                             .withProperty("filePath", tokenPrivateKeyFilePath)
-                            .build()
             );
             throw new AuthenticationException(AuthenticationError.MISSING_TOKEN_PRIVATE_KEY, exception);
         }
@@ -0,0 +1,202 @@
+package jp.co.nova.gate.api.features.authentication.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jp.co.nova.gate.api.features.authentication.domain.PasswordValidationFactory;
+import jp.co.nova.gate.api.features.authentication.exception.AuthenticationError;
+import jp.co.nova.gate.api.features.authentication.exception.AuthenticationException;
+import jp.co.nova.gate.api.features.authentication.exception.AuthenticationRuntimeException;
+import jp.co.nova.gate.api.features.user.domain.PasswordHashFactory;
+import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Timer;
+import org.eclipse.microprofile.metrics.annotation.Timed;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A service class running the BCrypt work of password hashing and validation on a dedicated, bounded pool of worker
+ * threads.
+ * <p>
+ * BCrypt is deliberately CPU heavy, so running it on the request threads lets a burst of logins starve every other
+ * request. The pool has one worker per core by default and a bounded queue: when the queue is full a request is
+ * rejected right away, and a request that waited longer than the timeout is given up on.
+ */
+@ApplicationScoped
+@Timed
+@Traced
+public class PasswordWorkerService {
+
+    private static final Logger LOGGER = Logger.getLogger(PasswordWorkerService.class.getName());
+
+    /**
+     * The prefix of the names of the metrics of the password workers.
+     */
+    private static final String METRIC_PREFIX = "password.workers.";
+
+    @Inject
+    @ConfigProperty(name = "password.workers.threads", defaultValue = "0")
+    private int threadCount;
+
+    @Inject
+    @ConfigProperty(name = "password.workers.queue-size", defaultValue = "64")
+    private int queueSize;
+
+    @Inject
+    @ConfigProperty(name = "password.workers.timeout-millis", defaultValue = "10000")
+    private long timeoutMillis;
+
+    @Inject
+    @ConfigProperty(name = "password.hash.cost", defaultValue = "" + PasswordHashFactory.DEFAULT_COST)
+    private int hashCost;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    private ThreadPoolExecutor executor;
+
+    private Timer hashTimer;
+    private Timer validationTimer;
+    private Counter rejectionCounter;
+
+    protected PasswordWorkerService() {
+    }
+
+    /**
+     * Tests whether the provided exception means that the password workers could not take on a request, rather than
+     * that the request itself was invalid.
+     *
+     * @param exception The exception to test.
+     * @return True when the password workers were overloaded or too slow, false otherwise.
+     */
+    public static boolean isRejection(DomainException exception) {
+        return AuthenticationError.PASSWORD_WORKERS_OVERLOADED.getKey().equals(exception.getKey())
+                || AuthenticationError.PASSWORD_WORKERS_TIMEOUT.getKey().equals(exception.getKey());
+    }
+
+    /**
+     * Initializes the {@link PasswordWorkerService}.
+     *
+     * @param init The event that triggers the initialization.
+     */
+    public void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws AuthenticationRuntimeException {
+        try {
+            if (hashCost < PasswordHashFactory.MIN_COST || hashCost > PasswordHashFactory.MAX_COST) {
+                throw new IllegalArgumentException("The configured password hash cost is out of range.");
+            } else if (queueSize <= 0 || timeoutMillis <= 0) {
+                throw new IllegalArgumentException("The configured password worker queue size and timeout must be positive.");
+            }
+
+            int workers = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+            AtomicInteger workerCounter = new AtomicInteger(1);
+
+            executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+                Thread thread = new Thread(runnable, "password-worker-" + workerCounter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+
+            metricRegistry.gauge(METRIC_PREFIX + "queue.depth", executor, pool -> pool.getQueue().size());
+            metricRegistry.gauge(METRIC_PREFIX + "active", executor, ThreadPoolExecutor::getActiveCount);
+            hashTimer = metricRegistry.timer(METRIC_PREFIX + "hash.time");
+            validationTimer = metricRegistry.timer(METRIC_PREFIX + "validation.time");
+            rejectionCounter = metricRegistry.counter(METRIC_PREFIX + "rejected");
+
+            LOGGER.info(
+                    new LogBuilder("The password workers are ready!")
+                            .withProperty("workers", workers)
+                            .withProperty("queueSize", queueSize)
+                            .withProperty("hashCost", hashCost)
+            );
+        } catch (IllegalArgumentException exception) {
+            LOGGER.severe(new LogBuilder(AuthenticationError.PASSWORD_WORKERS_START_UP).withException(exception));
+            throw new AuthenticationRuntimeException(AuthenticationError.PASSWORD_WORKERS_START_UP, exception);
+        }
+    }
+
+    @PreDestroy
+    protected void onShutDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Hashes the provided password with the configured cost factor.
+     *
+     * @param rawPassword The password to hash.
+     * @return A hashed password.
+     * @throws AuthenticationException When the password workers are overloaded or the hashing took too long.
+     */
+    public String hash(String rawPassword) throws AuthenticationException {
+        PasswordHashFactory hashFactory = new PasswordHashFactory(rawPassword, hashCost);
+        return run(hashFactory::hash, hashTimer);
+    }
+
+    /**
+     * Tests whether the provided password matches the provided hashed password.
+     *
+     * @param rawPassword      The password to test.
+     * @param expectedPassword The hashed password to test against.
+     * @return True when the passwords match, false otherwise.
+     * @throws AuthenticationException When the password workers are overloaded or the validation took too long.
+     */
+    public boolean validate(String rawPassword, String expectedPassword) throws AuthenticationException {
+        PasswordValidationFactory validationFactory = new PasswordValidationFactory(rawPassword, expectedPassword);
+        return run(validationFactory::validate, validationTimer);
+    }
+
+    /**
+     * Runs a password task on the password workers and waits for its result.
+     *
+     * @param task  The task to run.
+     * @param timer The timer recording how long the task ran on a worker.
+     * @return The result of the task.
+     */
+    private <T> T run(Callable<T> task, Timer timer) throws AuthenticationException {
+        Future<T> result;
+
+        try {
+            result = executor.submit(() -> {
+                long start = System.nanoTime();
+
+                try {
+                    return task.call();
+                } finally {
+                    timer.update(Duration.ofNanos(System.nanoTime() - start));
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            rejectionCounter.inc();
+            throw new AuthenticationException(AuthenticationError.PASSWORD_WORKERS_OVERLOADED, exception);
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            result.cancel(true);
+            rejectionCounter.inc();
+            throw new AuthenticationException(AuthenticationError.PASSWORD_WORKERS_TIMEOUT, exception);
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationException(AuthenticationError.PASSWORD_WORKERS_FAILED, exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IllegalArgumentException illegalArgumentException) {
+                throw illegalArgumentException;
+            }
+
+            throw new AuthenticationException(AuthenticationError.PASSWORD_WORKERS_FAILED, exception.getCause());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package jp.co.nova.gate.api.features.booking.domain;
+
+import jp.co.nova.gate.api.features.booking.exception.BookingError;
+import jp.co.nova.gate.api.features.booking.exception.BookingException;
+import jp.co.nova.gate.api.shared.exception.DomainException;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A POJO representing a ticket of a booking that is created asynchronously by the booking queue.
+ * <p>
+ * A ticket is kept in memory only. It starts as {@link BookingTicketStatus#QUEUED}, and is either
+ * {@link BookingTicketStatus#CONFIRMED confirmed} with the ID of the new booking or
+ * {@link BookingTicketStatus#REJECTED rejected} with the reason of the failure.
+ */
+public class BookingTicket {
+    /**
+     * Creates a new queued {@link BookingTicket}.
+     *
+     * @param userId   The ID of the user creating the booking.
+     * @param voyageId The ID of the voyage of the booking.
+     * @return A new {@link BookingTicket}.
+     * @throws BookingException When the user ID or voyage ID of the booking is missing.
+     */
+    public static BookingTicket create(String userId, String voyageId) throws BookingException {
+        return new BookingTicket(UUID.randomUUID().toString(), ZonedDateTime.now(), userId, voyageId);
+    }
+
+    /**
+     * The ID of the ticket.
+     */
+    private final String id;
+
+    /**
+     * The creation date of the ticket.
+     */
+    private final ZonedDateTime creationDate;
+
+    /**
+     * The ID of the user creating the booking.
+     */
+    private final String userId;
+
+    /**
+     * The ID of the voyage of the booking.
+     */
+    private final String voyageId;
+
+    /**
+     * The status of the ticket.
+     */
+    private volatile BookingTicketStatus status = BookingTicketStatus.QUEUED;
+
+    /**
+     * The ID of the booking, once it is confirmed.
+     */
+    private volatile String bookingId;
+
+    /**
+     * The reason the booking was rejected.
+     */
+    private volatile DomainException failure;
+
+    /**
+     * Completes with the ticket itself once its status is final.
+     */
+    private final CompletableFuture<BookingTicket> completion = new CompletableFuture<>();
+
+    protected BookingTicket(String id, ZonedDateTime creationDate, String userId, String voyageId) throws BookingException {
+        if (id == null) {
+            throw new BookingException(BookingError.MISSING_ID);
+        } else if (creationDate == null) {
+            throw new BookingException(BookingError.MISSING_CREATION_DATE);
+        } else if (userId == null) {
+            throw new BookingException(BookingError.MISSING_USER_ID);
+        } else if (voyageId == null) {
+            throw new BookingException(BookingError.MISSING_VOYAGE_ID);
+        }
+
+        this.id = id;
+        this.creationDate = creationDate;
+        this.userId = userId;
+        this.voyageId = voyageId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ZonedDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getVoyageId() {
+        return voyageId;
+    }
+
+    public BookingTicketStatus getStatus() {
+        return status;
+    }
+
+    public Optional<String> getBookingId() {
+        return Optional.ofNullable(bookingId);
+    }
+
+    public Optional<DomainException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} that completes with this ticket once its status is final.
+     *
+     * @return A {@link CompletableFuture} of this ticket.
+     */
+    public CompletableFuture<BookingTicket> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Marks the booking of the ticket as being created.
+     */
+    public synchronized void markProcessing() {
+        if (!status.isFinal()) {
+            status = BookingTicketStatus.PROCESSING;
+        }
+    }
+
+    /**
+     * Confirms the ticket with its new booking.
+     *
+     * @param booking The new booking.
+     * @throws BookingException When the booking is missing.
+     */
+    public void confirm(Booking booking) throws BookingException {
+        if (booking == null) {
+            throw new BookingException(BookingError.MISSING);
+        }
+
+        synchronized (this) {
+            if (status.isFinal()) {
+                return;
+            }
+
+            bookingId = booking.getId();
+            status = BookingTicketStatus.CONFIRMED;
+        }
+
+        completion.complete(this);
+    }
+
+    /**
+     * Rejects the ticket.
+     *
+     * @param failure The reason the booking could not be created.
+     */
+    public void reject(DomainException failure) {
+        synchronized (this) {
+            if (status.isFinal()) {
+                return;
+            }
+
+            this.failure = failure;
+            status = BookingTicketStatus.REJECTED;
+        }
+
+        completion.complete(this);
+    }
+}
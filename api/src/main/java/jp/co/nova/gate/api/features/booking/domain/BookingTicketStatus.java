@@ -0,0 +1,60 @@
+package jp.co.nova.gate.api.features.booking.domain;
+
+/**
+ * The status of a {@link BookingTicket}.
+ */
+public enum BookingTicketStatus {
+    /**
+     * The booking is waiting in the booking queue.
+     */
+    QUEUED("queued"),
+    /**
+     * The booking is being created by a booking worker.
+     */
+    PROCESSING("processing"),
+    /**
+     * The booking has been created.
+     */
+    CONFIRMED("confirmed"),
+    /**
+     * The booking could not be created.
+     */
+    REJECTED("rejected");
+
+    /**
+     * The prefix used for the status's label.
+     */
+    public final static String LABEL_PREFIX = "bookingTicketStatus";
+
+    /**
+     * The key for the status.
+     */
+    private final String key;
+
+    /**
+     * The label of the status, used for translating.
+     */
+    private final String label;
+
+    BookingTicketStatus(String key) {
+        this.key = key;
+        this.label = String.join(".", LABEL_PREFIX, this.key);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Tests whether the status is final, meaning the booking was either created or rejected.
+     *
+     * @return True when the status is final, false otherwise.
+     */
+    public boolean isFinal() {
+        return this == CONFIRMED || this == REJECTED;
+    }
+}
@@ -0,0 +1,100 @@
+package jp.co.nova.gate.api.features.booking.dto;
+
+import jakarta.json.bind.annotation.JsonbNillable;
+import jp.co.nova.gate.api.features.booking.domain.BookingTicket;
+import jp.co.nova.gate.api.features.booking.exception.BookingError;
+import jp.co.nova.gate.api.features.booking.exception.BookingException;
+import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.time.ZonedDateTime;
+
+import static jp.co.nova.gate.api.shared.openApi.Examples.*;
+
+/**
+ * A POJO representing a DTO of a {@link BookingTicket}.
+ */
+@Schema(name = "BookingTicket", description = "The status of a booking that is created asynchronously.")
+public class BookingTicketDto {
+    /**
+     * Creates a {@link BookingTicketDto} based on a {@link BookingTicket}.
+     *
+     * @param ticket The base booking ticket.
+     * @return A {@link BookingTicketDto}.
+     * @throws BookingException When the booking ticket is missing.
+     */
+    public static BookingTicketDto create(BookingTicket ticket) throws BookingException {
+        if (ticket == null) {
+            throw new BookingException(BookingError.MISSING_TICKET);
+        }
+
+        return new BookingTicketDto(
+                ticket.getId(),
+                ticket.getCreationDate(),
+                ticket.getStatus().getLabel(),
+                ticket.getVoyageId(),
+                ticket.getBookingId().orElse(null),
+                ticket.getFailure().map(DomainErrorDto::create).orElse(null)
+        );
+    }
+
+    /**
+     * The ID of the booking ticket.
+     */
+    @Schema(description = "The ID of the booking ticket.", example = ID_EXAMPLE)
+    public String id;
+
+    /**
+     * The creation date of the booking ticket.
+     */
+    @Schema(description = "The creation date of the booking ticket.", example = CREATION_DATE_EXAMPLE)
+    public ZonedDateTime creationDate;
+
+    /**
+     * The status of the booking ticket.
+     */
+    @Schema(description = "The status of the booking ticket.", example = BOOKING_TICKET_STATUS_EXAMPLE)
+    public String status;
+
+    /**
+     * The voyage of the booking.
+     */
+    @Schema(description = "The voyage ID of the booking.", example = VOYAGE_ID_EXAMPLE)
+    public String voyageId;
+
+    /**
+     * The ID of the booking, once it is confirmed.
+     */
+    @JsonbNillable(false)
+    @Schema(description = "The ID of the booking, once it is confirmed.", example = ID_EXAMPLE)
+    public String bookingId;
+
+    /**
+     * The reason the booking was rejected.
+     */
+    @JsonbNillable(false)
+    @Schema(description = "The reason the booking was rejected.")
+    public DomainErrorDto error;
+
+    protected BookingTicketDto() {
+    }
+
+    protected BookingTicketDto(String id, ZonedDateTime creationDate, String status, String voyageId, String bookingId, DomainErrorDto error) throws BookingException {
+        if (id == null) {
+            throw new BookingException(BookingError.MISSING_ID);
+        } else if (creationDate == null) {
+            throw new BookingException(BookingError.MISSING_CREATION_DATE);
+        } else if (status == null) {
+            throw new BookingException(BookingError.MISSING_STATUS);
+        } else if (voyageId == null) {
+            throw new BookingException(BookingError.MISSING_VOYAGE_ID);
+        }
+
+        this.id = id;
+        this.creationDate = creationDate;
+        this.status = status;
+        this.voyageId = voyageId;
+        this.bookingId = bookingId;
+        this.error = error;
+    }
+}
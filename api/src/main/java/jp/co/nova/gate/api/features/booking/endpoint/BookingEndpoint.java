@@ -4,13 +4,21 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 import jp.co.nova.gate.api.features.booking.domain.Booking;
+import jp.co.nova.gate.api.features.booking.domain.BookingTicket;
 import jp.co.nova.gate.api.features.booking.dto.BookingDto;
+import jp.co.nova.gate.api.features.booking.dto.BookingTicketDto;
 import jp.co.nova.gate.api.features.booking.exception.BookingError;
 import jp.co.nova.gate.api.features.booking.input.BookingCreationForm;
+import jp.co.nova.gate.api.features.booking.service.BookingQueueService;
 import jp.co.nova.gate.api.features.booking.service.BookingService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainErrorDtoBuilder;
@@ -27,6 +35,8 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.net.URI;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -42,35 +52,71 @@ public class BookingEndpoint {
 
     private static final Logger LOGGER = Logger.getLogger(BookingEndpoint.class.getName());
 
+    /**
+     * The preference of a client asking for a booking to be created asynchronously, see RFC 7240.
+     */
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    /**
+     * The amount of seconds a client is asked to wait before retrying a booking rejected by a full booking queue.
+     */
+    private static final int RETRY_AFTER_SECONDS = 1;
+
     @Inject
     private BookingService bookingService;
 
+    @Inject
+    private BookingQueueService bookingQueueService;
+
     protected BookingEndpoint() {
     }
 
     /**
      * Creates a new {@link Booking} and returns it as a {@link BookingDto}.
+     * <p>
+     * When the request prefers {@code respond-async}, the booking is queued instead and the response is a
+     * {@code 202 Accepted} with a {@link BookingTicketDto}, whose status can be followed at {@code bookings/{id}/status}.
      *
      * @param context The context of the request.
-     * @param form A form with details about the new {@link Booking}.
-     * @return A new {@link BookingDto}
+     * @param uriInfo The URI of the request.
+     * @param prefer  The {@code Prefer} header of the request.
+     * @param form    A form with details about the new {@link Booking}.
+     * @return A new {@link BookingDto}, or a {@link BookingTicketDto} of a queued booking.
      */
     @POST
     @SecurityRequirement(name = "jwt")
-    @Operation(summary = "Creates a new booking.", description = "Creates a new booking and returns it.")
+    @Operation(summary = "Creates a new booking.", description = "Creates a new booking and returns it. With the 'Prefer: respond-async' header, the booking is queued and a booking ticket is returned instead.")
+    @Parameter(name = "Prefer", description = "Set to 'respond-async' to queue the booking and get a booking ticket.", example = RESPOND_ASYNC)
     @RequestBody(name = "form", description = "A form with details for a new booking.", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = BookingCreationForm.class)))
     @APIResponses({
             @APIResponse(description = "A new booking.", responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = BookingDto.class))),
+            @APIResponse(description = "A booking ticket of the queued booking.", responseCode = "202", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = BookingTicketDto.class))),
             @APIResponse(description = "Unauthorized", responseCode = "401"),
-            @APIResponse(description = "Booking rejected.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
+            @APIResponse(description = "Booking rejected.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "The booking queue is full.", responseCode = "503", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
-    public Response createBooking(@RequestBody BookingCreationForm form, @Context SecurityContext context) {
+    public Response createBooking(@RequestBody BookingCreationForm form, @Context SecurityContext context, @Context UriInfo uriInfo, @HeaderParam("Prefer") String prefer) {
         try {
+            if (prefersAsync(prefer)) {
+                BookingTicket ticket = bookingQueueService.submit(context.getUserPrincipal().getName(), form);
+                URI statusUri = uriInfo.getAbsolutePathBuilder().path(ticket.getId()).path("status").build();
+
+                return Response.accepted(BookingTicketDto.create(ticket))
+                        .location(statusUri)
+                        .header("Preference-Applied", RESPOND_ASYNC)
+                        .build();
+            }
+
             Booking newBooking = bookingService.create(context.getUserPrincipal(), form);
             return Response.ok(BookingDto.create(newBooking)).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(BookingError.CREATE).withException(exception).build());
+            LOGGER.warning(new LogBuilder(BookingError.CREATE).withException(exception));
+
+            if (BookingError.QUEUE_FULL.getKey().equals(exception.getKey())) {
+                return ResponseFactory.serviceUnavailable().header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).entity(DomainErrorDto.create(exception)).build();
+            }
+
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -101,8 +147,130 @@ public class BookingEndpoint {
                     .map(booking -> Response.ok(BookingDto.create(booking)).build())
                     .orElse(ResponseFactory.notFound().entity(new DomainErrorDtoBuilder(BookingError.FIND_BY_ID).withProperty("id", id).build()).build());
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(BookingError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(BookingError.FIND_BY_ID).withException(exception).withProperty("id", id));
+            return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
+        }
+    }
+
+    /**
+     * Returns the status of a queued {@link Booking} as a {@link BookingTicketDto}.
+     *
+     * @param context The context of the request.
+     * @param id      The ID of the booking ticket.
+     * @return A {@link BookingTicketDto}.
+     */
+    @Path("{id}/status")
+    @GET
+    @SecurityRequirement(name = "jwt")
+    @Operation(summary = "Returns the status of a queued booking.", description = "Returns the booking ticket for the provided ID.")
+    @Parameter(name = "id", description = "The ID of a booking ticket.", example = ID_EXAMPLE)
+    @APIResponses({
+            @APIResponse(description = "A booking ticket.", responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = BookingTicketDto.class))),
+            @APIResponse(description = "The booking ticket was not found.", responseCode = "404", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "Unauthorized", responseCode = "401"),
+            @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
+    })
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response findBookingTicketById(@Context SecurityContext context, @PathParam("id") String id) {
+        try {
+            Optional<BookingTicket> ticket = findOwnTicket(context, id);
+
+            if (ticket.isEmpty()) {
+                return createTicketNotFoundResponse(id);
+            }
+
+            return Response.ok(BookingTicketDto.create(ticket.get())).build();
+        } catch (DomainException exception) {
+            LOGGER.warning(new LogBuilder(BookingError.TICKET_NOT_FOUND).withException(exception).withProperty("id", id));
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
         }
     }
+
+    /**
+     * Streams the status of a queued {@link Booking} as server-sent {@code status} events of {@link BookingTicketDto}s:
+     * the current status right away, and the final status once the booking is confirmed or rejected. A request that
+     * accepts any media type gets the JSON status instead, which is why the stream has a lower quality.
+     *
+     * @param context   The context of the request.
+     * @param id        The ID of the booking ticket.
+     * @param sse       The server-sent events factory.
+     * @param eventSink The sink of the events of the request.
+     */
+    @Path("{id}/status")
+    @GET
+    @SecurityRequirement(name = "jwt")
+    @Operation(summary = "Streams the status of a queued booking.", description = "Streams the booking ticket for the provided ID until it is confirmed or rejected.")
+    @Parameter(name = "id", description = "The ID of a booking ticket.", example = ID_EXAMPLE)
+    @APIResponses({
+            @APIResponse(description = "A stream of booking tickets.", responseCode = "200", content = @Content(mediaType = MediaType.SERVER_SENT_EVENTS, schema = @Schema(implementation = BookingTicketDto.class))),
+            @APIResponse(description = "The booking ticket was not found.", responseCode = "404", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "Unauthorized", responseCode = "401")
+    })
+    @Produces(MediaType.SERVER_SENT_EVENTS + ";qs=0.5")
+    public void streamBookingTicketById(@Context SecurityContext context, @PathParam("id") String id, @Context Sse sse, @Context SseEventSink eventSink) {
+        BookingTicket ticket = findOwnTicket(context, id).orElseThrow(() -> new NotFoundException(createTicketNotFoundResponse(id)));
+
+        if (ticket.getStatus().isFinal()) {
+            eventSink.send(createTicketEvent(sse, ticket)).whenComplete((result, exception) -> eventSink.close());
+            return;
+        }
+
+        eventSink.send(createTicketEvent(sse, ticket));
+        ticket.getCompletion().thenAccept(finalTicket -> {
+            if (!eventSink.isClosed()) {
+                eventSink.send(createTicketEvent(sse, finalTicket)).whenComplete((result, exception) -> eventSink.close());
+            }
+        });
+    }
+
+    /**
+     * Tests whether the provided {@code Prefer} header asks for an asynchronous response.
+     *
+     * @param prefer The {@code Prefer} header of the request.
+     * @return True when the header contains the {@code respond-async} preference, false otherwise.
+     */
+    private boolean prefersAsync(String prefer) {
+        return prefer != null && Arrays.stream(prefer.split(",")).map(String::trim).anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    /**
+     * Returns an {@link Optional} {@link BookingTicket} matching the provided ID, when it belongs to the user of the
+     * request.
+     *
+     * @param context The context of the request.
+     * @param id      The ID of the booking ticket.
+     * @return An {@link Optional} {@link BookingTicket}.
+     */
+    private Optional<BookingTicket> findOwnTicket(SecurityContext context, String id) {
+        return bookingQueueService.findTicketById(id)
+                .filter(ticket -> ticket.getUserId().equals(context.getUserPrincipal().getName()));
+    }
+
+    /**
+     * Creates the response of a booking ticket that was not found.
+     *
+     * @param id The ID of the booking ticket.
+     * @return A {@link Response}.
+     */
+    private Response createTicketNotFoundResponse(String id) {
+        return ResponseFactory.notFound()
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(new DomainErrorDtoBuilder(BookingError.TICKET_NOT_FOUND).withProperty("id", id).build())
+                .build();
+    }
+
+    /**
+     * Creates a {@code status} event of the provided booking ticket.
+     *
+     * @param sse    The server-sent events factory.
+     * @param ticket The booking ticket.
+     * @return An {@link OutboundSseEvent}.
+     */
+    private OutboundSseEvent createTicketEvent(Sse sse, BookingTicket ticket) {
+        return sse.newEventBuilder()
+                .name("status")
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(BookingTicketDto.class, BookingTicketDto.create(ticket))
+                .build();
+    }
 }
@@ -29,8 +29,16 @@ public enum BookingError implements DomainError {
     FIND_BY_USER_ID("booking.findByUserId", "Failed to find the booking with the provided user ID."),
     FIND_BY_VOYAGE_ID("booking.findByVoyageId", "Failed to find the booking with the provided voyage ID."),
     SAVE("booking.save", "Failed to save the booking."),
+    POD_RESERVATION_CONFLICT("booking.podReservationConflict", "The pods of the booking were reserved by another booking."),
     SAVE_LIST("booking.saveList", "Failed to save a list of bookings."),
-    MERGE("booking.merge", "Failed to merge the booking.");
+    MERGE("booking.merge", "Failed to merge the booking."),
+
+    QUEUE_START_UP("bookingQueue.startUp", "Failed to start the booking queue."),
+    QUEUE_FULL("bookingQueue.full", "The booking queue is full, try again later."),
+    QUEUE_MISSING_VOYAGE_ID("bookingQueue.missingVoyageId", "The voyage ID of the queued booking is missing."),
+    QUEUE_SHUT_DOWN("bookingQueue.shutDown", "The booking queue was shut down before the booking was created."),
+    TICKET_NOT_FOUND("bookingTicket.notFound", "Failed to find the booking ticket with the provided ID."),
+    MISSING_TICKET("bookingTicket.missing", "The booking ticket is missing.");
 
     private final String key;
     private final String description;
@@ -0,0 +1,16 @@
+package jp.co.nova.gate.api.features.booking.exception;
+
+import jp.co.nova.gate.api.shared.exception.DomainRuntimeException;
+
+/**
+ * A {@link DomainRuntimeException} for booking exceptions.
+ */
+public class BookingRuntimeException extends DomainRuntimeException {
+    public BookingRuntimeException(BookingError error) {
+        super(error);
+    }
+
+    public BookingRuntimeException(BookingError error, Throwable throwable) {
+        super(error, throwable);
+    }
+}
@@ -25,6 +25,12 @@ public class BookingCreationForm {
     @Schema(description = "The passengers for the new booking.", required = true)
     public List<PassengerCreationForm> passengers;
 
+    /**
+     * Whether the passengers without a requested pod should be seated together.
+     */
+    @Schema(description = "Whether the passengers without a requested pod should be seated together, on the same deck and in adjacent pods when possible.", defaultValue = "false", example = "true")
+    public Boolean groupSeating;
+
     protected BookingCreationForm() {
     }
 
@@ -32,4 +38,10 @@ public class BookingCreationForm {
         this.voyageId = voyageId;
         this.passengers = passengers;
     }
+
+    public BookingCreationForm(String voyageId, List<PassengerCreationForm> passengers, Boolean groupSeating) {
+        this.voyageId = voyageId;
+        this.passengers = passengers;
+        this.groupSeating = groupSeating;
+    }
 }
@@ -6,6 +6,9 @@ import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.booking.domain.Booking;
 import jp.co.nova.gate.api.features.booking.exception.BookingError;
 import jp.co.nova.gate.api.features.booking.exception.BookingException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +17,8 @@ import java.util.Optional;
  * The class for {@link Booking} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class BookingRepository {
 
     // TODO: add a way to remove existing bookings
@@ -104,15 +109,16 @@ public class BookingRepository {
     }
 
     /**
-     * Saves a {@link List} of {@link Booking}s.
+     * Saves a {@link List} of {@link Booking}s in a single transaction, along with their passengers and pod reservations.
      *
      * @param bookings The {@link List} of {@link Booking} to save.
      * @return A {@link List} of persisted {@link Booking}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<Booking> save(List<Booking> bookings) throws BookingException {
         try {
-            return bookings.stream().map(this::save).toList();
-        } catch (IllegalArgumentException exception) {
+            return BulkWriter.save(entityManager, Booking.class, Booking::getId, bookings);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new BookingException(BookingError.SAVE_LIST, exception);
         }
     }
@@ -0,0 +1,442 @@
+package jp.co.nova.gate.api.features.booking.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.TransactionalException;
+import jp.co.nova.gate.api.features.booking.domain.Booking;
+import jp.co.nova.gate.api.features.booking.domain.BookingCreationFactory;
+import jp.co.nova.gate.api.features.booking.exception.BookingError;
+import jp.co.nova.gate.api.features.booking.exception.BookingException;
+import jp.co.nova.gate.api.features.booking.input.BookingCreationForm;
+import jp.co.nova.gate.api.features.booking.repository.BookingRepository;
+import jp.co.nova.gate.api.features.passenger.service.PassengerService;
+import jp.co.nova.gate.api.features.pod.domain.PodAllocation;
+import jp.co.nova.gate.api.features.pod.repository.PodReservationRepository;
+import jp.co.nova.gate.api.features.pod.service.PodReservationService;
+import jp.co.nova.gate.api.features.user.domain.User;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.annotation.Timed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+/**
+ * A service class saving the new bookings of a voyage in groups, so that a burst of bookings shares a single commit.
+ * <p>
+ * The first booking of a voyage to arrive leads a new group: it waits for the configured window, or until the group
+ * is full, while the bookings of the same voyage that arrive in the meantime join the group. The leader then reserves
+ * the pods of every booking of the group one after the other, against the pod availability of the voyage in memory,
+ * and saves all of them in one transaction. Every booking still gets its own result: a booking whose pods can not be
+ * reserved fails on its own, and when the group can not be saved, its bookings are saved one at a time instead. Once
+ * the leader is done, whether it succeeded or not, every booking of the group has a result, so that no booking of the
+ * group waits forever.
+ * <p>
+ * Every booking that is saved synchronously waits for the window, even when no other booking joins its group, since
+ * that can only be known once the window closed. A window of zero saves every booking on its own, without waiting.
+ * <p>
+ * A group is dropped once its leader drained it, so only the voyages with bookings being gathered have a group.
+ */
+@ApplicationScoped
+@Timed
+@Traced
+public class BookingGroupCommitter {
+
+    private static final Logger LOGGER = Logger.getLogger(BookingGroupCommitter.class.getName());
+
+    /**
+     * The maximum amount of times a new booking is saved when its pods were reserved concurrently by another booking.
+     */
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
+    /**
+     * The name of the histogram of the number of bookings saved per group.
+     */
+    public static final String GROUP_SIZE_METRIC_NAME = "booking.group-commit.size";
+
+    @Inject
+    @ConfigProperty(name = "booking.group-commit.window-millis", defaultValue = "3")
+    private long windowMillis;
+
+    @Inject
+    @ConfigProperty(name = "booking.group-commit.max-size", defaultValue = "64")
+    private int maxGroupSize;
+
+    @Inject
+    private BookingRepository repository;
+
+    @Inject
+    private PassengerService passengerService;
+
+    @Inject
+    private PodReservationService podReservationService;
+
+    @Inject
+    private BookingStageTimers stageTimers;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    /**
+     * The groups of new bookings, by voyage ID.
+     */
+    private final Map<String, VoyageGroup> groups = new ConcurrentHashMap<>();
+
+    private Histogram groupSizeHistogram;
+
+    protected BookingGroupCommitter() {
+    }
+
+    @PostConstruct
+    protected void registerMetrics() {
+        groupSizeHistogram = metricRegistry.histogram(GROUP_SIZE_METRIC_NAME);
+    }
+
+    /**
+     * Creates and saves a new {@link Booking} as part of the group of its voyage, and waits for its result.
+     *
+     * @param user         The user of the new booking.
+     * @param voyage       The voyage of the new booking.
+     * @param creationForm The form with the details for the new booking.
+     * @return A saved {@link Booking}.
+     * @throws BookingException When the booking can not be created or saved.
+     */
+    public Booking commit(User user, Voyage voyage, BookingCreationForm creationForm) throws BookingException {
+        PendingBooking pendingBooking = new PendingBooking(user, voyage, creationForm);
+
+        if (windowMillis <= 0) {
+            commitAlone(pendingBooking, 1);
+            return await(pendingBooking);
+        }
+
+        VoyageGroup group;
+        boolean leader;
+
+        while (true) {
+            group = groups.computeIfAbsent(voyage.getId(), voyageId -> new VoyageGroup());
+            group.lock.lock();
+
+            // A group that was drained and dropped by its leader in the meantime can not be joined anymore
+            if (!group.removed) {
+                break;
+            }
+
+            group.lock.unlock();
+        }
+
+        try {
+            group.pending.add(pendingBooking);
+            leader = !group.led;
+
+            if (leader) {
+                group.led = true;
+            } else if (group.pending.size() >= maxGroupSize) {
+                group.full.signal();
+            }
+        } finally {
+            group.lock.unlock();
+        }
+
+        if (leader) {
+            lead(group, voyage);
+        }
+
+        return await(pendingBooking);
+    }
+
+    /**
+     * Waits for the window of the provided group to close, and saves all bookings that joined it.
+     *
+     * @param group  The group to lead.
+     * @param voyage The voyage of the group.
+     */
+    private void lead(VoyageGroup group, Voyage voyage) {
+        List<PendingBooking> batch;
+
+        group.lock.lock();
+
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+
+            while (group.pending.size() < maxGroupSize && remainingNanos > 0) {
+                remainingNanos = group.full.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batch = new ArrayList<>(group.pending);
+            group.pending.clear();
+            group.led = false;
+            group.removed = true;
+            groups.remove(voyage.getId(), group);
+            group.lock.unlock();
+        }
+
+        try {
+            commitGroup(voyage, batch);
+        } finally {
+            failUnfinished(batch);
+        }
+    }
+
+    /**
+     * Fails every booking of the provided group that has no result yet, so that no booking waits forever when the
+     * leader of its group is interrupted by an {@link Error}. Their pods are made available again.
+     *
+     * @param batch The bookings of the group.
+     */
+    private void failUnfinished(List<PendingBooking> batch) {
+        for (PendingBooking pendingBooking : batch) {
+            if (pendingBooking.result.completeExceptionally(new BookingException(BookingError.SAVE))) {
+                pendingBooking.releasePods();
+            }
+        }
+    }
+
+    /**
+     * Reserves the pods of all bookings of a group and saves them in a single transaction. When the group can not be
+     * saved, its bookings are saved one at a time.
+     *
+     * @param voyage The voyage of the group.
+     * @param batch  The bookings of the group.
+     */
+    private void commitGroup(Voyage voyage, List<PendingBooking> batch) {
+        try {
+            List<PendingBooking> reservedBookings = new ArrayList<>(batch.size());
+
+            for (PendingBooking pendingBooking : batch) {
+                try {
+                    pendingBooking.reservePods();
+                    reservedBookings.add(pendingBooking);
+                } catch (DomainException exception) {
+                    pendingBooking.result.completeExceptionally(exception);
+                }
+            }
+
+            if (reservedBookings.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<Booking> bookings = reservedBookings.stream().map(pendingBooking -> pendingBooking.booking).toList();
+                stageTimers.time(BookingStage.PERSIST, () -> repository.save(bookings));
+
+                reservedBookings.forEach(pendingBooking -> pendingBooking.result.complete(pendingBooking.booking));
+                groupSizeHistogram.update(reservedBookings.size());
+            } catch (DomainException | TransactionalException | PersistenceException exception) {
+                boolean duplicatePodReservation = PodReservationRepository.isDuplicatePodReservation(exception);
+                releasePods(voyage, reservedBookings, duplicatePodReservation);
+
+                if (reservedBookings.size() == 1 && !duplicatePodReservation) {
+                    reservedBookings.getFirst().result.completeExceptionally(toBookingFailure(exception));
+                    return;
+                }
+
+                LOGGER.info(new LogBuilder("A group of new bookings could not be saved together, saving them one at a time.").withException(exception).withProperty("bookings", reservedBookings.size()));
+
+                int firstAttempt = reservedBookings.size() == 1 ? 2 : 1;
+                reservedBookings.forEach(pendingBooking -> commitAlone(pendingBooking, firstAttempt));
+            }
+        } catch (RuntimeException exception) {
+            LOGGER.warning(new LogBuilder(BookingError.SAVE).withException(exception).withProperty("bookings", batch.size()));
+            batch.forEach(pendingBooking -> {
+                if (pendingBooking.result.completeExceptionally(new BookingException(BookingError.SAVE, exception))) {
+                    pendingBooking.releasePods();
+                }
+            });
+        }
+    }
+
+    /**
+     * Reserves the pods of a single booking and saves it in a transaction of its own. When one of its pods was reserved
+     * concurrently, the booking is retried with the next available pods.
+     *
+     * @param pendingBooking The booking to save.
+     * @param firstAttempt   The number of the first attempt.
+     */
+    private void commitAlone(PendingBooking pendingBooking, int firstAttempt) {
+        for (int attempt = firstAttempt; ; attempt++) {
+            try {
+                pendingBooking.reservePods();
+            } catch (DomainException exception) {
+                pendingBooking.result.completeExceptionally(exception);
+                return;
+            }
+
+            try {
+                Booking newBooking = stageTimers.time(BookingStage.PERSIST, () -> repository.save(pendingBooking.booking));
+
+                pendingBooking.result.complete(newBooking);
+                groupSizeHistogram.update(1);
+                return;
+            } catch (DomainException | TransactionalException | PersistenceException exception) {
+                boolean duplicatePodReservation = PodReservationRepository.isDuplicatePodReservation(exception);
+                releasePods(pendingBooking.voyage, List.of(pendingBooking), duplicatePodReservation);
+
+                if (!duplicatePodReservation) {
+                    pendingBooking.result.completeExceptionally(toBookingFailure(exception));
+                    return;
+                } else if (attempt >= MAX_SAVE_ATTEMPTS) {
+                    pendingBooking.result.completeExceptionally(new BookingException(BookingError.POD_RESERVATION_CONFLICT, exception));
+                    return;
+                }
+
+                LOGGER.info(new LogBuilder("A pod of a new booking was reserved concurrently, retrying with the next available pods.").withProperty("attempt", attempt));
+            } catch (RuntimeException exception) {
+                pendingBooking.releasePods();
+                pendingBooking.result.completeExceptionally(new BookingException(BookingError.SAVE, exception));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Makes the pods of the provided bookings of a voyage available again, after they could not be saved. When they
+     * were rejected because of a pod that was already reserved, that pod stays reserved, so that the next attempt picks
+     * the next available pods.
+     *
+     * @param voyage                  The voyage of the bookings.
+     * @param pendingBookings         The bookings that could not be saved.
+     * @param duplicatePodReservation Whether the bookings were rejected because of a pod that was already reserved.
+     */
+    private void releasePods(Voyage voyage, List<PendingBooking> pendingBookings, boolean duplicatePodReservation) {
+        List<PodAllocation> podAllocations = pendingBookings.stream()
+                .map(pendingBooking -> pendingBooking.podAllocation)
+                .filter(Objects::nonNull)
+                .toList();
+
+        pendingBookings.forEach(pendingBooking -> pendingBooking.podAllocation = null);
+
+        if (duplicatePodReservation) {
+            podReservationService.releaseConflictingPodAllocations(voyage, podAllocations);
+        } else {
+            podAllocations.forEach(podReservationService::releasePodAllocation);
+        }
+    }
+
+    /**
+     * Waits for the result of the provided booking.
+     *
+     * @param pendingBooking The booking to wait for.
+     * @return The saved {@link Booking}.
+     * @throws DomainException When the booking can not be created or saved.
+     */
+    private Booking await(PendingBooking pendingBooking) throws DomainException {
+        try {
+            return pendingBooking.result.get();
+        } catch (ExecutionException exception) {
+            throw toBookingFailure(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BookingException(BookingError.SAVE, exception);
+        }
+    }
+
+    /**
+     * Returns the provided failure as a {@link DomainException}.
+     *
+     * @param failure The failure of a booking.
+     * @return The failure itself when it is a {@link DomainException}, or a {@link BookingException} caused by it.
+     */
+    private static DomainException toBookingFailure(Throwable failure) {
+        if (failure instanceof DomainException domainException) {
+            return domainException;
+        }
+
+        return new BookingException(BookingError.SAVE, failure);
+    }
+
+    /**
+     * The group of new bookings of a single voyage that is being gathered.
+     */
+    private static class VoyageGroup {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * Signals the leader of the group that the group is full.
+         */
+        private final Condition full = lock.newCondition();
+
+        private final List<PendingBooking> pending = new ArrayList<>();
+
+        /**
+         * Whether a booking is gathering the group.
+         */
+        private boolean led;
+
+        /**
+         * Whether the group was drained by its leader and dropped from the groups, so that a new group has to be
+         * started instead.
+         */
+        private boolean removed;
+    }
+
+    /**
+     * A new booking waiting to be saved.
+     */
+    private class PendingBooking {
+
+        private final User user;
+
+        private final Voyage voyage;
+
+        private final BookingCreationForm creationForm;
+
+        private final CompletableFuture<Booking> result = new CompletableFuture<>();
+
+        private Booking booking;
+
+        /**
+         * The pods reserved for the passengers of the booking, until they are saved or released.
+         */
+        private PodAllocation podAllocation;
+
+        private PendingBooking(User user, Voyage voyage, BookingCreationForm creationForm) {
+            this.user = user;
+            this.voyage = voyage;
+            this.creationForm = creationForm;
+        }
+
+        /**
+         * Creates the booking and its passengers, reserving their pods.
+         */
+        private void reservePods() throws DomainException {
+            booking = new BookingCreationFactory(user, voyage).create();
+            podAllocation = passengerService.create(booking, creationForm.passengers, Boolean.TRUE.equals(creationForm.groupSeating));
+
+            try {
+                booking.assignPassengers(podAllocation.getPassengers());
+            } catch (DomainException exception) {
+                releasePods();
+                throw exception;
+            }
+        }
+
+        /**
+         * Makes the pods of the passengers available again, when the booking will not be saved.
+         */
+        private void releasePods() {
+            if (podAllocation != null) {
+                podReservationService.releasePodAllocation(podAllocation);
+                podAllocation = null;
+            }
+        }
+    }
+}
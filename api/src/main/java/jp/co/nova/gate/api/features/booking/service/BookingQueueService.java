@@ -0,0 +1,348 @@
+package jp.co.nova.gate.api.features.booking.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jp.co.nova.gate.api.features.booking.domain.Booking;
+import jp.co.nova.gate.api.features.booking.domain.BookingTicket;
+import jp.co.nova.gate.api.features.booking.exception.BookingError;
+import jp.co.nova.gate.api.features.booking.exception.BookingException;
+import jp.co.nova.gate.api.features.booking.exception.BookingRuntimeException;
+import jp.co.nova.gate.api.features.booking.input.BookingCreationForm;
+import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.annotation.Timed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A service class creating bookings asynchronously, so that a request only validates its form and is answered with a
+ * {@link BookingTicket} right away.
+ * <p>
+ * The queued bookings are kept in a lane per voyage. A lane is drained by one booking worker at a time, in batches that
+ * the {@link BookingGroupCommitter} saves together, while the bookings of other voyages are created in parallel. A
+ * drained lane goes to the back of the line of the workers, so a popular voyage can not starve the others. The queue is
+ * bounded: when it is full a booking is rejected right away. A lane is dropped once it is drained, and the bookings that
+ * are still queued when the API shuts down are rejected.
+ * <p>
+ * The tickets are kept in memory, up to a maximum number, after which the oldest ones are forgotten.
+ */
+@ApplicationScoped
+@Timed
+@Traced
+public class BookingQueueService {
+
+    private static final Logger LOGGER = Logger.getLogger(BookingQueueService.class.getName());
+
+    /**
+     * The prefix of the names of the metrics of the booking queue.
+     */
+    private static final String METRIC_PREFIX = "booking.queue.";
+
+    @Inject
+    @ConfigProperty(name = "booking.queue.size", defaultValue = "256")
+    private int queueSize;
+
+    @Inject
+    @ConfigProperty(name = "booking.queue.workers", defaultValue = "0")
+    private int workerCount;
+
+    @Inject
+    @ConfigProperty(name = "booking.queue.batch-size", defaultValue = "32")
+    private int batchSize;
+
+    @Inject
+    @ConfigProperty(name = "booking.tickets.max-size", defaultValue = "10000")
+    private int maxTickets;
+
+    @Inject
+    private BookingService bookingService;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    /**
+     * The lanes of queued bookings, by voyage ID.
+     */
+    private final Map<String, VoyageLane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * The tickets of the queued and created bookings, by ticket ID.
+     */
+    private final Map<String, BookingTicket> tickets = new ConcurrentHashMap<>();
+
+    /**
+     * The IDs of the tickets, from the oldest to the most recent.
+     */
+    private final Queue<String> ticketIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of bookings that are queued or being created.
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private ExecutorService executor;
+
+    private Counter rejectionCounter;
+
+    protected BookingQueueService() {
+    }
+
+    /**
+     * Initializes the {@link BookingQueueService}.
+     *
+     * @param init The event that triggers the initialization.
+     */
+    public void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws BookingRuntimeException {
+        try {
+            if (queueSize <= 0 || batchSize <= 0) {
+                throw new IllegalArgumentException("The configured booking queue size and batch size must be positive.");
+            } else if (maxTickets < queueSize) {
+                throw new IllegalArgumentException("The configured maximum number of booking tickets must be at least the booking queue size.");
+            }
+
+            int workers = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+            AtomicInteger workerCounter = new AtomicInteger(1);
+
+            executor = Executors.newFixedThreadPool(workers, runnable -> {
+                Thread thread = new Thread(runnable, "booking-worker-" + workerCounter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            metricRegistry.gauge(METRIC_PREFIX + "depth", pendingCount, AtomicInteger::get);
+            rejectionCounter = metricRegistry.counter(METRIC_PREFIX + "rejected");
+
+            LOGGER.info(
+                    new LogBuilder("The booking queue is ready!")
+                            .withProperty("workers", workers)
+                            .withProperty("queueSize", queueSize)
+                            .withProperty("batchSize", batchSize)
+            );
+        } catch (IllegalArgumentException exception) {
+            LOGGER.severe(new LogBuilder(BookingError.QUEUE_START_UP).withException(exception));
+            throw new BookingRuntimeException(BookingError.QUEUE_START_UP, exception);
+        }
+    }
+
+    @PreDestroy
+    protected void onShutDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+
+        lanes.values().forEach(this::rejectPending);
+    }
+
+    /**
+     * Queues a new booking, after validating its form.
+     *
+     * @param userId       The ID of the user creating the booking.
+     * @param creationForm The form with the details for the new booking.
+     * @return A new {@link BookingTicket} to follow the creation of the booking with.
+     * @throws BookingException When the form is invalid, or when the booking queue is full.
+     */
+    public BookingTicket submit(String userId, BookingCreationForm creationForm) throws BookingException {
+        bookingService.validate(creationForm);
+
+        if (creationForm.voyageId == null) {
+            throw new BookingException(BookingError.QUEUE_MISSING_VOYAGE_ID);
+        }
+
+        BookingTicket ticket = BookingTicket.create(userId, creationForm.voyageId);
+
+        if (pendingCount.incrementAndGet() > queueSize) {
+            pendingCount.decrementAndGet();
+            rejectionCounter.inc();
+            throw new BookingException(BookingError.QUEUE_FULL);
+        }
+
+        addTicket(ticket);
+
+        VoyageLane lane = lanes.computeIfAbsent(creationForm.voyageId, VoyageLane::new);
+        lane.pending.add(new QueuedBooking(ticket, creationForm));
+        schedule(lane);
+
+        return ticket;
+    }
+
+    /**
+     * Returns an {@link Optional} {@link BookingTicket} matching the provided ID.
+     *
+     * @param id The ID of the ticket.
+     * @return An {@link Optional} {@link BookingTicket}, empty when it is unknown or was forgotten.
+     */
+    public Optional<BookingTicket> findTicketById(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(tickets.get(id));
+    }
+
+    /**
+     * Keeps a new ticket, forgetting the oldest tickets when there are too many.
+     *
+     * @param ticket The new ticket.
+     */
+    private void addTicket(BookingTicket ticket) {
+        tickets.put(ticket.getId(), ticket);
+        ticketIds.add(ticket.getId());
+
+        while (tickets.size() > maxTickets) {
+            String oldestTicketId = ticketIds.poll();
+
+            if (oldestTicketId == null) {
+                break;
+            }
+
+            tickets.remove(oldestTicketId);
+        }
+    }
+
+    /**
+     * Hands the provided lane to the booking workers, unless a worker already has it.
+     *
+     * @param lane The lane to drain.
+     */
+    private void schedule(VoyageLane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(lane));
+            } catch (RejectedExecutionException exception) {
+                rejectPending(lane);
+            }
+        }
+    }
+
+    /**
+     * Rejects the queued bookings of the provided lane, because the booking queue was shut down.
+     *
+     * @param lane The lane to reject the queued bookings of.
+     */
+    private void rejectPending(VoyageLane lane) {
+        QueuedBooking queuedBooking;
+
+        while ((queuedBooking = lane.pending.poll()) != null) {
+            queuedBooking.ticket.reject(new BookingException(BookingError.QUEUE_SHUT_DOWN));
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Creates the next batch of queued bookings of the provided lane, and hands the lane back to the booking workers
+     * when more bookings are queued. A drained lane is dropped, unless a booking was queued while it was dropped.
+     *
+     * @param lane The lane to drain.
+     */
+    private void drain(VoyageLane lane) {
+        try {
+            List<QueuedBooking> batch = new ArrayList<>(batchSize);
+            QueuedBooking queuedBooking;
+
+            while (batch.size() < batchSize && (queuedBooking = lane.pending.poll()) != null) {
+                batch.add(queuedBooking);
+            }
+
+            if (!batch.isEmpty()) {
+                createBookings(batch);
+            }
+        } finally {
+            lane.scheduled.set(false);
+
+            if (lane.pending.isEmpty()) {
+                lanes.remove(lane.voyageId, lane);
+            }
+
+            // A booking queued in the meantime is still in the lane, even when the lane was just dropped
+            if (!lane.pending.isEmpty()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    /**
+     * Creates the bookings of a batch of the same voyage at once, so that the {@link BookingGroupCommitter} saves them
+     * together, and settles their tickets.
+     *
+     * @param batch The queued bookings to create.
+     */
+    private void createBookings(List<QueuedBooking> batch) {
+        try (ExecutorService batchExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (QueuedBooking queuedBooking : batch) {
+                batchExecutor.execute(() -> createBooking(queuedBooking));
+            }
+        }
+    }
+
+    /**
+     * Creates a queued booking, and settles its ticket.
+     *
+     * @param queuedBooking The queued booking to create.
+     */
+    private void createBooking(QueuedBooking queuedBooking) {
+        BookingTicket ticket = queuedBooking.ticket;
+
+        try {
+            ticket.markProcessing();
+
+            Booking newBooking = bookingService.create(ticket.getUserId(), queuedBooking.creationForm);
+            ticket.confirm(newBooking);
+        } catch (DomainException exception) {
+            ticket.reject(exception);
+        } catch (RuntimeException exception) {
+            LOGGER.warning(new LogBuilder(BookingError.CREATE).withException(exception).withProperty("ticketId", ticket.getId()));
+            ticket.reject(new BookingException(BookingError.CREATE, exception));
+        } finally {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * The queued bookings of a single voyage.
+     */
+    private static class VoyageLane {
+
+        private final String voyageId;
+
+        private final Queue<QueuedBooking> pending = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Whether a booking worker has the lane, or will have it soon.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private VoyageLane(String voyageId) {
+            this.voyageId = voyageId;
+        }
+    }
+
+    /**
+     * A booking waiting in a {@link VoyageLane}.
+     */
+    private static class QueuedBooking {
+
+        private final BookingTicket ticket;
+
+        private final BookingCreationForm creationForm;
+
+        private QueuedBooking(BookingTicket ticket, BookingCreationForm creationForm) {
+            this.ticket = ticket;
+            this.creationForm = creationForm;
+        }
+    }
+}
@@ -3,19 +3,18 @@ package jp.co.nova.gate.api.features.booking.service;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jp.co.nova.gate.api.features.booking.domain.Booking;
-import jp.co.nova.gate.api.features.booking.domain.BookingCreationFactory;
 import jp.co.nova.gate.api.features.booking.exception.BookingError;
 import jp.co.nova.gate.api.features.booking.exception.BookingException;
 import jp.co.nova.gate.api.features.booking.input.BookingCreationForm;
 import jp.co.nova.gate.api.features.booking.repository.BookingRepository;
-import jp.co.nova.gate.api.features.passenger.domain.Passenger;
-import jp.co.nova.gate.api.features.passenger.service.PassengerService;
 import jp.co.nova.gate.api.features.user.domain.User;
 import jp.co.nova.gate.api.features.user.service.UserService;
 import jp.co.nova.gate.api.features.voyage.domain.Voyage;
 import jp.co.nova.gate.api.features.voyage.service.VoyageService;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.security.Principal;
 import java.util.List;
@@ -26,6 +25,8 @@ import java.util.logging.Logger;
  * A service class handling the {@link Booking} topic.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class BookingService {
 
     private static final Logger LOGGER = Logger.getLogger(BookingService.class.getName());
@@ -40,42 +41,66 @@ public class BookingService {
     private VoyageService voyageService;
 
     @Inject
-    private PassengerService passengerService;
+    private BookingGroupCommitter groupCommitter;
+
+    @Inject
+    private BookingStageTimers stageTimers;
 
     protected BookingService() {
     }
 
     /**
-     * Creates a new {@link Booking}.
+     * Validates the provided form for a new {@link Booking}, without looking up its user or voyage.
      *
      * @param creationForm The form with the details for the new {@link Booking}.
+     * @throws BookingException When the form is missing or the form's passengers are missing or invalid.
+     */
+    public void validate(BookingCreationForm creationForm) throws BookingException {
+        if (creationForm == null) {
+            throw new BookingException(BookingError.NEW_MISSING_CREATION_FORM);
+        } else if (creationForm.passengers == null) {
+            throw new BookingException(BookingError.MISSING_PASSENGERS);
+        } else if (creationForm.passengers.isEmpty()) {
+            throw new BookingException(BookingError.INVALID_PASSENGER_COUNT);
+        }
+    }
+
+    /**
+     * Creates a new {@link Booking}.
+     *
+     * @param userPrincipal The principal of the user creating the {@link Booking}.
+     * @param creationForm  The form with the details for the new {@link Booking}.
      * @return A new {@link Booking}.
      * @throws BookingException When the form is missing or the form's passengers are missing or invalid.
      */
     public Booking create(Principal userPrincipal, BookingCreationForm creationForm) throws BookingException {
-        try {
-            if (creationForm == null) {
-                throw new BookingException(BookingError.NEW_MISSING_CREATION_FORM);
-            } else if (creationForm.passengers == null) {
-                throw new BookingException(BookingError.MISSING_PASSENGERS);
-            } else if (creationForm.passengers.isEmpty()) {
-                throw new BookingException(BookingError.INVALID_PASSENGER_COUNT);
-            }
+        return create(userPrincipal.getName(), creationForm);
+    }
 
-            User selectedUser = userService.findById(userPrincipal.getName()).orElseThrow(() -> new BookingException(BookingError.NEW_USER_NOT_FOUND));
-            Voyage selectedVoyage = voyageService.findById(creationForm.voyageId).orElseThrow(() -> new BookingException(BookingError.NEW_VOYAGE_NOT_FOUND));
+    /**
+     * Creates a new {@link Booking}.
+     *
+     * @param userId       The ID of the user creating the {@link Booking}.
+     * @param creationForm The form with the details for the new {@link Booking}.
+     * @return A new {@link Booking}.
+     * @throws BookingException When the form is missing or the form's passengers are missing or invalid.
+     */
+    public Booking create(String userId, BookingCreationForm creationForm) throws BookingException {
+        try {
+            validate(creationForm);
 
-            Booking newBooking = new BookingCreationFactory(selectedUser, selectedVoyage).create();
-            List<Passenger> passengers = passengerService.create(newBooking, creationForm.passengers);
-            newBooking.assignPassengers(passengers);
+            User selectedUser = stageTimers.time(BookingStage.USER_LOOKUP, () -> userService.findById(userId))
+                    .orElseThrow(() -> new BookingException(BookingError.NEW_USER_NOT_FOUND));
+            Voyage selectedVoyage = stageTimers.time(BookingStage.VOYAGE_LOOKUP, () -> voyageService.findById(creationForm.voyageId))
+                    .orElseThrow(() -> new BookingException(BookingError.NEW_VOYAGE_NOT_FOUND));
 
-            newBooking = repository.save(newBooking);
+            Booking newBooking = groupCommitter.commit(selectedUser, selectedVoyage, creationForm);
 
-            LOGGER.info(new LogBuilder("A new booking has been saved to the database.").build());
+            LOGGER.info(new LogBuilder("A new booking has been saved to the database."));
 
             return newBooking;
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(BookingError.CREATE).withException(exception).build());
+            LOGGER.warning(new LogBuilder(BookingError.CREATE).withException(exception));
             throw exception;
         }
     }
@@ -90,7 +115,7 @@ public class BookingService {
         try {
             return repository.findById(id);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to find the booking with the provided ID").withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder("Failed to find the booking with the provided ID").withException(exception).withProperty("id", id));
             throw exception;
         }
     }
@@ -105,7 +130,7 @@ public class BookingService {
         try {
             return repository.getAllByUserId(userId);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to find the booking with the provided user ID").withException(exception).withProperty("userId", userId).build());
+            LOGGER.warning(new LogBuilder("Failed to find the booking with the provided user ID").withException(exception).withProperty("userId", userId));
             throw exception;
         }
     }
@@ -120,7 +145,7 @@ public class BookingService {
         try {
             return repository.getAllByVoyageId(voyageId);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to find the booking with the provided voyage ID").withException(exception).withProperty("voyageId", voyageId).build());
+            LOGGER.warning(new LogBuilder("Failed to find the booking with the provided voyage ID").withException(exception).withProperty("voyageId", voyageId));
             throw exception;
         }
     }
@@ -135,7 +160,7 @@ public class BookingService {
         try {
             return repository.save(booking);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(BookingError.SAVE).withException(exception).withProperty("booking.id", booking.getId()).build());
+            LOGGER.warning(new LogBuilder(BookingError.SAVE).withException(exception).withProperty("booking.id", booking.getId()));
             throw exception;
         }
     }
@@ -150,7 +175,7 @@ public class BookingService {
         try {
             return repository.save(bookings);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(BookingError.SAVE_LIST).withException(exception).build());
+            LOGGER.warning(new LogBuilder(BookingError.SAVE_LIST).withException(exception));
             throw exception;
         }
     }
@@ -0,0 +1,26 @@
+package jp.co.nova.gate.api.features.booking.service;
+
+/**
+ * The stages of the creation of a new booking, each timed by the {@link BookingStageTimers}.
+ */
+public enum BookingStage {
+    USER_LOOKUP("userLookup"),
+    VOYAGE_LOOKUP("voyageLookup"),
+    LAYOUT_BUILD("layoutBuild"),
+    RESERVATION_SCAN("reservationScan"),
+    POD_ALLOCATION("podAllocation"),
+    PERSIST("persist");
+
+    /**
+     * The key of the stage.
+     */
+    private final String key;
+
+    BookingStage(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,85 @@
+package jp.co.nova.gate.api.features.booking.service;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A class timing the {@link BookingStage}s of the creation of new bookings, reported as the {@code booking.stage.time}
+ * timer with the key of the stage as its {@code stage} tag, whose percentiles, like the p99 of every stage, are
+ * scraped at {@code /metrics}. Within a request, every stage is also a span of its trace, named like
+ * {@code booking.persist}.
+ */
+@ApplicationScoped
+public class BookingStageTimers {
+
+    /**
+     * The name of the timer of the booking stages.
+     */
+    public static final String METRIC_NAME = "booking.stage.time";
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Inject
+    private Tracer tracer;
+
+    private final Map<BookingStage, Timer> timers = new EnumMap<>(BookingStage.class);
+
+    protected BookingStageTimers() {
+    }
+
+    /**
+     * Registers the timers of all {@link BookingStage}s.
+     */
+    @PostConstruct
+    protected void registerTimers() {
+        for (BookingStage stage : BookingStage.values()) {
+            timers.put(stage, metricRegistry.timer(METRIC_NAME, new Tag("stage", stage.getKey())));
+        }
+    }
+
+    /**
+     * Runs the provided stage and times it, as a span of the trace of the current request as well.
+     *
+     * @param stage  The booking stage to time.
+     * @param action The action of the stage.
+     * @param <T>    The type of the result of the stage.
+     * @return The result of the stage.
+     */
+    public <T> T time(BookingStage stage, Supplier<T> action) {
+        Timer.Context context = timers.get(stage).time();
+
+        if (!Span.current().getSpanContext().isValid()) {
+            try {
+                return action.get();
+            } finally {
+                context.stop();
+            }
+        }
+
+        Span span = tracer.spanBuilder("booking." + stage.getKey()).startSpan();
+
+        try (Scope ignored = span.makeCurrent()) {
+            return action.get();
+        } catch (RuntimeException exception) {
+            span.setStatus(StatusCode.ERROR);
+            span.recordException(exception);
+            throw exception;
+        } finally {
+            span.end();
+            context.stop();
+        }
+    }
+}
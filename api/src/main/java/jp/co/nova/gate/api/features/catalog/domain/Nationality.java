@@ -22,11 +22,18 @@ public class Nationality implements CatalogItem {
     private final String key;
     private final String label;
 
+    /**
+     * All possible {@link Nationality} values, in the order of their ISO codes.
+     */
+    private static final List<CatalogItem> ALL;
+
     static {
         for (String isoCode : Locale.getISOCountries()) {
             Nationality nationality = Nationality.create(isoCode);
             BY_KEY.put(nationality.getKey(), nationality);
         }
+
+        ALL = List.copyOf(BY_KEY.values());
     }
 
     /**
@@ -35,7 +42,7 @@ public class Nationality implements CatalogItem {
      * @return A {@link List} of {@link Nationality}.
      */
     public static List<CatalogItem> getAllNationalities() {
-        return BY_KEY.values().stream().toList();
+        return ALL;
     }
 
     /**
@@ -81,7 +88,7 @@ public class Nationality implements CatalogItem {
             this.key = isoCode;
             this.label = locale.getDisplayCountry();
         } catch (IllegalArgumentException exception) {
-            LOGGER.warning(new LogBuilder(PersonalInformationError.INVALID_NATIONALITY).withException(exception).withProperty("isoCode", isoCode).build());
+            LOGGER.warning(new LogBuilder(PersonalInformationError.INVALID_NATIONALITY).withException(exception).withProperty("isoCode", isoCode));
             throw new PersonalInformationException(PersonalInformationError.INVALID_NATIONALITY, exception);
         }
     }
@@ -4,15 +4,19 @@ import jakarta.annotation.security.PermitAll;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jp.co.nova.gate.api.features.catalog.domain.CatalogItem;
+import jp.co.nova.gate.api.features.catalog.domain.CatalogTopic;
 import jp.co.nova.gate.api.features.catalog.dto.*;
 import jp.co.nova.gate.api.features.catalog.service.CatalogService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.http.ReferenceData;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
@@ -25,13 +29,13 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Represents the REST endpoint for the catalog topics.
  */
 @ApplicationScoped
 @Path("catalog")
+@ReferenceData
 @PermitAll
 @Tag(name = "Catalog")
 public class CatalogEndpoint {
@@ -47,6 +51,7 @@ public class CatalogEndpoint {
     /**
      * Returns all catalog items.
      *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
      * @return A {@link Map} of {@link CatalogItem} values.
      */
     @GET
@@ -56,19 +61,11 @@ public class CatalogEndpoint {
             @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getAllCatalogItems() {
+    public Response getAllCatalogItems(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         try {
-            Map<String, List<CatalogItemDto>> catalogItemMap = catalogService.getAllCatalogItems().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            catalogTopicListEntry -> catalogTopicListEntry.getKey().getLabel(),
-                            entry -> entry.getValue().stream()
-                                    .map(CatalogItemDto::fromCatalogItem)
-                                    .toList()
-                    ));
-
-            return Response.ok().entity(catalogItemMap).build();
+            return catalogService.getCatalogPayload().toResponse(acceptEncoding).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to get all catalog items.").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to get all catalog items.").withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -76,6 +73,7 @@ public class CatalogEndpoint {
     /**
      * Returns all possible genders.
      *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
      * @return A {@link List} of all possible {@link GenderDto} values.
      */
     @Path("genders")
@@ -86,12 +84,11 @@ public class CatalogEndpoint {
             @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getAllGenders() {
+    public Response getAllGenders(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         try {
-            List<GenderDto> allGenders = catalogService.getAllGenders().stream().map(GenderDto::fromCatalogItem).toList();
-            return Response.ok().entity(allGenders).build();
+            return catalogService.getCatalogPayload(CatalogTopic.GENDERS).toResponse(acceptEncoding).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to get all genders.").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to get all genders.").withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -99,6 +96,7 @@ public class CatalogEndpoint {
     /**
      * Returns all possible meal preferences.
      *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
      * @return A {@link List} of all possible {@link MealPreferenceDto} values.
      */
     @Path("meal-preferences")
@@ -109,12 +107,11 @@ public class CatalogEndpoint {
             @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getAllMealPreferences() {
+    public Response getAllMealPreferences(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         try {
-            List<MealPreferenceDto> allMealPreferences = catalogService.getAllMealPreferences().stream().map(MealPreferenceDto::fromCatalogItem).toList();
-            return Response.ok().entity(allMealPreferences).build();
+            return catalogService.getCatalogPayload(CatalogTopic.MEAL_PREFERENCES).toResponse(acceptEncoding).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to get all meal preferences.").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to get all meal preferences.").withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -122,6 +119,7 @@ public class CatalogEndpoint {
     /**
      * Returns all possible nationalities.
      *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
      * @return A {@link List} of all possible {@link NationalityDto} values.
      */
     @Path("nationalities")
@@ -132,12 +130,11 @@ public class CatalogEndpoint {
             @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getAllNationalities() {
+    public Response getAllNationalities(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         try {
-            List<NationalityDto> allNationalities = catalogService.getAllNationalities().stream().map(NationalityDto::fromCatalogItem).toList();
-            return Response.ok().entity(allNationalities).build();
+            return catalogService.getCatalogPayload(CatalogTopic.NATIONALITIES).toResponse(acceptEncoding).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to get all nationalities.").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to get all nationalities.").withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -145,6 +142,7 @@ public class CatalogEndpoint {
     /**
      * Returns all possible package types.
      *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
      * @return A {@link List} of all possible {@link PackageTypeDto} values.
      */
     @Path("package-types")
@@ -155,12 +153,11 @@ public class CatalogEndpoint {
             @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getAllPackageTypes() {
+    public Response getAllPackageTypes(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         try {
-            List<PackageTypeDto> allRoutes = catalogService.getAllPackageTypes().stream().map(PackageTypeDto::fromCatalogItem).toList();
-            return Response.ok().entity(allRoutes).build();
+            return catalogService.getCatalogPayload(CatalogTopic.PACKAGE_TYPES).toResponse(acceptEncoding).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to get all package types").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to get all package types").withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -168,6 +165,7 @@ public class CatalogEndpoint {
     /**
      * Returns all possible pod types.
      *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
      * @return A {@link List} of all possible {@link PodTypeDto} values.
      */
     @Path("pod-types")
@@ -178,12 +176,11 @@ public class CatalogEndpoint {
             @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
     })
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getAllPodTypes() {
+    public Response getAllPodTypes(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         try {
-            List<PodTypeDto> allPodTypes = catalogService.getAllPodTypes().stream().map(PodTypeDto::fromCatalogItem).toList();
-            return Response.ok().entity(allPodTypes).build();
+            return catalogService.getCatalogPayload(CatalogTopic.POD_TYPES).toResponse(acceptEncoding).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder("Failed to get all pod types.").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to get all pod types.").withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
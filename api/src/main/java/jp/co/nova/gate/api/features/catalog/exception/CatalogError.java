@@ -16,6 +16,9 @@ public enum CatalogError implements DomainError {
     CATALOG_ITEM_PACKAGE_TYPE_MISMATCH("catalog.packageTypeMismatch", "The provided catalog item is not a package type."),
     CATALOG_ITEM_POD_TYPE_MISMATCH("catalog.podTypeMismatch", "The provided catalog item is not a pod type."),
 
+    RENDER_PAYLOADS("catalog.renderPayloads", "Failed to render the catalog payloads."),
+    MISSING_PAYLOAD("catalog.missingPayload", "The catalog payload is not rendered yet."),
+
     MEAL_PREFERENCE_MISSING("mealPreference.missing", "The meal preference is missing."),
     MEAL_PREFERENCE_MISSING_AVAILABLE_FROM("mealPreference.missingAvailableFrom", "The package type that makes the meal preference available is missing."),
     MEAL_PREFERENCE_MISSING_FREE_FROM("mealPreference.missingFreeFrom", "The package type that makes the meal preference free of charge is missing."),
@@ -1,28 +1,84 @@
 package jp.co.nova.gate.api.features.catalog.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.ws.rs.core.MediaType;
 import jp.co.nova.gate.api.features.catalog.domain.*;
+import jp.co.nova.gate.api.features.catalog.dto.CatalogItemDto;
+import jp.co.nova.gate.api.features.catalog.exception.CatalogError;
+import jp.co.nova.gate.api.features.catalog.exception.CatalogException;
+import jp.co.nova.gate.api.shared.http.PrecompressedContent;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.logging.Logger;
 
 /**
  * A service class handling the catalog topics.
+ * <p>
+ * The catalog never changes while the API runs, so the JSON payloads of all catalog topics, and of the whole catalog,
+ * are rendered once at start up and served from memory as {@link PrecompressedContent}.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class CatalogService {
 
+    private static final Logger LOGGER = Logger.getLogger(CatalogService.class.getName());
+
+    /**
+     * All possible {@link CatalogItem} values, mapped by their {@link CatalogTopic} value.
+     */
+    private static final Map<CatalogTopic, List<CatalogItem>> ALL_CATALOG_ITEMS;
+
+    static {
+        Map<CatalogTopic, List<CatalogItem>> catalogItems = new EnumMap<>(CatalogTopic.class);
+
+        catalogItems.put(CatalogTopic.GENDERS, List.of(Gender.values()));
+        catalogItems.put(CatalogTopic.MEAL_PREFERENCES, List.of(MealPreference.values()));
+        catalogItems.put(CatalogTopic.NATIONALITIES, Nationality.getAllNationalities());
+        catalogItems.put(CatalogTopic.PACKAGE_TYPES, List.of(PackageType.values()));
+        catalogItems.put(CatalogTopic.POD_TYPES, List.of(PodType.values()));
+
+        ALL_CATALOG_ITEMS = Collections.unmodifiableMap(catalogItems);
+    }
+
+    /**
+     * The rendered payloads of the catalog topics.
+     */
+    private final Map<CatalogTopic, PrecompressedContent> topicPayloads = new EnumMap<>(CatalogTopic.class);
+
+    /**
+     * The rendered payload of the whole catalog.
+     */
+    private volatile PrecompressedContent catalogPayload;
+
     protected CatalogService() {
     }
 
+    /**
+     * Renders the payloads of the catalog at start up.
+     *
+     * @param init The event that triggers the start up.
+     */
+    public void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws CatalogException {
+        renderPayloads();
+    }
+
     /**
      * Gets a {@link List} of all possible {@link MealPreference} values.
      *
      * @return A {@link List} of {@link MealPreference} values.
      */
     public List<CatalogItem> getAllMealPreferences() {
-        return List.of(MealPreference.values());
+        return ALL_CATALOG_ITEMS.get(CatalogTopic.MEAL_PREFERENCES);
     }
 
     /**
@@ -31,7 +87,7 @@ public class CatalogService {
      * @return A {@link List} of {@link PackageType}s.
      */
     public List<CatalogItem> getAllPackageTypes() {
-        return List.of(PackageType.values());
+        return ALL_CATALOG_ITEMS.get(CatalogTopic.PACKAGE_TYPES);
     }
 
     /**
@@ -40,7 +96,7 @@ public class CatalogService {
      * @return A {@link List} of {@link PodType}s.
      */
     public List<CatalogItem> getAllPodTypes() {
-        return List.of(PodType.values());
+        return ALL_CATALOG_ITEMS.get(CatalogTopic.POD_TYPES);
     }
 
     /**
@@ -49,7 +105,7 @@ public class CatalogService {
      * @return A {@link List} of {@link Nationality}s.
      */
     public List<CatalogItem> getAllNationalities() {
-        return Nationality.getAllNationalities();
+        return ALL_CATALOG_ITEMS.get(CatalogTopic.NATIONALITIES);
     }
 
     /**
@@ -58,7 +114,7 @@ public class CatalogService {
      * @return A {@link List} of {@link Gender}s.
      */
     public List<CatalogItem> getAllGenders() {
-        return List.of(Gender.values());
+        return ALL_CATALOG_ITEMS.get(CatalogTopic.GENDERS);
     }
 
     /**
@@ -67,14 +123,76 @@ public class CatalogService {
      * @return A {@link Map} of {@link CatalogItem} values.
      */
     public Map<CatalogTopic, List<CatalogItem>> getAllCatalogItems() {
-        HashMap<CatalogTopic, List<CatalogItem>> catalogItems = new HashMap<>();
+        return ALL_CATALOG_ITEMS;
+    }
+
+    /**
+     * Gets the rendered JSON payload of the whole catalog, mapped by the labels of the catalog topics.
+     *
+     * @return The {@link PrecompressedContent} of the catalog.
+     */
+    public PrecompressedContent getCatalogPayload() throws CatalogException {
+        PrecompressedContent payload = catalogPayload;
+
+        if (payload == null) {
+            throw new CatalogException(CatalogError.MISSING_PAYLOAD);
+        }
+
+        return payload;
+    }
+
+    /**
+     * Gets the rendered JSON payload of the provided {@link CatalogTopic}.
+     *
+     * @param topic The catalog topic to get the payload of.
+     * @return The {@link PrecompressedContent} of the catalog topic.
+     */
+    public PrecompressedContent getCatalogPayload(CatalogTopic topic) throws CatalogException {
+        PrecompressedContent payload = catalogPayload == null ? null : topicPayloads.get(topic);
+
+        if (payload == null) {
+            throw new CatalogException(CatalogError.MISSING_PAYLOAD);
+        }
+
+        return payload;
+    }
+
+    /**
+     * Renders the JSON payloads of all catalog topics and of the whole catalog.
+     */
+    private synchronized void renderPayloads() throws CatalogException {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            Map<String, List<CatalogItemDto>> catalog = new LinkedHashMap<>();
+
+            for (Map.Entry<CatalogTopic, List<CatalogItem>> topicItems : ALL_CATALOG_ITEMS.entrySet()) {
+                List<CatalogItemDto> topicDtos = topicItems.getValue().stream().map(CatalogItemDto::fromCatalogItem).toList();
+
+                catalog.put(topicItems.getKey().getLabel(), topicDtos);
+                topicPayloads.put(topicItems.getKey(), render(jsonb, topicDtos));
+            }
 
-        catalogItems.put(CatalogTopic.GENDERS, getAllGenders());
-        catalogItems.put(CatalogTopic.MEAL_PREFERENCES, getAllMealPreferences());
-        catalogItems.put(CatalogTopic.NATIONALITIES, getAllNationalities());
-        catalogItems.put(CatalogTopic.PACKAGE_TYPES, getAllPackageTypes());
-        catalogItems.put(CatalogTopic.POD_TYPES, getAllPodTypes());
+            catalogPayload = render(jsonb, catalog);
 
-        return catalogItems;
+            LOGGER.info(
+                    new LogBuilder("The catalog payloads are rendered!")
+                            .withProperty("bytes", catalogPayload.getContent().length)
+                            .withProperty("gzipBytes", catalogPayload.getGzipContent().length)
+                            .withProperty("brotliBytes", catalogPayload.getBrotliContent().map(brotliContent -> brotliContent.length).orElse(0))
+            );
+        } catch (Exception exception) {
+            LOGGER.severe(new LogBuilder(CatalogError.RENDER_PAYLOADS).withException(exception));
+            throw new CatalogException(CatalogError.RENDER_PAYLOADS, exception);
+        }
+    }
+
+    /**
+     * Renders the provided value to a JSON payload.
+     *
+     * @param jsonb The {@link Jsonb} instance to serialize with.
+     * @param value The value to render.
+     * @return The {@link PrecompressedContent} of the value.
+     */
+    private PrecompressedContent render(Jsonb jsonb, Object value) throws JsonbException, IllegalArgumentException {
+        return PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, jsonb.toJson(value).getBytes(StandardCharsets.UTF_8));
     }
 }
@@ -16,6 +16,7 @@ import jp.co.nova.gate.api.features.location.service.LocationService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainErrorDtoBuilder;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.http.ReferenceData;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
 import jp.co.nova.gate.api.shared.util.ResponseFactory;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -38,6 +39,7 @@ import static jp.co.nova.gate.api.shared.openApi.Examples.LOCATION_ID_EXAMPLE;
  */
 @ApplicationScoped
 @Path("locations")
+@ReferenceData
 @Tag(name = "Locations")
 public class LocationEndpoint {
 
@@ -70,7 +72,7 @@ public class LocationEndpoint {
             List<LocationDto> locations = locationService.getAll().stream().map(LocationDto::create).toList();
             return Response.ok().entity(locations).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(LocationError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(LocationError.GET_ALL).withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -98,7 +100,7 @@ public class LocationEndpoint {
                     .map(location -> Response.ok().entity(LocationDto.create(location)).build())
                     .orElse(ResponseFactory.notFound().entity(new DomainErrorDtoBuilder(LocationError.FIND_BY_ID).withProperty("id", id).build()).build());
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(LocationError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(LocationError.FIND_BY_ID).withException(exception).withProperty("id", id));
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
         }
     }
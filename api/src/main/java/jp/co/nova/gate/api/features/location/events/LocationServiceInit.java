@@ -1,20 +0,0 @@
-package jp.co.nova.gate.api.features.location.events;
-
-import jp.co.nova.gate.api.features.location.service.LocationService;
-
-/**
- * A POJO representing an event indicating the initialization of the {@link LocationService}.
- */
-public class LocationServiceInit {
-
-    /**
-     * Creates a new {@link LocationServiceInit}.
-     *
-     * @return a new {@link LocationServiceInit}
-     */
-    public static LocationServiceInit create() {
-        return new LocationServiceInit();
-    }
-
-    protected LocationServiceInit() {}
-}
\ No newline at end of file
@@ -2,9 +2,13 @@ package jp.co.nova.gate.api.features.location.repository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.*;
+import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.location.domain.Location;
 import jp.co.nova.gate.api.features.location.exception.LocationError;
 import jp.co.nova.gate.api.features.location.exception.LocationException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +17,8 @@ import java.util.Optional;
  * The class for {@link Location} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class LocationRepository {
 
     @PersistenceContext(unitName = "domain")
@@ -92,10 +98,11 @@ public class LocationRepository {
      * @param locations The {@link List} of {@link Location} to save.
      * @return The {@link List} of saved {@link Location}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<Location> save(List<Location> locations) throws LocationException {
         try {
-            return locations.stream().map(this::save).toList();
-        } catch (IllegalArgumentException exception) {
+            return BulkWriter.save(entityManager, Location.class, Location::getId, locations);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new LocationException(LocationError.SAVE_LIST, exception);
         }
     }
@@ -1,15 +1,13 @@
 package jp.co.nova.gate.api.features.location.service;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.context.Initialized;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.event.ObserverException;
-import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import jakarta.json.*;
 import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.application.startup.InitialDataLoader;
+import jp.co.nova.gate.api.application.startup.StartUpStage;
 import jp.co.nova.gate.api.features.location.domain.Location;
-import jp.co.nova.gate.api.features.location.events.LocationServiceInit;
 import jp.co.nova.gate.api.features.location.exception.LocationError;
 import jp.co.nova.gate.api.features.location.exception.LocationException;
 import jp.co.nova.gate.api.features.location.exception.LocationRuntimeException;
@@ -17,8 +15,12 @@ import jp.co.nova.gate.api.features.location.repository.LocationRepository;
 import jp.co.nova.gate.api.features.locationCharacteristic.domain.LocationCharacteristic;
 import jp.co.nova.gate.api.features.locationCharacteristic.domain.PlanetCharacteristic;
 import jp.co.nova.gate.api.features.locationCharacteristic.service.LocationCharacteristicService;
+import jp.co.nova.gate.api.shared.cache.ReferenceCache;
+import jp.co.nova.gate.api.shared.cache.ReferenceCacheFactory;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,12 +31,12 @@ import java.util.stream.Collectors;
  * A service class handling the {@link Location} topic.
  */
 @ApplicationScoped
-public class LocationService {
+@Timed
+@Traced
+public class LocationService implements InitialDataLoader {
 
     private static final Logger LOGGER = Logger.getLogger(LocationService.class.getName());
 
-    private static boolean INITIALIZED;
-
     /**
      * The location repository.
      */
@@ -48,45 +50,58 @@ public class LocationService {
     private LocationCharacteristicService locationCharacteristicService;
 
     /**
-     * The location service initialization event.
+     * The factory of the reference entity caches.
      */
     @Inject
-    private Event<LocationServiceInit> locationServiceInitEvent;
+    private ReferenceCacheFactory referenceCacheFactory;
+
+    /**
+     * The cache of the locations.
+     */
+    private ReferenceCache<Location> cache;
 
     protected LocationService() {
     }
 
+    /**
+     * Creates the cache of the {@link LocationService}.
+     */
+    @PostConstruct
+    protected void createCache() {
+        cache = referenceCacheFactory.create("locations", Location::getId);
+    }
+
+    @Override
+    public StartUpStage getStage() {
+        return StartUpStage.LOCATIONS;
+    }
+
     /**
      * Initializes the {@link LocationService} by loading the initial data into the database.
      *
-     * @param init The event that triggers the initialization.
+     * @param records The records of the seed file to load.
      */
+    @Override
     @Transactional
-    public void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws LocationRuntimeException {
+    public void loadInitialData(List<JsonObject> records) throws LocationRuntimeException {
         try {
-            if (!INITIALIZED) {
-                LOGGER.info(new LogBuilder("Initializing the location service.").build());
-                loadLocations();
-                LOGGER.info(new LogBuilder("The location service is ready!").build());
-
-                locationServiceInitEvent.fire(LocationServiceInit.create());
-                INITIALIZED = true;
-            }
-        } catch (IllegalArgumentException | ObserverException exception) {
-            LOGGER.severe(new LogBuilder(LocationError.START_SERVICE).withException(exception).build());
+            LOGGER.info(new LogBuilder("Initializing the location service."));
+            loadLocations(records);
+            LOGGER.info(new LogBuilder("The location service is ready!"));
+        } catch (IllegalArgumentException exception) {
+            LOGGER.severe(new LogBuilder(LocationError.START_SERVICE).withException(exception));
             throw new LocationRuntimeException(LocationError.START_SERVICE, exception);
         }
     }
 
     /**
-     * Loads all initial {@link Location}s into the database.
+     * Loads the provided {@link Location} records into the database.
+     *
+     * @param records The records to load.
      */
-    private void loadLocations() throws LocationException {
-        try (JsonReader reader = Json
-                .createReader(LocationService.class.getResourceAsStream("/static/locations.json"))) {
-            List<Location> parsedLocations = reader.readArray().stream().map(locationJsonValue -> {
-                JsonObject locationJson = locationJsonValue.asJsonObject();
-
+    private void loadLocations(List<JsonObject> records) throws LocationException {
+        try {
+            List<Location> parsedLocations = records.stream().map(locationJson -> {
                 String id = locationJson.getString("id");
                 String name = locationJson.getString("name");
                 double latitude = locationJson.getJsonNumber("latitude").doubleValue();
@@ -103,9 +118,10 @@ public class LocationService {
             }).collect(Collectors.toList());
 
             repository.save(parsedLocations);
-            LOGGER.info(new LogBuilder(String.format("Created %d locations.", parsedLocations.size())).build());
+            cache.invalidate();
+            LOGGER.info(new LogBuilder(String.format("Created %d locations.", parsedLocations.size())));
         } catch (JsonException | NullPointerException | DomainException exception) {
-            LOGGER.warning(new LogBuilder(LocationError.LOAD_INITIAL_DATA).withException(exception).build());
+            LOGGER.warning(new LogBuilder(LocationError.LOAD_INITIAL_DATA).withException(exception));
             throw new LocationException(LocationError.LOAD_INITIAL_DATA, exception);
         }
     }
@@ -117,9 +133,9 @@ public class LocationService {
      */
     public List<Location> getAll() throws LocationException {
         try {
-            return repository.getAll();
+            return cache.getAll(repository::getAll);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(LocationError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(LocationError.GET_ALL).withException(exception));
             throw exception;
         }
     }
@@ -132,9 +148,9 @@ public class LocationService {
      */
     public Optional<Location> findById(String id) throws LocationException {
         try {
-            return repository.findById(id);
+            return cache.findById(id, repository::findById);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(LocationError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(LocationError.FIND_BY_ID).withException(exception).withProperty("id", id));
             throw exception;
         }
     }
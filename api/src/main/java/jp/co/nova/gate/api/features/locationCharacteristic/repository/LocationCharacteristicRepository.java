@@ -8,6 +8,9 @@ import jp.co.nova.gate.api.features.location.exception.LocationException;
 import jp.co.nova.gate.api.features.locationCharacteristic.domain.LocationCharacteristic;
 import jp.co.nova.gate.api.features.locationCharacteristic.exception.LocationCharacteristicError;
 import jp.co.nova.gate.api.features.locationCharacteristic.exception.LocationCharacteristicException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +19,8 @@ import java.util.Optional;
  * The class for {@link LocationCharacteristic} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class LocationCharacteristicRepository {
 
     @PersistenceContext(unitName = "domain")
@@ -79,10 +84,11 @@ public class LocationCharacteristicRepository {
      * @param locationCharacteristics The {@link List} of {@link LocationCharacteristic}s to save.
      * @return A {@link List} of persisted {@link LocationCharacteristic}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<LocationCharacteristic> save(List<LocationCharacteristic> locationCharacteristics) throws BookingException {
         try {
-            return locationCharacteristics.stream().map(this::save).toList();
-        } catch (IllegalArgumentException exception) {
+            return BulkWriter.save(entityManager, LocationCharacteristic.class, LocationCharacteristic::getId, locationCharacteristics);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new LocationCharacteristicException(LocationCharacteristicError.SAVE_LIST, exception);
         }
     }
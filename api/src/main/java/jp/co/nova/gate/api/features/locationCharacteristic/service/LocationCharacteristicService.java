@@ -7,7 +7,9 @@ import jp.co.nova.gate.api.features.locationCharacteristic.domain.PlanetCharacte
 import jp.co.nova.gate.api.features.locationCharacteristic.exception.LocationCharacteristicError;
 import jp.co.nova.gate.api.features.locationCharacteristic.exception.LocationCharacteristicException;
 import jp.co.nova.gate.api.features.locationCharacteristic.repository.LocationCharacteristicRepository;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -16,6 +18,8 @@ import java.util.logging.Logger;
  * A service class handling the {@link LocationCharacteristic} topic.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class LocationCharacteristicService {
 
     private static final Logger LOGGER = Logger.getLogger(LocationCharacteristicService.class.getName());
@@ -36,7 +40,7 @@ public class LocationCharacteristicService {
         try {
             return LocationCharacteristic.create(characteristic);
         } catch (LocationCharacteristicException exception) {
-            LOGGER.warning(new LogBuilder(LocationCharacteristicError.CREATE).withException(exception).build());
+            LOGGER.warning(new LogBuilder(LocationCharacteristicError.CREATE).withException(exception));
             throw exception;
         }
     }
@@ -51,7 +55,7 @@ public class LocationCharacteristicService {
         try {
             return repository.save(locationCharacteristic);
         } catch (LocationCharacteristicException exception) {
-            LOGGER.warning(new LogBuilder(LocationCharacteristicError.SAVE).withException(exception).withProperty("id", locationCharacteristic.getId()).build());
+            LOGGER.warning(new LogBuilder(LocationCharacteristicError.SAVE).withException(exception).withProperty("id", locationCharacteristic.getId()));
             throw exception;
         }
     }
@@ -66,7 +70,7 @@ public class LocationCharacteristicService {
         try {
             return repository.save(locationCharacteristics);
         } catch (LocationCharacteristicException exception) {
-            LOGGER.warning(new LogBuilder(LocationCharacteristicError.SAVE_LIST).withException(exception).build());
+            LOGGER.warning(new LogBuilder(LocationCharacteristicError.SAVE_LIST).withException(exception));
             throw exception;
         }
     }
@@ -4,11 +4,15 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.TransactionRequiredException;
 import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.passenger.domain.Passenger;
 import jp.co.nova.gate.api.features.passenger.exception.PassengerError;
 import jp.co.nova.gate.api.features.passenger.exception.PassengerException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +21,8 @@ import java.util.Optional;
  * The class for {@link Passenger} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class PassengerRepository {
 
     // TODO: add a way to remove existing passengers
@@ -81,10 +87,11 @@ public class PassengerRepository {
      * @param passengers The {@link List} of {@link Passenger}s to save.
      * @return A {@link List} of persisted {@link Passenger}s
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<Passenger> save(List<Passenger> passengers) throws PassengerException {
         try {
-            return passengers.stream().map(this::save).toList();
-        } catch (PassengerException exception) {
+            return BulkWriter.save(entityManager, Passenger.class, Passenger::getId, passengers);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new PassengerException(PassengerError.SAVE_LIST, exception);
         }
     }
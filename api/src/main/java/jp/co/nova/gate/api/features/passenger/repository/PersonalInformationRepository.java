@@ -9,6 +9,8 @@ import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.passenger.domain.PersonalInformation;
 import jp.co.nova.gate.api.features.passenger.exception.PersonalInformationError;
 import jp.co.nova.gate.api.features.passenger.exception.PersonalInformationException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ import java.util.Optional;
  * The class for {@link PersonalInformation} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class PersonalInformationRepository {
 
     // TODO: add a way to remove existing personal information
@@ -16,13 +16,18 @@ import jp.co.nova.gate.api.features.passenger.exception.PassengerException;
 import jp.co.nova.gate.api.features.passenger.input.PassengerCreationForm;
 import jp.co.nova.gate.api.features.passenger.input.PersonalInformationCreationForm;
 import jp.co.nova.gate.api.features.passenger.repository.PassengerRepository;
+import jp.co.nova.gate.api.features.pod.domain.PodAllocation;
 import jp.co.nova.gate.api.features.pod.domain.PodReservation;
 import jp.co.nova.gate.api.features.pod.exception.PodReservationException;
 import jp.co.nova.gate.api.features.pod.service.PodReservationService;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -30,6 +35,8 @@ import java.util.logging.Logger;
  * A service class handling the {@link Passenger} topic.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class PassengerService {
 
     private static final Logger LOGGER = Logger.getLogger(PassengerService.class.getName());
@@ -54,7 +61,7 @@ public class PassengerService {
             PersonalInformation personalInformation = new PersonalInformationCreationFactory(passenger, personalInformationForm).create();
             passenger.assignPersonalInformation(personalInformation);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(PassengerError.ADD_PERSONAL_INFORMATION).withException(exception).build());
+            LOGGER.warning(new LogBuilder(PassengerError.ADD_PERSONAL_INFORMATION).withException(exception));
             throw new PassengerException(PassengerError.ADD_PERSONAL_INFORMATION, exception);
         }
     }
@@ -69,19 +76,20 @@ public class PassengerService {
         try {
             return repository.findById(id);
         } catch (PassengerException exception) {
-            LOGGER.warning(new LogBuilder(PassengerError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(PassengerError.FIND_BY_ID).withException(exception).withProperty("id", id));
             throw exception;
         }
     }
 
     /**
-     * Creates a {@link List} of {@link Passenger}s.
+     * Creates a {@link List} of {@link Passenger}s and reserves the pods of all passengers in one pass.
      *
      * @param booking        The booking for all passengers.
      * @param passengerForms The details of the passengers to create.
-     * @return A {@link List} of {@link Passenger}s.
+     * @param groupSeating   Whether passengers without a requested pod should be seated together.
+     * @return The {@link PodAllocation} of the new {@link Passenger}s, which are assigned their pod reservations.
      */
-    public List<Passenger> create(Booking booking, List<PassengerCreationForm> passengerForms) throws PassengerException, PodReservationException {
+    public PodAllocation create(Booking booking, List<PassengerCreationForm> passengerForms, boolean groupSeating) throws PassengerException, PodReservationException {
         try {
             if (booking == null) {
                 throw new PassengerException(PassengerError.MISSING_BOOKING);
@@ -89,26 +97,30 @@ public class PassengerService {
                 throw new PassengerException(PassengerError.MISSING_PASSENGER_DETAILS);
             }
 
-            List<Passenger> createdPassengers = passengerForms.stream()
-                    .map(passengerForm -> {
-                        PackageType selectedPackageType = PackageType.findByKey(passengerForm.packageType).orElseThrow(() -> new CatalogException(CatalogError.PACKAGE_TYPE_MISSING));
-                        MealPreference selectedMealPreference = MealPreference.findByKey(passengerForm.mealPreference).orElseThrow(() -> new CatalogException(CatalogError.MEAL_PREFERENCE_MISSING));
+            Map<Passenger, String> requestedPodCodes = new LinkedHashMap<>();
 
-                        Passenger newPassenger = new PassengerCreationFactory(booking, selectedPackageType, selectedMealPreference).create();
+            for (PassengerCreationForm passengerForm : passengerForms) {
+                PackageType selectedPackageType = PackageType.findByKey(passengerForm.packageType).orElseThrow(() -> new CatalogException(CatalogError.PACKAGE_TYPE_MISSING));
+                MealPreference selectedMealPreference = MealPreference.findByKey(passengerForm.mealPreference).orElseThrow(() -> new CatalogException(CatalogError.MEAL_PREFERENCE_MISSING));
 
-                        addPersonalInformation(newPassenger, passengerForm.personalInformation);
+                Passenger newPassenger = new PassengerCreationFactory(booking, selectedPackageType, selectedMealPreference).create();
 
-                        PodReservation podReservation = podReservationService.reservePodForPassenger(booking.getVoyage(), newPassenger, passengerForm.podCode);
-                        newPassenger.assignPodReservation(podReservation);
+                addPersonalInformation(newPassenger, passengerForm.personalInformation);
 
-                        return newPassenger;
-                    }).toList();
+                requestedPodCodes.put(newPassenger, passengerForm.podCode);
+            }
+
+            PodAllocation podAllocation = podReservationService.reservePodsForPassengers(booking.getVoyage(), requestedPodCodes, groupSeating);
+
+            for (PodReservation podReservation : podAllocation.getReservations()) {
+                podReservation.getPassenger().assignPodReservation(podReservation);
+            }
 
-            LOGGER.info(new LogBuilder(String.format("Created %d new passengers for a booking.", createdPassengers.size())).withProperty("booking.id", booking.getId()).build());
+            LOGGER.info(new LogBuilder(String.format("Created %d new passengers for a booking.", requestedPodCodes.size())).withProperty("booking.id", booking.getId()));
 
-            return createdPassengers;
+            return podAllocation;
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(PassengerError.CREATE).withException(exception).build());
+            LOGGER.warning(new LogBuilder(PassengerError.CREATE).withException(exception));
             throw new PassengerException(PassengerError.CREATE, exception);
         }
     }
@@ -54,7 +54,7 @@ public class Pod {
     /**
      * The status of the pod.
      */
-    private PodStatus status;
+    private final PodStatus status;
 
     protected Pod(String code, PodType type, int deck, int row, int column, PodStatus status) throws PodException {
         if (code == null) {
@@ -104,10 +104,17 @@ public class Pod {
     }
 
     /**
-     * Set the status of this pod to unavailable.
+     * Returns a copy of this pod with the provided status, leaving this pod untouched.
+     *
+     * @param status The status of the copy.
+     * @return A {@link Pod}.
      */
-    public void markAsUnavailable() {
-        status = PodStatus.UNAVAILABLE;
+    public Pod withStatus(PodStatus status) throws PodException {
+        if (this.status == status) {
+            return this;
+        }
+
+        return new Pod(code, type, deck, row, column, status);
     }
 
     @Override
@@ -0,0 +1,80 @@
+package jp.co.nova.gate.api.features.pod.domain;
+
+import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationError;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationException;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+
+import java.util.List;
+
+/**
+ * A POJO representing the pods reserved for the passengers of a booking, along with the {@link PodAvailabilityIndex}
+ * they were reserved in.
+ * <p>
+ * The pods of an allocation that is not saved are released in that same index, so that they never free a pod in an
+ * index that was built after the allocation.
+ */
+public class PodAllocation {
+
+    /**
+     * Creates a new {@link PodAllocation}.
+     *
+     * @param voyage            The voyage of the pod reservations.
+     * @param availabilityIndex The pod availability the pods were reserved in.
+     * @param reservations      The pod reservations, in passenger order.
+     * @return A new {@link PodAllocation}.
+     */
+    public static PodAllocation create(Voyage voyage, PodAvailabilityIndex availabilityIndex, List<PodReservation> reservations) throws PodReservationException {
+        return new PodAllocation(voyage, availabilityIndex, reservations);
+    }
+
+    private final Voyage voyage;
+
+    private final PodAvailabilityIndex availabilityIndex;
+
+    private final List<PodReservation> reservations;
+
+    protected PodAllocation(Voyage voyage, PodAvailabilityIndex availabilityIndex, List<PodReservation> reservations) throws PodReservationException {
+        if (voyage == null) {
+            throw new PodReservationException(PodReservationError.MISSING_VOYAGE);
+        } else if (availabilityIndex == null) {
+            throw new PodReservationException(PodReservationError.MISSING_AVAILABILITY);
+        } else if (reservations == null) {
+            throw new PodReservationException(PodReservationError.MISSING_RESERVATIONS);
+        }
+
+        this.voyage = voyage;
+        this.availabilityIndex = availabilityIndex;
+        this.reservations = List.copyOf(reservations);
+    }
+
+    public Voyage getVoyage() {
+        return voyage;
+    }
+
+    public PodAvailabilityIndex getAvailabilityIndex() {
+        return availabilityIndex;
+    }
+
+    public List<PodReservation> getReservations() {
+        return reservations;
+    }
+
+    /**
+     * Returns the passengers of the pod reservations.
+     *
+     * @return A {@link List} of {@link Passenger}s, in passenger order.
+     */
+    public List<Passenger> getPassengers() {
+        return reservations.stream().map(PodReservation::getPassenger).toList();
+    }
+
+    /**
+     * Returns the codes of the reserved pods.
+     *
+     * @return A {@link List} of pod codes, in passenger order.
+     */
+    public List<String> getPodCodes() {
+        return reservations.stream().map(PodReservation::getPodCode).toList();
+    }
+}
@@ -0,0 +1,141 @@
+package jp.co.nova.gate.api.features.pod.domain;
+
+import jp.co.nova.gate.api.features.catalog.domain.PodType;
+import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.pod.exception.PodError;
+import jp.co.nova.gate.api.features.pod.exception.PodException;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationError;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationException;
+import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayout;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.api.shared.exception.DomainException;
+
+import java.util.*;
+
+/**
+ * A POJO representing a factory creating the {@link PodReservation}s for all passengers of a booking in one pass.
+ * <p>
+ * The selected pods are marked as reserved in the provided {@link PodAvailabilityIndex} of the voyage while holding its
+ * lock, so pods picked for earlier passengers of the same booking are never handed out twice. When one of the
+ * passengers cannot be given a pod, every pod reserved by the factory is released again.
+ */
+public class PodAllocationFactory {
+
+    private final Voyage voyage;
+
+    /**
+     * The requested pod code per passenger, in passenger order. A passenger without a requested pod code is assigned
+     * the first available pod of its package type.
+     */
+    private final Map<Passenger, String> requestedPodCodes;
+
+    private final PodAvailabilityIndex availabilityIndex;
+
+    /**
+     * Whether passengers without a requested pod code should be seated together, on the same deck and in adjacent pods
+     * when possible.
+     */
+    private final boolean groupSeating;
+
+    public PodAllocationFactory(Voyage voyage, Map<Passenger, String> requestedPodCodes, PodAvailabilityIndex availabilityIndex, boolean groupSeating) throws PodReservationException {
+        if (voyage == null) {
+            throw new PodReservationException(PodReservationError.MISSING_VOYAGE);
+        } else if (requestedPodCodes == null || requestedPodCodes.containsKey(null)) {
+            throw new PodReservationException(PodReservationError.MISSING_PASSENGER);
+        } else if (availabilityIndex == null) {
+            throw new PodReservationException(PodReservationError.MISSING_AVAILABILITY);
+        }
+
+        this.voyage = voyage;
+        this.requestedPodCodes = requestedPodCodes;
+        this.availabilityIndex = availabilityIndex;
+        this.groupSeating = groupSeating;
+    }
+
+    /**
+     * Creates a new {@link PodReservation} for every passenger.
+     *
+     * @return A {@link List} of {@link PodReservation}s, in passenger order.
+     */
+    public List<PodReservation> create() throws PodReservationException {
+        List<Pod> reservedPods = new ArrayList<>();
+
+        synchronized (availabilityIndex) {
+            try {
+                Map<Passenger, Pod> podsByPassenger = new HashMap<>();
+                Map<PodType, List<Passenger>> unassignedPassengersByType = new EnumMap<>(PodType.class);
+
+                SpaceShuttleLayout layout = availabilityIndex.getLayout();
+
+                for (Map.Entry<Passenger, String> request : requestedPodCodes.entrySet()) {
+                    Passenger passenger = request.getKey();
+                    String requestedPodCode = request.getValue();
+
+                    if (requestedPodCode == null) {
+                        PodType selectedPodType = PodType.findByPackageType(passenger.getPackageType()).orElseThrow(() -> new PodException(PodError.MISSING_TYPE));
+                        unassignedPassengersByType.computeIfAbsent(selectedPodType, ignored -> new ArrayList<>()).add(passenger);
+                    } else if (!layout.isPodAvailableForPassenger(requestedPodCode, passenger)) {
+                        throw new PodReservationException(PodReservationError.MISMATCHED_PACKAGE_TYPE);
+                    } else if (!availabilityIndex.reserve(requestedPodCode)) {
+                        throw new PodReservationException(PodReservationError.RESERVED);
+                    } else {
+                        Pod requestedPod = layout.getPod(layout.findPodIndex(requestedPodCode).orElseThrow());
+                        reservedPods.add(requestedPod);
+                        podsByPassenger.put(passenger, requestedPod);
+                    }
+                }
+
+                for (Map.Entry<PodType, List<Passenger>> group : unassignedPassengersByType.entrySet()) {
+                    List<Passenger> passengers = group.getValue();
+                    List<Pod> selectedPods = reservePods(group.getKey(), passengers.size());
+
+                    reservedPods.addAll(selectedPods);
+
+                    for (int index = 0; index < passengers.size(); index++) {
+                        podsByPassenger.put(passengers.get(index), selectedPods.get(index));
+                    }
+                }
+
+                List<PodReservation> podReservations = new ArrayList<>(requestedPodCodes.size());
+
+                for (Passenger passenger : requestedPodCodes.keySet()) {
+                    podReservations.add(PodReservation.create(podsByPassenger.get(passenger).getCode(), passenger, voyage));
+                }
+
+                return podReservations;
+            } catch (DomainException exception) {
+                reservedPods.forEach(pod -> availabilityIndex.release(pod.getCode()));
+                throw new PodReservationException(PodReservationError.CREATE, exception);
+            }
+        }
+    }
+
+    /**
+     * Reserves the provided amount of available {@link Pod}s of a {@link PodType}, seated together when requested.
+     *
+     * @param podType  The type of the pods to reserve.
+     * @param podCount The amount of pods to reserve.
+     * @return A {@link List} of reserved {@link Pod}s.
+     */
+    private List<Pod> reservePods(PodType podType, int podCount) throws PodReservationException {
+        if (availabilityIndex.countAvailable(podType) < podCount) {
+            throw new PodReservationException(PodReservationError.FULLY_BOOKED);
+        }
+
+        if (groupSeating && podCount > 1) {
+            List<Pod> groupedPods = availabilityIndex.reserveGroup(podType, podCount);
+
+            if (!groupedPods.isEmpty()) {
+                return groupedPods;
+            }
+        }
+
+        List<Pod> selectedPods = new ArrayList<>(podCount);
+
+        for (int index = 0; index < podCount; index++) {
+            availabilityIndex.reserveFirstAvailable(podType).ifPresent(selectedPods::add);
+        }
+
+        return selectedPods;
+    }
+}
@@ -0,0 +1,277 @@
+package jp.co.nova.gate.api.features.pod.domain;
+
+import jp.co.nova.gate.api.features.catalog.domain.PodType;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationError;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationException;
+import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * A POJO holding the availability of every {@link Pod} of a {@link SpaceShuttleLayout} for one voyage.
+ * <p>
+ * The reserved pods are kept as one bit per pod index of the layout, so availability checks are O(1) and searching or
+ * counting the free pods of a {@link PodType} is a scan over the words of the bitset. All methods are synchronized, so
+ * a single index can be shared by all requests for the same voyage.
+ */
+public class PodAvailabilityIndex {
+
+    /**
+     * Creates a {@link PodAvailabilityIndex} based on the provided {@link SpaceShuttleLayout} and existing
+     * {@link PodReservation}s.
+     *
+     * @param layout       The layout of the space shuttle of the voyage.
+     * @param reservations The existing reservations of the voyage.
+     * @return A {@link PodAvailabilityIndex}.
+     */
+    public static PodAvailabilityIndex create(SpaceShuttleLayout layout, List<PodReservation> reservations) throws PodReservationException {
+        if (layout == null) {
+            throw new PodReservationException(PodReservationError.MISSING_LAYOUT);
+        } else if (reservations == null) {
+            throw new PodReservationException(PodReservationError.MISSING_RESERVATIONS);
+        }
+
+        PodAvailabilityIndex availabilityIndex = new PodAvailabilityIndex(layout);
+        reservations.forEach(reservation -> availabilityIndex.reserve(reservation.getPodCode()));
+
+        return availabilityIndex;
+    }
+
+    /**
+     * The layout of the space shuttle.
+     */
+    private final SpaceShuttleLayout layout;
+
+    /**
+     * The reserved pods, one bit per pod index of the layout.
+     */
+    private final long[] reservedPods;
+
+    protected PodAvailabilityIndex(SpaceShuttleLayout layout) {
+        this.layout = layout;
+        this.reservedPods = new long[layout.getWordCount()];
+    }
+
+    public SpaceShuttleLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Tests whether the {@link Pod} matching the provided pod code exists and is not reserved.
+     *
+     * @param podCode The pod code to search for.
+     * @return True when the pod is available, false otherwise.
+     */
+    public synchronized boolean isAvailable(String podCode) {
+        OptionalInt podIndex = layout.findPodIndex(podCode);
+        return podIndex.isPresent() && !isReserved(podIndex.getAsInt());
+    }
+
+    /**
+     * Marks the {@link Pod} matching the provided pod code as reserved.
+     *
+     * @param podCode The pod code to reserve.
+     * @return True when the pod was available and is now reserved, false when it was already reserved or unknown.
+     */
+    public synchronized boolean reserve(String podCode) {
+        OptionalInt podIndex = layout.findPodIndex(podCode);
+
+        if (podIndex.isEmpty() || isReserved(podIndex.getAsInt())) {
+            return false;
+        }
+
+        setReserved(podIndex.getAsInt(), true);
+        return true;
+    }
+
+    /**
+     * Marks the first available {@link Pod} of the provided {@link PodType} as reserved.
+     *
+     * @param podType The type of the pod to reserve.
+     * @return The reserved {@link Pod}, or an empty {@link Optional} when no pod of the type is available.
+     */
+    public synchronized Optional<Pod> reserveFirstAvailable(PodType podType) {
+        OptionalInt podIndex = findFirstAvailableIndex(podType);
+
+        if (podIndex.isEmpty()) {
+            return Optional.empty();
+        }
+
+        setReserved(podIndex.getAsInt(), true);
+        return Optional.of(layout.getPod(podIndex.getAsInt()));
+    }
+
+    /**
+     * Marks a group of available {@link Pod}s of the provided {@link PodType} on the same deck as reserved.
+     * <p>
+     * The first run of free pods next to each other in one row is preferred, that is pods in the same deck and row
+     * with consecutive columns. When no row has such a run, the first deck with enough free pods is used instead.
+     *
+     * @param podType   The type of the pods to reserve.
+     * @param groupSize The amount of pods to reserve.
+     * @return The reserved {@link Pod}s, or an empty {@link List} when no deck has enough available pods of the type.
+     */
+    public synchronized List<Pod> reserveGroup(PodType podType, int groupSize) {
+        if (groupSize <= 0) {
+            return List.of();
+        }
+
+
+        List<Integer> freePodsOnDeck = new ArrayList<>();
+        List<Integer> firstDeckWithRoom = null;
+        int currentDeck = -1;
+        Pod previousPod = null;
+        int runLength = 0;
+
+        for (int word = 0; word < layout.getWordCount(); word++) {
+            long availablePods = layout.getPodMaskWord(podType, word) & ~reservedPods[word];
+
+            while (availablePods != 0) {
+                int podIndex = (word << 6) + Long.numberOfTrailingZeros(availablePods);
+                availablePods &= availablePods - 1;
+
+                Pod pod = layout.getPod(podIndex);
+
+                if (pod.getDeck() != currentDeck) {
+                    if (firstDeckWithRoom == null && freePodsOnDeck.size() >= groupSize) {
+                        firstDeckWithRoom = List.copyOf(freePodsOnDeck);
+                    }
+
+                    freePodsOnDeck.clear();
+                    currentDeck = pod.getDeck();
+                }
+
+                runLength = isNextInRow(previousPod, pod) ? runLength + 1 : 1;
+                previousPod = pod;
+                freePodsOnDeck.add(podIndex);
+
+                if (runLength == groupSize) {
+                    return reserveIndices(freePodsOnDeck.subList(freePodsOnDeck.size() - groupSize, freePodsOnDeck.size()));
+                }
+            }
+        }
+
+        if (firstDeckWithRoom == null && freePodsOnDeck.size() >= groupSize) {
+            firstDeckWithRoom = freePodsOnDeck;
+        }
+
+        return firstDeckWithRoom == null ? List.of() : reserveIndices(firstDeckWithRoom.subList(0, groupSize));
+    }
+
+    /**
+     * Marks the {@link Pod} matching the provided pod code as available again.
+     *
+     * @param podCode The pod code to release.
+     */
+    public synchronized void release(String podCode) {
+        layout.findPodIndex(podCode).ifPresent(podIndex -> setReserved(podIndex, false));
+    }
+
+    /**
+     * Returns the first available {@link Pod} of the provided {@link PodType}, without reserving it.
+     *
+     * @param podType The type of the pod to search for.
+     * @return An {@link Optional} {@link Pod}.
+     */
+    public synchronized Optional<Pod> findFirstAvailable(PodType podType) {
+        OptionalInt podIndex = findFirstAvailableIndex(podType);
+        return podIndex.isPresent() ? Optional.of(layout.getPod(podIndex.getAsInt())) : Optional.empty();
+    }
+
+    /**
+     * Counts the available {@link Pod}s of the provided {@link PodType}.
+     *
+     * @param podType The type of pods to count.
+     * @return The amount of available pods.
+     */
+    public synchronized int countAvailable(PodType podType) {
+        int availablePods = 0;
+
+        for (int word = 0; word < layout.getWordCount(); word++) {
+            availablePods += Long.bitCount(layout.getPodMaskWord(podType, word) & ~reservedPods[word]);
+        }
+
+        return availablePods;
+    }
+
+    /**
+     * Gets a {@link List} of all {@link Pod}s of the layout, where every reserved pod is replaced by an unavailable copy.
+     *
+     * @return A {@link List} of {@link Pod}s.
+     */
+    public synchronized List<Pod> getAllPodsWithAvailability() {
+        List<Pod> pods = new ArrayList<>(layout.getPodCount());
+
+        for (int index = 0; index < layout.getPodCount(); index++) {
+            Pod pod = layout.getPod(index);
+            pods.add(isReserved(index) ? pod.withStatus(PodStatus.UNAVAILABLE) : pod);
+        }
+
+        return pods;
+    }
+
+    /**
+     * Returns the index of the first available pod of the provided {@link PodType}.
+     *
+     * @param podType The type of the pod to search for.
+     * @return An {@link OptionalInt} pod index.
+     */
+    private OptionalInt findFirstAvailableIndex(PodType podType) {
+
+        for (int word = 0; word < layout.getWordCount(); word++) {
+            long availablePods = layout.getPodMaskWord(podType, word) & ~reservedPods[word];
+
+            if (availablePods != 0) {
+                return OptionalInt.of((word << 6) + Long.numberOfTrailingZeros(availablePods));
+            }
+        }
+
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Tests whether the provided pod is next to the provided previous pod, in the same deck and row.
+     *
+     * @param previousPod The previous pod, or null.
+     * @param pod         The pod to test.
+     * @return True when the pod is in the column after the previous pod in the same row, false otherwise.
+     */
+    private static boolean isNextInRow(Pod previousPod, Pod pod) {
+        return previousPod != null
+                && previousPod.getDeck() == pod.getDeck()
+                && previousPod.getRow() == pod.getRow()
+                && previousPod.getColumn() + 1 == pod.getColumn();
+    }
+
+    /**
+     * Marks the pods at the provided indices as reserved.
+     *
+     * @param podIndices The indices of the pods to reserve.
+     * @return The reserved {@link Pod}s.
+     */
+    private List<Pod> reserveIndices(List<Integer> podIndices) {
+        List<Pod> pods = new ArrayList<>(podIndices.size());
+
+        for (int podIndex : podIndices) {
+            setReserved(podIndex, true);
+            pods.add(layout.getPod(podIndex));
+        }
+
+        return pods;
+    }
+
+    private boolean isReserved(int podIndex) {
+        return (reservedPods[podIndex >> 6] & (1L << podIndex)) != 0;
+    }
+
+    private void setReserved(int podIndex, boolean reserved) {
+        if (reserved) {
+            reservedPods[podIndex >> 6] |= 1L << podIndex;
+        } else {
+            reservedPods[podIndex >> 6] &= ~(1L << podIndex);
+        }
+    }
+}
@@ -14,10 +14,13 @@ import java.util.UUID;
  * A POJO representing a pod reservation of a passenger on a space shuttle.
  */
 @Entity
-@Table(name = "pod_reservations")
+@Table(name = "pod_reservations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pod_reservations_voyage_pod_code", columnNames = {"voyage_id", "pod_code"})
+})
 @Access(AccessType.FIELD)
 @NamedQueries({
-        @NamedQuery(name = "PodReservation.selectAllByVoyage", query = "SELECT pr FROM PodReservation pr WHERE pr.voyage = :voyage")
+        @NamedQuery(name = "PodReservation.selectAllByVoyage", query = "SELECT pr FROM PodReservation pr WHERE pr.voyage = :voyage"),
+        @NamedQuery(name = "PodReservation.selectAllByVoyageAndPodCodes", query = "SELECT pr FROM PodReservation pr WHERE pr.voyage = :voyage AND pr.podCode IN :podCodes")
 })
 public class PodReservation {
 
@@ -15,6 +15,8 @@ public enum PodReservationError implements DomainError {
     MISSING_VOYAGE("podReservation.missingVoyage", "The voyage of the pod reservation is missing."),
     MISSING_VOYAGE_ID("podReservation.missingVoyageId", "The voyage ID of the pod reservation is missing."),
     MISSING_RESERVATIONS("podReservation.missingReservations", "The existing reservations are missing."),
+    MISSING_LAYOUT("podReservation.missingLayout", "The space shuttle layout of the pod reservation is missing."),
+    MISSING_AVAILABILITY("podReservation.missingAvailability", "The pod availability of the voyage is missing."),
 
     CREATE("podReservation.create", "Unable to create a new pod reservation."),
     RESERVED("podReservation.reserved", "The requested pod is already reserved."),
@@ -22,10 +24,13 @@ public enum PodReservationError implements DomainError {
     FULLY_BOOKED("podReservation.fullyBooked", "The space shuttle is full."),
 
     FIND_BY_ID("podReservation.findById", "Failed to find a pod reservation for the provided ID."),
+    GET_AVAILABILITY("podReservation.getAvailability", "Failed to get the pod availability for the provided voyage."),
     GET_ALL_BY_SPACE_SHUTTLE_AND_VOYAGE("podReservation.getAllBySpaceShuttleAndVoyage", "Failed to get all pod reservations for the provided space shuttle and voyage."),
+    GET_ALL_BY_VOYAGE_AND_POD_CODES("podReservation.getAllByVoyageAndPodCodes", "Failed to get the pod reservations for the provided voyage and pod codes."),
     SAVE("podReservation.save", "Failed to save a pod reservation."),
     MERGE("podReservation.merge", "Failed to merge a pod reservation."),
-    SAVE_LIST("podReservation.saveList", "Failed to save pod reservations.");
+    SAVE_LIST("podReservation.saveList", "Failed to save pod reservations."),
+    STREAM_AVAILABILITY("podReservation.streamAvailability", "Failed to stream the pod availability of the voyage.");
 
     private final String key;
     private final String description;
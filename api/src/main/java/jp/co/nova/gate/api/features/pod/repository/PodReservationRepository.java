@@ -7,7 +7,12 @@ import jp.co.nova.gate.api.features.pod.domain.PodReservation;
 import jp.co.nova.gate.api.features.pod.exception.PodReservationError;
 import jp.co.nova.gate.api.features.pod.exception.PodReservationException;
 import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +20,40 @@ import java.util.Optional;
  * The class for {@link PodReservation} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class PodReservationRepository {
 
+    /**
+     * The name of the unique constraint preventing a pod from being reserved twice for the same voyage.
+     */
+    public static final String UNIQUE_POD_PER_VOYAGE_CONSTRAINT = "uk_pod_reservations_voyage_pod_code";
+
+    /**
+     * The SQL state of a unique constraint violation.
+     */
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    /**
+     * Tests whether the provided exception, or any of its causes, was raised because a pod was already reserved for
+     * the same voyage in the database.
+     *
+     * @param exception The exception to test.
+     * @return True when the exception was caused by a duplicate pod reservation, false otherwise.
+     */
+    public static boolean isDuplicatePodReservation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                    && sqlException.getMessage() != null
+                    && sqlException.getMessage().toLowerCase().contains(UNIQUE_POD_PER_VOYAGE_CONSTRAINT)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @PersistenceContext(unitName = "domain")
     private EntityManager entityManager;
 
@@ -54,6 +91,30 @@ public class PodReservationRepository {
         }
     }
 
+    /**
+     * Returns a {@link List} of the existing {@link PodReservation}s of the provided {@link Voyage} for the provided pod
+     * codes.
+     *
+     * @param voyage   The voyage to search for.
+     * @param podCodes The pod codes to search for.
+     * @return A {@link List} of {@link PodReservation}s.
+     */
+    public List<PodReservation> getAllByVoyageAndPodCodes(Voyage voyage, Collection<String> podCodes) throws PodReservationException {
+        if (podCodes.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return entityManager.createNamedQuery("PodReservation.selectAllByVoyageAndPodCodes", PodReservation.class)
+                    .setParameter("voyage", voyage)
+                    .setParameter("podCodes", podCodes)
+                    .getResultList();
+        } catch (IllegalArgumentException | IllegalStateException | PersistenceException |
+                 NullPointerException exception) {
+            throw new PodReservationException(PodReservationError.GET_ALL_BY_VOYAGE_AND_POD_CODES, exception);
+        }
+    }
+
     /**
      * Saves a {@link PodReservation}.
      *
@@ -94,10 +155,11 @@ public class PodReservationRepository {
      * @param podReservations The {@link List} of {@link PodReservation}s to save.
      * @return A {@link List} of persisted {@link PodReservation}s
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<PodReservation> save(List<PodReservation> podReservations) {
         try {
-            return podReservations.stream().map(this::save).toList();
-        } catch (PodReservationException exception) {
+            return BulkWriter.save(entityManager, PodReservation.class, PodReservation::getId, podReservations);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new PodReservationException(PodReservationError.SAVE_LIST, exception);
         }
     }
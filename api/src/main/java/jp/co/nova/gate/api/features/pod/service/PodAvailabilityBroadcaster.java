@@ -0,0 +1,307 @@
+package jp.co.nova.gate.api.features.pod.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.Json;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+import jp.co.nova.gate.api.features.pod.domain.Pod;
+import jp.co.nova.gate.api.features.pod.domain.PodAvailabilityIndex;
+import jp.co.nova.gate.api.features.pod.domain.PodStatus;
+import jp.co.nova.gate.api.features.pod.dto.PodDto;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationError;
+import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.util.LogBuilder;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A class streaming the pod availability of voyages to their subscribers as server-sent events.
+ * <p>
+ * A new subscriber gets the full seat map of the voyage once, as a {@code pods} event with every {@link PodDto}.
+ * After that, every change of the pod availability of the voyage is broadcast to all of its subscribers as a
+ * {@code podStatus} event, an object with the status label by pod code. The events are created from the pod
+ * availability in memory, so subscribers never cause database queries of their own.
+ * <p>
+ * The subscriptions and broadcasts of a voyage run one after the other on a virtual thread of the voyage, so a slow
+ * subscriber only delays the events of its own voyage, and the requests changing the pod availability never wait for
+ * the subscribers. A subscriber never receives a change older than its seat map. A {@code podStatus} event carries the
+ * status of its pods when it is sent rather than when they changed, so that the last event of a pod always has its
+ * current status, even when the changes of concurrent bookings are published in another order than they happened.
+ */
+@ApplicationScoped
+public class PodAvailabilityBroadcaster {
+
+    private static final Logger LOGGER = Logger.getLogger(PodAvailabilityBroadcaster.class.getName());
+
+    /**
+     * The name of the event with the full seat map of a voyage.
+     */
+    public static final String PODS_EVENT = "pods";
+
+    /**
+     * The name of the event with the changed pod statuses of a voyage.
+     */
+    public static final String POD_STATUS_EVENT = "podStatus";
+
+    /**
+     * The broadcasters of the voyages with subscribers, by voyage ID. A channel is only added and removed, and its
+     * subscribers only counted, while holding its entry of the map.
+     */
+    private final Map<String, VoyageChannel> channels = new ConcurrentHashMap<>();
+
+    protected PodAvailabilityBroadcaster() {
+    }
+
+    @PreDestroy
+    protected void onShutDown() {
+        channels.values().forEach(VoyageChannel::close);
+        channels.clear();
+    }
+
+    /**
+     * Subscribes an event sink to the pod availability of a voyage, sending it the full seat map first.
+     *
+     * @param voyageId  The ID of the voyage.
+     * @param sse       The server-sent events factory.
+     * @param eventSink The event sink of the subscriber.
+     * @param seatMap   Returns all pods of the voyage with their current availability.
+     */
+    public void subscribe(String voyageId, Sse sse, SseEventSink eventSink, Supplier<List<Pod>> seatMap) {
+        // The channel is opened before the seat map is read, so that every change the seat map misses is published
+        VoyageChannel channel = channels.compute(voyageId, (id, existingChannel) -> {
+            VoyageChannel subscribedChannel = existingChannel != null ? existingChannel : createChannel(id, sse);
+            subscribedChannel.subscriberCount++;
+            return subscribedChannel;
+        });
+
+        boolean queued = channel.execute(() -> {
+            try {
+                eventSink.send(createSeatMapEvent(sse, seatMap));
+                channel.eventSinks.add(eventSink);
+                channel.broadcaster.register(eventSink);
+            } catch (DomainException | IllegalStateException exception) {
+                LOGGER.warning(new LogBuilder(PodReservationError.STREAM_AVAILABILITY).withException(exception).withProperty("voyageId", voyageId));
+                channel.eventSinks.remove(eventSink);
+                eventSink.close();
+                unsubscribe(voyageId, channel);
+            }
+        });
+
+        if (!queued) {
+            eventSink.close();
+        }
+    }
+
+    /**
+     * Broadcasts a change of the status of the provided pods of a voyage to its subscribers. The status of the pods is
+     * read from the provided pod availability when the change is sent.
+     *
+     * @param voyageId          The ID of the voyage.
+     * @param podCodes          The codes of the changed pods.
+     * @param availabilityIndex The pod availability of the voyage the pods were changed in.
+     */
+    public void publish(String voyageId, Collection<String> podCodes, PodAvailabilityIndex availabilityIndex) {
+        VoyageChannel channel = channels.get(voyageId);
+
+        if (channel == null || podCodes.isEmpty()) {
+            return;
+        }
+
+        List<String> changedPodCodes = List.copyOf(podCodes);
+
+        channel.execute(() -> broadcast(channel, createPodStatusEvent(channel.sse, changedPodCodes, availabilityIndex)));
+    }
+
+    /**
+     * Broadcasts the full seat map of a voyage to its subscribers again, after its pod availability was rebuilt.
+     *
+     * @param voyageId The ID of the voyage.
+     * @param seatMap  Returns all pods of the voyage with their current availability.
+     */
+    public void resynchronize(String voyageId, Supplier<List<Pod>> seatMap) {
+        VoyageChannel channel = channels.get(voyageId);
+
+        if (channel == null) {
+            return;
+        }
+
+        channel.execute(() -> {
+            try {
+                broadcast(channel, createSeatMapEvent(channel.sse, seatMap));
+            } catch (DomainException exception) {
+                LOGGER.warning(new LogBuilder(PodReservationError.STREAM_AVAILABILITY).withException(exception).withProperty("voyageId", voyageId));
+            }
+        });
+    }
+
+    /**
+     * Broadcasts an event to the subscribers of a voyage, unless its broadcaster was closed in the meantime.
+     *
+     * @param channel The broadcaster of the voyage.
+     * @param event   The event to broadcast.
+     */
+    private void broadcast(VoyageChannel channel, OutboundSseEvent event) {
+        try {
+            channel.broadcaster.broadcast(event);
+        } catch (IllegalStateException exception) {
+            LOGGER.fine(new LogBuilder("The pod availability of a closed voyage channel was not broadcast.").withException(exception));
+        }
+    }
+
+    /**
+     * Creates the broadcaster of a voyage, which drops itself once its last subscriber is gone.
+     *
+     * @param voyageId The ID of the voyage.
+     * @param sse      The server-sent events factory.
+     * @return A new {@link VoyageChannel}.
+     */
+    private VoyageChannel createChannel(String voyageId, Sse sse) {
+        VoyageChannel channel = new VoyageChannel(voyageId, sse, sse.newBroadcaster());
+
+        channel.broadcaster.onClose(eventSink -> removeEventSink(voyageId, channel, eventSink));
+        channel.broadcaster.onError((eventSink, exception) -> removeEventSink(voyageId, channel, eventSink));
+
+        return channel;
+    }
+
+    /**
+     * Removes an event sink that was closed or failed from the subscribers of a voyage. A sink is only counted as gone
+     * once, even when it both fails and closes.
+     *
+     * @param voyageId  The ID of the voyage.
+     * @param channel   The broadcaster of the voyage.
+     * @param eventSink The event sink that is gone.
+     */
+    private void removeEventSink(String voyageId, VoyageChannel channel, SseEventSink eventSink) {
+        if (channel.eventSinks.remove(eventSink)) {
+            unsubscribe(voyageId, channel);
+        }
+    }
+
+    /**
+     * Counts a subscriber of a voyage as gone, and drops the broadcaster of the voyage when it was the last one.
+     *
+     * @param voyageId The ID of the voyage.
+     * @param channel  The broadcaster of the voyage.
+     */
+    private void unsubscribe(String voyageId, VoyageChannel channel) {
+        VoyageChannel remainingChannel = channels.computeIfPresent(voyageId, (id, existingChannel) ->
+                existingChannel != channel || --channel.subscriberCount > 0 ? existingChannel : null);
+
+        // The channel is closed outside the map, since closing the broadcaster calls back into this class
+        if (remainingChannel == null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Creates a {@code pods} event with the full seat map of a voyage.
+     *
+     * @param sse     The server-sent events factory.
+     * @param seatMap Returns all pods of the voyage with their current availability.
+     * @return An {@link OutboundSseEvent}.
+     */
+    private OutboundSseEvent createSeatMapEvent(Sse sse, Supplier<List<Pod>> seatMap) throws DomainException {
+        List<PodDto> pods = seatMap.get().stream().map(PodDto::create).toList();
+
+        return sse.newEventBuilder()
+                .name(PODS_EVENT)
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(new GenericType<List<PodDto>>() {
+                }, pods)
+                .build();
+    }
+
+    /**
+     * Creates a {@code podStatus} event with the current status of the provided pods. The event is serialized once,
+     * and sent as is to every subscriber.
+     *
+     * @param sse               The server-sent events factory.
+     * @param podCodes          The codes of the changed pods.
+     * @param availabilityIndex The pod availability to read the status of the pods from.
+     * @return An {@link OutboundSseEvent}.
+     */
+    private OutboundSseEvent createPodStatusEvent(Sse sse, List<String> podCodes, PodAvailabilityIndex availabilityIndex) {
+        Map<String, PodStatus> podStatuses = new LinkedHashMap<>();
+
+        synchronized (availabilityIndex) {
+            podCodes.forEach(podCode -> podStatuses.put(podCode, availabilityIndex.isAvailable(podCode) ? PodStatus.AVAILABLE : PodStatus.UNAVAILABLE));
+        }
+
+        JsonObjectBuilder podStatusesJson = Json.createObjectBuilder();
+        podStatuses.forEach((podCode, status) -> podStatusesJson.add(podCode, status.getLabel()));
+
+        return sse.newEventBuilder()
+                .name(POD_STATUS_EVENT)
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(String.class, podStatusesJson.build().toString())
+                .build();
+    }
+
+    /**
+     * The broadcaster of a single voyage, along with its subscribers and the virtual thread sending its events.
+     */
+    private static class VoyageChannel {
+
+        private final Sse sse;
+
+        private final SseBroadcaster broadcaster;
+
+        private final ExecutorService executor;
+
+        /**
+         * The event sinks registered to the broadcaster.
+         */
+        private final Set<SseEventSink> eventSinks = ConcurrentHashMap.newKeySet();
+
+        /**
+         * The number of subscribers, including the ones still waiting for their seat map.
+         */
+        private int subscriberCount;
+
+        private VoyageChannel(String voyageId, Sse sse, SseBroadcaster broadcaster) {
+            this.sse = sse;
+            this.broadcaster = broadcaster;
+            this.executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("pod-availability-" + voyageId).factory());
+        }
+
+        /**
+         * Runs a task after all tasks that were queued before it on the thread of the voyage.
+         *
+         * @param task The task to run.
+         * @return True when the task was queued, false when the channel was closed.
+         */
+        private boolean execute(Runnable task) {
+            try {
+                executor.execute(task);
+                return true;
+            } catch (RejectedExecutionException exception) {
+                return false;
+            }
+        }
+
+        /**
+         * Closes the broadcaster, and stops the thread of the voyage once its queued tasks are done.
+         */
+        private void close() {
+            executor.shutdown();
+            broadcaster.close();
+        }
+    }
+}
@@ -2,59 +2,271 @@ package jp.co.nova.gate.api.features.pod.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jp.co.nova.gate.api.features.booking.service.BookingStage;
+import jp.co.nova.gate.api.features.booking.service.BookingStageTimers;
 import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.pod.domain.PodAllocation;
+import jp.co.nova.gate.api.features.pod.domain.PodAvailabilityIndex;
 import jp.co.nova.gate.api.features.pod.domain.PodReservation;
-import jp.co.nova.gate.api.features.pod.domain.PodReservationFactory;
+import jp.co.nova.gate.api.features.pod.domain.PodAllocationFactory;
 import jp.co.nova.gate.api.features.pod.exception.PodCodeException;
 import jp.co.nova.gate.api.features.pod.exception.PodException;
 import jp.co.nova.gate.api.features.pod.exception.PodReservationError;
 import jp.co.nova.gate.api.features.pod.exception.PodReservationException;
 import jp.co.nova.gate.api.features.pod.repository.PodReservationRepository;
 import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * A service class handling the {@link PodReservation} topic.
+ * <p>
+ * The pod availability of a voyage is kept in memory from its first use on. The availability of a voyage that has
+ * departed, or that has not been used for the configured idle time, is dropped again by a sweep that runs at most once a
+ * minute, while pod availability is looked up.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class PodReservationService {
 
     private static final Logger LOGGER = Logger.getLogger(PodReservationService.class.getName());
 
+    /**
+     * The minimum time between two sweeps of the pod availability of departed and idle voyages.
+     */
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     @Inject
     private PodReservationRepository repository;
 
+    @Inject
+    private BookingStageTimers stageTimers;
+
+    @Inject
+    private PodAvailabilityBroadcaster availabilityBroadcaster;
+
+    @Inject
+    @ConfigProperty(name = "pod.availability.idle-minutes", defaultValue = "30")
+    private long idleMinutes;
+
+    /**
+     * The pod availability of every voyage that has been looked up recently, by voyage ID.
+     */
+    private final Map<String, VoyageAvailability> availabilityByVoyageId = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link System#nanoTime()} after which the next sweep of the pod availability may run.
+     */
+    private final AtomicLong nextSweepNanos = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
     protected PodReservationService() {
     }
 
     /**
-     * Creates a new {@link PodReservation} for the provided {@link Voyage} based on the provided {@link Passenger} and pod code.
+     * Creates a new {@link PodReservation} for every provided {@link Passenger} of a booking for the provided
+     * {@link Voyage}, based on the pod code each passenger requested.
      *
-     * @param voyage           The voyage of the new pod reservation.
-     * @param passenger        The passenger of the new pod reservation.
-     * @param requestedPodCode The pod code of the requested pod.
-     * @return A {@link PodReservation}.
+     * @param voyage            The voyage of the new pod reservations.
+     * @param requestedPodCodes The requested pod code per passenger, or null for passengers without a preference.
+     * @param groupSeating      Whether passengers without a requested pod should be seated together.
+     * @return A {@link PodAllocation} with the {@link PodReservation}s, in passenger order.
      */
-    public PodReservation reservePodForPassenger(Voyage voyage, Passenger passenger, String requestedPodCode) throws PodReservationException {
+    public PodAllocation reservePodsForPassengers(Voyage voyage, Map<Passenger, String> requestedPodCodes, boolean groupSeating) throws PodReservationException {
         try {
             if (voyage == null) {
                 throw new PodReservationException(PodReservationError.MISSING_VOYAGE);
-            } else if (passenger == null) {
+            } else if (requestedPodCodes == null) {
                 throw new PodReservationException(PodReservationError.MISSING_PASSENGER);
             }
 
-            List<PodReservation> reservations = getAllPodReservationsByVoyage(voyage);
+            PodAvailabilityIndex availabilityIndex = getAvailabilityIndex(voyage);
+
+            List<PodReservation> podReservations = stageTimers.time(BookingStage.POD_ALLOCATION, () -> new PodAllocationFactory(voyage, requestedPodCodes, availabilityIndex, groupSeating).create());
+            PodAllocation podAllocation = PodAllocation.create(voyage, availabilityIndex, podReservations);
+
+            availabilityBroadcaster.publish(voyage.getId(), podAllocation.getPodCodes(), availabilityIndex);
 
-            return new PodReservationFactory(voyage, passenger, requestedPodCode, reservations).create();
+            return podAllocation;
         } catch (PodException | PodReservationException | PodCodeException exception) {
-            LOGGER.warning(new LogBuilder("Failed to reserve a pod for a passenger").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to reserve pods for the passengers of a booking").withException(exception).withProperty("passengers", requestedPodCodes == null ? 0 : requestedPodCodes.size()));
             throw exception;
         }
     }
 
+    /**
+     * Marks the pods of the provided {@link PodAllocation} as available again, when its reservations will not be saved.
+     * The pods are released in the {@link PodAvailabilityIndex} they were reserved in.
+     *
+     * @param podAllocation The pod allocation to release.
+     */
+    public void releasePodAllocation(PodAllocation podAllocation) throws PodReservationException {
+        if (podAllocation == null) {
+            throw new PodReservationException(PodReservationError.MISSING_RESERVATIONS);
+        }
+
+        List<String> podCodes = podAllocation.getPodCodes();
+        podCodes.forEach(podAllocation.getAvailabilityIndex()::release);
+
+        publishCurrentStatuses(podAllocation.getVoyage().getId(), podCodes);
+    }
+
+    /**
+     * Marks the pods of the provided {@link PodAllocation}s of a {@link Voyage} as available again, after the database
+     * rejected them because one of their pods was already reserved. That happens when a pod was reserved without this
+     * service, which the pod availability in memory could not know about.
+     * <p>
+     * The pods that turn out to be saved for other reservations stay reserved in the {@link PodAvailabilityIndex}, so
+     * that a next attempt picks the next available pods. Only the other pods of the allocations are released.
+     *
+     * @param voyage         The voyage of the pod allocations.
+     * @param podAllocations The rejected pod allocations.
+     * @return The codes of the pods that are saved for other reservations.
+     */
+    public Set<String> releaseConflictingPodAllocations(Voyage voyage, List<PodAllocation> podAllocations) throws PodReservationException {
+        if (voyage == null) {
+            throw new PodReservationException(PodReservationError.MISSING_VOYAGE);
+        } else if (podAllocations == null) {
+            throw new PodReservationException(PodReservationError.MISSING_RESERVATIONS);
+        }
+
+        List<String> podCodes = podAllocations.stream().flatMap(podAllocation -> podAllocation.getPodCodes().stream()).toList();
+        Set<String> conflictingPodCodes = repository.getAllByVoyageAndPodCodes(voyage, podCodes).stream()
+                .map(PodReservation::getPodCode)
+                .collect(Collectors.toSet());
+
+        for (PodAllocation podAllocation : podAllocations) {
+            List<String> releasedPodCodes = podAllocation.getPodCodes().stream().filter(podCode -> !conflictingPodCodes.contains(podCode)).toList();
+            releasedPodCodes.forEach(podAllocation.getAvailabilityIndex()::release);
+
+            publishCurrentStatuses(voyage.getId(), releasedPodCodes);
+        }
+
+        if (!conflictingPodCodes.isEmpty()) {
+            LOGGER.info(new LogBuilder("Pods that were reserved without the pod availability in memory were found, keeping them reserved.").withProperty("voyageId", voyage.getId()).withProperty("podCodes", conflictingPodCodes));
+        }
+
+        return conflictingPodCodes;
+    }
+
+    /**
+     * Returns the {@link PodAvailabilityIndex} of a {@link Voyage}. The index is built from the saved reservations on
+     * first use and kept up to date by every reservation created through this service. When an index is rebuilt, the
+     * subscribers to the pod availability of the voyage get its full seat map again.
+     * <p>
+     * The index is built outside the map of the pod availability, by the first request that needs it, while the
+     * concurrent requests for the same voyage wait for it.
+     *
+     * @param voyage The voyage to get the pod availability for.
+     * @return A {@link PodAvailabilityIndex}.
+     */
+    public PodAvailabilityIndex getAvailabilityIndex(Voyage voyage) throws PodReservationException {
+        try {
+            if (voyage == null) {
+                throw new PodReservationException(PodReservationError.MISSING_VOYAGE);
+            }
+
+            evictStaleAvailability();
+
+            VoyageAvailability newAvailability = new VoyageAvailability(voyage.getDepartureDate());
+            VoyageAvailability availability = availabilityByVoyageId.putIfAbsent(voyage.getId(), newAvailability);
+
+            if (availability == null) {
+                return buildAvailabilityIndex(voyage, newAvailability);
+            }
+
+            availability.lastAccessNanos = System.nanoTime();
+            return availability.index.get();
+        } catch (ExecutionException exception) {
+            LOGGER.warning(new LogBuilder(PodReservationError.GET_AVAILABILITY).withException(exception.getCause()));
+            throw new PodReservationException(PodReservationError.GET_AVAILABILITY, exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new PodReservationException(PodReservationError.GET_AVAILABILITY, exception);
+        } catch (DomainException exception) {
+            LOGGER.warning(new LogBuilder(PodReservationError.GET_AVAILABILITY).withException(exception));
+            throw new PodReservationException(PodReservationError.GET_AVAILABILITY, exception);
+        }
+    }
+
+    /**
+     * Builds the {@link PodAvailabilityIndex} of a {@link Voyage} from its saved reservations, and hands it to the
+     * requests waiting for it. When the index can not be built, it is dropped, so that the next request tries again.
+     *
+     * @param voyage       The voyage to build the pod availability for.
+     * @param availability The pod availability of the voyage, that is waiting for its index.
+     * @return A {@link PodAvailabilityIndex}.
+     */
+    private PodAvailabilityIndex buildAvailabilityIndex(Voyage voyage, VoyageAvailability availability) throws DomainException {
+        try {
+            PodAvailabilityIndex availabilityIndex = PodAvailabilityIndex.create(
+                    stageTimers.time(BookingStage.LAYOUT_BUILD, () -> voyage.getSpaceShuttle().getLayout()),
+                    stageTimers.time(BookingStage.RESERVATION_SCAN, () -> getAllPodReservationsByVoyage(voyage))
+            );
+
+            availability.index.complete(availabilityIndex);
+            availabilityBroadcaster.resynchronize(voyage.getId(), availabilityIndex::getAllPodsWithAvailability);
+
+            return availabilityIndex;
+        } catch (RuntimeException exception) {
+            availabilityByVoyageId.remove(voyage.getId(), availability);
+            availability.index.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Sends the statuses of the provided pods to the subscribers of the voyage, as the current
+     * {@link PodAvailabilityIndex} of the voyage holds them. The index a pod allocation was reserved in may have been
+     * evicted and rebuilt since, in which case its statuses are outdated. When the voyage has no built index, nothing is
+     * sent, since the subscribers get the full seat map once it is built again.
+     *
+     * @param voyageId The ID of the voyage.
+     * @param podCodes The codes of the pods whose status changed.
+     */
+    private void publishCurrentStatuses(String voyageId, Collection<String> podCodes) {
+        VoyageAvailability availability = availabilityByVoyageId.get(voyageId);
+
+        if (availability != null && availability.index.isDone() && !availability.index.isCompletedExceptionally()) {
+            availabilityBroadcaster.publish(voyageId, podCodes, availability.index.join());
+        }
+    }
+
+    /**
+     * Drops the pod availability of the voyages that have departed or that have not been used for the configured idle
+     * time. Runs at most once per sweep interval.
+     */
+    private void evictStaleAvailability() {
+        long now = System.nanoTime();
+        long nextSweep = nextSweepNanos.get();
+
+        if (now - nextSweep < 0 || !nextSweepNanos.compareAndSet(nextSweep, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+
+        long idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+        ZonedDateTime currentDate = ZonedDateTime.now();
+
+        availabilityByVoyageId.values().removeIf(availability -> availability.index.isDone()
+                && (now - availability.lastAccessNanos > idleNanos || (availability.departureDate != null && availability.departureDate.isBefore(currentDate))));
+    }
+
     /**
      * Returns a {@link List} of all {@link PodReservation}s matching a {@link Voyage}.
      *
@@ -65,8 +277,27 @@ public class PodReservationService {
         try {
             return repository.getAllBySpaceShuttleAndVoyage(voyage);
         } catch (PodReservationException exception) {
-            LOGGER.warning(new LogBuilder("Failed to get all pod reservations of the provided voyage").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Failed to get all pod reservations of the provided voyage").withException(exception));
             throw exception;
         }
     }
+
+    /**
+     * The pod availability of a single voyage, along with when it was last used.
+     */
+    private static class VoyageAvailability {
+
+        /**
+         * Completes with the index once it is built.
+         */
+        private final CompletableFuture<PodAvailabilityIndex> index = new CompletableFuture<>();
+
+        private final ZonedDateTime departureDate;
+
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private VoyageAvailability(ZonedDateTime departureDate) {
+            this.departureDate = departureDate;
+        }
+    }
 }
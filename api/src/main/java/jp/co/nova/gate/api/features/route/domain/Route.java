@@ -106,6 +106,15 @@ public class Route {
         return shuttleModel;
     }
 
+    /**
+     * Returns the distance between the origin and destination of the route.
+     *
+     * @return The distance in kilometers.
+     */
+    public double getDistance() throws RouteException {
+        return RouteDistanceMatrix.getDistance(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -4,24 +4,18 @@ import jp.co.nova.gate.api.features.location.domain.Location;
 import jp.co.nova.gate.api.features.route.exception.RouteError;
 import jp.co.nova.gate.api.features.route.exception.RouteException;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
-
 /**
  * A POJO calculating the <a href="https://en.wikipedia.org/wiki/Euclidean_distance">Euclidean</a> kilometer distance in 3D space for a route between two points.
+ * <p>
+ * The ecliptic coordinates of a location are doubles, so the distance is calculated in double precision as well. Prefer
+ * {@link RouteDistanceMatrix} to read the distance of a route, which only calculates each distance once.
  */
 public class RouteDistanceFactory {
 
     /**
      * Conversion factor: 1 Astronomical Unit (AU) = 149,597,870.7 kilometers.
      */
-    private static final BigDecimal AU_TO_KM = new BigDecimal("149597870.7");
-
-    /**
-     * Defines the precision and rounding mode for calculations.
-     */
-    private static final MathContext MATH_CONTEXT = new MathContext(25, RoundingMode.HALF_UP);
+    private static final double AU_TO_KM = 149597870.7;
 
     /**
      * Returns a new {@link RouteDistanceFactory}.
@@ -35,74 +29,59 @@ public class RouteDistanceFactory {
     }
 
     /**
-     * The route to calculate the distance for.
+     * Converts a location's ecliptic coordinates (longitude, latitude, radial distance) into Cartesian coordinates.
+     *
+     * @param location The celestial location.
+     * @return A double array {x, y, z} representing Cartesian coordinates in astronomical units.
      */
-    private final Route route;
+    public static double[] toCartesian(final Location location) {
+        double longitudeRad = Math.toRadians(location.getLongitude());
+        double latitudeRad = Math.toRadians(location.getLatitude());
 
-    public RouteDistanceFactory(final Route route) throws RouteException {
-        if (route == null) {
-            throw new RouteException(RouteError.ROUTE_DISTANCE_MISSING_ROUTE);
-        }
+        double r = location.getRadialDistance();
+        double cosLat = StrictMath.cos(latitudeRad);
 
-        this.route = route;
+        double x = r * cosLat * StrictMath.cos(longitudeRad);
+        double y = r * cosLat * StrictMath.sin(longitudeRad);
+        double z = r * StrictMath.sin(latitudeRad);
+
+        return new double[]{x, y, z};
     }
 
     /**
      * Computes the Euclidean distance in kilometers between two points in 3D space.
      *
+     * @param origin      The Cartesian coordinates of the origin in astronomical units.
+     * @param destination The Cartesian coordinates of the destination in astronomical units.
      * @return The Euclidean distance in kilometers.
      */
-    public BigDecimal calculate() {
-        BigDecimal[] origin = toCartesian(route.getOrigin().getLocation());
-        BigDecimal[] destination = toCartesian(route.getDestination().getLocation());
+    public static double calculate(final double[] origin, final double[] destination) {
+        double dx = destination[0] - origin[0];
+        double dy = destination[1] - origin[1];
+        double dz = destination[2] - origin[2];
 
-        BigDecimal dx = destination[0].subtract(origin[0]).pow(2, MATH_CONTEXT);
-        BigDecimal dy = destination[1].subtract(origin[1]).pow(2, MATH_CONTEXT);
-        BigDecimal dz = destination[2].subtract(origin[2]).pow(2, MATH_CONTEXT);
-
-        BigDecimal euclideanDistance = dx.add(dy).add(dz).sqrt(MATH_CONTEXT);
-        return convertAuToKm(euclideanDistance);
+        return Math.sqrt(dx * dx + dy * dy + dz * dz) * AU_TO_KM;
     }
 
     /**
-     * Converts degrees to radians.
-     *
-     * @param degrees The angle in degrees.
-     * @return The angle in radians.
+     * The route to calculate the distance for.
      */
-    private BigDecimal toRadians(final double degrees) {
-        return BigDecimal.valueOf(Math.toRadians(degrees));
-    }
+    private final Route route;
 
-    /**
-     * Converts a distance from Astronomical Units (AU) to kilometers.
-     *
-     * @param au The distance in AU.
-     * @return The equivalent distance in kilometers.
-     */
-    private BigDecimal convertAuToKm(final BigDecimal au) {
-        return au.multiply(AU_TO_KM, MATH_CONTEXT);
+    public RouteDistanceFactory(final Route route) throws RouteException {
+        if (route == null) {
+            throw new RouteException(RouteError.ROUTE_DISTANCE_MISSING_ROUTE);
+        }
+
+        this.route = route;
     }
 
     /**
-     * Converts a location's ecliptic coordinates (longitude, latitude, radial distance) into Cartesian coordinates.
+     * Computes the Euclidean distance in kilometers between the origin and destination of the route.
      *
-     * @param location The celestial location.
-     * @return A double array {x, y, z} representing Cartesian coordinates.
+     * @return The Euclidean distance in kilometers.
      */
-    private BigDecimal[] toCartesian(final Location location) {
-        BigDecimal longitudeRad = toRadians(location.getLongitude());
-        BigDecimal latitudeRad = toRadians(location.getLatitude());
-
-        BigDecimal r = BigDecimal.valueOf(location.getRadialDistance());
-        BigDecimal cosLat = BigDecimal.valueOf(StrictMath.cos(latitudeRad.doubleValue()));
-
-        BigDecimal x = r.multiply(cosLat, MATH_CONTEXT).multiply(BigDecimal.valueOf(StrictMath.cos(longitudeRad.doubleValue())), MATH_CONTEXT);
-
-        BigDecimal y = r.multiply(cosLat, MATH_CONTEXT).multiply(BigDecimal.valueOf(StrictMath.sin(longitudeRad.doubleValue())), MATH_CONTEXT);
-
-        BigDecimal z = r.multiply(BigDecimal.valueOf(StrictMath.sin(latitudeRad.doubleValue())), MATH_CONTEXT);
-
-        return new BigDecimal[]{x, y, z};
+    public double calculate() {
+        return calculate(toCartesian(route.getOrigin().getLocation()), toCartesian(route.getDestination().getLocation()));
     }
 }
@@ -0,0 +1,170 @@
+package jp.co.nova.gate.api.features.route.domain;
+
+import jp.co.nova.gate.api.features.route.exception.RouteError;
+import jp.co.nova.gate.api.features.route.exception.RouteException;
+import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
+
+import java.util.*;
+
+/**
+ * A registry holding the kilometer distances between all registered {@link SpaceStation}s in a matrix indexed by
+ * station.
+ * <p>
+ * The stations of the routes are registered when the routes are loaded, which calculates every distance between them
+ * once. Reading the distance of a route afterward is a lookup. The distance of a route with a station that was never
+ * registered is calculated on the spot instead, without being stored.
+ */
+public class RouteDistanceMatrix {
+
+    /**
+     * The current distances. A new snapshot replaces it on every registration, so reads never need to lock.
+     */
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Registers the origins and destinations of the provided {@link Route}s and calculates the distances to every
+     * other registered station.
+     *
+     * @param routes The routes to register.
+     */
+    public static synchronized void register(Collection<Route> routes) throws RouteException {
+        if (routes == null) {
+            throw new RouteException(RouteError.MISSING);
+        }
+
+        Map<String, SpaceStation> newStations = new LinkedHashMap<>();
+
+        for (Route route : routes) {
+            if (route == null) {
+                throw new RouteException(RouteError.MISSING);
+            }
+
+            addIfNew(newStations, route.getOrigin(), RouteError.MISSING_ORIGIN_ID);
+            addIfNew(newStations, route.getDestination(), RouteError.MISSING_DESTINATION_ID);
+        }
+
+        if (!newStations.isEmpty()) {
+            snapshot = snapshot.with(newStations.values());
+        }
+    }
+
+    /**
+     * Returns the distance in kilometers between the origin and destination of the provided {@link Route}.
+     *
+     * @param route The route to get the distance for.
+     * @return The distance in kilometers.
+     */
+    public static double getDistance(Route route) throws RouteException {
+        if (route == null) {
+            throw new RouteException(RouteError.ROUTE_DISTANCE_MISSING_ROUTE);
+        }
+
+        return getDistance(route.getOrigin(), route.getDestination());
+    }
+
+    /**
+     * Returns the distance in kilometers between the provided {@link SpaceStation}s.
+     *
+     * @param origin      The origin station.
+     * @param destination The destination station.
+     * @return The distance in kilometers.
+     */
+    public static double getDistance(SpaceStation origin, SpaceStation destination) throws RouteException {
+        if (origin == null) {
+            throw new RouteException(RouteError.MISSING_ORIGIN);
+        } else if (destination == null) {
+            throw new RouteException(RouteError.MISSING_DESTINATION);
+        }
+
+        Snapshot currentSnapshot = snapshot;
+        Integer originIndex = currentSnapshot.indexesByStationId.get(origin.getId());
+        Integer destinationIndex = currentSnapshot.indexesByStationId.get(destination.getId());
+
+        if (originIndex == null || destinationIndex == null) {
+            return RouteDistanceFactory.calculate(RouteDistanceFactory.toCartesian(origin.getLocation()), RouteDistanceFactory.toCartesian(destination.getLocation()));
+        }
+
+        return currentSnapshot.distances[originIndex][destinationIndex];
+    }
+
+    /**
+     * Tests whether the provided {@link SpaceStation} is registered.
+     *
+     * @param station The station to test.
+     * @return True when the station is registered, false otherwise.
+     */
+    public static boolean isRegistered(SpaceStation station) {
+        return station != null && snapshot.indexesByStationId.containsKey(station.getId());
+    }
+
+    /**
+     * Removes all registered stations.
+     */
+    public static synchronized void clear() {
+        snapshot = Snapshot.EMPTY;
+    }
+
+    private static void addIfNew(Map<String, SpaceStation> newStations, SpaceStation station, RouteError missingError) throws RouteException {
+        if (station == null || station.getId() == null) {
+            throw new RouteException(missingError);
+        }
+
+        if (!snapshot.indexesByStationId.containsKey(station.getId())) {
+            newStations.putIfAbsent(station.getId(), station);
+        }
+    }
+
+    protected RouteDistanceMatrix() {
+    }
+
+    /**
+     * An immutable state of the matrix.
+     *
+     * @param indexesByStationId The index of every registered station by its ID.
+     * @param coordinates        The Cartesian coordinates of every registered station by index.
+     * @param distances          The distances in kilometers between the registered stations by index.
+     */
+    private record Snapshot(Map<String, Integer> indexesByStationId, double[][] coordinates, double[][] distances) {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), new double[0][], new double[0][]);
+
+        /**
+         * Returns a new snapshot with the provided stations added. Only the distances to the added stations are
+         * calculated, the known distances are copied.
+         *
+         * @param newStations The stations to add, none of them registered yet.
+         * @return A new {@link Snapshot}.
+         */
+        private Snapshot with(Collection<SpaceStation> newStations) {
+            int knownCount = coordinates.length;
+            int stationCount = knownCount + newStations.size();
+
+            Map<String, Integer> newIndexes = new HashMap<>(indexesByStationId);
+            double[][] newCoordinates = Arrays.copyOf(coordinates, stationCount);
+
+            int index = knownCount;
+
+            for (SpaceStation station : newStations) {
+                newIndexes.put(station.getId(), index);
+                newCoordinates[index++] = RouteDistanceFactory.toCartesian(station.getLocation());
+            }
+
+            double[][] newDistances = new double[stationCount][stationCount];
+
+            for (int originIndex = 0; originIndex < stationCount; originIndex++) {
+                if (originIndex < knownCount) {
+                    System.arraycopy(distances[originIndex], 0, newDistances[originIndex], 0, knownCount);
+                }
+
+                for (int destinationIndex = Math.max(originIndex + 1, knownCount); destinationIndex < stationCount; destinationIndex++) {
+                    double distance = RouteDistanceFactory.calculate(newCoordinates[originIndex], newCoordinates[destinationIndex]);
+
+                    newDistances[originIndex][destinationIndex] = distance;
+                    newDistances[destinationIndex][originIndex] = distance;
+                }
+            }
+
+            return new Snapshot(Map.copyOf(newIndexes), newCoordinates, newDistances);
+        }
+    }
+}
@@ -17,6 +17,7 @@ import jp.co.nova.gate.api.features.route.service.RouteService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainErrorDtoBuilder;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.http.ReferenceData;
 import jp.co.nova.gate.api.shared.util.ResponseFactory;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
@@ -37,6 +38,7 @@ import static jp.co.nova.gate.api.shared.openApi.Examples.ROUTE_ID_EXAMPLE;
  */
 @ApplicationScoped
 @Path("routes")
+@ReferenceData
 @Tag(name = "Routes")
 public class RouteEndpoint {
 
@@ -2,9 +2,13 @@ package jp.co.nova.gate.api.features.route.repository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.*;
+import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.route.domain.Route;
 import jp.co.nova.gate.api.features.route.exception.RouteError;
 import jp.co.nova.gate.api.features.route.exception.RouteException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +17,8 @@ import java.util.Optional;
  * The class for {@link Route} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class RouteRepository {
 
     @PersistenceContext(unitName = "domain")
@@ -88,10 +94,11 @@ public class RouteRepository {
      * @param routes The {@link List} of {@link Route} to save.
      * @return The {@link List} of saved {@link Route}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<Route> save(List<Route> routes) throws RouteException {
         try {
-            return routes.stream().map(this::save).toList();
-        } catch (IllegalArgumentException exception) {
+            return BulkWriter.save(entityManager, Route.class, Route::getId, routes);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new RouteException(RouteError.SAVE_LIST, exception);
         }
     }
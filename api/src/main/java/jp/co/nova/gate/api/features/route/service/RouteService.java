@@ -1,34 +1,35 @@
 package jp.co.nova.gate.api.features.route.service;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.ObserverException;
-import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-import jakarta.json.Json;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonReader;
 import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.application.startup.InitialDataLoader;
+import jp.co.nova.gate.api.application.startup.StartUpStage;
 import jp.co.nova.gate.api.features.route.domain.Route;
-import jp.co.nova.gate.api.features.route.events.RouteServiceInit;
+import jp.co.nova.gate.api.features.route.domain.RouteDistanceMatrix;
 import jp.co.nova.gate.api.features.route.exception.RouteError;
 import jp.co.nova.gate.api.features.route.exception.RouteException;
 import jp.co.nova.gate.api.features.route.exception.RouteRuntimeException;
 import jp.co.nova.gate.api.features.route.repository.RouteRepository;
 import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttle;
 import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
-import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModelServiceInit;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelError;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelException;
 import jp.co.nova.gate.api.features.spaceShuttleModel.service.SpaceShuttleModelService;
 import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
-import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStationServiceInit;
 import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationError;
 import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationException;
 import jp.co.nova.gate.api.features.spaceStation.service.SpaceStationService;
+import jp.co.nova.gate.api.shared.cache.ReferenceCache;
+import jp.co.nova.gate.api.shared.cache.ReferenceCacheFactory;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -39,7 +40,9 @@ import java.util.stream.Collectors;
  * A service class handling the {@link Route} topic.
  */
 @ApplicationScoped
-public class RouteService {
+@Timed
+@Traced
+public class RouteService implements InitialDataLoader {
 
     private static final Logger LOGGER = Logger.getLogger(RouteService.class.getName());
 
@@ -53,90 +56,71 @@ public class RouteService {
     private SpaceShuttleModelService spaceShuttleModelService;
 
     /**
-     * The route service initialization event.
+     * The factory of the reference entity caches.
      */
     @Inject
-    private Event<RouteServiceInit> routeServiceInitEvent;
+    private ReferenceCacheFactory referenceCacheFactory;
 
     /**
-     * Is the {@link SpaceStationService} ready to be used?
+     * The cache of the routes.
      */
-    private boolean isSpaceStationServiceReady;
+    private ReferenceCache<Route> cache;
+
+    protected RouteService() {
+    }
 
     /**
-     * Is the {@link SpaceStationService} ready to be used?
+     * Creates the cache of the {@link RouteService}.
      */
-    private boolean isSpaceShuttleModelServiceReady;
+    @PostConstruct
+    protected void createCache() {
+        cache = referenceCacheFactory.create("routes", Route::getId);
+    }
 
-    protected RouteService() {
+    @Override
+    public StartUpStage getStage() {
+        return StartUpStage.ROUTES;
     }
 
     /**
      * Initializes the {@link RouteService} by loading the initial data into the database.
      *
-     * @param spaceStationServiceInit An event that triggers the initialization.
+     * @param records The records of the seed file to load.
      */
+    @Override
     @Transactional
-    protected void onStartUp(@Observes SpaceStationServiceInit spaceStationServiceInit) throws RouteRuntimeException {
+    public void loadInitialData(List<JsonObject> records) throws RouteRuntimeException {
         try {
-            isSpaceStationServiceReady = true;
-
-            if (isReadyToBeInitialized()) {
-                initialize();
-            }
+            LOGGER.info(new LogBuilder("Initializing the route service."));
+            loadRoutes(records);
+            LOGGER.info(new LogBuilder("The route service is ready!"));
         } catch (Exception exception) {
-            LOGGER.severe(new LogBuilder(RouteError.START_SERVICE).withException(exception).build());
+            LOGGER.severe(new LogBuilder(RouteError.START_SERVICE).withException(exception));
             throw new RouteRuntimeException(RouteError.START_SERVICE, exception);
         }
     }
 
     /**
-     * Initializes the {@link RouteService} by loading the initial data into the database.
-     *
-     * @param spaceShuttleServiceInit An event that triggers the initialization.
+     * Registers the saved {@link Route}s in the {@link RouteDistanceMatrix}, which is not kept in the database.
      */
-    @Transactional
-    protected void onStartUp(@Observes SpaceShuttleModelServiceInit spaceShuttleServiceInit) throws RouteRuntimeException {
+    @Override
+    public void onInitialDataLoaded() throws RouteRuntimeException {
         try {
-            isSpaceShuttleModelServiceReady = true;
-
-            if (isReadyToBeInitialized()) {
-                initialize();
-            }
-        } catch (Exception exception) {
-            LOGGER.severe(new LogBuilder(RouteError.START_SERVICE).withException(exception).build());
+            RouteDistanceMatrix.register(repository.getAll());
+        } catch (DomainException exception) {
+            LOGGER.severe(new LogBuilder(RouteError.START_SERVICE).withException(exception));
             throw new RouteRuntimeException(RouteError.START_SERVICE, exception);
         }
     }
 
     /**
-     * Is the {@link RouteService} ready to be initialized?
+     * Loads the provided {@link Route} records into the database.
      *
-     * @return true if the service is ready to be initialized, false otherwise.
+     * @param records The records to load.
      */
-    private boolean isReadyToBeInitialized() {
-        return isSpaceStationServiceReady && isSpaceShuttleModelServiceReady;
-    }
-
-    /**
-     * Initializes this service.
-     */
-    private void initialize() throws RouteException {
-        LOGGER.info(new LogBuilder("Initializing the route service.").build());
-        loadRoutes();
-        LOGGER.info(new LogBuilder("The route service is ready!").build());
-
-        routeServiceInitEvent.fire(RouteServiceInit.create());
-    }
-
-    /**
-     * Loads all initial {@link SpaceShuttle}s into the database.
-     */
-    private void loadRoutes() throws RouteException {
-        try (JsonReader reader = Json.createReader(RouteService.class.getResourceAsStream("/static/routes.json"))) {
-            List<Route> parsedRoutes = reader.readArray().stream().map(routeJsonValue -> {
-                JsonObject routeJson = routeJsonValue.asJsonObject();
-
+    private void loadRoutes(List<JsonObject> records) throws RouteException {
+        try {
+            List<Route> parsedRoutes = records.stream().map(routeJson -> {
                 String id = routeJson.getString("id");
                 String originId = routeJson.getString("originId");
                 String destinationId = routeJson.getString("destinationId");
@@ -150,10 +134,11 @@ public class RouteService {
             }).collect(Collectors.toList());
 
             repository.save(parsedRoutes);
-            LOGGER.info(new LogBuilder(String.format("Created %d routes.", parsedRoutes.size())).build());
+            cache.invalidate();
+            LOGGER.info(new LogBuilder(String.format("Created %d routes.", parsedRoutes.size())));
         } catch (JsonException | ObserverException | ClassCastException | DomainException |
                  NullPointerException exception) {
-            LOGGER.warning(new LogBuilder(RouteError.LOAD_INITIAL_DATA).withException(exception).build());
+            LOGGER.warning(new LogBuilder(RouteError.LOAD_INITIAL_DATA).withException(exception));
             throw new RouteException(RouteError.LOAD_INITIAL_DATA, exception);
         }
     }
@@ -165,9 +150,9 @@ public class RouteService {
      */
     public List<Route> getAll() throws RouteException {
         try {
-            return repository.getAll();
+            return cache.getAll(repository::getAll);
         } catch (RouteException exception) {
-            LOGGER.warning(new LogBuilder(RouteError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(RouteError.GET_ALL).withException(exception));
             throw exception;
         }
     }
@@ -180,9 +165,9 @@ public class RouteService {
      */
     public Optional<Route> findById(String id) throws RouteException {
         try {
-            return repository.findById(id);
+            return cache.findById(id, repository::findById);
         } catch (RouteException exception) {
-            LOGGER.warning(new LogBuilder(RouteError.FIND_BY_ID).withException(exception).build());
+            LOGGER.warning(new LogBuilder(RouteError.FIND_BY_ID).withException(exception));
             throw exception;
         }
     }
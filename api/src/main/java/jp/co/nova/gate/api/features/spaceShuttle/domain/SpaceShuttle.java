@@ -94,12 +94,12 @@ public class SpaceShuttle {
     }
 
     /**
-     * Gets the {@link SpaceShuttleLayout} for this {@link SpaceShuttle}.
+     * Gets the shared {@link SpaceShuttleLayout} for the model of this {@link SpaceShuttle}.
      *
      * @return A {@link SpaceShuttleLayout}.
      */
-    public SpaceShuttleLayout getLayout() {
-        return new SpaceShuttleLayoutFactory(model).create();
+    public SpaceShuttleLayout getLayout() throws SpaceShuttleException {
+        return SpaceShuttleLayoutRegistry.get(model);
     }
 
     @Override
@@ -4,17 +4,20 @@ import jp.co.nova.gate.api.features.catalog.domain.PackageType;
 import jp.co.nova.gate.api.features.catalog.domain.PodType;
 import jp.co.nova.gate.api.features.passenger.domain.Passenger;
 import jp.co.nova.gate.api.features.pod.domain.Pod;
+import jp.co.nova.gate.api.features.pod.domain.PodAvailabilityIndex;
 import jp.co.nova.gate.api.features.pod.domain.PodReservation;
 import jp.co.nova.gate.api.features.pod.exception.PodError;
 import jp.co.nova.gate.api.features.pod.exception.PodException;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleError;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleException;
-import jp.co.nova.gate.api.shared.exception.DomainException;
 
 import java.util.*;
 
 /**
- * A POJO representing a layout of a {@link SpaceShuttle}.
+ * A POJO representing a read-only layout of a {@link SpaceShuttle}.
+ * <p>
+ * Every pod in the layout is numbered densely from 0, in deck order, so that the availability of the pods can be kept
+ * in a bitset by a {@link PodAvailabilityIndex}.
  */
 public class SpaceShuttleLayout {
 
@@ -33,6 +36,21 @@ public class SpaceShuttleLayout {
      */
     private final Map<Integer, List<Pod>> podsPerDeck;
 
+    /**
+     * All pods in the space shuttle layout, ordered by deck. The position of a pod in this list is its index.
+     */
+    private final List<Pod> allPods;
+
+    /**
+     * The index of each pod by its pod code.
+     */
+    private final Map<String, Integer> podIndexByCode;
+
+    /**
+     * A bitmask per pod type, where a set bit marks the index of a pod of that type.
+     */
+    private final Map<PodType, long[]> podMaskByType;
+
     public SpaceShuttleLayout(Map<Integer, List<Pod>> podsPerDeck) throws SpaceShuttleException {
         if (podsPerDeck == null) {
             throw new SpaceShuttleException(SpaceShuttleError.LAYOUT_MISSING_PODS_PER_DECK);
@@ -40,7 +58,22 @@ public class SpaceShuttleLayout {
             throw new SpaceShuttleException(SpaceShuttleError.LAYOUT_NO_PODS_PER_DECK);
         }
 
-        this.podsPerDeck = podsPerDeck;
+        this.podsPerDeck = Collections.unmodifiableMap(new TreeMap<>(podsPerDeck));
+        this.allPods = this.podsPerDeck.values().stream().flatMap(Collection::stream).toList();
+
+        Map<String, Integer> indexByCode = new HashMap<>();
+        Map<PodType, long[]> maskByType = new EnumMap<>(PodType.class);
+
+        for (int index = 0; index < allPods.size(); index++) {
+            Pod pod = allPods.get(index);
+            indexByCode.put(pod.getCode(), index);
+
+            long[] mask = maskByType.computeIfAbsent(pod.getType(), ignored -> new long[getWordCount()]);
+            mask[index >> 6] |= 1L << index;
+        }
+
+        this.podIndexByCode = Collections.unmodifiableMap(indexByCode);
+        this.podMaskByType = Collections.unmodifiableMap(maskByType);
     }
 
     /**
@@ -49,7 +82,55 @@ public class SpaceShuttleLayout {
      * @return A {@link List} of {@link Pod}s.
      */
     public List<Pod> getAllPods() {
-        return podsPerDeck.values().stream().flatMap(Collection::stream).toList();
+        return allPods;
+    }
+
+    /**
+     * @return The amount of pods in the space shuttle layout.
+     */
+    public int getPodCount() {
+        return allPods.size();
+    }
+
+    /**
+     * @return The amount of 64-bit words needed to hold one bit per pod of the space shuttle layout.
+     */
+    public int getWordCount() {
+        return (allPods.size() + 63) >> 6;
+    }
+
+    /**
+     * Gets the {@link Pod} at the provided index.
+     *
+     * @param index The index of the pod.
+     * @return A {@link Pod}.
+     */
+    public Pod getPod(int index) {
+        return allPods.get(index);
+    }
+
+    /**
+     * Finds the index of the {@link Pod} matching the provided pod code.
+     *
+     * @param podCode The pod code to search with.
+     * @return An {@link OptionalInt} index.
+     */
+    public OptionalInt findPodIndex(String podCode) {
+        Integer index = podIndexByCode.get(podCode);
+        return index == null ? OptionalInt.empty() : OptionalInt.of(index);
+    }
+
+    /**
+     * Gets a word of the bitmask of all pods of the provided {@link PodType}, where a set bit marks the index of a pod
+     * of that type. The mask itself is not exposed, since the layout is shared by every voyage of its model.
+     *
+     * @param podType The pod type to get the mask word for.
+     * @param word    The index of the word, from 0 to the {@link #getWordCount() word count}.
+     * @return A word of the bitmask of pod indices.
+     */
+    public long getPodMaskWord(PodType podType, int word) {
+        long[] podMask = podMaskByType.get(podType);
+        return podMask == null ? 0 : podMask[word];
     }
 
     /**
@@ -68,7 +149,8 @@ public class SpaceShuttleLayout {
     }
 
     /**
-     * Gets a {@link List} of all {@link Pod}s in the space shuttle layout.
+     * Gets a {@link List} of all {@link Pod}s in the space shuttle layout, where every reserved pod is replaced by an
+     * unavailable copy. The pods of the layout itself are never modified.
      *
      * @param podReservations A list of reserved pods.
      * @return A {@link List} of all {@link Pod}s.
@@ -78,11 +160,7 @@ public class SpaceShuttleLayout {
             throw new SpaceShuttleException(SpaceShuttleError.MISSING_POD_RESERVATIONS);
         }
 
-        return getAllPods().stream().peek(pod -> {
-            if (podReservations.stream().anyMatch(podReservation -> podReservation.getPodCode().equals(pod.getCode()))) {
-                pod.markAsUnavailable();
-            }
-        }).toList();
+        return PodAvailabilityIndex.create(this, podReservations).getAllPodsWithAvailability();
     }
 
     /**
@@ -95,23 +173,6 @@ public class SpaceShuttleLayout {
         return podsPerDeck.get(deck);
     }
 
-    /**
-     * Tests whether a {@link PodReservation} exists for the provided pod code.
-     *
-     * @param podCode      The pod code to search for.
-     * @param reservations The existing pod reservations.
-     * @return True when the pod code does not match a reservation, false otherwise.
-     */
-    public boolean isPodAvailable(String podCode, List<PodReservation> reservations) throws SpaceShuttleException {
-        if (podCode == null) {
-            throw new SpaceShuttleException(SpaceShuttleError.MISSING_POD_CODE_FOR_RESERVATION);
-        } else if (reservations == null) {
-            throw new SpaceShuttleException(SpaceShuttleError.MISSING_POD_RESERVATIONS);
-        }
-
-        return reservations.stream().noneMatch(podReservation -> podReservation.getPodCode().equals(podCode));
-    }
-
     /**
      * Tests whether a {@link Pod} matching the provided pod code is available for the provided {@link Passenger}.
      *
@@ -126,29 +187,10 @@ public class SpaceShuttleLayout {
             throw new SpaceShuttleException(SpaceShuttleError.MISSING_PASSENGER_FOR_RESERVATION);
         }
 
-        return getAllPodsByPackageType(passenger.getPackageType()).stream().anyMatch(pod -> pod.getCode().equals(podCode));
-    }
+        Optional<PodType> passengerPodType = PodType.findByPackageType(passenger.getPackageType());
+        OptionalInt podIndex = findPodIndex(podCode);
 
-    /**
-     * Returns the next available {@link Pod}.
-     *
-     * @param passenger    The {@link Passenger} to search for.
-     * @param reservations A list of reserved pods.
-     * @return An {@link Optional} {@link Pod}.
-     */
-    public Optional<Pod> findFirstAvailablePodFor(Passenger passenger, List<PodReservation> reservations) throws SpaceShuttleException {
-        try {
-            if (reservations == null) {
-                throw new SpaceShuttleException(SpaceShuttleError.MISSING_POD_RESERVATIONS);
-            } else if (passenger == null) {
-                throw new SpaceShuttleException(SpaceShuttleError.MISSING_PASSENGER_FOR_RESERVATION);
-            }
-
-            PodType selectedPodType = PodType.findByPackageType(passenger.getPackageType()).orElseThrow(() -> new PodException(PodError.MISSING_TYPE));
-            return getAllPods().stream().filter(pod -> pod.getType().equals(selectedPodType) && isPodAvailable(pod.getCode(), reservations)).findFirst();
-        } catch (DomainException exception) {
-            throw new SpaceShuttleException(SpaceShuttleError.FIND_FIRST_AVAILABLE_POD);
-        }
+        return passengerPodType.isPresent() && podIndex.isPresent() && getPod(podIndex.getAsInt()).getType() == passengerPodType.get();
     }
 
     @Override
@@ -101,7 +101,7 @@ public class SpaceShuttleLayoutFactory {
         try {
             return IntStream.rangeClosed(1, podCount)
                     .mapToObj(indexOnDeck -> {
-                        int podRow = (indexOnDeck / podsPerRow) + 1;
+                        int podRow = ((indexOnDeck - 1) / podsPerRow) + 1;
                         int podColumn = ((indexOnDeck - 1) % podsPerRow) + 1;
 
                         String podCode = new PodCodeFactory(podType.getPodCodePrefix(), deckNumber, indexOnDeck).create();
@@ -0,0 +1,59 @@
+package jp.co.nova.gate.api.features.spaceShuttle.domain;
+
+import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleError;
+import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleException;
+import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry holding a single, read-only {@link SpaceShuttleLayout} per {@link SpaceShuttleModel}.
+ * <p>
+ * A layout only depends on the ID and maximum capacity of a model, so it is created once by the
+ * {@link SpaceShuttleLayoutFactory} and shared by every space shuttle of that model. The availability of the pods for a
+ * voyage is never stored in the shared layout.
+ */
+public class SpaceShuttleLayoutRegistry {
+
+    /**
+     * The created layouts by their model ID and maximum capacity.
+     */
+    private static final Map<LayoutKey, SpaceShuttleLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the {@link SpaceShuttleLayout} of the provided {@link SpaceShuttleModel}, creating it on first use.
+     *
+     * @param spaceShuttleModel The space shuttle model to get the layout for.
+     * @return A {@link SpaceShuttleLayout}.
+     */
+    public static SpaceShuttleLayout get(SpaceShuttleModel spaceShuttleModel) throws SpaceShuttleException {
+        if (spaceShuttleModel == null) {
+            throw new SpaceShuttleException(SpaceShuttleError.MISSING_MODEL);
+        } else if (spaceShuttleModel.getId() == null) {
+            throw new SpaceShuttleException(SpaceShuttleError.MISSING_MODEL_ID);
+        }
+
+        LayoutKey key = new LayoutKey(spaceShuttleModel.getId(), spaceShuttleModel.getMaxCapacity());
+        return LAYOUTS.computeIfAbsent(key, ignored -> new SpaceShuttleLayoutFactory(spaceShuttleModel).create());
+    }
+
+    /**
+     * Removes all created layouts from the registry.
+     */
+    public static void clear() {
+        LAYOUTS.clear();
+    }
+
+    protected SpaceShuttleLayoutRegistry() {
+    }
+
+    /**
+     * The key of a layout in the registry.
+     *
+     * @param modelId     The ID of the space shuttle model.
+     * @param maxCapacity The maximum capacity of the space shuttle model.
+     */
+    private record LayoutKey(String modelId, int maxCapacity) {
+    }
+}
@@ -17,6 +17,7 @@ import jp.co.nova.gate.api.features.spaceShuttle.service.SpaceShuttleService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainErrorDtoBuilder;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.http.ReferenceData;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
 import jp.co.nova.gate.api.shared.util.ResponseFactory;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -39,6 +40,7 @@ import static jp.co.nova.gate.api.shared.openApi.Examples.SPACE_SHUTTLE_ID_EXAMP
  */
 @ApplicationScoped
 @Path("space-shuttles")
+@ReferenceData
 @Tag(name = "Space shuttles")
 public class SpaceShuttleEndpoint {
 
@@ -71,7 +73,7 @@ public class SpaceShuttleEndpoint {
             List<SpaceShuttleBasicDto> spaceShuttles = spaceShuttleService.getAll().stream().map(SpaceShuttleBasicDto::create).toList();
             return Response.ok().entity(spaceShuttles).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleError.GET_ALL).withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -98,7 +100,7 @@ public class SpaceShuttleEndpoint {
                     .map(spaceShuttle -> Response.ok().entity(SpaceShuttleDto.create(spaceShuttle)).build())
                     .orElse(ResponseFactory.notFound().entity(new DomainErrorDtoBuilder(SpaceShuttleError.FIND_BY_ID).withProperty("id", id).build()).build());
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleError.FIND_BY_ID).withException(exception).withProperty("id", id));
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
         }
     }
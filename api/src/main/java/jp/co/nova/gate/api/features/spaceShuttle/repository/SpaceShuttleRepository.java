@@ -2,10 +2,14 @@ package jp.co.nova.gate.api.features.spaceShuttle.repository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.*;
+import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttle;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleError;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleException;
 import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +18,8 @@ import java.util.Optional;
  * The class for {@link SpaceShuttle} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class SpaceShuttleRepository {
 
     @PersistenceContext(unitName = "domain")
@@ -104,10 +110,11 @@ public class SpaceShuttleRepository {
      * @param spaceShuttles The {@link List} of {@link SpaceShuttle} to save.
      * @return The {@link List} of saved {@link SpaceShuttle}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<SpaceShuttle> save(List<SpaceShuttle> spaceShuttles) throws SpaceShuttleException {
         try {
-            return spaceShuttles.stream().map(this::save).toList();
-        } catch (IllegalArgumentException exception) {
+            return BulkWriter.save(entityManager, SpaceShuttle.class, SpaceShuttle::getId, spaceShuttles);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new SpaceShuttleException(SpaceShuttleError.SAVE_LIST, exception);
         }
     }
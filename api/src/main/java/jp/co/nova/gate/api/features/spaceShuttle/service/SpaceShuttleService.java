@@ -1,29 +1,30 @@
 package jp.co.nova.gate.api.features.spaceShuttle.service;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-import jakarta.json.Json;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonReader;
 import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.application.startup.InitialDataLoader;
+import jp.co.nova.gate.api.application.startup.StartUpStage;
 import jp.co.nova.gate.api.features.location.exception.LocationException;
 import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttle;
-import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleServiceInit;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleError;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleException;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleRuntimeException;
 import jp.co.nova.gate.api.features.spaceShuttle.repository.SpaceShuttleRepository;
 import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
-import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModelServiceInit;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelError;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelException;
 import jp.co.nova.gate.api.features.spaceShuttleModel.service.SpaceShuttleModelService;
 import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
+import jp.co.nova.gate.api.shared.cache.ReferenceCache;
+import jp.co.nova.gate.api.shared.cache.ReferenceCacheFactory;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,7 +35,9 @@ import java.util.stream.Collectors;
  * A service class handling the {@link SpaceStation} topic.
  */
 @ApplicationScoped
-public class SpaceShuttleService {
+@Timed
+@Traced
+public class SpaceShuttleService implements InitialDataLoader {
 
     private static final Logger LOGGER = Logger.getLogger(SpaceShuttleService.class.getName());
 
@@ -48,41 +51,58 @@ public class SpaceShuttleService {
     private SpaceShuttleModelService spaceShuttleModelService;
 
     /**
-     * The space shuttle service initialization event.
+     * The factory of the reference entity caches.
      */
     @Inject
-    private Event<SpaceShuttleServiceInit> spaceShuttleServiceInitEvent;
+    private ReferenceCacheFactory referenceCacheFactory;
+
+    /**
+     * The cache of the space shuttles.
+     */
+    private ReferenceCache<SpaceShuttle> cache;
 
     protected SpaceShuttleService() {
     }
 
+    /**
+     * Creates the cache of the {@link SpaceShuttleService}.
+     */
+    @PostConstruct
+    protected void createCache() {
+        cache = referenceCacheFactory.create("space.shuttles", SpaceShuttle::getId);
+    }
+
+    @Override
+    public StartUpStage getStage() {
+        return StartUpStage.SPACE_SHUTTLES;
+    }
+
     /**
      * Initializes the {@link SpaceShuttleService} by loading the initial data into the database.
      *
-     * @param init The event that triggers the initialization.
+     * @param records The records of the seed file to load.
      */
+    @Override
     @Transactional
-    protected void onStartUp(@Observes SpaceShuttleModelServiceInit init) throws SpaceShuttleRuntimeException {
+    public void loadInitialData(List<JsonObject> records) throws SpaceShuttleRuntimeException {
         try {
-            LOGGER.info(new LogBuilder("Initializing the space shuttle service.").build());
-            loadSpaceShuttles();
-            LOGGER.info(new LogBuilder("The space shuttle service is ready!").build());
-
-            spaceShuttleServiceInitEvent.fire(SpaceShuttleServiceInit.create());
+            LOGGER.info(new LogBuilder("Initializing the space shuttle service."));
+            loadSpaceShuttles(records);
+            LOGGER.info(new LogBuilder("The space shuttle service is ready!"));
         } catch (Exception exception) {
-            LOGGER.severe(new LogBuilder(SpaceShuttleError.START_SERVICE).withException(exception).build());
+            LOGGER.severe(new LogBuilder(SpaceShuttleError.START_SERVICE).withException(exception));
             throw new SpaceShuttleRuntimeException(SpaceShuttleError.START_SERVICE, exception);
         }
     }
 
     /**
-     * Loads all initial {@link SpaceShuttle}s into the database.
+     * Loads the provided {@link SpaceShuttle} records into the database.
+     *
+     * @param records The records to load.
      */
-    private void loadSpaceShuttles() throws LocationException {
-        try (JsonReader reader = Json.createReader(SpaceShuttleService.class.getResourceAsStream("/static/space-shuttles.json"))) {
-            List<SpaceShuttle> parsedSpaceShuttles = reader.readArray().stream().map(shuttleJsonValue -> {
-                JsonObject shuttleJson = shuttleJsonValue.asJsonObject();
-
+    private void loadSpaceShuttles(List<JsonObject> records) throws LocationException {
+        try {
+            List<SpaceShuttle> parsedSpaceShuttles = records.stream().map(shuttleJson -> {
                 String id = shuttleJson.getString("id");
                 String name = shuttleJson.getString("name");
                 String modelId = shuttleJson.getString("modelId");
@@ -92,9 +112,10 @@ public class SpaceShuttleService {
             }).collect(Collectors.toList());
 
             repository.save(parsedSpaceShuttles);
-            LOGGER.info(new LogBuilder(String.format("Created %d space shuttles.", parsedSpaceShuttles.size())).build());
+            cache.invalidate();
+            LOGGER.info(new LogBuilder(String.format("Created %d space shuttles.", parsedSpaceShuttles.size())));
         } catch (JsonException | NullPointerException | DomainException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleError.LOAD_INITIAL_DATA).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleError.LOAD_INITIAL_DATA).withException(exception));
             throw new SpaceShuttleException(SpaceShuttleError.LOAD_INITIAL_DATA, exception);
         }
     }
@@ -106,9 +127,9 @@ public class SpaceShuttleService {
      */
     public List<SpaceShuttle> getAll() throws SpaceShuttleException {
         try {
-            return repository.getAll();
+            return cache.getAll(repository::getAll);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleError.GET_ALL).withException(exception));
             throw exception;
         }
     }
@@ -131,9 +152,9 @@ public class SpaceShuttleService {
      */
     public Optional<SpaceShuttle> findById(String id) throws SpaceShuttleException {
         try {
-            return repository.findById(id);
+            return cache.findById(id, repository::findById);
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleError.FIND_BY_ID).withException(exception).withProperty("id", id));
             throw exception;
         }
     }
@@ -21,6 +21,7 @@ import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleMode
 import jp.co.nova.gate.api.features.spaceShuttleModel.service.SpaceShuttleModelService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainErrorDtoBuilder;
+import jp.co.nova.gate.api.shared.http.ReferenceData;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
 import jp.co.nova.gate.api.shared.util.ResponseFactory;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -43,6 +44,7 @@ import static jp.co.nova.gate.api.shared.openApi.Examples.SPACE_SHUTTLE_MODEL_ID
  */
 @ApplicationScoped
 @Path("space-shuttle-models")
+@ReferenceData
 @Tag(name = "Space shuttle models")
 public class SpaceShuttleModelEndpoint {
 
@@ -75,7 +77,7 @@ public class SpaceShuttleModelEndpoint {
             List<SpaceShuttleModelDto> spaceShuttleModels = spaceShuttleModelService.getAll().stream().map(SpaceShuttleModelDto::create).toList();
             return Response.ok().entity(spaceShuttleModels).build();
         } catch (SpaceShuttleModelException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.GET_ALL).withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -103,7 +105,7 @@ public class SpaceShuttleModelEndpoint {
                     .map(spaceShuttleModel -> Response.ok().entity(SpaceShuttleModelDto.create(spaceShuttleModel)).build())
                     .orElse(ResponseFactory.notFound().entity(new DomainErrorDtoBuilder(SpaceShuttleModelError.FIND_BY_ID).withProperty("id", id).build()).build());
         } catch (SpaceShuttleModelException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.FIND_BY_ID).withException(exception).withProperty("id", id));
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
         }
     }
@@ -129,7 +131,7 @@ public class SpaceShuttleModelEndpoint {
             List<SpaceShuttleBasicDto> spaceShuttles = spaceShuttleService.getAllSpaceShuttlesByModelId(modelId).stream().map(SpaceShuttleBasicDto::create).toList();
             return Response.ok().entity(spaceShuttles).build();
         } catch (SpaceShuttleException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleError.GET_ALL_BY_MODEL_ID).withException(exception).withProperty("modelId", modelId).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleError.GET_ALL_BY_MODEL_ID).withException(exception).withProperty("modelId", modelId));
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("modelId", modelId).build()).build();
         }
     }
@@ -2,9 +2,13 @@ package jp.co.nova.gate.api.features.spaceShuttleModel.repository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.*;
+import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelError;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +17,8 @@ import java.util.Optional;
  * The class for {@link SpaceShuttleModel} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class SpaceShuttleModelRepository {
 
     @PersistenceContext(unitName = "domain")
@@ -88,10 +94,11 @@ public class SpaceShuttleModelRepository {
      * @param spaceShuttleModels The {@link List} of {@link SpaceShuttleModel} to save.
      * @return The {@link List} of saved {@link SpaceShuttleModel}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<SpaceShuttleModel> save(List<SpaceShuttleModel> spaceShuttleModels) throws SpaceShuttleModelException {
         try {
-            return spaceShuttleModels.stream().map(this::save).toList();
-        } catch (SpaceShuttleModelException exception) {
+            return BulkWriter.save(entityManager, SpaceShuttleModel.class, SpaceShuttleModel::getId, spaceShuttleModels);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new SpaceShuttleModelException(SpaceShuttleModelError.SAVE_LIST, exception);
         }
     }
@@ -1,23 +1,24 @@
 package jp.co.nova.gate.api.features.spaceShuttleModel.service;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.context.Initialized;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-import jakarta.json.Json;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonReader;
 import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.application.startup.InitialDataLoader;
+import jp.co.nova.gate.api.application.startup.StartUpStage;
 import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
-import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModelServiceInit;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelError;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelException;
 import jp.co.nova.gate.api.features.spaceShuttleModel.exception.SpaceShuttleModelRuntimeException;
 import jp.co.nova.gate.api.features.spaceShuttleModel.repository.SpaceShuttleModelRepository;
+import jp.co.nova.gate.api.shared.cache.ReferenceCache;
+import jp.co.nova.gate.api.shared.cache.ReferenceCacheFactory;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,7 +29,9 @@ import java.util.stream.Collectors;
  * A service class handling the {@link SpaceShuttleModel} topic.
  */
 @ApplicationScoped
-public class SpaceShuttleModelService {
+@Timed
+@Traced
+public class SpaceShuttleModelService implements InitialDataLoader {
 
     private static final Logger LOGGER = Logger.getLogger(SpaceShuttleModelService.class.getName());
 
@@ -39,41 +42,58 @@ public class SpaceShuttleModelService {
     private SpaceShuttleModelRepository repository;
 
     /**
-     * This service's initialisation event.
+     * The factory of the reference entity caches.
      */
     @Inject
-    private Event<SpaceShuttleModelServiceInit> spaceShuttleServiceInitEvent;
+    private ReferenceCacheFactory referenceCacheFactory;
+
+    /**
+     * The cache of the space shuttle models.
+     */
+    private ReferenceCache<SpaceShuttleModel> cache;
 
     protected SpaceShuttleModelService() {
     }
 
     /**
-     * The start-up logic for this service, after the start-up it emits its initialisation event.
+     * Creates the cache of the {@link SpaceShuttleModelService}.
+     */
+    @PostConstruct
+    protected void createCache() {
+        cache = referenceCacheFactory.create("space.shuttle.models", SpaceShuttleModel::getId);
+    }
+
+    @Override
+    public StartUpStage getStage() {
+        return StartUpStage.SPACE_SHUTTLE_MODELS;
+    }
+
+    /**
+     * The start-up logic for this service, loading the initial data into the database.
      *
-     * @param init The event that triggers the start-up of this service.
+     * @param records The records of the seed file to load.
      */
+    @Override
     @Transactional
-    protected void onStartUp(@Observes @Initialized(ApplicationScoped.class) Object init) throws SpaceShuttleModelRuntimeException {
+    public void loadInitialData(List<JsonObject> records) throws SpaceShuttleModelRuntimeException {
         try {
-            LOGGER.info(new LogBuilder("Initializing the space shuttle model service.").build());
-            loadSpaceShuttleModels();
-            LOGGER.info(new LogBuilder("The space shuttle model service is ready!").build());
-
-            spaceShuttleServiceInitEvent.fire(SpaceShuttleModelServiceInit.create());
+            LOGGER.info(new LogBuilder("Initializing the space shuttle model service."));
+            loadSpaceShuttleModels(records);
+            LOGGER.info(new LogBuilder("The space shuttle model service is ready!"));
         } catch (SpaceShuttleModelException exception) {
-            LOGGER.severe(new LogBuilder(SpaceShuttleModelError.START_SERVICE).withException(exception).build());
+            LOGGER.severe(new LogBuilder(SpaceShuttleModelError.START_SERVICE).withException(exception));
             throw new SpaceShuttleModelRuntimeException(SpaceShuttleModelError.START_SERVICE, exception);
         }
     }
 
     /**
-     * Loads the space shuttle models from the JSON file into the database.
+     * Loads the provided {@link SpaceShuttleModel} records into the database.
+     *
+     * @param records The records to load.
      */
-    private void loadSpaceShuttleModels() throws SpaceShuttleModelException {
-        try (JsonReader reader = Json.createReader(SpaceShuttleModelService.class.getResourceAsStream("/static/space-shuttle-models.json"))) {
-            List<SpaceShuttleModel> parsedSpaceShuttleModels = reader.readArray().stream().map(modelJsonValue -> {
-                JsonObject modelJson = modelJsonValue.asJsonObject();
-
+    private void loadSpaceShuttleModels(List<JsonObject> records) throws SpaceShuttleModelException {
+        try {
+            List<SpaceShuttleModel> parsedSpaceShuttleModels = records.stream().map(modelJson -> {
                 String id = modelJson.getString("id");
                 String name = modelJson.getString("name");
                 int maxCapacity = modelJson.getInt("maxCapacity");
@@ -83,9 +103,10 @@ public class SpaceShuttleModelService {
             }).collect(Collectors.toList());
 
             repository.save(parsedSpaceShuttleModels);
+            cache.invalidate();
             LOGGER.info(String.format("Created %d space shuttle models.", parsedSpaceShuttleModels.size()));
         } catch (JsonException | NullPointerException | DomainException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.LOAD_INITIAL_DATA).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.LOAD_INITIAL_DATA).withException(exception));
             throw new SpaceShuttleModelException(SpaceShuttleModelError.LOAD_INITIAL_DATA, exception);
         }
     }
@@ -97,9 +118,9 @@ public class SpaceShuttleModelService {
      */
     public List<SpaceShuttleModel> getAll() throws SpaceShuttleModelException {
         try {
-            return repository.getAll();
+            return cache.getAll(repository::getAll);
         } catch (SpaceShuttleModelException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.GET_ALL).withException(exception));
             throw exception;
         }
     }
@@ -112,9 +133,9 @@ public class SpaceShuttleModelService {
      */
     public Optional<SpaceShuttleModel> findById(String id) throws SpaceShuttleModelException {
         try {
-            return repository.findById(id);
+            return cache.findById(id, repository::findById);
         } catch (SpaceShuttleModelException exception) {
-            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(SpaceShuttleModelError.FIND_BY_ID).withException(exception).withProperty("id", id));
             throw exception;
         }
     }
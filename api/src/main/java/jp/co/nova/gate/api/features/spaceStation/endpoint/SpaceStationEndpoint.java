@@ -17,6 +17,7 @@ import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationException
 import jp.co.nova.gate.api.features.spaceStation.service.SpaceStationService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainErrorDtoBuilder;
+import jp.co.nova.gate.api.shared.http.ReferenceData;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
 import jp.co.nova.gate.api.shared.util.ResponseFactory;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -39,6 +40,7 @@ import static jp.co.nova.gate.api.shared.openApi.Examples.SPACE_STATION_ORIGIN_I
  */
 @ApplicationScoped
 @Path("space-stations")
+@ReferenceData
 @Tag(name = "Space stations")
 public class SpaceStationEndpoint {
 
@@ -71,7 +73,7 @@ public class SpaceStationEndpoint {
             List<SpaceStationBasicDto> spaceStations = spaceStationService.getAll().stream().map(SpaceStationBasicDto::create).toList();
             return Response.ok().entity(spaceStations).build();
         } catch (SpaceStationException exception) {
-            LOGGER.warning(new LogBuilder(SpaceStationError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceStationError.GET_ALL).withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
@@ -99,7 +101,7 @@ public class SpaceStationEndpoint {
                     .map(spaceStation -> Response.ok().entity(SpaceStationDto.create(spaceStation)).build())
                     .orElse(ResponseFactory.notFound().entity(new DomainErrorDtoBuilder(SpaceStationError.FIND_BY_ID).withProperty("id", id).build()).build());
         } catch (SpaceStationException exception) {
-            LOGGER.warning(new LogBuilder(SpaceStationError.GET_ALL).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(SpaceStationError.GET_ALL).withException(exception).withProperty("id", id));
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
         }
     }
@@ -2,9 +2,13 @@ package jp.co.nova.gate.api.features.spaceStation.repository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.*;
+import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
 import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationError;
 import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +17,8 @@ import java.util.Optional;
  * The class for {@link SpaceStation} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class SpaceStationRepository {
 
     @PersistenceContext(unitName = "domain")
@@ -91,10 +97,11 @@ public class SpaceStationRepository {
      * @param spaceStations The {@link List} of {@link SpaceStation} to save.
      * @return The {@link List} of saved {@link SpaceStation}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<SpaceStation> save(List<SpaceStation> spaceStations) throws SpaceStationException {
         try {
-            return spaceStations.stream().map(this::save).toList();
-        } catch (IllegalArgumentException exception) {
+            return BulkWriter.save(entityManager, SpaceStation.class, SpaceStation::getId, spaceStations);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new SpaceStationException(SpaceStationError.SAVE_LIST, exception);
         }
     }
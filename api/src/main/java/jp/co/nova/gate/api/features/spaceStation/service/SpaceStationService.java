@@ -1,25 +1,27 @@
 package jp.co.nova.gate.api.features.spaceStation.service;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Event;
-import jakarta.enterprise.event.ObserverException;
-import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import jakarta.json.*;
 import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.application.startup.InitialDataLoader;
+import jp.co.nova.gate.api.application.startup.StartUpStage;
 import jp.co.nova.gate.api.features.location.domain.Location;
-import jp.co.nova.gate.api.features.location.events.LocationServiceInit;
 import jp.co.nova.gate.api.features.location.exception.LocationError;
 import jp.co.nova.gate.api.features.location.exception.LocationException;
 import jp.co.nova.gate.api.features.location.service.LocationService;
 import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
-import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStationServiceInit;
 import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationError;
 import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationException;
 import jp.co.nova.gate.api.features.spaceStation.exception.SpaceStationRuntimeException;
 import jp.co.nova.gate.api.features.spaceStation.repository.SpaceStationRepository;
+import jp.co.nova.gate.api.shared.cache.ReferenceCache;
+import jp.co.nova.gate.api.shared.cache.ReferenceCacheFactory;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,7 +32,9 @@ import java.util.stream.Collectors;
  * A service class handling the {@link SpaceStation} topic.
  */
 @ApplicationScoped
-public class SpaceStationService {
+@Timed
+@Traced
+public class SpaceStationService implements InitialDataLoader {
 
     private static final Logger LOGGER = Logger.getLogger(SpaceStationService.class.getName());
 
@@ -47,38 +51,55 @@ public class SpaceStationService {
     private LocationService locationService;
 
     /**
-     * This service's initialisation event.
+     * The factory of the reference entity caches.
      */
     @Inject
-    private Event<SpaceStationServiceInit> event;
+    private ReferenceCacheFactory referenceCacheFactory;
 
     /**
-     * The start-up logic for this service, after the start-up it emits its initialisation event.
+     * The cache of the space stations.
+     */
+    private ReferenceCache<SpaceStation> cache;
+
+    /**
+     * Creates the cache of the {@link SpaceStationService}.
+     */
+    @PostConstruct
+    protected void createCache() {
+        cache = referenceCacheFactory.create("space.stations", SpaceStation::getId);
+    }
+
+    @Override
+    public StartUpStage getStage() {
+        return StartUpStage.SPACE_STATIONS;
+    }
+
+    /**
+     * The start-up logic for this service, loading the initial data into the database.
      *
-     * @param init The event that triggers the start-up of this service.
+     * @param records The records of the seed file to load.
      */
+    @Override
     @Transactional
-    protected void onStartUp(@Observes LocationServiceInit init) throws SpaceStationRuntimeException {
+    public void loadInitialData(List<JsonObject> records) throws SpaceStationRuntimeException {
         try {
-            LOGGER.info(new LogBuilder("Initializing the space station service.").build());
-            loadSpaceStations();
-            LOGGER.info(new LogBuilder("The space station service is ready!").build());
-
-            event.fire(SpaceStationServiceInit.create());
-        } catch (IllegalArgumentException | ObserverException exception) {
-            LOGGER.warning(new LogBuilder(SpaceStationError.LOAD_INITIAL_DATA).withException(exception).build());
+            LOGGER.info(new LogBuilder("Initializing the space station service."));
+            loadSpaceStations(records);
+            LOGGER.info(new LogBuilder("The space station service is ready!"));
+        } catch (IllegalArgumentException exception) {
+            LOGGER.warning(new LogBuilder(SpaceStationError.LOAD_INITIAL_DATA).withException(exception));
             throw new SpaceStationRuntimeException(SpaceStationError.START_SERVICE, exception);
         }
     }
 
     /**
-     * Loads all initial {@link SpaceStation}s into the database.
+     * Loads the provided {@link SpaceStation} records into the database.
+     *
+     * @param records The records to load.
      */
-    private void loadSpaceStations() throws SpaceStationException {
-        try (JsonReader reader = Json.createReader(SpaceStationService.class.getResourceAsStream("/static/space-stations.json"))) {
-            List<SpaceStation> parsedSpaceStations = reader.readArray().stream().map(spaceStationJsonValue -> {
-                JsonObject spaceStationJson = spaceStationJsonValue.asJsonObject();
-
+    private void loadSpaceStations(List<JsonObject> records) throws SpaceStationException {
+        try {
+            List<SpaceStation> parsedSpaceStations = records.stream().map(spaceStationJson -> {
                 String id = spaceStationJson.getString("id");
                 String name = spaceStationJson.getString("name");
                 String code = spaceStationJson.getString("code");
@@ -91,9 +112,10 @@ public class SpaceStationService {
             }).collect(Collectors.toList());
 
             repository.save(parsedSpaceStations);
+            cache.invalidate();
             LOGGER.info(String.format("Created %d space stations.", parsedSpaceStations.size()));
         } catch (JsonException | NullPointerException | DomainException exception) {
-            LOGGER.warning(new LogBuilder(SpaceStationError.LOAD_INITIAL_DATA).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceStationError.LOAD_INITIAL_DATA).withException(exception));
             throw new SpaceStationException(SpaceStationError.LOAD_INITIAL_DATA, exception);
         }
     }
@@ -105,9 +127,9 @@ public class SpaceStationService {
      */
     public List<SpaceStation> getAll() throws SpaceStationException {
         try {
-            return repository.getAll();
+            return cache.getAll(repository::getAll);
         } catch (SpaceStationException exception) {
-            LOGGER.warning(new LogBuilder(SpaceStationError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(SpaceStationError.GET_ALL).withException(exception));
             throw exception;
         }
     }
@@ -120,9 +142,9 @@ public class SpaceStationService {
      */
     public Optional<SpaceStation> findById(String id) throws SpaceStationException {
         try {
-            return repository.findById(id);
+            return cache.findById(id, repository::findById);
         } catch (SpaceStationException exception) {
-            LOGGER.warning(new LogBuilder(SpaceStationError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(SpaceStationError.FIND_BY_ID).withException(exception).withProperty("id", id));
             throw exception;
         }
     }
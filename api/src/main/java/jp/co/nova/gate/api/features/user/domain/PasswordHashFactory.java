@@ -7,16 +7,38 @@ import org.mindrot.jbcrypt.BCrypt;
  */
 public class PasswordHashFactory {
 
-    private final String salt = BCrypt.gensalt();
+    /**
+     * The BCrypt cost factor used when no cost is provided, as the base 2 logarithm of the amount of hashing rounds.
+     */
+    public static final int DEFAULT_COST = 10;
+
+    /**
+     * The lowest BCrypt cost factor.
+     */
+    public static final int MIN_COST = 4;
+
+    /**
+     * The highest BCrypt cost factor.
+     */
+    public static final int MAX_COST = 31;
+
+    private final String salt;
 
     private final String rawPassword;
 
     public PasswordHashFactory(String rawPassword) throws IllegalArgumentException {
+        this(rawPassword, DEFAULT_COST);
+    }
+
+    public PasswordHashFactory(String rawPassword, int cost) throws IllegalArgumentException {
         if (rawPassword == null) {
             throw new IllegalArgumentException("The password is missing.");
+        } else if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException("The cost factor of the password hash is invalid.");
         }
 
         this.rawPassword = rawPassword;
+        this.salt = BCrypt.gensalt(cost);
     }
 
     /**
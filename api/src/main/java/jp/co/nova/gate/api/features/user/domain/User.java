@@ -17,8 +17,9 @@ import java.util.UUID;
 @Table(name = "users")
 @Access(AccessType.FIELD)
 @NamedQueries({
-        @NamedQuery(name = "User.selectById", query = "SELECT u FROM User u LEFT JOIN FETCH u.bookings b LEFT JOIN FETCH b.passengers WHERE u.id = :id"),
-        @NamedQuery(name = "User.selectByEmailAddress", query = "SELECT u FROM User u LEFT JOIN FETCH u.bookings b LEFT JOIN FETCH b.passengers WHERE u.emailAddress = :emailAddress")
+        @NamedQuery(name = "User.selectById", query = "SELECT u FROM User u WHERE u.id = :id"),
+        @NamedQuery(name = "User.selectByIdWithBookings", query = "SELECT u FROM User u LEFT JOIN FETCH u.bookings b LEFT JOIN FETCH b.passengers WHERE u.id = :id"),
+        @NamedQuery(name = "User.selectByEmailAddress", query = "SELECT u FROM User u WHERE u.emailAddress = :emailAddress")
 })
 public class User {
 
@@ -85,7 +86,7 @@ public class User {
     private String password;
 
     /**
-     * The bookings of the user.
+     * The bookings of the user. Only loaded on access, or up front by the User.selectByIdWithBookings query.
      */
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private Set<Booking> bookings = new HashSet<>();
@@ -11,12 +11,20 @@ public class UserCreationFactory {
 
     private final UserCreationForm creationForm;
 
-    public UserCreationFactory(UserCreationForm creationForm) throws IllegalArgumentException {
+    /**
+     * The password of the creation form, already hashed by a {@link PasswordHashFactory}.
+     */
+    private final String hashedPassword;
+
+    public UserCreationFactory(UserCreationForm creationForm, String hashedPassword) throws IllegalArgumentException {
         if (creationForm == null) {
             throw new IllegalArgumentException("The user creation form is missing.");
+        } else if (hashedPassword == null) {
+            throw new IllegalArgumentException("The hashed password of the new user is missing.");
         }
 
         this.creationForm = creationForm;
+        this.hashedPassword = hashedPassword;
     }
 
     /**
@@ -26,7 +34,6 @@ public class UserCreationFactory {
      */
     public User create() throws UserException {
         try {
-            String hashedPassword = new PasswordHashFactory(creationForm.password).hash();
             return User.create(creationForm.lastName, creationForm.firstName, creationForm.emailAddress, hashedPassword);
         } catch (IllegalArgumentException exception) {
             throw new UserException(UserError.CREATE);
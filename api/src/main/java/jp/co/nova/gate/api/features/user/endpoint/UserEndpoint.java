@@ -81,7 +81,7 @@ public class UserEndpoint {
                     .map(user -> Response.ok().entity(UserDto.create(user)).build())
                     .orElse(ResponseFactory.notFound().entity(new DomainErrorDtoBuilder(UserError.FIND_BY_REQUEST_CONTEXT).build()).build());
         } catch (UserException exception) {
-            LOGGER.warning(new LogBuilder(UserError.FIND_BY_REQUEST_CONTEXT).withException(exception).build());
+            LOGGER.warning(new LogBuilder(UserError.FIND_BY_REQUEST_CONTEXT).withException(exception));
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).build()).build();
         }
     }
@@ -113,7 +113,7 @@ public class UserEndpoint {
             List<BookingDto> userBookings = bookingService.getAllByUserId(userId).stream().map(BookingDto::create).toList();
             return Response.ok().entity(userBookings).build();
         } catch (DomainException exception) {
-            LOGGER.warning(new LogBuilder(UserError.FIND_BY_REQUEST_CONTEXT).withException(exception).build());
+            LOGGER.warning(new LogBuilder(UserError.FIND_BY_REQUEST_CONTEXT).withException(exception));
 
             if (exception.getKey().equals(AuthenticationError.FORBIDDEN.getKey())) {
                 return ResponseFactory.forbidden().entity(new DomainErrorDtoBuilder(exception).build()).build();
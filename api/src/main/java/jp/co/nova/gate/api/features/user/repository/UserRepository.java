@@ -6,6 +6,9 @@ import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.user.domain.User;
 import jp.co.nova.gate.api.features.user.exception.UserError;
 import jp.co.nova.gate.api.features.user.exception.UserException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.List;
@@ -15,6 +18,8 @@ import java.util.Optional;
  * The class for {@link User} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class UserRepository {
 
     // TODO: add a way to remove existing users
@@ -26,7 +31,7 @@ public class UserRepository {
     }
 
     /**
-     * Searches a {@link User} by its ID.
+     * Searches a {@link User} by its ID, without loading the bookings of the user.
      *
      * @param id The ID of the user to search for.
      * @return An {@link Optional} {@link User}.
@@ -41,7 +46,22 @@ public class UserRepository {
     }
 
     /**
-     * Searches a {@link User} by its email address.
+     * Searches a {@link User} by its ID, together with all bookings and passengers of the user.
+     *
+     * @param id The ID of the user to search for.
+     * @return An {@link Optional} {@link User}.
+     */
+    public Optional<User> findByIdWithBookings(String id) throws UserException {
+        try {
+            return entityManager.createNamedQuery("User.selectByIdWithBookings", User.class).setParameter("id", id).getResultStream().findFirst();
+        } catch (IllegalArgumentException | IllegalStateException | PersistenceException |
+                 NullPointerException exception) {
+            throw new UserException(UserError.FIND_BY_ID, exception);
+        }
+    }
+
+    /**
+     * Searches a {@link User} by its email address, without loading the bookings of the user.
      *
      * @param emailAddress The email address of the user to search for.
      * @return An {@link Optional} {@link User}.
@@ -102,10 +122,11 @@ public class UserRepository {
      * @param users The {@link List} of {@link User}s to save.
      * @return A {@link List} of persisted {@link User}s
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<User> save(List<User> users) throws UserException {
         try {
-            return users.stream().map(this::save).toList();
-        } catch (UserException exception) {
+            return BulkWriter.save(entityManager, User.class, User::getId, users);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new UserException(UserError.SAVE_LIST, exception);
         }
     }
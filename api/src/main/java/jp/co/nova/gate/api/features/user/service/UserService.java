@@ -8,7 +8,9 @@ import jp.co.nova.gate.api.features.user.exception.UserError;
 import jp.co.nova.gate.api.features.user.exception.UserException;
 import jp.co.nova.gate.api.features.user.input.UserCreationForm;
 import jp.co.nova.gate.api.features.user.repository.UserRepository;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.security.Principal;
 import java.util.Optional;
@@ -18,6 +20,8 @@ import java.util.logging.Logger;
  * A service class handling the {@link User} topic.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class UserService {
 
     private static final Logger LOGGER = Logger.getLogger(UserService.class.getName());
@@ -32,22 +36,22 @@ public class UserService {
     }
 
     /**
-     * Gets an {@link Optional} {@link User} for the provided ID.
+     * Gets an {@link Optional} {@link User} for the provided user principal, together with all bookings of the user.
      *
      * @param userPrincipal The user principal of the session.
      * @return An {@link Optional} {@link User}.
      */
     public Optional<User> findByUserPrincipal(Principal userPrincipal) throws UserException {
         try {
-            return repository.findById(userPrincipal.getName());
+            return repository.findByIdWithBookings(userPrincipal.getName());
         } catch (UserException exception) {
-            LOGGER.warning(new LogBuilder(UserError.FIND_BY_REQUEST_CONTEXT).withException(exception).build());
+            LOGGER.warning(new LogBuilder(UserError.FIND_BY_REQUEST_CONTEXT).withException(exception));
             throw exception;
         }
     }
 
     /**
-     * Gets an {@link Optional} {@link User} for the provided ID.
+     * Gets an {@link Optional} {@link User} for the provided ID, without loading the bookings of the user.
      *
      * @param id The ID to search with.
      * @return An {@link Optional} {@link User}.
@@ -56,13 +60,13 @@ public class UserService {
         try {
             return repository.findById(id);
         } catch (UserException exception) {
-            LOGGER.warning(new LogBuilder(UserError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(UserError.FIND_BY_ID).withException(exception).withProperty("id", id));
             throw exception;
         }
     }
 
     /**
-     * Gets an {@link Optional} {@link User} for the provided email address.
+     * Gets an {@link Optional} {@link User} for the provided email address, without loading the bookings of the user.
      *
      * @param emailAddress The email address to search with.
      * @return An {@link Optional} {@link User}.
@@ -71,7 +75,7 @@ public class UserService {
         try {
             return repository.findByEmailAddress(emailAddress);
         } catch (UserException exception) {
-            LOGGER.warning(new LogBuilder(UserError.FIND_BY_EMAIL_ADDRESS).withException(exception).withProperty("emailAddress", emailAddress).build());
+            LOGGER.warning(new LogBuilder(UserError.FIND_BY_EMAIL_ADDRESS).withException(exception).withProperty("emailAddress", emailAddress));
             throw exception;
         }
     }
@@ -79,18 +83,19 @@ public class UserService {
     /**
      * Returns a new {@link User} based on a {@link UserCreationForm}.
      *
-     * @param creationForm The base of the user.
+     * @param creationForm   The base of the user.
+     * @param hashedPassword The password of the creation form, already hashed.
      * @return A new {@link User}.
      */
-    public User create(UserCreationForm creationForm) throws UserException {
+    public User create(UserCreationForm creationForm, String hashedPassword) throws UserException {
         try {
-            User newUser = new UserCreationFactory(creationForm).create();
+            User newUser = new UserCreationFactory(creationForm, hashedPassword).create();
             newUser = repository.save(newUser);
 
-            LOGGER.info(new LogBuilder("Created a new user").withProperty("user.id", newUser.getId()).build());
+            LOGGER.info(new LogBuilder("Created a new user").withProperty("user.id", newUser.getId()));
             return newUser;
         } catch (UserException exception) {
-            LOGGER.warning(new LogBuilder(UserError.CREATE).withException(exception).build());
+            LOGGER.warning(new LogBuilder(UserError.CREATE).withException(exception));
             throw exception;
         }
     }
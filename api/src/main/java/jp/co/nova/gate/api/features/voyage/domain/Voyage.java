@@ -19,13 +19,25 @@ import java.util.UUID;
 @Table(name = "voyages")
 @Access(AccessType.FIELD)
 @NamedQueries({
-        @NamedQuery(name = "Voyage.selectAll", query = "SELECT v FROM Voyage v"),
-        @NamedQuery(name = "Voyage.selectAllByOriginId", query = "SELECT v FROM Voyage v WHERE v.route.origin.id = :originId"),
-        @NamedQuery(name = "Voyage.selectAllByDestinationId", query = "SELECT v FROM Voyage v WHERE v.route.destination.id = :destinationId"),
-        @NamedQuery(name = "Voyage.selectAllByOriginIdAndDestinationId", query = "SELECT v FROM Voyage v WHERE v.route.origin.id = :originId AND v.route.destination.id = :destinationId")
+        @NamedQuery(name = "Voyage.selectAll", query = Voyage.SELECT_WITH_ASSOCIATIONS),
+        @NamedQuery(name = "Voyage.selectAllByOriginId", query = Voyage.SELECT_WITH_ASSOCIATIONS + " WHERE o.id = :originId"),
+        @NamedQuery(name = "Voyage.selectAllByDestinationId", query = Voyage.SELECT_WITH_ASSOCIATIONS + " WHERE d.id = :destinationId"),
+        @NamedQuery(name = "Voyage.selectAllByOriginIdAndDestinationId", query = Voyage.SELECT_WITH_ASSOCIATIONS + " WHERE o.id = :originId AND d.id = :destinationId")
 })
 public class Voyage {
 
+    /**
+     * The JPQL selecting voyages together with every association needed to describe them, so that a list of voyages
+     * is loaded in a single statement. Conditions can use the aliases r (route), o (origin), d (destination),
+     * s (space shuttle) and m (space shuttle model).
+     */
+    public static final String SELECT_WITH_ASSOCIATIONS = "SELECT v FROM Voyage v"
+            + " JOIN FETCH v.route r"
+            + " JOIN FETCH r.origin o JOIN FETCH o.location"
+            + " JOIN FETCH r.destination d JOIN FETCH d.location"
+            + " JOIN FETCH r.shuttleModel"
+            + " JOIN FETCH v.spaceShuttle s JOIN FETCH s.model m";
+
     /**
      * Returns a new {@link Voyage}.
      *
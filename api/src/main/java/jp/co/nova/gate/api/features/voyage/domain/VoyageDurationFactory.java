@@ -1,12 +1,10 @@
 package jp.co.nova.gate.api.features.voyage.domain;
 
 import jp.co.nova.gate.api.features.route.domain.Route;
-import jp.co.nova.gate.api.features.route.domain.RouteDistanceFactory;
 import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttle;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
 
-import java.math.BigDecimal;
 import java.time.Duration;
 
 /**
@@ -30,7 +28,7 @@ public class VoyageDurationFactory {
     /**
      * The computed distance in kilometers for the provided route.
      */
-    private final BigDecimal routeDistance;
+    private final double routeDistance;
 
     /**
      * The space shuttle to calculate the duration with.
@@ -46,7 +44,7 @@ public class VoyageDurationFactory {
             }
 
             this.spaceShuttle = spaceShuttle;
-            this.routeDistance = RouteDistanceFactory.create(route).calculate();
+            this.routeDistance = route.getDistance();
         } catch (VoyageException exception) {
             throw new VoyageException(VoyageError.VOYAGE_DURATION_CALCULATION, exception);
         }
@@ -59,7 +57,7 @@ public class VoyageDurationFactory {
      */
     public Duration calculate() throws VoyageException {
         try {
-            long durationInHours = routeDistance.longValue() / spaceShuttle.getModel().getMaxSpeed();
+            long durationInHours = (long) routeDistance / spaceShuttle.getModel().getMaxSpeed();
             return Duration.ofHours(durationInHours);
         } catch (ArithmeticException exception) {
             throw new VoyageException(VoyageError.VOYAGE_DURATION_CALCULATION);
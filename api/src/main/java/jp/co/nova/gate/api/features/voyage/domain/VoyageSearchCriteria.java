@@ -0,0 +1,91 @@
+package jp.co.nova.gate.api.features.voyage.domain;
+
+import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
+import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * A POJO representing the filters, sort order and page of a voyage search. Every filter is optional.
+ */
+public class VoyageSearchCriteria {
+
+    /**
+     * The amount of voyages in a page when no limit is provided.
+     */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * The largest amount of voyages in a page.
+     */
+    public static final int MAX_LIMIT = 100;
+
+    private final ZonedDateTime departureFrom;
+    private final ZonedDateTime departureUntil;
+    private final VoyageStatus status;
+    private final String originId;
+    private final String destinationId;
+    private final String spaceShuttleModelId;
+    private final VoyageSortOrder sortOrder;
+    private final VoyageSearchCursor cursor;
+    private final int limit;
+
+    protected VoyageSearchCriteria(ZonedDateTime departureFrom, ZonedDateTime departureUntil, VoyageStatus status, String originId, String destinationId, String spaceShuttleModelId, VoyageSortOrder sortOrder, VoyageSearchCursor cursor, int limit) throws VoyageException {
+        if (sortOrder == null) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_SORT);
+        } else if (limit < 1 || limit > MAX_LIMIT) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_LIMIT);
+        } else if (departureFrom != null && departureUntil != null && !departureFrom.isBefore(departureUntil)) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_DEPARTURE_DATE);
+        } else if (cursor != null && cursor.getSortOrder() != sortOrder) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_CURSOR);
+        }
+
+        this.departureFrom = departureFrom;
+        this.departureUntil = departureUntil;
+        this.status = status;
+        this.originId = originId;
+        this.destinationId = destinationId;
+        this.spaceShuttleModelId = spaceShuttleModelId;
+        this.sortOrder = sortOrder;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    public Optional<ZonedDateTime> getDepartureFrom() {
+        return Optional.ofNullable(departureFrom);
+    }
+
+    public Optional<ZonedDateTime> getDepartureUntil() {
+        return Optional.ofNullable(departureUntil);
+    }
+
+    public Optional<VoyageStatus> getStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public Optional<String> getOriginId() {
+        return Optional.ofNullable(originId);
+    }
+
+    public Optional<String> getDestinationId() {
+        return Optional.ofNullable(destinationId);
+    }
+
+    public Optional<String> getSpaceShuttleModelId() {
+        return Optional.ofNullable(spaceShuttleModelId);
+    }
+
+    public VoyageSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public Optional<VoyageSearchCursor> getCursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
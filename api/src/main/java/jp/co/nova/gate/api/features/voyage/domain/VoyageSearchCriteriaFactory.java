@@ -0,0 +1,81 @@
+package jp.co.nova.gate.api.features.voyage.domain;
+
+import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
+import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+import jp.co.nova.gate.api.features.voyage.input.VoyageSearchForm;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * A POJO representing a factory creating {@link VoyageSearchCriteria} from a {@link VoyageSearchForm}.
+ */
+public class VoyageSearchCriteriaFactory {
+
+    private final VoyageSearchForm searchForm;
+
+    public VoyageSearchCriteriaFactory(VoyageSearchForm searchForm) throws VoyageException {
+        if (searchForm == null) {
+            throw new VoyageException(VoyageError.MISSING_SEARCH_FORM);
+        }
+
+        this.searchForm = searchForm;
+    }
+
+    /**
+     * Creates new {@link VoyageSearchCriteria}.
+     *
+     * @return A {@link VoyageSearchCriteria}.
+     * @throws VoyageException When any of the search parameters is invalid.
+     */
+    public VoyageSearchCriteria create() throws VoyageException {
+        try {
+            VoyageSortOrder sortOrder = isBlank(searchForm.sort)
+                    ? VoyageSortOrder.DEPARTURE_DATE
+                    : VoyageSortOrder.findByKey(searchForm.sort).orElseThrow(() -> new VoyageException(VoyageError.INVALID_SEARCH_SORT));
+
+            VoyageStatus status = isBlank(searchForm.status)
+                    ? null
+                    : VoyageStatus.findByKey(searchForm.status).orElseThrow(() -> new VoyageException(VoyageError.INVALID_SEARCH_STATUS));
+
+            VoyageSearchCursor cursor = isBlank(searchForm.cursor) ? null : VoyageSearchCursor.decode(searchForm.cursor);
+
+            return new VoyageSearchCriteria(
+                    parseDate(searchForm.departureFrom),
+                    parseDate(searchForm.departureUntil),
+                    status,
+                    blankToNull(searchForm.originId),
+                    blankToNull(searchForm.destinationId),
+                    blankToNull(searchForm.spaceShuttleModelId),
+                    sortOrder,
+                    cursor,
+                    Optional.ofNullable(searchForm.limit).orElse(VoyageSearchCriteria.DEFAULT_LIMIT)
+            );
+        } catch (VoyageException exception) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_CRITERIA, exception);
+        }
+    }
+
+    /**
+     * Parses an optional ISO-8601 date-time.
+     *
+     * @param value The date-time to parse.
+     * @return A {@link ZonedDateTime}, or null when no date-time was provided.
+     */
+    private ZonedDateTime parseDate(String value) throws VoyageException {
+        try {
+            return isBlank(value) ? null : ZonedDateTime.parse(value);
+        } catch (DateTimeParseException exception) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_DEPARTURE_DATE, exception);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String blankToNull(String value) {
+        return isBlank(value) ? null : value;
+    }
+}
@@ -0,0 +1,124 @@
+package jp.co.nova.gate.api.features.voyage.domain;
+
+import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
+import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * A POJO representing the position of the last {@link Voyage} of a page of a voyage search.
+ * <p>
+ * The next page continues right after this position, so a cursor stays valid when voyages are added or removed before
+ * it. It is handed to clients as an opaque, URL-safe token.
+ */
+public class VoyageSearchCursor {
+
+    /**
+     * The separator between the parts of an encoded cursor.
+     */
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Creates a {@link VoyageSearchCursor} pointing at the provided {@link Voyage}.
+     *
+     * @param sortOrder The sort order of the search.
+     * @param voyage    The last voyage of a page.
+     * @return A {@link VoyageSearchCursor}.
+     */
+    public static VoyageSearchCursor create(VoyageSortOrder sortOrder, Voyage voyage) throws VoyageException {
+        if (voyage == null) {
+            throw new VoyageException(VoyageError.MISSING);
+        }
+
+        return new VoyageSearchCursor(sortOrder, sortOrder.getValue(voyage), voyage.getId());
+    }
+
+    /**
+     * Decodes a {@link VoyageSearchCursor} from a token created by {@link #encode()}.
+     *
+     * @param token The encoded cursor.
+     * @return A {@link VoyageSearchCursor}.
+     * @throws VoyageException When the token is not a valid cursor.
+     */
+    public static VoyageSearchCursor decode(String token) throws VoyageException {
+        try {
+            String decodedToken = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decodedToken.split("\\" + SEPARATOR, -1);
+
+            if (parts.length != 3) {
+                throw new VoyageException(VoyageError.INVALID_SEARCH_CURSOR);
+            }
+
+            VoyageSortOrder sortOrder = VoyageSortOrder.findByKey(parts[0]).orElseThrow(() -> new VoyageException(VoyageError.INVALID_SEARCH_CURSOR));
+
+            return new VoyageSearchCursor(sortOrder, ZonedDateTime.parse(parts[1]), parts[2]);
+        } catch (VoyageException exception) {
+            throw exception;
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_CURSOR, exception);
+        }
+    }
+
+    /**
+     * The sort order of the search the cursor belongs to.
+     */
+    private final VoyageSortOrder sortOrder;
+
+    /**
+     * The sorted value of the last voyage.
+     */
+    private final ZonedDateTime value;
+
+    /**
+     * The ID of the last voyage.
+     */
+    private final String voyageId;
+
+    protected VoyageSearchCursor(VoyageSortOrder sortOrder, ZonedDateTime value, String voyageId) throws VoyageException {
+        if (sortOrder == null || value == null || voyageId == null || voyageId.isBlank()) {
+            throw new VoyageException(VoyageError.INVALID_SEARCH_CURSOR);
+        }
+
+        this.sortOrder = sortOrder;
+        this.value = value;
+        this.voyageId = voyageId;
+    }
+
+    public VoyageSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public ZonedDateTime getValue() {
+        return value;
+    }
+
+    public String getVoyageId() {
+        return voyageId;
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return The encoded cursor.
+     */
+    public String encode() {
+        String token = String.join(SEPARATOR, sortOrder.getKey(), value.toOffsetDateTime().toString(), voyageId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        VoyageSearchCursor that = (VoyageSearchCursor) o;
+        return sortOrder == that.sortOrder && Objects.equals(value, that.value) && Objects.equals(voyageId, that.voyageId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortOrder, value, voyageId);
+    }
+}
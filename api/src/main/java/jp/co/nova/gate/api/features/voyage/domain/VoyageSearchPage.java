@@ -0,0 +1,59 @@
+package jp.co.nova.gate.api.features.voyage.domain;
+
+import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
+import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A POJO representing one page of {@link Voyage}s found by a voyage search.
+ */
+public class VoyageSearchPage {
+
+    /**
+     * Creates a {@link VoyageSearchPage} from the voyages found for the provided {@link VoyageSearchCriteria}. The
+     * search is expected to have fetched one voyage more than the limit, which only tells whether a next page exists.
+     *
+     * @param criteria     The criteria of the search.
+     * @param foundVoyages The voyages found by the search, at most one more than the limit.
+     * @return A {@link VoyageSearchPage}.
+     */
+    public static VoyageSearchPage create(VoyageSearchCriteria criteria, List<Voyage> foundVoyages) throws VoyageException {
+        if (criteria == null) {
+            throw new VoyageException(VoyageError.MISSING_SEARCH_FORM);
+        } else if (foundVoyages == null) {
+            throw new VoyageException(VoyageError.MISSING);
+        }
+
+        if (foundVoyages.size() <= criteria.getLimit()) {
+            return new VoyageSearchPage(List.copyOf(foundVoyages), null);
+        }
+
+        List<Voyage> pageVoyages = List.copyOf(foundVoyages.subList(0, criteria.getLimit()));
+        return new VoyageSearchPage(pageVoyages, VoyageSearchCursor.create(criteria.getSortOrder(), pageVoyages.getLast()));
+    }
+
+    /**
+     * The voyages of the page.
+     */
+    private final List<Voyage> voyages;
+
+    /**
+     * The cursor of the next page, if there is any.
+     */
+    private final VoyageSearchCursor nextCursor;
+
+    protected VoyageSearchPage(List<Voyage> voyages, VoyageSearchCursor nextCursor) {
+        this.voyages = voyages;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Voyage> getVoyages() {
+        return voyages;
+    }
+
+    public Optional<VoyageSearchCursor> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,88 @@
+package jp.co.nova.gate.api.features.voyage.domain;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The order of the {@link Voyage}s in a voyage search. Ties are always broken by the voyage ID, so that every voyage
+ * has a unique position to continue a search from.
+ */
+public enum VoyageSortOrder {
+    /**
+     * The earliest departure date first.
+     */
+    DEPARTURE_DATE("departureDate", "departureDate", true, Voyage::getDepartureDate),
+    /**
+     * The latest departure date first.
+     */
+    DEPARTURE_DATE_DESCENDING("-departureDate", "departureDate", false, Voyage::getDepartureDate),
+    /**
+     * The earliest arrival date first.
+     */
+    ARRIVAL_DATE("arrivalDate", "arrivalDate", true, Voyage::getArrivalDate),
+    /**
+     * The latest arrival date first.
+     */
+    ARRIVAL_DATE_DESCENDING("-arrivalDate", "arrivalDate", false, Voyage::getArrivalDate);
+
+    /**
+     * Searches a {@link VoyageSortOrder} by its key.
+     *
+     * @param key The key to search a sort order with.
+     * @return An {@link Optional} {@link VoyageSortOrder}.
+     */
+    public static Optional<VoyageSortOrder> findByKey(String key) {
+        return Arrays.stream(VoyageSortOrder.values()).filter(sortOrder -> sortOrder.key.equals(key)).findFirst();
+    }
+
+    /**
+     * The key of the sort order.
+     */
+    private final String key;
+
+    /**
+     * The name of the sorted {@link Voyage} attribute in JPQL.
+     */
+    private final String attribute;
+
+    /**
+     * Whether the voyages are sorted from low to high.
+     */
+    private final boolean ascending;
+
+    /**
+     * Reads the sorted value from a {@link Voyage}.
+     */
+    private final Function<Voyage, ZonedDateTime> valueReader;
+
+    VoyageSortOrder(String key, String attribute, boolean ascending, Function<Voyage, ZonedDateTime> valueReader) {
+        this.key = key;
+        this.attribute = attribute;
+        this.ascending = ascending;
+        this.valueReader = valueReader;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * Returns the sorted value of the provided {@link Voyage}.
+     *
+     * @param voyage The voyage to read the value of.
+     * @return A {@link ZonedDateTime}.
+     */
+    public ZonedDateTime getValue(Voyage voyage) {
+        return valueReader.apply(voyage);
+    }
+}
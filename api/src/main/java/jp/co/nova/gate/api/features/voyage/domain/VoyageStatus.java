@@ -1,5 +1,8 @@
 package jp.co.nova.gate.api.features.voyage.domain;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 /**
  * The status of a {@link Voyage}.
  */
@@ -62,6 +65,16 @@ public enum VoyageStatus {
      */
     public final static String LABEL_PREFIX = "voyageStatus";
 
+    /**
+     * Searches a {@link VoyageStatus} by its key.
+     *
+     * @param key The key to search a voyage status with.
+     * @return An {@link Optional} {@link VoyageStatus}.
+     */
+    public static Optional<VoyageStatus> findByKey(String key) {
+        return Arrays.stream(VoyageStatus.values()).filter(status -> status.key.equals(key)).findFirst();
+    }
+
     /**
      * The key for the status.
      */
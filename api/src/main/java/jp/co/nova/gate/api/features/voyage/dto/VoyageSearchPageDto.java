@@ -0,0 +1,54 @@
+package jp.co.nova.gate.api.features.voyage.dto;
+
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSearchCursor;
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSearchPage;
+import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
+import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+
+import static jp.co.nova.gate.api.shared.openApi.Examples.VOYAGE_SEARCH_CURSOR_EXAMPLE;
+
+/**
+ * A POJO representing a DTO of a {@link VoyageSearchPage}.
+ */
+@Schema(name = "VoyageSearchPage", description = "One page of the voyages matching a voyage search.")
+public class VoyageSearchPageDto {
+    /**
+     * Returns a new {@link VoyageSearchPageDto} based on a {@link VoyageSearchPage}.
+     *
+     * @param page The base {@link VoyageSearchPage}.
+     * @return A new {@link VoyageSearchPageDto}.
+     */
+    public static VoyageSearchPageDto create(VoyageSearchPage page) throws VoyageException {
+        if (page == null) {
+            throw new VoyageException(VoyageError.MISSING);
+        }
+
+        return new VoyageSearchPageDto(
+                page.getVoyages().stream().map(VoyageBasicDto::create).toList(),
+                page.getNextCursor().map(VoyageSearchCursor::encode).orElse(null)
+        );
+    }
+
+    /**
+     * The voyages of the page.
+     */
+    @Schema(description = "The voyages of the page.", required = true)
+    public List<VoyageBasicDto> voyages;
+
+    /**
+     * The cursor of the next page, if there is any.
+     */
+    @Schema(description = "The cursor to pass to get the next page. Missing on the last page.", example = VOYAGE_SEARCH_CURSOR_EXAMPLE)
+    public String nextCursor;
+
+    protected VoyageSearchPageDto() {
+    }
+
+    protected VoyageSearchPageDto(List<VoyageBasicDto> voyages, String nextCursor) {
+        this.voyages = voyages;
+        this.nextCursor = nextCursor;
+    }
+}
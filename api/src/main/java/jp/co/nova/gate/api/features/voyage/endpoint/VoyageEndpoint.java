@@ -3,20 +3,29 @@ package jp.co.nova.gate.api.features.voyage.endpoint;
 import jakarta.annotation.security.PermitAll;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 import jp.co.nova.gate.api.features.pod.domain.Pod;
 import jp.co.nova.gate.api.features.pod.dto.PodDto;
+import jp.co.nova.gate.api.features.pod.service.PodAvailabilityBroadcaster;
 import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
 import jp.co.nova.gate.api.features.voyage.domain.Voyage;
 import jp.co.nova.gate.api.features.voyage.dto.VoyageBasicDto;
 import jp.co.nova.gate.api.features.voyage.dto.VoyageDto;
+import jp.co.nova.gate.api.features.voyage.dto.VoyageSearchPageDto;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+import jp.co.nova.gate.api.features.voyage.input.VoyageSearchForm;
 import jp.co.nova.gate.api.features.voyage.service.VoyageService;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.api.shared.exception.DomainErrorDtoBuilder;
@@ -52,6 +61,9 @@ public class VoyageEndpoint {
     @Inject
     private VoyageService voyageService;
 
+    @Inject
+    private PodAvailabilityBroadcaster podAvailabilityBroadcaster;
+
     protected VoyageEndpoint() {
     }
 
@@ -73,11 +85,41 @@ public class VoyageEndpoint {
             List<VoyageBasicDto> voyages = voyageService.getAll().stream().map(VoyageBasicDto::create).toList();
             return Response.ok().entity(voyages).build();
         } catch (VoyageException exception) {
-            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL).withException(exception));
             return Response.serverError().entity(DomainErrorDto.create(exception)).build();
         }
     }
 
+    /**
+     * Returns one page of the space voyages matching the provided search parameters.
+     *
+     * @param searchForm The filters, sort order and page to search with.
+     * @return A {@link VoyageSearchPageDto}.
+     */
+    @Path("search")
+    @GET
+    @PermitAll
+    @Operation(summary = "Searches space voyages.", description = "Gives one page of the space voyages matching the provided filters, in the provided sort order. Pass the next page cursor of a response to get the following page.")
+    @APIResponses({
+            @APIResponse(description = "A page of space voyages.", responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = VoyageSearchPageDto.class))),
+            @APIResponse(description = "The search parameters are invalid.", responseCode = "400", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
+    })
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response searchVoyages(@BeanParam VoyageSearchForm searchForm) {
+        try {
+            return Response.ok().entity(VoyageSearchPageDto.create(voyageService.search(searchForm))).build();
+        } catch (VoyageException exception) {
+            LOGGER.warning(new LogBuilder(VoyageError.SEARCH).withException(exception));
+
+            if (exception.getKey().equals(VoyageError.INVALID_SEARCH_CRITERIA.getKey())) {
+                return ResponseFactory.badRequest().entity(new DomainErrorDtoBuilder(exception).withCause().build()).build();
+            } else {
+                return Response.serverError().entity(DomainErrorDto.create(exception)).build();
+            }
+        }
+    }
+
     /**
      * Returns an {@link Optional} {@link Voyage} matching the provided ID.
      *
@@ -104,7 +146,6 @@ public class VoyageEndpoint {
                     new LogBuilder(VoyageError.FIND_BY_ID)
                             .withException(exception)
                             .withProperty("id", id)
-                            .build()
             );
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
         }
@@ -135,7 +176,6 @@ public class VoyageEndpoint {
                     new LogBuilder(VoyageError.GET_ALL_BY_ORIGIN_ID)
                             .withException(exception)
                             .withProperty("originId", originId)
-                            .build()
             );
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("originId", originId).build()).build();
         }
@@ -166,7 +206,6 @@ public class VoyageEndpoint {
                     new LogBuilder(VoyageError.GET_ALL_BY_DESTINATION_ID)
                             .withException(exception)
                             .withProperty("destinationId", destinationId)
-                            .build()
             );
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("destinationId", destinationId).build()).build();
         }
@@ -201,7 +240,6 @@ public class VoyageEndpoint {
                             .withException(exception)
                             .withProperty("originId", originId)
                             .withProperty("destinationId", destinationId)
-                            .build()
             );
             return Response.serverError().entity(
                     new DomainErrorDtoBuilder(exception)
@@ -238,9 +276,56 @@ public class VoyageEndpoint {
                     new LogBuilder(VoyageError.GET_ALL_PODS_BY_VOYAGE_ID)
                             .withException(exception)
                             .withProperty("id", id)
-                            .build()
             );
             return Response.serverError().entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build()).build();
         }
     }
+
+    /**
+     * Streams the pod availability of the voyage matching the provided ID as server-sent events: a {@code pods} event
+     * with all pods first, followed by a {@code podStatus} event with the new status by pod code whenever pods are
+     * reserved or released.
+     *
+     * @param id        The ID to search with for a voyage.
+     * @param sse       The server-sent events factory.
+     * @param eventSink The event sink of the client.
+     */
+    @Path("{id}/pods/stream")
+    @GET
+    @PermitAll
+    @Operation(summary = "Streams the pod availability of the voyage matching the provided ID.", description = "Sends all pods for the voyage matching the provided ID, followed by every change of their status.")
+    @Parameter(name = "id", description = "The ID of a space voyage.", example = VOYAGE_ID_EXAMPLE)
+    @APIResponses({
+            @APIResponse(description = "A stream of pods and pod status changes.", responseCode = "200", content = @Content(mediaType = MediaType.SERVER_SENT_EVENTS, schema = @Schema(implementation = PodDto.class))),
+            @APIResponse(description = "The voyage was not found.", responseCode = "404", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class))),
+            @APIResponse(description = "Something went wrong.", responseCode = "500", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = DomainErrorDto.class)))
+    })
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void streamVoyagePods(@PathParam("id") String id, @Context Sse sse, @Context SseEventSink eventSink) {
+        try {
+            Voyage voyage = voyageService.findById(id).orElseThrow(() -> new NotFoundException(
+                    ResponseFactory.notFound()
+                            .type(MediaType.APPLICATION_JSON_TYPE)
+                            .entity(new DomainErrorDtoBuilder(VoyageError.FIND_BY_ID).withProperty("id", id).build())
+                            .build()
+            ));
+
+            // Builds the pod availability of the voyage right away, so that its stream never waits on the database
+            voyageService.getAllPodsByVoyage(voyage);
+
+            podAvailabilityBroadcaster.subscribe(voyage.getId(), sse, eventSink, () -> voyageService.getAllPodsByVoyage(voyage));
+        } catch (VoyageException exception) {
+            LOGGER.warning(
+                    new LogBuilder(VoyageError.GET_ALL_PODS_BY_VOYAGE_ID)
+                            .withException(exception)
+                            .withProperty("id", id)
+            );
+            throw new InternalServerErrorException(
+                    Response.serverError()
+                            .type(MediaType.APPLICATION_JSON_TYPE)
+                            .entity(new DomainErrorDtoBuilder(exception).withProperty("id", id).build())
+                            .build()
+            );
+        }
+    }
 }
@@ -28,6 +28,14 @@ public enum VoyageError implements DomainError {
     GET_ALL_BY_ORIGIN_ID("voyage.getAllByOriginId", "Failed to get all voyages with the provided origin ID."),
     GET_ALL_BY_DESTINATION_ID("voyage.getAllByDestinationId", "Failed to get all voyages with the provided destination ID."),
     GET_ALL_BY_ORIGIN_ID_AND_DESTINATION_ID("voyage.getAllByOriginIdAndDestinationId", "Failed to get all voyages with the provided origin ID and destination ID."),
+    SEARCH("voyage.search", "Failed to search voyages."),
+    INVALID_SEARCH_CRITERIA("voyage.invalidSearchCriteria", "The voyage search criteria are invalid."),
+    MISSING_SEARCH_FORM("voyage.missingSearchForm", "The voyage search form is missing."),
+    INVALID_SEARCH_DEPARTURE_DATE("voyage.invalidSearchDepartureDate", "The departure date range of the voyage search is not a valid ISO-8601 date range."),
+    INVALID_SEARCH_STATUS("voyage.invalidSearchStatus", "The voyage status of the voyage search is unknown."),
+    INVALID_SEARCH_SORT("voyage.invalidSearchSort", "The sort order of the voyage search is unknown."),
+    INVALID_SEARCH_LIMIT("voyage.invalidSearchLimit", "The page size of the voyage search is out of range."),
+    INVALID_SEARCH_CURSOR("voyage.invalidSearchCursor", "The cursor of the voyage search is invalid."),
     GET_ALL_PODS_BY_VOYAGE("voyage.getAllPodsByVoyage", "Failed to get all pods of the voyage matching the provided voyage."),
     GET_ALL_PODS_BY_VOYAGE_ID("voyage.getAllPodsByVoyageId", "Failed to get all pods of the voyage matching the provided voyage ID."),
     SAVE("voyage.save", "Failed to save a voyage."),
@@ -0,0 +1,78 @@
+package jp.co.nova.gate.api.features.voyage.input;
+
+import jakarta.ws.rs.QueryParam;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+
+import static jp.co.nova.gate.api.shared.openApi.Examples.*;
+
+/**
+ * A POJO representing the query parameters of a voyage search.
+ */
+public class VoyageSearchForm {
+
+    /**
+     * The earliest departure date of the voyages, inclusive.
+     */
+    @QueryParam("departureFrom")
+    @Parameter(description = "The earliest departure date of the voyages, inclusive, as an ISO-8601 date-time.", example = VOYAGE_DEPARTURE_DATE_EXAMPLE)
+    public String departureFrom;
+
+    /**
+     * The latest departure date of the voyages, exclusive.
+     */
+    @QueryParam("departureUntil")
+    @Parameter(description = "The latest departure date of the voyages, exclusive, as an ISO-8601 date-time.", example = VOYAGE_ARRIVAL_DATE_EXAMPLE)
+    public String departureUntil;
+
+    /**
+     * The key of the status of the voyages.
+     */
+    @QueryParam("status")
+    @Parameter(description = "The key of the status of the voyages.", example = VOYAGE_STATUS_KEY_EXAMPLE)
+    public String status;
+
+    /**
+     * The ID of the origin space station of the voyages.
+     */
+    @QueryParam("originId")
+    @Parameter(description = "The ID of the origin space station of the voyages.", example = SPACE_STATION_ORIGIN_ID_EXAMPLE)
+    public String originId;
+
+    /**
+     * The ID of the destination space station of the voyages.
+     */
+    @QueryParam("destinationId")
+    @Parameter(description = "The ID of the destination space station of the voyages.", example = SPACE_STATION_DESTINATION_ID_EXAMPLE)
+    public String destinationId;
+
+    /**
+     * The ID of the space shuttle model of the voyages.
+     */
+    @QueryParam("spaceShuttleModelId")
+    @Parameter(description = "The ID of the space shuttle model of the voyages.", example = SPACE_SHUTTLE_MODEL_ID_EXAMPLE)
+    public String spaceShuttleModelId;
+
+    /**
+     * The key of the sort order of the voyages.
+     */
+    @QueryParam("sort")
+    @Parameter(description = "The sort order of the voyages: departureDate, -departureDate, arrivalDate or -arrivalDate. Defaults to departureDate.", example = VOYAGE_SEARCH_SORT_EXAMPLE)
+    public String sort;
+
+    /**
+     * The maximum amount of voyages in a page.
+     */
+    @QueryParam("limit")
+    @Parameter(description = "The maximum amount of voyages in a page, from 1 to 100. Defaults to 20.", example = VOYAGE_SEARCH_LIMIT_EXAMPLE)
+    public Integer limit;
+
+    /**
+     * The cursor of the page to continue from.
+     */
+    @QueryParam("cursor")
+    @Parameter(description = "The next page cursor of a previous search with the same sort order.", example = VOYAGE_SEARCH_CURSOR_EXAMPLE)
+    public String cursor;
+
+    public VoyageSearchForm() {
+    }
+}
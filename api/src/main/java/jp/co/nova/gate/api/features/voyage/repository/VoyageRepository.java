@@ -2,17 +2,24 @@ package jp.co.nova.gate.api.features.voyage.repository;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.*;
+import jakarta.transaction.Transactional;
 import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSearchCriteria;
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSortOrder;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+import jp.co.nova.gate.api.shared.repository.BulkWriter;
+import jp.co.nova.gate.api.shared.tracing.Traced;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * The class for {@link Voyage} DB actions.
  */
 @ApplicationScoped
+@Timed
+@Traced
 public class VoyageRepository {
 
     @PersistenceContext(unitName = "domain")
@@ -105,6 +112,72 @@ public class VoyageRepository {
         }
     }
 
+    /**
+     * Returns a {@link List} of {@link Voyage}s matching the provided {@link VoyageSearchCriteria}, sorted by the
+     * database and starting right after the cursor of the criteria. One voyage more than the limit of the criteria is
+     * returned, to tell whether a next page exists.
+     *
+     * @param criteria The criteria to search with.
+     * @return A {@link List} of {@link Voyage}s.
+     */
+    public List<Voyage> search(VoyageSearchCriteria criteria) throws VoyageException {
+        try {
+            VoyageSortOrder sortOrder = criteria.getSortOrder();
+            String sortAttribute = "v." + sortOrder.getAttribute();
+            String direction = sortOrder.isAscending() ? "ASC" : "DESC";
+
+            List<String> conditions = new ArrayList<>();
+            Map<String, Object> parameters = new HashMap<>();
+
+            criteria.getDepartureFrom().ifPresent(departureFrom -> {
+                conditions.add("v.departureDate >= :departureFrom");
+                parameters.put("departureFrom", departureFrom);
+            });
+            criteria.getDepartureUntil().ifPresent(departureUntil -> {
+                conditions.add("v.departureDate < :departureUntil");
+                parameters.put("departureUntil", departureUntil);
+            });
+            criteria.getStatus().ifPresent(status -> {
+                conditions.add("v.status = :status");
+                parameters.put("status", status);
+            });
+            criteria.getOriginId().ifPresent(originId -> {
+                conditions.add("o.id = :originId");
+                parameters.put("originId", originId);
+            });
+            criteria.getDestinationId().ifPresent(destinationId -> {
+                conditions.add("d.id = :destinationId");
+                parameters.put("destinationId", destinationId);
+            });
+            criteria.getSpaceShuttleModelId().ifPresent(spaceShuttleModelId -> {
+                conditions.add("m.id = :spaceShuttleModelId");
+                parameters.put("spaceShuttleModelId", spaceShuttleModelId);
+            });
+            criteria.getCursor().ifPresent(cursor -> {
+                String comparison = sortOrder.isAscending() ? ">" : "<";
+                conditions.add(String.format("(%1$s %2$s :cursorValue OR (%1$s = :cursorValue AND v.id %2$s :cursorId))", sortAttribute, comparison));
+                parameters.put("cursorValue", cursor.getValue());
+                parameters.put("cursorId", cursor.getVoyageId());
+            });
+
+            StringBuilder query = new StringBuilder(Voyage.SELECT_WITH_ASSOCIATIONS);
+
+            if (!conditions.isEmpty()) {
+                query.append(" WHERE ").append(String.join(" AND ", conditions));
+            }
+
+            query.append(String.format(" ORDER BY %s %s, v.id %s", sortAttribute, direction, direction));
+
+            TypedQuery<Voyage> typedQuery = entityManager.createQuery(query.toString(), Voyage.class);
+            parameters.forEach(typedQuery::setParameter);
+
+            return typedQuery.setMaxResults(criteria.getLimit() + 1).getResultList();
+        } catch (IllegalArgumentException | IllegalStateException | PersistenceException |
+                 NullPointerException exception) {
+            throw new VoyageException(VoyageError.SEARCH, exception);
+        }
+    }
+
     /**
      * Persists a {@link Voyage}.
      *
@@ -144,10 +217,11 @@ public class VoyageRepository {
      * @param voyages The list of voyages to persist.
      * @return A persisted {@link List} of {@link Voyage}s.
      */
+    @Transactional(Transactional.TxType.REQUIRED)
     public List<Voyage> save(List<Voyage> voyages) throws VoyageException {
         try {
-            return voyages.stream().map(this::save).toList();
-        } catch (VoyageException exception) {
+            return BulkWriter.save(entityManager, Voyage.class, Voyage::getId, voyages);
+        } catch (IllegalArgumentException | PersistenceException exception) {
             throw new VoyageException(VoyageError.SAVE_LIST, exception);
         }
     }
@@ -1,35 +1,36 @@
 package jp.co.nova.gate.api.features.voyage.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-import jakarta.json.Json;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonReader;
-import jp.co.nova.gate.api.features.location.exception.LocationError;
+import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.application.startup.InitialDataLoader;
+import jp.co.nova.gate.api.application.startup.StartUpStage;
 import jp.co.nova.gate.api.features.pod.domain.Pod;
-import jp.co.nova.gate.api.features.pod.domain.PodReservation;
 import jp.co.nova.gate.api.features.pod.service.PodReservationService;
 import jp.co.nova.gate.api.features.route.domain.Route;
-import jp.co.nova.gate.api.features.route.events.RouteServiceInit;
 import jp.co.nova.gate.api.features.route.exception.RouteError;
 import jp.co.nova.gate.api.features.route.exception.RouteException;
 import jp.co.nova.gate.api.features.route.service.RouteService;
 import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttle;
-import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleServiceInit;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleError;
 import jp.co.nova.gate.api.features.spaceShuttle.exception.SpaceShuttleException;
 import jp.co.nova.gate.api.features.spaceShuttle.service.SpaceShuttleService;
-import jp.co.nova.gate.api.features.spaceShuttleModel.service.SpaceShuttleModelService;
 import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSearchCriteria;
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSearchCriteriaFactory;
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSearchPage;
 import jp.co.nova.gate.api.features.voyage.domain.VoyageStatus;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
 import jp.co.nova.gate.api.features.voyage.exception.VoyageRuntimeException;
+import jp.co.nova.gate.api.features.voyage.input.VoyageSearchForm;
 import jp.co.nova.gate.api.features.voyage.repository.VoyageRepository;
 import jp.co.nova.gate.api.shared.exception.DomainException;
+import jp.co.nova.gate.api.shared.tracing.Traced;
 import jp.co.nova.gate.api.shared.util.LogBuilder;
+import org.eclipse.microprofile.metrics.annotation.Timed;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -41,7 +42,9 @@ import java.util.stream.Collectors;
  * A service class handling the {@link Voyage} topic.
  */
 @ApplicationScoped
-public class VoyageService {
+@Timed
+@Traced
+public class VoyageService implements InitialDataLoader {
 
     private static final Logger LOGGER = Logger.getLogger(VoyageService.class.getName());
 
@@ -57,74 +60,40 @@ public class VoyageService {
     @Inject
     private PodReservationService podReservationService;
 
-    /**
-     * Is the {@link SpaceShuttleModelService} ready to be used?
-     */
-    private boolean isSpaceShuttleServiceReady;
-
-    /**
-     * Is the {@link RouteService} ready to be used?
-     */
-    private boolean isRouteServiceReady;
-
     protected VoyageService() {
     }
 
-    protected void onStartUp(@Observes SpaceShuttleServiceInit spaceShuttleServiceInit) throws VoyageRuntimeException {
-        try {
-            isSpaceShuttleServiceReady = true;
-
-            if (isReadyToBeInitialized()) {
-                initialize();
-            }
-        } catch (Exception exception) {
-            LOGGER.severe(new LogBuilder(LocationError.START_SERVICE).withException(exception).build());
-            throw new VoyageRuntimeException(VoyageError.START_SERVICE, exception);
-        }
+    @Override
+    public StartUpStage getStage() {
+        return StartUpStage.VOYAGES;
     }
 
-    protected void onStartUp(@Observes RouteServiceInit routeServiceInit) throws VoyageRuntimeException {
+    /**
+     * Initializes the {@link VoyageService} by loading the initial data into the database.
+     *
+     * @param records The records of the seed file to load.
+     */
+    @Override
+    @Transactional
+    public void loadInitialData(List<JsonObject> records) throws VoyageRuntimeException {
         try {
-            isRouteServiceReady = true;
-
-            if (isReadyToBeInitialized()) {
-                initialize();
-            }
+            LOGGER.info(new LogBuilder("Initializing the voyage service."));
+            loadVoyages(records);
+            LOGGER.info(new LogBuilder("The voyage service is ready!"));
         } catch (DomainException exception) {
-            LOGGER.severe(new LogBuilder(LocationError.START_SERVICE).withException(exception).build());
+            LOGGER.severe(new LogBuilder(VoyageError.START_SERVICE).withException(exception));
             throw new VoyageRuntimeException(VoyageError.START_SERVICE, exception);
         }
     }
 
     /**
-     * @return True when the dependency services have been initialized, false otherwise.
-     */
-    private boolean isReadyToBeInitialized() {
-        return isRouteServiceReady && isSpaceShuttleServiceReady;
-    }
-
-    /**
-     * Initializes this service.
+     * Loads the provided {@link Voyage} records into the database.
+     *
+     * @param records The records to load.
      */
-    private void initialize() throws VoyageException {
+    private void loadVoyages(List<JsonObject> records) throws VoyageException {
         try {
-            LOGGER.info(new LogBuilder("Initializing the voyage service.").build());
-            loadVoyages();
-            LOGGER.info(new LogBuilder("The voyage service is ready!").build());
-        } catch (VoyageException exception) {
-            LOGGER.warning(new LogBuilder(VoyageError.START_SERVICE).withException(exception).build());
-            throw new VoyageException(VoyageError.START_SERVICE, exception);
-        }
-    }
-
-    /**
-     * Loads the initial {@link Voyage}s into the database.
-     */
-    private void loadVoyages() throws VoyageException {
-        try (JsonReader reader = Json.createReader(VoyageService.class.getResourceAsStream("/static/voyages.json"))) {
-            List<Voyage> parsedVoyages = reader.readArray().stream().map(voyageJsonValue -> {
-                JsonObject voyageJson = voyageJsonValue.asJsonObject();
-
+            List<Voyage> parsedVoyages = records.stream().map(voyageJson -> {
                 String id = voyageJson.getString("id");
                 ZonedDateTime departureDate = ZonedDateTime.parse(voyageJson.getString("departureDate"));
                 ZonedDateTime arrivalDate = ZonedDateTime.parse(voyageJson.getString("arrivalDate"));
@@ -141,9 +110,9 @@ public class VoyageService {
             }).collect(Collectors.toList());
 
             repository.save(parsedVoyages);
-            LOGGER.info(new LogBuilder(String.format("Created %d voyages.", parsedVoyages.size())).build());
+            LOGGER.info(new LogBuilder(String.format("Created %d voyages.", parsedVoyages.size())));
         } catch (JsonException | NullPointerException | DomainException exception) {
-            LOGGER.warning(new LogBuilder(VoyageError.LOAD_INITIAL_DATA).withException(exception).build());
+            LOGGER.warning(new LogBuilder(VoyageError.LOAD_INITIAL_DATA).withException(exception));
             throw new VoyageException(VoyageError.LOAD_INITIAL_DATA, exception);
         }
     }
@@ -157,7 +126,7 @@ public class VoyageService {
         try {
             return repository.getAll();
         } catch (VoyageException exception) {
-            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL).withException(exception).build());
+            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL).withException(exception));
             throw exception;
         }
     }
@@ -172,7 +141,7 @@ public class VoyageService {
         try {
             return repository.findById(id);
         } catch (VoyageException exception) {
-            LOGGER.warning(new LogBuilder(VoyageError.FIND_BY_ID).withException(exception).withProperty("id", id).build());
+            LOGGER.warning(new LogBuilder(VoyageError.FIND_BY_ID).withException(exception).withProperty("id", id));
             throw exception;
         }
     }
@@ -187,7 +156,7 @@ public class VoyageService {
         try {
             return repository.getAllVoyagesByOriginId(originId);
         } catch (VoyageException exception) {
-            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL_BY_ORIGIN_ID).withException(exception).withProperty("originId", originId).build());
+            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL_BY_ORIGIN_ID).withException(exception).withProperty("originId", originId));
             throw exception;
         }
     }
@@ -202,7 +171,7 @@ public class VoyageService {
         try {
             return repository.getAllVoyagesByDestinationId(destinationId);
         } catch (VoyageException exception) {
-            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL_BY_DESTINATION_ID).withException(exception).withProperty("destinationId", destinationId).build());
+            LOGGER.warning(new LogBuilder(VoyageError.GET_ALL_BY_DESTINATION_ID).withException(exception).withProperty("destinationId", destinationId));
             throw exception;
         }
     }
@@ -224,12 +193,28 @@ public class VoyageService {
                             .withException(exception)
                             .withProperty("originId", originId)
                             .withProperty("originId", destinationId)
-                            .build()
             );
             throw exception;
         }
     }
 
+    /**
+     * Returns one page of the {@link Voyage}s matching the provided {@link VoyageSearchForm}.
+     *
+     * @param searchForm The filters, sort order and page to search with.
+     * @return A {@link VoyageSearchPage}.
+     * @throws VoyageException When the search form is invalid or the search failed.
+     */
+    public VoyageSearchPage search(VoyageSearchForm searchForm) throws VoyageException {
+        try {
+            VoyageSearchCriteria criteria = new VoyageSearchCriteriaFactory(searchForm).create();
+            return VoyageSearchPage.create(criteria, repository.search(criteria));
+        } catch (VoyageException exception) {
+            LOGGER.warning(new LogBuilder(VoyageError.SEARCH).withException(exception));
+            throw exception;
+        }
+    }
+
     /**
      * Gets a {@link List} of all {@link Pod}s for a {@link Voyage} if any {@link Voyage} matches the provided ID.
      *
@@ -245,7 +230,6 @@ public class VoyageService {
                     new LogBuilder(VoyageError.GET_ALL_PODS_BY_VOYAGE_ID)
                             .withException(exception)
                             .withProperty("id", id)
-                            .build()
             );
             throw exception;
         }
@@ -259,13 +243,11 @@ public class VoyageService {
      */
     public List<Pod> getAllPodsByVoyage(Voyage voyage) throws VoyageException {
         try {
-            List<PodReservation> reservedPods = podReservationService.getAllPodReservationsByVoyage(voyage);
-            return voyage.getSpaceShuttle().getLayout().getAllPodsWithAvailability(reservedPods);
+            return podReservationService.getAvailabilityIndex(voyage).getAllPodsWithAvailability();
         } catch (DomainException exception) {
             LOGGER.warning(
                     new LogBuilder(VoyageError.GET_ALL_PODS_BY_VOYAGE)
                             .withException(exception)
-                            .build()
             );
             throw new VoyageException(VoyageError.GET_ALL_PODS_BY_VOYAGE, exception);
         }
@@ -0,0 +1,189 @@
+package jp.co.nova.gate.api.shared.cache;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An in-process, read-through cache of reference entities, like locations and routes, that are read on nearly every
+ * request but effectively never change after they are loaded.
+ * <p>
+ * The cache holds at most a maximum number of entities by their ID, plus the list of all entities when that list fits
+ * within the same bound. An entity that is not cached is loaded with the provided loader, and an absent entity is never
+ * cached. The hits and misses of every cache are reported as the {@code cache.<name>.hits} and
+ * {@code cache.<name>.misses} counters, and its size as the {@code cache.<name>.size} gauge.
+ * <p>
+ * Nothing expires on its own: a service that writes its entities has to {@link #invalidate()} its cache, and
+ * {@link ReferenceCacheFactory#invalidateAll()} empties every cache it created, for instance after the database was
+ * reset. A full cache evicts an arbitrary entity rather than the least recently used one, since the reference
+ * entities are expected to fit within the maximum size.
+ *
+ * @param <T> The type of the cached entities.
+ */
+public class ReferenceCache<T> {
+
+    /**
+     * The prefix of the metrics of all caches.
+     */
+    private static final String METRIC_PREFIX = "cache.";
+
+    private final String name;
+    private final int maxSize;
+    private final Function<T, String> idGetter;
+
+    private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private volatile List<T> allEntities;
+
+    /**
+     * The generation of the cached entities, which every invalidation increases so that an entity loaded before an
+     * invalidation is not cached after it.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    /**
+     * Creates a new {@link ReferenceCache}.
+     *
+     * @param name           The name of the cache, used in the names of its metrics.
+     * @param maxSize        The maximum number of cached entities.
+     * @param idGetter       The function returning the ID of an entity.
+     * @param metricRegistry The registry to report the metrics of the cache to.
+     */
+    public ReferenceCache(String name, int maxSize, Function<T, String> idGetter, MetricRegistry metricRegistry) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("The name of the cache is missing.");
+        } else if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of the cache must be positive.");
+        } else if (idGetter == null) {
+            throw new IllegalArgumentException("The ID getter of the cache is missing.");
+        } else if (metricRegistry == null) {
+            throw new IllegalArgumentException("The metric registry of the cache is missing.");
+        }
+
+        this.name = name;
+        this.maxSize = maxSize;
+        this.idGetter = idGetter;
+
+        hitCounter = metricRegistry.counter(METRIC_PREFIX + name + ".hits");
+        missCounter = metricRegistry.counter(METRIC_PREFIX + name + ".misses");
+        metricRegistry.gauge(METRIC_PREFIX + name + ".size", entitiesById, Map::size);
+    }
+
+    /**
+     * Returns the name of the cache.
+     *
+     * @return The name of the cache.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of cached entities.
+     *
+     * @return The number of cached entities.
+     */
+    public int size() {
+        return entitiesById.size();
+    }
+
+    /**
+     * Gets an {@link Optional} entity for the provided ID, loading it with the provided loader when it is not cached.
+     *
+     * @param id     The ID to search with.
+     * @param loader The loader to search the entity with when it is not cached.
+     * @return An {@link Optional} entity.
+     */
+    public Optional<T> findById(String id, Function<String, Optional<T>> loader) {
+        if (id == null) {
+            return loader.apply(id);
+        }
+
+        T cachedEntity = entitiesById.get(id);
+
+        if (cachedEntity != null) {
+            hitCounter.inc();
+            return Optional.of(cachedEntity);
+        }
+
+        missCounter.inc();
+
+        long loadGeneration = generation.get();
+        Optional<T> entity = loader.apply(id);
+
+        entity.ifPresent(loadedEntity -> put(loadedEntity, loadGeneration));
+        return entity;
+    }
+
+    /**
+     * Gets a {@link List} of all entities, loading it with the provided loader when it is not cached.
+     *
+     * @param loader The loader to get all entities with when they are not cached.
+     * @return The {@link List} of all entities.
+     */
+    public List<T> getAll(Supplier<List<T>> loader) {
+        List<T> cachedEntities = allEntities;
+
+        if (cachedEntities != null) {
+            hitCounter.inc();
+            return cachedEntities;
+        }
+
+        missCounter.inc();
+
+        long loadGeneration = generation.get();
+        List<T> entities = List.copyOf(loader.get());
+
+        if (entities.size() <= maxSize) {
+            synchronized (this) {
+                if (generation.get() == loadGeneration) {
+                    entitiesById.clear();
+                    entities.forEach(entity -> entitiesById.put(idGetter.apply(entity), entity));
+                    allEntities = entities;
+                }
+            }
+        }
+
+        return entities;
+    }
+
+    /**
+     * Invalidates the cache by removing all cached entities.
+     */
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        allEntities = null;
+        entitiesById.clear();
+    }
+
+    /**
+     * Caches the provided entity, unless the cache was invalidated since it was loaded. A full cache first evicts
+     * whichever entity its map iterates first, which is arbitrary rather than the least recently used one.
+     *
+     * @param entity         The entity to cache.
+     * @param loadGeneration The generation of the cache when the entity was loaded.
+     */
+    private synchronized void put(T entity, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+
+        String id = idGetter.apply(entity);
+
+        if (!entitiesById.containsKey(id) && entitiesById.size() >= maxSize) {
+            entitiesById.keySet().stream().findAny().ifPresent(entitiesById::remove);
+            allEntities = null;
+        }
+
+        entitiesById.put(id, entity);
+    }
+}
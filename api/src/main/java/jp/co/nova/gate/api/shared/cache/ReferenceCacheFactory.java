@@ -0,0 +1,51 @@
+package jp.co.nova.gate.api.shared.cache;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A factory class creating the {@link ReferenceCache}s of the services of the reference entities, and keeping track of
+ * them so that they can be invalidated together.
+ */
+@ApplicationScoped
+public class ReferenceCacheFactory {
+
+    @Inject
+    @ConfigProperty(name = "cache.reference.max-size", defaultValue = "1000")
+    private int maxSize;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    private final Set<ReferenceCache<?>> caches = ConcurrentHashMap.newKeySet();
+
+    protected ReferenceCacheFactory() {
+    }
+
+    /**
+     * Creates a new {@link ReferenceCache} with the configured maximum size.
+     *
+     * @param name     The name of the cache.
+     * @param idGetter The function returning the ID of an entity.
+     * @param <T>      The type of the cached entities.
+     * @return A new {@link ReferenceCache}.
+     */
+    public <T> ReferenceCache<T> create(String name, Function<T, String> idGetter) {
+        ReferenceCache<T> cache = new ReferenceCache<>(name, maxSize, idGetter, metricRegistry);
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Invalidates all created caches.
+     */
+    public void invalidateAll() {
+        caches.forEach(ReferenceCache::invalidate);
+    }
+}
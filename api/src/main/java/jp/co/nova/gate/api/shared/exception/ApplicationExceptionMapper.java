@@ -22,7 +22,7 @@ public class ApplicationExceptionMapper implements jakarta.ws.rs.ext.ExceptionMa
     @Override
     public Response toResponse(Exception exception) {
         if (exception instanceof ApplicationException) {
-            LOGGER.warning(new LogBuilder("Something went wrong.").withException(exception).build());
+            LOGGER.warning(new LogBuilder("Something went wrong.").withException(exception));
         }
 
         return switch (exception) {
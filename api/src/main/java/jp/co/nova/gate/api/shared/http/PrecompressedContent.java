@@ -0,0 +1,156 @@
+package jp.co.nova.gate.api.shared.http;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Represents a response body that is serialized once and kept in memory, as is, gzip compressed and brotli compressed,
+ * to be served without any work per request.
+ * <p>
+ * Brotli is preferred over gzip when a client accepts both, since it compresses JSON better. The brotli representation
+ * is left out when the native brotli library can not be loaded on the platform, in which case gzip is served instead.
+ * Every representation gets its own strong ETag, as a compressed body is a different representation of the same
+ * content.
+ */
+public class PrecompressedContent {
+
+    /**
+     * The gzip content coding.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * The brotli content coding.
+     */
+    public static final String BROTLI = "br";
+
+    /**
+     * The quality of the brotli compression, which is the highest, since the content is compressed only once.
+     */
+    private static final int BROTLI_QUALITY = 11;
+
+    private final MediaType mediaType;
+
+    private final byte[] content;
+    private final byte[] gzipContent;
+    private final byte[] brotliContent;
+
+    private final String etag;
+    private final String gzipEtag;
+    private final String brotliEtag;
+
+    protected PrecompressedContent(MediaType mediaType, byte[] content, byte[] gzipContent, byte[] brotliContent, String hash) {
+        this.mediaType = mediaType;
+        this.content = content;
+        this.gzipContent = gzipContent;
+        this.brotliContent = brotliContent;
+        this.etag = String.format("\"%s\"", hash);
+        this.gzipEtag = String.format("\"%s-%s\"", hash, GZIP);
+        this.brotliEtag = String.format("\"%s-%s\"", hash, BROTLI);
+    }
+
+    /**
+     * Creates a new {@link PrecompressedContent} for the provided content.
+     *
+     * @param mediaType The media type of the content.
+     * @param content   The serialized content.
+     * @return A new {@link PrecompressedContent}.
+     * @throws IllegalArgumentException When the content is missing or can not be compressed.
+     */
+    public static PrecompressedContent create(MediaType mediaType, byte[] content) throws IllegalArgumentException {
+        if (mediaType == null) {
+            throw new IllegalArgumentException("The media type of the content is missing.");
+        } else if (content == null) {
+            throw new IllegalArgumentException("The content is missing.");
+        }
+
+        try {
+            ByteArrayOutputStream gzipContent = new ByteArrayOutputStream();
+
+            try (GZIPOutputStream gzipStream = new GZIPOutputStream(gzipContent)) {
+                gzipStream.write(content);
+            }
+
+            byte[] brotliContent = Brotli4jLoader.isAvailable() ? Encoder.compress(content, new Encoder.Parameters().setQuality(BROTLI_QUALITY)) : null;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+
+            return new PrecompressedContent(mediaType, content.clone(), gzipContent.toByteArray(), brotliContent, Base64.getUrlEncoder().withoutPadding().encodeToString(hash));
+        } catch (IOException | NoSuchAlgorithmException exception) {
+            throw new IllegalArgumentException("Failed to compress the content.", exception);
+        }
+    }
+
+    /**
+     * Tests whether the provided {@code Accept-Encoding} header accepts the provided content coding.
+     *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
+     * @param contentCoding  The content coding to test, like {@value #GZIP} or {@value #BROTLI}.
+     * @return True when the content coding is accepted, false otherwise.
+     */
+    static boolean accepts(String acceptEncoding, String contentCoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().split(";"))
+                .filter(coding -> coding[0].trim().equalsIgnoreCase(contentCoding) || coding[0].trim().equals("*"))
+                .anyMatch(coding -> coding.length == 1 || !coding[1].trim().matches("q=0(\\.0{0,3})?"));
+    }
+
+    /**
+     * Creates a {@link Response.ResponseBuilder} serving the content in the best representation for the provided
+     * {@code Accept-Encoding} header.
+     *
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header.
+     * @return A {@link Response.ResponseBuilder}.
+     */
+    public Response.ResponseBuilder toResponse(String acceptEncoding) {
+        Response.ResponseBuilder response = Response.ok().type(mediaType).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (brotliContent != null && accepts(acceptEncoding, BROTLI)) {
+            return response.entity(brotliContent).header(HttpHeaders.CONTENT_ENCODING, BROTLI).header(HttpHeaders.ETAG, brotliEtag);
+        }
+
+        if (accepts(acceptEncoding, GZIP)) {
+            return response.entity(gzipContent).header(HttpHeaders.CONTENT_ENCODING, GZIP).header(HttpHeaders.ETAG, gzipEtag);
+        }
+
+        return response.entity(content).header(HttpHeaders.ETAG, etag);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public byte[] getContent() {
+        return content.clone();
+    }
+
+    public byte[] getGzipContent() {
+        return gzipContent.clone();
+    }
+
+    /**
+     * @return The brotli compressed content, which is empty when brotli is not available on the platform.
+     */
+    public Optional<byte[]> getBrotliContent() {
+        return Optional.ofNullable(brotliContent).map(byte[]::clone);
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
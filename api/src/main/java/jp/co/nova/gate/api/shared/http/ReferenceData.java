@@ -0,0 +1,18 @@
+package jp.co.nova.gate.api.shared.http;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an endpoint, or a single method of one, that returns reference data, which only changes on a redeploy. Its
+ * responses are tagged and cached by the {@link ReferenceDataFilter}.
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ReferenceData {
+}
@@ -0,0 +1,277 @@
+package jp.co.nova.gate.api.shared.http;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
+import jp.co.nova.gate.api.shared.util.LogBuilder;
+import jp.co.nova.gate.api.shared.util.ResponseFactory;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * A filter handling conditional requests for the endpoints marked with {@link ReferenceData}.
+ * <p>
+ * The first successful response of a request URI is serialized once to derive a strong ETag from the SHA-256 hash of
+ * its content, unless the endpoint already tagged the response itself, like a {@link PrecompressedContent} does. From
+ * then on, a request whose {@code If-None-Match} header matches the ETag of its URI gets a {@code 304 Not Modified}
+ * response before the endpoint is invoked, so the data is neither read nor serialized again.
+ * Every response also gets a {@code Cache-Control} header, so that browsers and CDNs can reuse it without asking.
+ * <p>
+ * The ETags are keyed by the path of the request and its query parameters. A request with a query parameter that the
+ * matched endpoint does not declare with {@link QueryParam} gets no ETag, so that arbitrary query strings can not grow
+ * the ETags. At most {@code cache.reference.max-size} ETags are kept, and a full filter evicts an arbitrary ETag, like a
+ * {@link jp.co.nova.gate.api.shared.cache.ReferenceCache} does. The ETags are kept until the API is redeployed, or
+ * until they are {@link #invalidate() invalidated}.
+ */
+@Provider
+@ReferenceData
+@ApplicationScoped
+public class ReferenceDataFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final Logger LOGGER = Logger.getLogger(ReferenceDataFilter.class.getName());
+
+    @Inject
+    @ConfigProperty(name = "cache.reference.max-age-seconds", defaultValue = "3600")
+    private long maxAgeSeconds;
+
+    @Inject
+    @ConfigProperty(name = "cache.reference.max-size", defaultValue = "1000")
+    private int maxSize;
+
+    @Context
+    private Providers providers;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    /**
+     * The ETags of the responses by the key of their requests.
+     */
+    private final Map<String, String> etags = new ConcurrentHashMap<>();
+
+    protected ReferenceDataFilter() {
+    }
+
+    /**
+     * Invalidates the ETags of all request URIs.
+     */
+    public void invalidate() {
+        etags.clear();
+    }
+
+    /**
+     * Tests whether the provided {@code If-None-Match} header matches the provided ETag.
+     *
+     * @param ifNoneMatch The value of the {@code If-None-Match} header.
+     * @param etag        The ETag to match.
+     * @return True when the header matches the ETag, false otherwise.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!isCacheable(requestContext)) {
+            return;
+        }
+
+        Optional<String> key = getKey(requestContext);
+
+        if (key.isEmpty()) {
+            return;
+        }
+
+        String etag = etags.get(key.get());
+
+        if (matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+            requestContext.abortWith(
+                    ResponseFactory.notModified()
+                            .header(HttpHeaders.ETAG, etag)
+                            .header(HttpHeaders.CACHE_CONTROL, getCacheControl())
+                            .build()
+            );
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!isCacheable(requestContext) || responseContext.getStatus() != Response.Status.OK.getStatusCode() || !responseContext.hasEntity()) {
+            return;
+        }
+
+        String etag = responseContext.getHeaderString(HttpHeaders.ETAG);
+
+        if (etag == null) {
+            Optional<String> key = getKey(requestContext);
+
+            if (key.isEmpty()) {
+                return;
+            }
+
+            try {
+                etag = getEtag(key.get(), responseContext);
+            } catch (IllegalStateException exception) {
+                LOGGER.warning(new LogBuilder("Failed to create the ETag of a reference data response.").withException(exception).withProperty("key", key.get()));
+                return;
+            }
+
+            responseContext.getHeaders().putSingle(HttpHeaders.ETAG, etag);
+        }
+
+        responseContext.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, getCacheControl());
+
+        if (matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+            responseContext.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+            responseContext.setEntity(null);
+        }
+    }
+
+    /**
+     * Tests whether the response of the provided request can be cached.
+     *
+     * @param requestContext The request to test.
+     * @return True for a GET or HEAD request, false otherwise.
+     */
+    private boolean isCacheable(ContainerRequestContext requestContext) {
+        return HttpMethod.GET.equals(requestContext.getMethod()) || HttpMethod.HEAD.equals(requestContext.getMethod());
+    }
+
+    /**
+     * Returns the key of the ETag of the provided request, which is its path followed by its query parameters sorted by
+     * name.
+     *
+     * @param requestContext The request to get the key of.
+     * @return An {@link Optional} key, which is empty when the request has a query parameter the matched endpoint does
+     * not declare.
+     */
+    private Optional<String> getKey(ContainerRequestContext requestContext) {
+        MultivaluedMap<String, String> queryParameters = requestContext.getUriInfo().getQueryParameters();
+
+        if (!getQueryParameterNames(resourceInfo.getResourceMethod()).containsAll(queryParameters.keySet())) {
+            return Optional.empty();
+        }
+
+        StringBuilder key = new StringBuilder(requestContext.getUriInfo().getPath());
+
+        new TreeMap<>(queryParameters).forEach((name, values) -> values.forEach(value -> key.append(key.indexOf("?") < 0 ? '?' : '&').append(name).append('=').append(value)));
+        return Optional.of(key.toString());
+    }
+
+    /**
+     * Returns the names of the query parameters declared by the provided resource method.
+     *
+     * @param resourceMethod The resource method to get the query parameter names of.
+     * @return A {@link Set} of query parameter names, which is empty when the method is missing.
+     */
+    private static Set<String> getQueryParameterNames(Method resourceMethod) {
+        if (resourceMethod == null) {
+            return Set.of();
+        }
+
+        Set<String> names = new HashSet<>();
+
+        for (Annotation[] annotations : resourceMethod.getParameterAnnotations()) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof QueryParam queryParam) {
+                    names.add(queryParam.value());
+                }
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Gets the ETag of the provided key, creating it from the provided response when it is not known yet. A full filter
+     * first evicts whichever ETag its map iterates first.
+     *
+     * @param key             The key of the ETag.
+     * @param responseContext The response to create the ETag of.
+     * @return The ETag of the key.
+     * @throws IllegalStateException When the entity of the response can not be serialized.
+     */
+    private String getEtag(String key, ContainerResponseContext responseContext) throws IllegalStateException {
+        String etag = etags.get(key);
+
+        if (etag != null) {
+            return etag;
+        }
+
+        etag = createEtag(responseContext);
+
+        synchronized (etags) {
+            if (!etags.containsKey(key) && etags.size() >= maxSize) {
+                etags.keySet().stream().findAny().ifPresent(etags::remove);
+            }
+
+            String existingEtag = etags.putIfAbsent(key, etag);
+            return existingEtag == null ? etag : existingEtag;
+        }
+    }
+
+    /**
+     * Returns the value of the {@code Cache-Control} header.
+     *
+     * @return The value of the {@code Cache-Control} header.
+     */
+    private String getCacheControl() {
+        return String.format("public, max-age=%d", maxAgeSeconds);
+    }
+
+    /**
+     * Creates a strong ETag from the SHA-256 hash of the serialized entity of the provided response.
+     *
+     * @param responseContext The response to create the ETag of.
+     * @return A strong ETag.
+     * @throws IllegalStateException When the entity of the response can not be serialized.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private String createEtag(ContainerResponseContext responseContext) throws IllegalStateException {
+        MessageBodyWriter writer = providers.getMessageBodyWriter(responseContext.getEntityClass(), responseContext.getEntityType(), responseContext.getEntityAnnotations(), responseContext.getMediaType());
+
+        if (writer == null) {
+            throw new IllegalStateException("No writer can serialize the entity of the response.");
+        }
+
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            writer.writeTo(responseContext.getEntity(), responseContext.getEntityClass(), responseContext.getEntityType(), responseContext.getEntityAnnotations(), responseContext.getMediaType(), new MultivaluedHashMap<>(), content);
+
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.toByteArray());
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (IOException | NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Failed to serialize the entity of the response.", exception);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class Examples {
     // Booking
     public static final String BOOKING_STATUS_EXAMPLE = "bookingStatus.created";
     public static final String BOOKING_PASSENGER_ID_EXAMPLE = "[1]";
+    public static final String BOOKING_TICKET_STATUS_EXAMPLE = "bookingTicketStatus.queued";
 
     // Voyage
     public static final String VOYAGE_ID_EXAMPLE = "5f485136-20a8-41f3-9073-4156d32c9c36";
@@ -36,6 +37,10 @@ public class Examples {
     public static final String VOYAGE_ARRIVAL_DATE_EXAMPLE = "2050-03-21T17:49:20.507334+09:00";
     public static final String VOYAGE_DURATION_EXAMPLE = "2365200";
     public static final String VOYAGE_STATUS_EXAMPLE = "voyageStatus.scheduled";
+    public static final String VOYAGE_STATUS_KEY_EXAMPLE = "scheduled";
+    public static final String VOYAGE_SEARCH_SORT_EXAMPLE = "departureDate";
+    public static final String VOYAGE_SEARCH_LIMIT_EXAMPLE = "20";
+    public static final String VOYAGE_SEARCH_CURSOR_EXAMPLE = "ZGVwYXJ0dXJlRGF0ZXwyMDUwLTAyLTIyVDA4OjQ5OjIwLjUwNzMzNCswOTowMHw1ZjQ4NTEzNi0yMGE4LTQxZjMtOTA3My00MTU2ZDMyYzljMzY";
 
     // Route
     public static final String ROUTE_ID_EXAMPLE = "08bd4df1-97eb-4a9a-aa21-d9b7bed299a3";
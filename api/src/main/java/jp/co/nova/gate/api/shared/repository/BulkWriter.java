@@ -0,0 +1,111 @@
+package jp.co.nova.gate.api.shared.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.TransactionRequiredException;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A utility class saving lists of entities in batches.
+ * <p>
+ * Saving an entity one at a time checks whether it exists with a query of its own. Instead, the existing entities of
+ * every batch are loaded with a single {@code IN} query, after which new entities are persisted and existing ones are
+ * merged into the loaded instances without another query. The session is flushed after every batch, so Hibernate sends
+ * the inserts and updates of a batch as JDBC batches of the configured {@value #BATCH_SIZE_PROPERTY}.
+ * <p>
+ * The persistence context is cleared between batches, so a large import does not keep every saved entity managed.
+ * When more than one batch is saved, the entities of the earlier batches and any other entity managed before the save
+ * are detached afterwards.
+ */
+public class BulkWriter {
+
+    /**
+     * The persistence unit property with the JDBC batch size.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "hibernate.jdbc.batch_size";
+
+    /**
+     * The batch size used when the persistence unit does not configure one.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * Saves the provided entities in batches, persisting the new ones and merging the existing ones.
+     *
+     * @param entityManager The entity manager of the persistence unit of the entities.
+     * @param entityClass   The class of the entities.
+     * @param idGetter      A function returning the ID of an entity.
+     * @param entities      The entities to save.
+     * @param <T>           The type of the entities.
+     * @return A {@link List} of saved entities, in the order of the provided entities.
+     * @throws IllegalArgumentException     When the entities or one of them is missing.
+     * @throws TransactionRequiredException When there is no active transaction.
+     * @throws PersistenceException         When saving the entities failed.
+     */
+    public static <T> List<T> save(EntityManager entityManager, Class<T> entityClass, Function<T, String> idGetter, List<T> entities) throws IllegalArgumentException, PersistenceException {
+        if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("The entities to save are missing.");
+        }
+
+        int batchSize = getBatchSize(entityManager);
+        String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+        List<T> savedEntities = new ArrayList<>(entities.size());
+
+        for (int batchStart = 0; batchStart < entities.size(); batchStart += batchSize) {
+            List<T> batch = entities.subList(batchStart, Math.min(batchStart + batchSize, entities.size()));
+            Set<String> existingIds = findExistingIds(entityManager, entityClass, entityName, idGetter, batch);
+
+            for (T entity : batch) {
+                if (existingIds.contains(idGetter.apply(entity))) {
+                    savedEntities.add(entityManager.merge(entity));
+                } else {
+                    entityManager.persist(entity);
+                    savedEntities.add(entity);
+                }
+            }
+
+            entityManager.flush();
+
+            if (batchStart + batchSize < entities.size()) {
+                entityManager.clear();
+            }
+        }
+
+        return savedEntities;
+    }
+
+    /**
+     * Loads the existing entities of a batch into the persistence context with a single query and returns their IDs.
+     */
+    private static <T> Set<String> findExistingIds(EntityManager entityManager, Class<T> entityClass, String entityName, Function<T, String> idGetter, List<T> batch) {
+        List<String> ids = batch.stream().map(idGetter).distinct().toList();
+
+        return entityManager.createQuery("SELECT e FROM " + entityName + " e WHERE e.id IN :ids", entityClass)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .map(idGetter)
+                .collect(HashSet::new, Set::add, Set::addAll);
+    }
+
+    /**
+     * Returns the JDBC batch size configured for the persistence unit of the provided entity manager.
+     *
+     * @param entityManager The entity manager to get the batch size for.
+     * @return The configured batch size, or {@link #DEFAULT_BATCH_SIZE}.
+     */
+    public static int getBatchSize(EntityManager entityManager) {
+        Object batchSize = entityManager.getEntityManagerFactory().getProperties().get(BATCH_SIZE_PROPERTY);
+
+        try {
+            int parsedBatchSize = batchSize == null ? DEFAULT_BATCH_SIZE : Integer.parseInt(batchSize.toString());
+            return parsedBatchSize > 0 ? parsedBatchSize : DEFAULT_BATCH_SIZE;
+        } catch (NumberFormatException exception) {
+            return DEFAULT_BATCH_SIZE;
+        }
+    }
+
+    protected BulkWriter() {
+    }
+}
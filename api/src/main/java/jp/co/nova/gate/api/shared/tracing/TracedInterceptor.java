@@ -0,0 +1,50 @@
+package jp.co.nova.gate.api.shared.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * An interceptor recording every call to a {@link Traced} bean as a span named after the class and method that was
+ * called, like {@code LocationService.getAll}. The span is a child of the span of the request, which MicroProfile
+ * Telemetry starts for every request. Calls made outside a request are not traced.
+ */
+@Traced
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class TracedInterceptor {
+
+    @Inject
+    private Tracer tracer;
+
+    protected TracedInterceptor() {
+    }
+
+    @AroundInvoke
+    public Object trace(InvocationContext context) throws Exception {
+        if (!Span.current().getSpanContext().isValid()) {
+            return context.proceed();
+        }
+
+        Method method = context.getMethod();
+        Span span = tracer.spanBuilder(method.getDeclaringClass().getSimpleName() + "." + method.getName()).startSpan();
+
+        try (Scope ignored = span.makeCurrent()) {
+            return context.proceed();
+        } catch (Exception exception) {
+            span.setStatus(StatusCode.ERROR);
+            span.recordException(exception);
+            throw exception;
+        } finally {
+            span.end();
+        }
+    }
+}
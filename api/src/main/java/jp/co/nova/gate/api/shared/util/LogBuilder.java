@@ -1,15 +1,23 @@
 package jp.co.nova.gate.api.shared.util;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import jp.co.nova.gate.api.shared.exception.DomainError;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * A POJO representing a builder for a log message.
+ * <p>
+ * A {@link LogBuilder} is a {@link Supplier} of its log message, so it can be passed to a {@link java.util.logging.Logger}
+ * as is: the message is then only built when its log level is enabled.
+ * <p>
+ * A log message created while a request is handled carries the ID of the trace of that request, so that the log
+ * messages of a single request can be found together, along with its spans.
  */
-public class LogBuilder {
+public class LogBuilder implements Supplier<String> {
 
     /**
      * The base message in the log message.
@@ -27,9 +35,14 @@ public class LogBuilder {
     private Throwable exception;
 
     /**
-     * The properties in the log message.
+     * The properties in the log message, created with the first property.
      */
-    private final Map<String, Object> properties = new LinkedHashMap<>();
+    private Map<String, Object> properties;
+
+    /**
+     * The ID of the trace of the request the log message is created in.
+     */
+    private final String traceId = getCurrentTraceId();
 
     /**
      * Creates a new {@link LogBuilder} based on a message.
@@ -102,6 +115,10 @@ public class LogBuilder {
             throw new IllegalArgumentException("The value of the log message property is missing.");
         }
 
+        if (properties == null) {
+            properties = new LinkedHashMap<>();
+        }
+
         properties.put(key, value);
         return this;
     }
@@ -112,27 +129,123 @@ public class LogBuilder {
      * @return A log message.
      */
     public String build() {
-        String logMessage;
+        String exceptionMessage = exception != null ? String.valueOf(exception.getMessage()) : null;
+
+        StringBuilder logMessage = new StringBuilder(getCapacity(exceptionMessage));
+
+        if (key != null) {
+            logMessage.append('[').append(key).append("] ");
+        }
+
+        logMessage.append(message);
+
+        if (exceptionMessage != null) {
+            trimTrailingPunctuation(logMessage);
+            logMessage.append(": ").append(exceptionMessage);
+        }
+
+        if (traceId != null || properties != null) {
+            logMessage.append(" [");
+
+            boolean first = true;
+
+            if (traceId != null) {
+                logMessage.append("traceId=").append(traceId);
+                first = false;
+            }
+
+            if (properties != null) {
+                for (Map.Entry<String, Object> property : properties.entrySet()) {
+                    if (!first) {
+                        logMessage.append(", ");
+                    }
+
+                    logMessage.append(property.getKey()).append('=').append(property.getValue());
+                    first = false;
+                }
+            }
+
+            logMessage.append(']');
+        }
+
+        return logMessage.toString();
+    }
+
+    /**
+     * Creates the log message, which lets a {@link java.util.logging.Logger} build it only when its log level is enabled.
+     *
+     * @return A log message.
+     */
+    @Override
+    public String get() {
+        return build();
+    }
+
+    /**
+     * Estimates the length of the log message, so that it is built without growing its buffer in most cases.
+     *
+     * @param exceptionMessage The message of the exception in the log message.
+     * @return The estimated length of the log message.
+     */
+    private int getCapacity(String exceptionMessage) {
+        int capacity = message.length() + 16;
 
         if (key != null) {
-            logMessage = "[" + key + "] " + message;
-        } else {
-            logMessage = message;
+            capacity += key.length() + 3;
         }
 
-        if (exception != null) {
-            logMessage = logMessage.replaceAll("[!.,;:?\\s]+$", "");
-            logMessage += ": " + exception.getMessage();
+        if (exceptionMessage != null) {
+            capacity += exceptionMessage.length() + 2;
         }
 
-        if (!properties.isEmpty()) {
-            String detailString = properties.entrySet().stream()
-                    .map(e -> e.getKey() + "=" + e.getValue())
-                    .collect(Collectors.joining(", "));
+        if (traceId != null) {
+            capacity += traceId.length() + 11;
+        }
 
-            logMessage += " [" + detailString + "]";
+        if (properties != null) {
+            capacity += properties.size() * 48;
         }
 
-        return logMessage;
+        return capacity;
+    }
+
+    /**
+     * Removes the trailing punctuation and whitespace of the provided log message, like the regular expression
+     * {@code [!.,;:?\s]+$} would, without compiling a pattern or copying the message.
+     *
+     * @param logMessage The log message to trim.
+     */
+    private static void trimTrailingPunctuation(StringBuilder logMessage) {
+        int length = logMessage.length();
+
+        while (length > 0 && isTrailingPunctuation(logMessage.charAt(length - 1))) {
+            length--;
+        }
+
+        logMessage.setLength(length);
+    }
+
+    /**
+     * Tests whether the provided character is punctuation or whitespace that is trimmed from the end of a log message.
+     *
+     * @param character The character to test.
+     * @return True when the character is trimmed, false otherwise.
+     */
+    private static boolean isTrailingPunctuation(char character) {
+        return switch (character) {
+            case '!', '.', ',', ';', ':', '?', ' ', '\t', '\n', '\u000B', '\f', '\r' -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Returns the ID of the trace of the span that is current on this thread, like the span of the request handled by
+     * it.
+     *
+     * @return The ID of the current trace, or null outside a trace.
+     */
+    private static String getCurrentTraceId() {
+        SpanContext spanContext = Span.current().getSpanContext();
+        return spanContext.isValid() ? spanContext.getTraceId() : null;
     }
 }
@@ -7,6 +7,24 @@ import jakarta.ws.rs.core.Response;
  */
 public class ResponseFactory {
 
+    /**
+     * Creates a new {@link Response.ResponseBuilder} with the {@link Response.Status} NOT_MODIFIED status.
+     *
+     * @return a {@link Response.ResponseBuilder}.
+     */
+    public static Response.ResponseBuilder notModified() {
+        return Response.status(Response.Status.NOT_MODIFIED);
+    }
+
+    /**
+     * Creates a new {@link Response.ResponseBuilder} with the {@link Response.Status} BAD_REQUEST status.
+     *
+     * @return a {@link Response.ResponseBuilder}.
+     */
+    public static Response.ResponseBuilder badRequest() {
+        return Response.status(Response.Status.BAD_REQUEST);
+    }
+
     /**
      * Creates a new {@link Response.ResponseBuilder} with the {@link Response.Status} NOT_FOUND status.
      *
@@ -34,6 +52,24 @@ public class ResponseFactory {
         return Response.status(Response.Status.FORBIDDEN);
     }
 
+    /**
+     * Creates a new {@link Response.ResponseBuilder} with the {@link Response.Status} TOO_MANY_REQUESTS status.
+     *
+     * @return a {@link Response.ResponseBuilder}.
+     */
+    public static Response.ResponseBuilder tooManyRequests() {
+        return Response.status(Response.Status.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * Creates a new {@link Response.ResponseBuilder} with the {@link Response.Status} SERVICE_UNAVAILABLE status.
+     *
+     * @return a {@link Response.ResponseBuilder}.
+     */
+    public static Response.ResponseBuilder serviceUnavailable() {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE);
+    }
+
     protected ResponseFactory() {
     }
 }
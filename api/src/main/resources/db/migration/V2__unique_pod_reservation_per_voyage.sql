@@ -0,0 +1,2 @@
+ALTER TABLE pod_reservations
+    ADD CONSTRAINT IF NOT EXISTS uk_pod_reservations_voyage_pod_code UNIQUE (voyage_id, pod_code);
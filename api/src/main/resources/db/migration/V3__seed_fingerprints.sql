@@ -0,0 +1,15 @@
+CREATE TABLE
+  IF NOT EXISTS seed_fingerprints (
+    dataset VARCHAR(50) NOT NULL PRIMARY KEY,
+    checksum VARCHAR(64) NOT NULL,
+    load_date TIMESTAMP NOT NULL
+  );
+
+CREATE TABLE
+  IF NOT EXISTS seed_record_fingerprints (
+    dataset VARCHAR(50) NOT NULL,
+    record_id VARCHAR(50) NOT NULL,
+    checksum VARCHAR(64) NOT NULL,
+    PRIMARY KEY (dataset, record_id),
+    FOREIGN KEY (dataset) REFERENCES seed_fingerprints (dataset) ON DELETE CASCADE
+  );
@@ -0,0 +1,6 @@
+-- Voyages by origin and destination (Voyage.selectAllByOriginIdAndDestinationId and the voyage search).
+CREATE INDEX IF NOT EXISTS idx_routes_origin_destination ON routes (origin_id, destination_id);
+
+-- Voyages of a route by departure date, and the voyage search on departure date ranges sorted by departure date.
+CREATE INDEX IF NOT EXISTS idx_voyages_route_departure_date ON voyages (route_id, departure_date);
+CREATE INDEX IF NOT EXISTS idx_voyages_departure_date ON voyages (departure_date, id);
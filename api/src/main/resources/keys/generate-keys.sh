@@ -4,11 +4,26 @@
 SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
 KEY_DIR="$SCRIPT_DIR"
 
+# The token signing algorithm, RS256 (default) or ES256
+ALGORITHM="${1:-RS256}"
+
 mkdir -p "$KEY_DIR"
-echo "🔐 Generating RSA 2048-bit key pair in '$KEY_DIR'..."
 
-# Generate private and public keys
-openssl genpkey -algorithm RSA -pkeyopt rsa_keygen_bits:2048 -out "$KEY_DIR/private_key.pem" -quiet
-openssl rsa -pubout -in "$KEY_DIR/private_key.pem" -out "$KEY_DIR/public_key.pem"
+case "$ALGORITHM" in
+  RS256)
+    echo "🔐 Generating RSA 2048-bit key pair in '$KEY_DIR'..."
+    openssl genpkey -algorithm RSA -pkeyopt rsa_keygen_bits:2048 -out "$KEY_DIR/private_key.pem" -quiet
+    openssl rsa -pubout -in "$KEY_DIR/private_key.pem" -out "$KEY_DIR/public_key.pem"
+    ;;
+  ES256)
+    echo "🔐 Generating EC P-256 key pair in '$KEY_DIR'..."
+    openssl genpkey -algorithm EC -pkeyopt ec_paramgen_curve:P-256 -out "$KEY_DIR/private_key.pem" -quiet
+    openssl pkey -pubout -in "$KEY_DIR/private_key.pem" -out "$KEY_DIR/public_key.pem"
+    ;;
+  *)
+    echo "❌  Unsupported algorithm '$ALGORITHM', use RS256 or ES256."
+    exit 1
+    ;;
+esac
 
 echo "✅  Keys saved in '$KEY_DIR'!"
@@ -0,0 +1,413 @@
+package jp.co.nova.gate.api.application;
+
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.features.booking.repository.BookingRepository;
+import jp.co.nova.gate.api.features.location.repository.LocationRepository;
+import jp.co.nova.gate.api.features.passenger.repository.PassengerRepository;
+import jp.co.nova.gate.api.features.pod.repository.PodReservationRepository;
+import jp.co.nova.gate.api.features.route.repository.RouteRepository;
+import jp.co.nova.gate.api.features.spaceShuttle.repository.SpaceShuttleRepository;
+import jp.co.nova.gate.api.features.spaceStation.repository.SpaceStationRepository;
+import jp.co.nova.gate.api.features.user.repository.UserRepository;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.api.features.voyage.domain.VoyageSearchCriteriaFactory;
+import jp.co.nova.gate.api.features.voyage.input.VoyageSearchForm;
+import jp.co.nova.gate.api.features.voyage.repository.VoyageRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the lookups of the repositories use an index rather than scanning their tables. Each lookup is run
+ * through Hibernate while H2 records the statements it executes, and {@code EXPLAIN} is run on the SQL Hibernate
+ * generated.
+ */
+@Transactional(Transactional.TxType.REQUIRED)
+@HelidonTest
+public class LookupIndexTest {
+
+    /**
+     * The marker H2 puts in a query plan for a table scan.
+     */
+    private static final String TABLE_SCAN = "tableScan";
+
+    /**
+     * The part of the name H2 gives to the index it creates for a foreign key constraint.
+     */
+    private static final String FOREIGN_KEY_INDEX = "_index_";
+
+    @Inject
+    @ConfigProperty(name = "javax.sql.DataSource.novaGateApiDs.dataSource.url")
+    private String url;
+
+    @Inject
+    @ConfigProperty(name = "javax.sql.DataSource.novaGateApiDs.dataSource.user", defaultValue = "")
+    private String user;
+
+    @Inject
+    @ConfigProperty(name = "javax.sql.DataSource.novaGateApiDs.dataSource.password", defaultValue = "")
+    private String password;
+
+    @Inject
+    private VoyageRepository voyageRepository;
+
+    @Inject
+    private BookingRepository bookingRepository;
+
+    @Inject
+    private PodReservationRepository podReservationRepository;
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Inject
+    private PassengerRepository passengerRepository;
+
+    @Inject
+    private RouteRepository routeRepository;
+
+    @Inject
+    private SpaceShuttleRepository spaceShuttleRepository;
+
+    @Inject
+    private SpaceStationRepository spaceStationRepository;
+
+    @Inject
+    private LocationRepository locationRepository;
+
+    @PersistenceContext(unitName = "domain")
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        // Turning the statistics off and on again drops the statements recorded by earlier tests.
+        execute("SET QUERY_STATISTICS FALSE");
+        execute("SET QUERY_STATISTICS TRUE");
+    }
+
+    /**
+     * Runs the provided SQL command on a new connection to the test database.
+     *
+     * @param sql The SQL command to run.
+     */
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Returns the query plan of the select statement Hibernate ran on the provided table since the statistics were
+     * reset.
+     *
+     * @param table The table read by the statement.
+     * @return The query plan.
+     */
+    private String explainRecordedSelect(String table) throws SQLException {
+        String sql = findRecordedSelect(table);
+
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData parameterMetaData = statement.getParameterMetaData();
+
+            for (int index = 1; index <= parameterMetaData.getParameterCount(); index++) {
+                statement.setNull(index, Types.VARCHAR);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    /**
+     * Returns the select statement recorded by H2 that reads the provided table.
+     *
+     * @param table The table read by the statement.
+     * @return The SQL of the statement.
+     */
+    private String findRecordedSelect(String table) throws SQLException {
+        List<String> statements = new ArrayList<>();
+
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS")) {
+            while (resultSet.next()) {
+                statements.add(resultSet.getString(1));
+            }
+        }
+
+        return statements.stream()
+                .filter(sql -> {
+                    String normalizedSql = sql.toLowerCase(Locale.ROOT);
+                    return normalizedSql.startsWith("select")
+                            && normalizedSql.contains(" " + table + " ")
+                            && !normalizedSql.contains("information_schema");
+                })
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(String.format("No select on %s was recorded in %s", table, statements)));
+    }
+
+    /**
+     * Creates a voyage search form with the provided departure range, origin and destination.
+     *
+     * @param departureFrom  The earliest departure date, or null.
+     * @param departureUntil The latest departure date, or null.
+     * @param originId       The ID of the origin space station, or null.
+     * @param destinationId  The ID of the destination space station, or null.
+     * @return A {@link VoyageSearchForm}.
+     */
+    private VoyageSearchForm createSearchForm(String departureFrom, String departureUntil, String originId, String destinationId) {
+        VoyageSearchForm searchForm = new VoyageSearchForm();
+        searchForm.departureFrom = departureFrom;
+        searchForm.departureUntil = departureUntil;
+        searchForm.originId = originId;
+        searchForm.destinationId = destinationId;
+        return searchForm;
+    }
+
+    @Nested
+    class voyages {
+        @Test
+        void getAllVoyagesByOriginIdAndDestinationId() throws SQLException {
+            // When
+            voyageRepository.getAllVoyagesByOriginIdAndDestinationId("origin", "destination");
+            String plan = explainRecordedSelect("voyages");
+
+            // Then
+            assertTrue(plan.contains("idx_routes_origin_destination"), plan);
+        }
+
+        @Test
+        void getAllVoyagesByOriginId() throws SQLException {
+            // When
+            voyageRepository.getAllVoyagesByOriginId("origin");
+            String plan = explainRecordedSelect("voyages");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains("idx_routes_origin_destination"), plan);
+        }
+
+        @Test
+        void getAllVoyagesByDestinationId() throws SQLException {
+            // When
+            voyageRepository.getAllVoyagesByDestinationId("destination");
+            String plan = explainRecordedSelect("voyages");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains(FOREIGN_KEY_INDEX), plan);
+        }
+
+        @Test
+        void search_whenSearchingByDepartureDate() throws SQLException {
+            // Given
+            VoyageSearchForm searchForm = createSearchForm("2100-01-01T00:00:00Z", "2100-02-01T00:00:00Z", null, null);
+
+            // When
+            voyageRepository.search(new VoyageSearchCriteriaFactory(searchForm).create());
+            String plan = explainRecordedSelect("voyages");
+
+            // Then
+            assertTrue(plan.contains("idx_voyages_departure_date"), plan);
+        }
+
+        @Test
+        void search_whenSearchingByRouteAndDepartureDate() throws SQLException {
+            // Given
+            VoyageSearchForm searchForm = createSearchForm("2100-01-01T00:00:00Z", null, "origin", "destination");
+
+            // When
+            voyageRepository.search(new VoyageSearchCriteriaFactory(searchForm).create());
+            String plan = explainRecordedSelect("voyages");
+
+            // Then
+            assertTrue(plan.contains("idx_routes_origin_destination"), plan);
+            assertTrue(plan.contains("idx_voyages_route_departure_date"), plan);
+        }
+    }
+
+    @Nested
+    class bookings {
+        @Test
+        void findById() throws SQLException {
+            // When
+            bookingRepository.findById("booking");
+            String plan = explainRecordedSelect("bookings");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains(FOREIGN_KEY_INDEX), plan);
+        }
+
+        @Test
+        void getAllByUserId() throws SQLException {
+            // When
+            bookingRepository.getAllByUserId("user");
+            String plan = explainRecordedSelect("bookings");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains(FOREIGN_KEY_INDEX), plan);
+        }
+
+        @Test
+        void getAllByVoyageId() throws SQLException {
+            // When
+            bookingRepository.getAllByVoyageId("voyage");
+            String plan = explainRecordedSelect("bookings");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains(FOREIGN_KEY_INDEX), plan);
+        }
+    }
+
+    @Nested
+    class podReservations {
+        @Test
+        void getAllBySpaceShuttleAndVoyage() throws SQLException {
+            // When
+            podReservationRepository.getAllBySpaceShuttleAndVoyage(entityManager.getReference(Voyage.class, "voyage"));
+            String plan = explainRecordedSelect("pod_reservations");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+        }
+
+        @Test
+        void getAllByVoyageAndPodCodes() throws SQLException {
+            // When
+            podReservationRepository.getAllByVoyageAndPodCodes(entityManager.getReference(Voyage.class, "voyage"), Set.of("A1", "A2"));
+            String plan = explainRecordedSelect("pod_reservations");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains("uk_pod_reservations_voyage_pod_code"), plan);
+        }
+    }
+
+    @Nested
+    class users {
+        @Test
+        void findById() throws SQLException {
+            // When
+            userRepository.findById("user");
+            String plan = explainRecordedSelect("users");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+        }
+
+        @Test
+        void findByIdWithBookings() throws SQLException {
+            // When
+            userRepository.findByIdWithBookings("user");
+            String plan = explainRecordedSelect("users");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains(FOREIGN_KEY_INDEX), plan);
+        }
+
+        @Test
+        void findByEmailAddress() throws SQLException {
+            // When
+            userRepository.findByEmailAddress("user@example.com");
+            String plan = explainRecordedSelect("users");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+        }
+    }
+
+    @Nested
+    class passengers {
+        @Test
+        void findById() throws SQLException {
+            // When
+            passengerRepository.findById("passenger");
+            String plan = explainRecordedSelect("passengers");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+        }
+    }
+
+    @Nested
+    class routes {
+        @Test
+        void findById() throws SQLException {
+            // When
+            routeRepository.findById("route");
+            String plan = explainRecordedSelect("routes");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+        }
+    }
+
+    @Nested
+    class spaceShuttles {
+        @Test
+        void getAllSpaceShuttlesByModelId() throws SQLException {
+            // When
+            spaceShuttleRepository.getAllSpaceShuttlesByModelId("model");
+            String plan = explainRecordedSelect("space_shuttles");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains(FOREIGN_KEY_INDEX), plan);
+        }
+    }
+
+    @Nested
+    class spaceStations {
+        @Test
+        void findById() throws SQLException {
+            // When
+            spaceStationRepository.findById("spaceStation");
+            String plan = explainRecordedSelect("space_stations");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+        }
+    }
+
+    @Nested
+    class locations {
+        @Test
+        void findById() throws SQLException {
+            // When
+            locationRepository.findById("location");
+            String plan = explainRecordedSelect("locations");
+
+            // Then
+            assertFalse(plan.contains(TABLE_SCAN), plan);
+            assertTrue(plan.contains(FOREIGN_KEY_INDEX), plan);
+        }
+    }
+}
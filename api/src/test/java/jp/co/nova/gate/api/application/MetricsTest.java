@@ -0,0 +1,68 @@
+package jp.co.nova.gate.api.application;
+
+import io.helidon.http.Status;
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jp.co.nova.gate.api.features.booking.service.BookingStage;
+import jp.co.nova.gate.api.features.booking.service.BookingStageTimers;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the metrics of the API are scrapeable in Prometheus format.
+ */
+@HelidonTest
+public class MetricsTest {
+
+    @Inject
+    private WebTarget target;
+
+    @Inject
+    private BookingStageTimers bookingStageTimers;
+
+    /**
+     * Returns the metrics of the API in Prometheus format.
+     *
+     * @return The metrics of the API.
+     */
+    private String getMetrics() {
+        Response response = target.path("metrics").request(MediaType.TEXT_PLAIN).get();
+
+        assertEquals(Status.OK_200.code(), response.getStatus());
+        return response.readEntity(String.class);
+    }
+
+    @Test
+    void whenScrapingTheMetrics() {
+        // Given
+        assertNotNull(bookingStageTimers);
+        target.path("catalog/genders").request().get();
+
+        // When
+        String metrics = getMetrics();
+
+        // Then
+        assertTrue(metrics.contains("booking_stage_time"));
+        assertTrue(metrics.contains("stage=\"persist\""));
+        assertTrue(metrics.contains("hikari_connections_active"));
+        assertTrue(metrics.contains("CatalogService_getCatalogPayload"));
+    }
+
+    @Test
+    void whenScrapingThePercentilesOfTheBookingStages() {
+        // Given
+        bookingStageTimers.time(BookingStage.PERSIST, () -> null);
+
+        // When
+        String metrics = getMetrics();
+
+        // Then
+        assertTrue(metrics.lines().anyMatch(line -> line.startsWith("booking_stage_time")
+                && line.contains("stage=\"persist\"")
+                && line.contains("quantile=\"0.99\"")), metrics);
+    }
+}
@@ -0,0 +1,132 @@
+package jp.co.nova.gate.api.application.startup;
+
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SeedDataset} class.
+ */
+public class SeedDatasetTest {
+
+    @Nested
+    class open {
+        @Test
+        void whenTheSeedFileExists() {
+            // When
+            SeedDataset dataset = SeedDataset.open(StartUpStage.LOCATIONS);
+
+            // Then
+            assertEquals(StartUpStage.LOCATIONS, dataset.getStage());
+            assertEquals(64, dataset.getChecksum().length());
+            assertEquals(dataset.getChecksum(), SeedDataset.open(StartUpStage.LOCATIONS).getChecksum());
+            assertNotEquals(dataset.getChecksum(), SeedDataset.open(StartUpStage.SPACE_STATIONS).getChecksum());
+        }
+    }
+
+    @Nested
+    class isUnchanged {
+        @Test
+        void whenTheFingerprintMatches() {
+            // Given
+            SeedDataset dataset = SeedDataset.open(StartUpStage.ROUTES);
+            SeedFingerprint fingerprint = dataset.forEachChangedChunk(Optional.empty(), 10, chunk -> {
+            });
+
+            // When
+            boolean unchanged = dataset.isUnchanged(fingerprint);
+
+            // Then
+            assertTrue(unchanged);
+        }
+
+        @Test
+        void whenTheFingerprintDiffers() {
+            // Given
+            SeedDataset dataset = SeedDataset.open(StartUpStage.ROUTES);
+            SeedFingerprint fingerprint = SeedFingerprint.create(StartUpStage.ROUTES.getKey(), "outdated", Map.of());
+
+            // When
+            boolean unchanged = dataset.isUnchanged(fingerprint);
+
+            // Then
+            assertFalse(unchanged);
+        }
+
+        @Test
+        void whenTheFingerprintIsMissing() {
+            // Given
+            SeedDataset dataset = SeedDataset.open(StartUpStage.ROUTES);
+
+            // When
+            boolean unchanged = dataset.isUnchanged(null);
+
+            // Then
+            assertFalse(unchanged);
+        }
+    }
+
+    @Nested
+    class forEachChangedChunk {
+        @Test
+        void whenThereIsNoFingerprint() {
+            // Given
+            SeedDataset dataset = SeedDataset.open(StartUpStage.VOYAGES);
+            List<List<JsonObject>> chunks = new ArrayList<>();
+
+            // When
+            SeedFingerprint fingerprint = dataset.forEachChangedChunk(Optional.empty(), 50, chunks::add);
+
+            // Then
+            assertTrue(chunks.stream().allMatch(chunk -> chunk.size() <= 50));
+            assertEquals(fingerprint.getRecordChecksums().size(), chunks.stream().mapToInt(List::size).sum());
+            assertEquals(dataset.getChecksum(), fingerprint.getChecksum());
+        }
+
+        @Test
+        void whenSomeRecordsChanged() {
+            // Given
+            SeedDataset dataset = SeedDataset.open(StartUpStage.VOYAGES);
+            Map<String, String> recordChecksums = new HashMap<>(dataset.forEachChangedChunk(Optional.empty(), 50, chunk -> {
+            }).getRecordChecksums());
+
+            String changedId = recordChecksums.keySet().iterator().next();
+            String addedId = recordChecksums.keySet().stream().skip(1).findFirst().orElseThrow();
+
+            recordChecksums.put(changedId, "outdated");
+            recordChecksums.remove(addedId);
+
+            SeedFingerprint fingerprint = SeedFingerprint.create(StartUpStage.VOYAGES.getKey(), "outdated", recordChecksums);
+            List<JsonObject> changedRecords = new ArrayList<>();
+
+            // When
+            dataset.forEachChangedChunk(Optional.of(fingerprint), 1, changedRecords::addAll);
+
+            // Then
+            assertEquals(2, changedRecords.size());
+            assertTrue(changedRecords.stream().anyMatch(record -> record.getString("id").equals(changedId)));
+            assertTrue(changedRecords.stream().anyMatch(record -> record.getString("id").equals(addedId)));
+        }
+
+        @Test
+        void whenTheChunkSizeIsInvalid() {
+            // Given
+            SeedDataset dataset = SeedDataset.open(StartUpStage.VOYAGES);
+
+            // When
+            Exception exception = assertThrows(StartUpException.class, () -> dataset.forEachChangedChunk(Optional.empty(), 0, chunk -> {
+            }));
+
+            // Then
+            assertEquals(StartUpError.INVALID_CHUNK_SIZE.getDescription(), exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package jp.co.nova.gate.api.application.startup;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link StartUpStage} enum.
+ */
+public class StartUpStageTest {
+
+    @Nested
+    class getDependencies {
+        @Test
+        void whenTheStagesAreDeclared() {
+            // When
+            StartUpStage[] stages = StartUpStage.values();
+
+            // Then
+            for (StartUpStage stage : stages) {
+                stage.getDependencies().forEach(dependency -> assertTrue(dependency.ordinal() < stage.ordinal()));
+            }
+        }
+
+        @Test
+        void whenTheStagesAreIndependent() {
+            // Then
+            assertTrue(StartUpStage.LOCATIONS.getDependencies().isEmpty());
+            assertTrue(StartUpStage.SPACE_SHUTTLE_MODELS.getDependencies().isEmpty());
+            assertEquals(List.of(StartUpStage.ROUTES, StartUpStage.SPACE_SHUTTLES), StartUpStage.VOYAGES.getDependencies());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package jp.co.nova.gate.api.features.authentication.domain;
+
+import com.nimbusds.jwt.SignedJWT;
+import jp.co.nova.gate.api.features.authentication.exception.AuthenticationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link JwtTokenCreationFactory} class.
+ */
+public class JwtTokenCreationFactoryTest {
+
+    private static final String EXAMPLE_ISSUER = "NovaGate API";
+    private static final Duration EXAMPLE_LIFE_SPAN = Duration.ofMinutes(30);
+
+    private static KeyPair createRsaKeyPair() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    private static KeyPair createEcKeyPair() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    @Nested
+    class create {
+        @Test
+        void whenThePrivateKeyDoesNotMatchTheAlgorithm() throws Exception {
+            // Given
+            KeyPair keyPair = createRsaKeyPair();
+
+            // When
+            AuthenticationException exception = assertThrows(AuthenticationException.class,
+                    () -> new JwtTokenCreationFactory(EXAMPLE_ISSUER, EXAMPLE_LIFE_SPAN, JwtSigningAlgorithm.ES256, keyPair.getPrivate()));
+
+            // Then
+            assertEquals("The private key for a new authentication token doesn't match the signing algorithm.", exception.getMessage());
+        }
+
+        @Test
+        void withoutALifeSpan() throws Exception {
+            // Given
+            KeyPair keyPair = createRsaKeyPair();
+
+            // When
+            AuthenticationException exception = assertThrows(AuthenticationException.class,
+                    () -> new JwtTokenCreationFactory(EXAMPLE_ISSUER, null, JwtSigningAlgorithm.RS256, keyPair.getPrivate()));
+
+            // Then
+            assertEquals("The life span for a authentication token is invalid.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class generate {
+        @Test
+        void withRs256() throws Exception {
+            // Given
+            KeyPair keyPair = createRsaKeyPair();
+            JwtTokenCreationFactory factory = new JwtTokenCreationFactory(EXAMPLE_ISSUER, EXAMPLE_LIFE_SPAN, JwtSigningAlgorithm.RS256, keyPair.getPrivate());
+            String subject = UUID.randomUUID().toString();
+
+            // When
+            SignedJWT token = factory.generate(subject);
+
+            // Then
+            assertEquals("RS256", token.getHeader().getAlgorithm().getName());
+            assertEquals(subject, token.getJWTClaimsSet().getSubject());
+            assertEquals(EXAMPLE_ISSUER, token.getJWTClaimsSet().getIssuer());
+            assertTrue(SignedJWT.parse(token.serialize()).verify(JwtSigningAlgorithm.RS256.createVerifier(keyPair.getPublic())));
+        }
+
+        @Test
+        void withEs256() throws Exception {
+            // Given
+            KeyPair keyPair = createEcKeyPair();
+            JwtTokenCreationFactory factory = new JwtTokenCreationFactory(EXAMPLE_ISSUER, EXAMPLE_LIFE_SPAN, JwtSigningAlgorithm.ES256, keyPair.getPrivate());
+
+            // When
+            SignedJWT token = factory.generate(UUID.randomUUID().toString());
+
+            // Then
+            assertEquals("ES256", token.getHeader().getAlgorithm().getName());
+            assertTrue(SignedJWT.parse(token.serialize()).verify(JwtSigningAlgorithm.ES256.createVerifier(keyPair.getPublic())));
+        }
+
+        @Test
+        void whenReusedForSeveralSubjects() throws Exception {
+            // Given
+            KeyPair keyPair = createRsaKeyPair();
+            JwtTokenCreationFactory factory = new JwtTokenCreationFactory(EXAMPLE_ISSUER, EXAMPLE_LIFE_SPAN, JwtSigningAlgorithm.RS256, keyPair.getPrivate());
+
+            // When
+            SignedJWT firstToken = factory.generate("first");
+            SignedJWT secondToken = factory.generate("second");
+
+            // Then
+            assertEquals("first", firstToken.getJWTClaimsSet().getSubject());
+            assertEquals("second", secondToken.getJWTClaimsSet().getSubject());
+        }
+    }
+}
@@ -9,14 +9,32 @@ import jakarta.transaction.Transactional;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jp.co.nova.gate.api.features.booking.domain.Booking;
 import jp.co.nova.gate.api.features.booking.domain.BookingStatus;
+import jp.co.nova.gate.api.features.booking.domain.BookingTicketStatus;
 import jp.co.nova.gate.api.features.booking.dto.BookingDto;
+import jp.co.nova.gate.api.features.booking.dto.BookingTicketDto;
 import jp.co.nova.gate.api.features.booking.exception.BookingError;
 import jp.co.nova.gate.api.features.booking.input.BookingCreationForm;
+import jp.co.nova.gate.api.features.booking.repository.BookingRepository;
+import jp.co.nova.gate.api.features.catalog.domain.MealPreference;
+import jp.co.nova.gate.api.features.catalog.domain.PackageType;
+import jp.co.nova.gate.api.features.catalog.domain.PodType;
+import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.passenger.domain.PassengerCreationFactory;
+import jp.co.nova.gate.api.features.passenger.domain.PersonalInformationCreationFactory;
+import jp.co.nova.gate.api.features.passenger.exception.PassengerError;
+import jp.co.nova.gate.api.features.pod.domain.PodAvailabilityIndex;
+import jp.co.nova.gate.api.features.pod.domain.PodReservation;
+import jp.co.nova.gate.api.features.pod.repository.PodReservationRepository;
+import jp.co.nova.gate.api.features.pod.service.PodReservationService;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
 import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
 import jp.co.nova.gate.utils.features.booking.PersistedBookingTestScenario;
 import jp.co.nova.gate.utils.features.passenger.PassengerCreationFormTestDataBuilder;
+import jp.co.nova.gate.utils.features.passenger.PersonalInformationFormTestDataBuilder;
 import jp.co.nova.gate.utils.features.route.PersistedRouteTestScenario;
 import jp.co.nova.gate.utils.features.spaceShuttle.PersistedSpaceShuttleTestScenario;
 import jp.co.nova.gate.utils.features.spaceShuttleModel.PersistedSpaceShuttleModelTestScenario;
@@ -27,7 +45,11 @@ import org.junit.jupiter.api.Test;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,11 +74,45 @@ class BookingEndpointTest {
     @Inject
     private WebTarget target;
 
+    @Inject
+    private BookingRepository bookingRepository;
+
+    @Inject
+    private PodReservationRepository podReservationRepository;
+
+    @Inject
+    private PodReservationService podReservationService;
+
     @BeforeEach
     void beforeEach() {
         persistedBookingTestScenario.setup();
     }
 
+    /**
+     * Polls the status of a booking ticket until the booking is confirmed or rejected.
+     *
+     * @param ticketId The ID of the booking ticket.
+     * @return The final {@link BookingTicketDto}.
+     */
+    private BookingTicketDto awaitFinalTicket(String ticketId) throws InterruptedException {
+        BookingTicketDto ticket = null;
+
+        for (int attempt = 0; attempt < 50; attempt++) {
+            ticket = target.path(String.format("bookings/%s/status", ticketId)).request(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                    .get()
+                    .readEntity(BookingTicketDto.class);
+
+            if (ticket.status.equals(BookingTicketStatus.CONFIRMED.getLabel()) || ticket.status.equals(BookingTicketStatus.REJECTED.getLabel())) {
+                return ticket;
+            }
+
+            Thread.sleep(100);
+        }
+
+        return ticket;
+    }
+
     @Test
     void createBooking() {
         // Given
@@ -91,6 +147,80 @@ class BookingEndpointTest {
         assertNotNull(newSavedBooking);
     }
 
+    @Test
+    void createBooking_whenPodIsAlreadyReserved() {
+        // Given
+        BookingCreationForm creationForm = new BookingCreationForm(
+                persistedBookingTestScenario.getPersistedVoyage().getId(),
+                List.of(new PassengerCreationFormTestDataBuilder().create())
+        );
+
+        Response firstResponse = target.path("bookings").request()
+                .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                .post(Entity.json(creationForm));
+
+        // When
+        Response secondResponse = target.path("bookings").request()
+                .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                .post(Entity.json(creationForm));
+
+        // Then
+        assertEquals(Status.OK_200.code(), firstResponse.getStatus());
+        assertEquals(Status.INTERNAL_SERVER_ERROR_500.code(), secondResponse.getStatus());
+
+        DomainErrorDto error = secondResponse.readEntity(DomainErrorDto.class);
+        assertEquals(PassengerError.CREATE.getKey(), error.key);
+    }
+
+    @Test
+    void createBooking_concurrentlyWhenAPodIsReservedElsewhere() throws Exception {
+        // Given
+        Voyage voyage = persistedBookingTestScenario.getPersistedVoyage();
+        PodType podType = PodType.findByPackageType(PackageType.ECONOMY).orElseThrow();
+
+        PodAvailabilityIndex availabilityIndex = podReservationService.getAvailabilityIndex(voyage);
+        String podReservedElsewhere = availabilityIndex.findFirstAvailable(podType).orElseThrow().getCode();
+        int availablePods = availabilityIndex.countAvailable(podType);
+
+        Booking otherBooking = Booking.create(persistedBookingTestScenario.getPersistedUser(), voyage);
+        Passenger otherPassenger = new PassengerCreationFactory(otherBooking, PackageType.ECONOMY, MealPreference.STANDARD).create();
+        otherPassenger.assignPersonalInformation(new PersonalInformationCreationFactory(otherPassenger, new PersonalInformationFormTestDataBuilder().create()).create());
+        otherPassenger.assignPodReservation(PodReservation.create(podReservedElsewhere, otherPassenger, voyage));
+        otherBooking.assignPassengers(List.of(otherPassenger));
+        bookingRepository.save(otherBooking);
+
+        BookingCreationForm creationForm = new BookingCreationForm(
+                voyage.getId(),
+                List.of(new PassengerCreationFormTestDataBuilder().withoutPodCode().create())
+        );
+
+        int bookingCount = 8;
+        List<Future<Response>> responses = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int booking = 0; booking < bookingCount; booking++) {
+                responses.add(executor.submit(() -> target.path("bookings").request()
+                        .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                        .post(Entity.json(creationForm))));
+            }
+        }
+
+        // Then
+        for (Future<Response> response : responses) {
+            assertEquals(Status.OK_200.code(), response.get().getStatus());
+        }
+
+        List<String> savedPodCodes = podReservationRepository.getAllBySpaceShuttleAndVoyage(voyage).stream().map(PodReservation::getPodCode).toList();
+
+        assertEquals(bookingCount + 1, savedPodCodes.size());
+        assertEquals(savedPodCodes.size(), new HashSet<>(savedPodCodes).size());
+        assertTrue(savedPodCodes.contains(podReservedElsewhere));
+
+        assertFalse(availabilityIndex.isAvailable(podReservedElsewhere));
+        assertEquals(availablePods - bookingCount - 1, podReservationService.getAvailabilityIndex(voyage).countAvailable(podType));
+    }
+
     @Test
     void createBooking_withNoPassengers() {
         BookingCreationForm creationForm = new BookingCreationForm(
@@ -112,6 +242,110 @@ class BookingEndpointTest {
         assertEquals(BookingError.INVALID_PASSENGER_COUNT.getDescription(), error.message);
     }
 
+    @Test
+    void createBooking_asynchronously() throws InterruptedException {
+        // Given
+        BookingCreationForm creationForm = new BookingCreationForm(
+                persistedBookingTestScenario.getPersistedVoyage().getId(),
+                List.of(new PassengerCreationFormTestDataBuilder().create())
+        );
+
+        // When
+        Response response = target.path("bookings").request()
+                .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                .header("Prefer", "respond-async")
+                .post(Entity.json(creationForm));
+
+        // Then
+        assertEquals(Status.ACCEPTED_202.code(), response.getStatus());
+        assertEquals("respond-async", response.getHeaderString("Preference-Applied"));
+
+        BookingTicketDto ticket = response.readEntity(BookingTicketDto.class);
+
+        assertNotNull(ticket.id);
+        assertTrue(response.getLocation().getPath().endsWith(String.format("bookings/%s/status", ticket.id)));
+
+        ticket = awaitFinalTicket(ticket.id);
+
+        assertEquals(BookingTicketStatus.CONFIRMED.getLabel(), ticket.status);
+        assertNotNull(ticket.bookingId);
+
+        Response bookingResponse = target.path(String.format("bookings/%s", ticket.bookingId)).request()
+                .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                .get();
+
+        assertEquals(Status.OK_200.code(), bookingResponse.getStatus());
+    }
+
+    @Test
+    void createBooking_asynchronouslyForTheSamePod() throws InterruptedException {
+        // Given
+        BookingCreationForm creationForm = new BookingCreationForm(
+                persistedBookingTestScenario.getPersistedVoyage().getId(),
+                List.of(new PassengerCreationFormTestDataBuilder().create())
+        );
+
+        List<String> ticketIds = new ArrayList<>();
+
+        // When
+        for (int booking = 0; booking < 3; booking++) {
+            ticketIds.add(
+                    target.path("bookings").request()
+                            .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                            .header("Prefer", "respond-async")
+                            .post(Entity.json(creationForm))
+                            .readEntity(BookingTicketDto.class)
+                            .id
+            );
+        }
+
+        // Then
+        List<BookingTicketDto> tickets = new ArrayList<>();
+
+        for (String ticketId : ticketIds) {
+            tickets.add(awaitFinalTicket(ticketId));
+        }
+
+        assertEquals(1, tickets.stream().filter(ticket -> ticket.status.equals(BookingTicketStatus.CONFIRMED.getLabel())).count());
+        assertEquals(2, tickets.stream().filter(ticket -> ticket.status.equals(BookingTicketStatus.REJECTED.getLabel())).count());
+        assertTrue(tickets.stream().filter(ticket -> ticket.status.equals(BookingTicketStatus.REJECTED.getLabel())).allMatch(ticket -> ticket.error != null));
+    }
+
+    @Test
+    void createBooking_asynchronouslyWithNoPassengers() {
+        // Given
+        BookingCreationForm creationForm = new BookingCreationForm(
+                persistedBookingTestScenario.getPersistedVoyage().getId(),
+                List.of()
+        );
+
+        // When
+        Response response = target.path("bookings").request()
+                .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                .header("Prefer", "respond-async")
+                .post(Entity.json(creationForm));
+
+        // Then
+        assertEquals(Status.INTERNAL_SERVER_ERROR_500.code(), response.getStatus());
+
+        DomainErrorDto error = response.readEntity(DomainErrorDto.class);
+        assertEquals(BookingError.INVALID_PASSENGER_COUNT.getKey(), error.key);
+    }
+
+    @Test
+    void findBookingTicketById_whenTheTicketIsUnknown() {
+        // When
+        Response response = target.path("bookings/unknown/status").request(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                .get();
+
+        // Then
+        assertEquals(Status.NOT_FOUND_404.code(), response.getStatus());
+
+        DomainErrorDto error = response.readEntity(DomainErrorDto.class);
+        assertEquals(BookingError.TICKET_NOT_FOUND.getKey(), error.key);
+    }
+
     @Test
     void findBookingById() {
         // When
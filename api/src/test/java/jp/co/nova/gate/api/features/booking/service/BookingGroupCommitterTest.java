@@ -0,0 +1,159 @@
+package jp.co.nova.gate.api.features.booking.service;
+
+import io.helidon.http.Status;
+import io.helidon.microprofile.testing.junit5.AddBean;
+import io.helidon.microprofile.testing.junit5.AddBeans;
+import io.helidon.microprofile.testing.junit5.AddConfig;
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jp.co.nova.gate.api.features.booking.input.BookingCreationForm;
+import jp.co.nova.gate.api.features.pod.domain.PodReservation;
+import jp.co.nova.gate.api.features.pod.repository.PodReservationRepository;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.utils.features.booking.PersistedBookingTestScenario;
+import jp.co.nova.gate.utils.features.passenger.PassengerCreationFormTestDataBuilder;
+import jp.co.nova.gate.utils.features.route.PersistedRouteTestScenario;
+import jp.co.nova.gate.utils.features.spaceShuttle.PersistedSpaceShuttleTestScenario;
+import jp.co.nova.gate.utils.features.spaceShuttleModel.PersistedSpaceShuttleModelTestScenario;
+import jp.co.nova.gate.utils.features.user.PersistedUserTestScenario;
+import jp.co.nova.gate.utils.features.voyage.PersistedVoyageTestScenario;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BookingGroupCommitter} class. The window is long enough for all concurrent bookings to join
+ * the same group, which is saved as soon as it is full.
+ */
+@Transactional(Transactional.TxType.REQUIRED)
+@HelidonTest
+@AddBeans({
+        @AddBean(PersistedBookingTestScenario.class),
+        @AddBean(PersistedVoyageTestScenario.class),
+        @AddBean(PersistedUserTestScenario.class),
+        @AddBean(PersistedSpaceShuttleTestScenario.class),
+        @AddBean(PersistedSpaceShuttleModelTestScenario.class),
+        @AddBean(PersistedRouteTestScenario.class)
+})
+@AddConfig(key = "booking.group-commit.window-millis", value = "5000")
+@AddConfig(key = "booking.group-commit.max-size", value = "4")
+class BookingGroupCommitterTest {
+
+    private static final int GROUP_SIZE = 4;
+
+    @Inject
+    PersistedBookingTestScenario persistedBookingTestScenario;
+
+    @Inject
+    private WebTarget target;
+
+    @Inject
+    private PodReservationRepository podReservationRepository;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    private Histogram groupSizeHistogram;
+
+    @BeforeEach
+    void beforeEach() {
+        persistedBookingTestScenario.setup();
+        groupSizeHistogram = metricRegistry.histogram(BookingGroupCommitter.GROUP_SIZE_METRIC_NAME);
+    }
+
+    /**
+     * Creates the provided number of bookings concurrently, each with a synchronous request.
+     *
+     * @param creationForm The form of every booking.
+     * @param count        The number of bookings.
+     * @return The {@link Response}s of the requests.
+     */
+    private List<Response> createBookingsConcurrently(BookingCreationForm creationForm, int count) throws Exception {
+        List<Future<Response>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int booking = 0; booking < count; booking++) {
+                futures.add(executor.submit(() -> target.path("bookings").request()
+                        .header(HttpHeaders.AUTHORIZATION, persistedBookingTestScenario.getAuthenticationHeader())
+                        .post(Entity.json(creationForm))));
+            }
+        }
+
+        List<Response> responses = new ArrayList<>(count);
+
+        for (Future<Response> future : futures) {
+            responses.add(future.get());
+        }
+
+        return responses;
+    }
+
+    @Test
+    void commit_concurrently() throws Exception {
+        // Given
+        Voyage voyage = persistedBookingTestScenario.getPersistedVoyage();
+        BookingCreationForm creationForm = new BookingCreationForm(
+                voyage.getId(),
+                List.of(new PassengerCreationFormTestDataBuilder().withoutPodCode().create())
+        );
+
+        long groupCount = groupSizeHistogram.getCount();
+        long groupedBookingCount = groupSizeHistogram.getSum();
+
+        // When
+        List<Response> responses = createBookingsConcurrently(creationForm, GROUP_SIZE);
+
+        // Then
+        responses.forEach(response -> assertEquals(Status.OK_200.code(), response.getStatus()));
+
+        assertEquals(groupCount + 1, groupSizeHistogram.getCount());
+        assertEquals(groupedBookingCount + GROUP_SIZE, groupSizeHistogram.getSum());
+
+        List<String> savedPodCodes = podReservationRepository.getAllBySpaceShuttleAndVoyage(voyage).stream().map(PodReservation::getPodCode).toList();
+
+        assertEquals(savedPodCodes.size(), new HashSet<>(savedPodCodes).size());
+    }
+
+    @Test
+    void commit_concurrentlyWhenPartOfTheGroupFails() throws Exception {
+        // Given
+        Voyage voyage = persistedBookingTestScenario.getPersistedVoyage();
+        BookingCreationForm creationForm = new BookingCreationForm(
+                voyage.getId(),
+                List.of(new PassengerCreationFormTestDataBuilder().create())
+        );
+        String requestedPodCode = creationForm.passengers.getFirst().podCode;
+
+        long groupCount = groupSizeHistogram.getCount();
+        long groupedBookingCount = groupSizeHistogram.getSum();
+
+        // When
+        List<Response> responses = createBookingsConcurrently(creationForm, GROUP_SIZE);
+
+        // Then
+        assertEquals(1, responses.stream().filter(response -> response.getStatus() == Status.OK_200.code()).count());
+        assertEquals(GROUP_SIZE - 1, responses.stream().filter(response -> response.getStatus() == Status.INTERNAL_SERVER_ERROR_500.code()).count());
+
+        assertEquals(groupCount + 1, groupSizeHistogram.getCount());
+        assertEquals(groupedBookingCount + 1, groupSizeHistogram.getSum());
+
+        List<String> savedPodCodes = podReservationRepository.getAllBySpaceShuttleAndVoyage(voyage).stream().map(PodReservation::getPodCode).toList();
+
+        assertEquals(1, savedPodCodes.stream().filter(requestedPodCode::equals).count());
+    }
+}
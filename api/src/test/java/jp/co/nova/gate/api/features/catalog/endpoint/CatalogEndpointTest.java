@@ -5,15 +5,21 @@ import io.helidon.microprofile.testing.junit5.HelidonTest;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jp.co.nova.gate.api.features.catalog.domain.*;
 import jp.co.nova.gate.api.features.catalog.dto.*;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -176,4 +182,22 @@ class CatalogEndpointTest {
         assertEquals(expectedPodType.getKey(), selectedPodType.key);
         assertEquals(expectedPodType.getLabel(), selectedPodType.label);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllCatalogItemsGzipCompressed() throws IOException {
+        // When
+        Response response = target.path("catalog").request().header(HttpHeaders.ACCEPT_ENCODING, "gzip").get();
+
+        // Then
+        assertNotNull(response);
+        assertEquals(Status.OK_200.code(), response.getStatus());
+        assertEquals("gzip", response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertNotNull(response.getHeaderString(HttpHeaders.ETAG));
+
+        try (InputStream content = new GZIPInputStream(new ByteArrayInputStream(response.readEntity(byte[].class)))) {
+            String json = new String(content.readAllBytes(), StandardCharsets.UTF_8);
+
+            Arrays.stream(CatalogTopic.values()).forEach(topic -> assertTrue(json.contains(String.format("\"%s\"", topic.getLabel()))));
+        }
+    }
+}
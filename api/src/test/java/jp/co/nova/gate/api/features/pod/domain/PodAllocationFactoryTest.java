@@ -0,0 +1,143 @@
+package jp.co.nova.gate.api.features.pod.domain;
+
+import jp.co.nova.gate.api.features.booking.domain.Booking;
+import jp.co.nova.gate.api.features.catalog.domain.MealPreference;
+import jp.co.nova.gate.api.features.catalog.domain.PackageType;
+import jp.co.nova.gate.api.features.catalog.domain.PodType;
+import jp.co.nova.gate.api.features.passenger.domain.Passenger;
+import jp.co.nova.gate.api.features.pod.exception.PodReservationException;
+import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayout;
+import jp.co.nova.gate.api.features.voyage.domain.Voyage;
+import jp.co.nova.gate.utils.features.booking.BookingTestDataBuilder;
+import jp.co.nova.gate.utils.features.user.UserTestDataBuilder;
+import jp.co.nova.gate.utils.features.voyage.VoyageTestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PodAllocationFactory} class.
+ */
+public class PodAllocationFactoryTest {
+
+    private Voyage voyage;
+    private Booking booking;
+    private SpaceShuttleLayout layout;
+    private PodAvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        voyage = new VoyageTestDataBuilder().create();
+        booking = new BookingTestDataBuilder().create(new UserTestDataBuilder().create(), voyage);
+        layout = voyage.getSpaceShuttle().getLayout();
+        availabilityIndex = PodAvailabilityIndex.create(layout, List.of());
+    }
+
+    /**
+     * Creates a new {@link Passenger} for the test booking.
+     *
+     * @param packageType The package type of the passenger.
+     * @return A {@link Passenger}.
+     */
+    private Passenger createPassenger(PackageType packageType) {
+        return Passenger.create(MealPreference.STANDARD, packageType, booking, voyage);
+    }
+
+    @Nested
+    class create {
+        @Test
+        void assignsADifferentPodToEveryPassenger() {
+            // Given
+            Map<Passenger, String> requestedPodCodes = new LinkedHashMap<>();
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), null);
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), null);
+            requestedPodCodes.put(createPassenger(PackageType.FIRST_CLASS), null);
+
+            // When
+            List<PodReservation> podReservations = new PodAllocationFactory(voyage, requestedPodCodes, availabilityIndex, false).create();
+
+            // Then
+            assertEquals(3, podReservations.size());
+            assertEquals(3, podReservations.stream().map(PodReservation::getPodCode).distinct().count());
+            assertEquals(68, availabilityIndex.countAvailable(PodType.STANDARD_POD));
+            assertEquals(26, availabilityIndex.countAvailable(PodType.ENHANCED_POD));
+        }
+
+        @Test
+        void skipsTheRequestedPodsOfOtherPassengers() {
+            // Given
+            String firstPodCode = layout.getPod(0).getCode();
+
+            Map<Passenger, String> requestedPodCodes = new LinkedHashMap<>();
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), null);
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), firstPodCode);
+
+            // When
+            List<PodReservation> podReservations = new PodAllocationFactory(voyage, requestedPodCodes, availabilityIndex, false).create();
+
+            // Then
+            assertEquals(layout.getPod(1).getCode(), podReservations.get(0).getPodCode());
+            assertEquals(firstPodCode, podReservations.get(1).getPodCode());
+        }
+
+        @Test
+        void seatsTheGroupTogether() {
+            // Given
+            availabilityIndex.reserve(layout.getPod(1).getCode());
+
+            Map<Passenger, String> requestedPodCodes = new LinkedHashMap<>();
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), null);
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), null);
+
+            // When
+            List<PodReservation> podReservations = new PodAllocationFactory(voyage, requestedPodCodes, availabilityIndex, true).create();
+
+            // Then
+            assertEquals(List.of(layout.getPod(3).getCode(), layout.getPod(4).getCode()), podReservations.stream().map(PodReservation::getPodCode).toList());
+        }
+
+        @Test
+        void whenARequestedPodIsReserved() {
+            // Given
+            String reservedPodCode = layout.getPod(5).getCode();
+            availabilityIndex.reserve(reservedPodCode);
+
+            Map<Passenger, String> requestedPodCodes = new LinkedHashMap<>();
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), layout.getPod(0).getCode());
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), reservedPodCode);
+
+            PodAllocationFactory factory = new PodAllocationFactory(voyage, requestedPodCodes, availabilityIndex, false);
+
+            // Then
+            PodReservationException exception = assertThrows(PodReservationException.class, factory::create);
+
+            assertEquals("Unable to create a new pod reservation.", exception.getMessage());
+            assertTrue(availabilityIndex.isAvailable(layout.getPod(0).getCode()));
+            assertEquals(69, availabilityIndex.countAvailable(PodType.STANDARD_POD));
+        }
+
+        @Test
+        void whenThereAreNotEnoughPods() {
+            // Given
+            Map<Passenger, String> requestedPodCodes = new LinkedHashMap<>();
+            requestedPodCodes.put(createPassenger(PackageType.ECONOMY), null);
+
+            for (int passenger = 0; passenger < 4; passenger++) {
+                requestedPodCodes.put(createPassenger(PackageType.BUSINESS), null);
+            }
+
+            PodAllocationFactory factory = new PodAllocationFactory(voyage, requestedPodCodes, availabilityIndex, false);
+
+            // Then
+            assertThrows(PodReservationException.class, factory::create);
+            assertEquals(70, availabilityIndex.countAvailable(PodType.STANDARD_POD));
+            assertEquals(3, availabilityIndex.countAvailable(PodType.PRIVATE_SUITE_POD));
+        }
+    }
+}
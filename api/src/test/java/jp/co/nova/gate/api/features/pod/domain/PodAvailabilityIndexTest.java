@@ -0,0 +1,261 @@
+package jp.co.nova.gate.api.features.pod.domain;
+
+import jp.co.nova.gate.api.features.catalog.domain.PodType;
+import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayout;
+import jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayoutRegistry;
+import jp.co.nova.gate.utils.features.spaceShuttleModel.SpaceShuttleModelTestDataBuilder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PodAvailabilityIndex} class.
+ */
+public class PodAvailabilityIndexTest {
+
+    /**
+     * A layout with 70 standard pods, 27 enhanced pods and 3 private suite pods.
+     */
+    private static final SpaceShuttleLayout LAYOUT = SpaceShuttleLayoutRegistry.get(new SpaceShuttleModelTestDataBuilder().withMaxCapacity(100).create());
+
+    /**
+     * Creates an empty {@link PodAvailabilityIndex} for the test layout.
+     *
+     * @return A {@link PodAvailabilityIndex}.
+     */
+    private PodAvailabilityIndex createIndex() {
+        return PodAvailabilityIndex.create(LAYOUT, List.of());
+    }
+
+    @Nested
+    class create {
+        @Test
+        void whenLayoutIsMissing() {
+            // Then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> PodAvailabilityIndex.create(null, List.of()));
+
+            assertEquals("The space shuttle layout of the pod reservation is missing.", exception.getMessage());
+        }
+
+        @Test
+        void whenReservationsAreMissing() {
+            // Then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> PodAvailabilityIndex.create(LAYOUT, null));
+
+            assertEquals("The existing reservations are missing.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class reserve {
+        @Test
+        void whenPodIsAvailable() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            String podCode = LAYOUT.getAllPods().getFirst().getCode();
+
+            // When
+            boolean reserved = index.reserve(podCode);
+
+            // Then
+            assertTrue(reserved);
+            assertFalse(index.isAvailable(podCode));
+        }
+
+        @Test
+        void whenPodIsAlreadyReserved() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            String podCode = LAYOUT.getAllPods().getFirst().getCode();
+            index.reserve(podCode);
+
+            // Then
+            assertFalse(index.reserve(podCode));
+        }
+
+        @Test
+        void whenPodDoesNotExist() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+
+            // Then
+            assertFalse(index.reserve("X999999"));
+            assertFalse(index.isAvailable("X999999"));
+        }
+    }
+
+    @Nested
+    class release {
+        @Test
+        void makesThePodAvailableAgain() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            String podCode = LAYOUT.getAllPods().getFirst().getCode();
+            index.reserve(podCode);
+
+            // When
+            index.release(podCode);
+
+            // Then
+            assertTrue(index.isAvailable(podCode));
+        }
+    }
+
+    @Nested
+    class reserveFirstAvailable {
+        @Test
+        void skipsReservedPods() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            List<Pod> suitePods = LAYOUT.getAllPods().stream().filter(pod -> pod.getType() == PodType.PRIVATE_SUITE_POD).toList();
+            index.reserve(suitePods.getFirst().getCode());
+
+            // When
+            Optional<Pod> reservedPod = index.reserveFirstAvailable(PodType.PRIVATE_SUITE_POD);
+
+            // Then
+            assertTrue(reservedPod.isPresent());
+            assertEquals(suitePods.get(1), reservedPod.get());
+            assertEquals(1, index.countAvailable(PodType.PRIVATE_SUITE_POD));
+        }
+
+        @Test
+        void whenAllPodsOfTheTypeAreReserved() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            LAYOUT.getAllPods().stream()
+                    .filter(pod -> pod.getType() == PodType.PRIVATE_SUITE_POD)
+                    .forEach(pod -> index.reserve(pod.getCode()));
+
+            // Then
+            assertTrue(index.reserveFirstAvailable(PodType.PRIVATE_SUITE_POD).isEmpty());
+            assertEquals(0, index.countAvailable(PodType.PRIVATE_SUITE_POD));
+            assertEquals(70, index.countAvailable(PodType.STANDARD_POD));
+        }
+    }
+
+    @Nested
+    class reserveGroup {
+        @Test
+        void reservesAdjacentPodsInTheSameRow() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            index.reserve(LAYOUT.getPod(1).getCode());
+
+            // When
+            List<Pod> reservedPods = index.reserveGroup(PodType.STANDARD_POD, 3);
+
+            // Then
+            assertEquals(List.of(LAYOUT.getPod(3), LAYOUT.getPod(4), LAYOUT.getPod(5)), reservedPods);
+            assertTrue(reservedPods.stream().allMatch(pod -> pod.getRow() == reservedPods.getFirst().getRow()));
+            assertEquals(66, index.countAvailable(PodType.STANDARD_POD));
+        }
+
+        @Test
+        void whenAllFreePodsInARunCrossARowBoundary() {
+            // Given
+            SpaceShuttleLayout layout = SpaceShuttleLayout.create(Map.of(
+                    1, List.of(
+                            Pod.create("S1-1", PodType.STANDARD_POD, 1, 1, 1, PodStatus.AVAILABLE),
+                            Pod.create("S1-2", PodType.STANDARD_POD, 1, 1, 2, PodStatus.AVAILABLE),
+                            Pod.create("S1-3", PodType.STANDARD_POD, 1, 1, 3, PodStatus.AVAILABLE),
+                            Pod.create("S1-4", PodType.STANDARD_POD, 1, 2, 1, PodStatus.AVAILABLE),
+                            Pod.create("S1-5", PodType.STANDARD_POD, 1, 2, 2, PodStatus.AVAILABLE),
+                            Pod.create("S1-6", PodType.STANDARD_POD, 1, 2, 3, PodStatus.AVAILABLE)
+                    ),
+                    2, List.of(
+                            Pod.create("S2-1", PodType.STANDARD_POD, 2, 1, 1, PodStatus.AVAILABLE),
+                            Pod.create("S2-2", PodType.STANDARD_POD, 2, 1, 2, PodStatus.AVAILABLE),
+                            Pod.create("S2-3", PodType.STANDARD_POD, 2, 1, 3, PodStatus.AVAILABLE)
+                    )
+            ));
+            PodAvailabilityIndex index = PodAvailabilityIndex.create(layout, List.of());
+            index.reserve("S1-1");
+            index.reserve("S1-6");
+
+            // When
+            List<Pod> reservedPods = index.reserveGroup(PodType.STANDARD_POD, 3);
+
+            // Then
+            assertEquals(layout.getAllPodsByDeck(2), reservedPods);
+            assertTrue(index.isAvailable("S1-3"));
+            assertTrue(index.isAvailable("S1-4"));
+        }
+
+        @Test
+        void prefersAdjacentPodsOverTheFirstDeck() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            List<Pod> firstEnhancedDeck = LAYOUT.getAllPodsByDeck(4);
+
+            for (int podIndex = 0; podIndex < firstEnhancedDeck.size(); podIndex += 2) {
+                index.reserve(firstEnhancedDeck.get(podIndex).getCode());
+            }
+
+            // When
+            List<Pod> reservedPods = index.reserveGroup(PodType.ENHANCED_POD, 2);
+
+            // Then
+            assertEquals(LAYOUT.getAllPodsByDeck(5).subList(0, 2), reservedPods);
+        }
+
+        @Test
+        void fallsBackToTheFirstDeckWithEnoughAvailablePods() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            List<Pod> firstEnhancedDeck = LAYOUT.getAllPodsByDeck(4);
+
+            for (int podIndex = 0; podIndex < firstEnhancedDeck.size(); podIndex += 2) {
+                index.reserve(firstEnhancedDeck.get(podIndex).getCode());
+            }
+
+            LAYOUT.getAllPodsByDeck(5).forEach(pod -> index.reserve(pod.getCode()));
+
+            // When
+            List<Pod> reservedPods = index.reserveGroup(PodType.ENHANCED_POD, 3);
+
+            // Then
+            assertEquals(List.of(firstEnhancedDeck.get(1), firstEnhancedDeck.get(3), firstEnhancedDeck.get(5)), reservedPods);
+        }
+
+        @Test
+        void whenNoDeckHasEnoughAvailablePods() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+
+            // When
+            List<Pod> reservedPods = index.reserveGroup(PodType.PRIVATE_SUITE_POD, 4);
+
+            // Then
+            assertTrue(reservedPods.isEmpty());
+            assertEquals(3, index.countAvailable(PodType.PRIVATE_SUITE_POD));
+        }
+    }
+
+    @Nested
+    class getAllPodsWithAvailability {
+        @Test
+        void marksReservedPodsAsUnavailable() {
+            // Given
+            PodAvailabilityIndex index = createIndex();
+            Pod reservedPod = LAYOUT.getAllPods().get(42);
+            index.reserve(reservedPod.getCode());
+
+            // When
+            List<Pod> pods = index.getAllPodsWithAvailability();
+
+            // Then
+            assertEquals(LAYOUT.getPodCount(), pods.size());
+            assertEquals(PodStatus.UNAVAILABLE, pods.get(42).getStatus());
+            assertEquals(PodStatus.AVAILABLE, reservedPod.getStatus());
+            assertEquals(1, pods.stream().filter(pod -> pod.getStatus() == PodStatus.UNAVAILABLE).count());
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package jp.co.nova.gate.api.features.route.domain;
 
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
 import jp.co.nova.gate.api.features.location.domain.Location;
 import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
 import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
@@ -11,6 +14,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +32,11 @@ public class RouteDistanceFactoryTest {
 
     private static final SpaceShuttleModel MX_REDLINE = new SpaceShuttleModelTestDataBuilder().withMaxSpeed(60000).create();
 
+    /**
+     * The tolerated difference in kilometers with the former {@link BigDecimal} calculation.
+     */
+    private static final double DISTANCE_TOLERANCE = 0.001;
+
     private static final Route ROUTE_FROM_EARTH_TO_MARS = new RouteTestDataBuilder().create(MARS_STATION, EARTH_STATION, MX_REDLINE);
 
     @Nested
@@ -57,10 +68,81 @@ public class RouteDistanceFactoryTest {
             RouteDistanceFactory routeDistanceFactory = RouteDistanceFactory.create(ROUTE_FROM_EARTH_TO_MARS);
 
             // When
-            BigDecimal routeDistance = routeDistanceFactory.calculate();
+            double routeDistance = routeDistanceFactory.calculate();
 
             // Then
-            assertEquals(new BigDecimal("164410536.8295705102836995"), routeDistance);
+            assertEquals(164410536.8295705102836995, routeDistance, DISTANCE_TOLERANCE);
+        }
+
+        @Test
+        void matchesTheBigDecimalCalculationForAllLocations() {
+            // Given
+            List<Location> locations = readLocations();
+
+            for (Location origin : locations) {
+                for (Location destination : locations) {
+                    // When
+                    double routeDistance = RouteDistanceFactory.calculate(RouteDistanceFactory.toCartesian(origin), RouteDistanceFactory.toCartesian(destination));
+
+                    // Then
+                    BigDecimal expectedDistance = calculateWithBigDecimal(origin, destination);
+                    assertEquals(expectedDistance.doubleValue(), routeDistance, DISTANCE_TOLERANCE, () -> origin.getName() + " to " + destination.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the initial locations of the API.
+     *
+     * @return A {@link List} of {@link Location}s.
+     */
+    private static List<Location> readLocations() {
+        try (JsonReader reader = Json.createReader(RouteDistanceFactoryTest.class.getResourceAsStream("/static/locations.json"))) {
+            return reader.readArray().stream()
+                    .map(JsonValue::asJsonObject)
+                    .map(locationJson -> new LocationTestDataBuilder()
+                            .withName(locationJson.getString("name"))
+                            .withLatitude(locationJson.getJsonNumber("latitude").doubleValue())
+                            .withLongitude(locationJson.getJsonNumber("longitude").doubleValue())
+                            .withRadialDistance(locationJson.getJsonNumber("radialDistance").doubleValue())
+                            .create())
+                    .toList();
         }
     }
+
+    /**
+     * Calculates a distance in kilometers the way it was calculated before the double precision calculation, with
+     * {@link BigDecimal}s and a precision of 25 digits.
+     *
+     * @param origin      The origin location.
+     * @param destination The destination location.
+     * @return The distance in kilometers.
+     */
+    private static BigDecimal calculateWithBigDecimal(Location origin, Location destination) {
+        MathContext mathContext = new MathContext(25, RoundingMode.HALF_UP);
+
+        BigDecimal[] originCoordinates = toCartesianWithBigDecimal(origin, mathContext);
+        BigDecimal[] destinationCoordinates = toCartesianWithBigDecimal(destination, mathContext);
+
+        BigDecimal dx = destinationCoordinates[0].subtract(originCoordinates[0]).pow(2, mathContext);
+        BigDecimal dy = destinationCoordinates[1].subtract(originCoordinates[1]).pow(2, mathContext);
+        BigDecimal dz = destinationCoordinates[2].subtract(originCoordinates[2]).pow(2, mathContext);
+
+        return dx.add(dy).add(dz).sqrt(mathContext).multiply(new BigDecimal("149597870.7"), mathContext);
+    }
+
+    private static BigDecimal[] toCartesianWithBigDecimal(Location location, MathContext mathContext) {
+        double longitudeRad = Math.toRadians(location.getLongitude());
+        double latitudeRad = Math.toRadians(location.getLatitude());
+
+        BigDecimal r = BigDecimal.valueOf(location.getRadialDistance());
+        BigDecimal cosLat = BigDecimal.valueOf(StrictMath.cos(latitudeRad));
+
+        BigDecimal x = r.multiply(cosLat, mathContext).multiply(BigDecimal.valueOf(StrictMath.cos(longitudeRad)), mathContext);
+        BigDecimal y = r.multiply(cosLat, mathContext).multiply(BigDecimal.valueOf(StrictMath.sin(longitudeRad)), mathContext);
+        BigDecimal z = r.multiply(BigDecimal.valueOf(StrictMath.sin(latitudeRad)), mathContext);
+
+        return new BigDecimal[]{x, y, z};
+    }
 }
@@ -0,0 +1,76 @@
+package jp.co.nova.gate.api.features.route.domain;
+
+import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
+import jp.co.nova.gate.api.features.spaceStation.domain.SpaceStation;
+import jp.co.nova.gate.utils.features.location.LocationTestDataBuilder;
+import jp.co.nova.gate.utils.features.route.RouteTestDataBuilder;
+import jp.co.nova.gate.utils.features.spaceShuttleModel.SpaceShuttleModelTestDataBuilder;
+import jp.co.nova.gate.utils.features.spaceStation.SpaceStationTestDataBuilder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RouteDistanceMatrix} class.
+ */
+public class RouteDistanceMatrixTest {
+
+    private static final SpaceStationTestDataBuilder SPACE_STATION_BUILDER = new SpaceStationTestDataBuilder();
+    private static final RouteTestDataBuilder ROUTE_BUILDER = new RouteTestDataBuilder();
+
+    private static final SpaceShuttleModel SHUTTLE_MODEL = new SpaceShuttleModelTestDataBuilder().create();
+
+    private static SpaceStation createStation(double longitude, double radialDistance) {
+        return SPACE_STATION_BUILDER.create(new LocationTestDataBuilder().withLongitude(longitude).withRadialDistance(radialDistance).create());
+    }
+
+    @Nested
+    class getDistance {
+        @Test
+        void whenTheStationsAreRegistered() {
+            // Given
+            SpaceStation earthStation = createStation(326, 1);
+            SpaceStation marsStation = createStation(13.1, 1.5);
+            SpaceStation venusStation = createStation(13.1, 0.72);
+
+            Route earthToMars = ROUTE_BUILDER.create(earthStation, marsStation, SHUTTLE_MODEL);
+            Route marsToVenus = ROUTE_BUILDER.create(marsStation, venusStation, SHUTTLE_MODEL);
+
+            // When
+            RouteDistanceMatrix.register(List.of(earthToMars));
+            RouteDistanceMatrix.register(List.of(marsToVenus));
+
+            // Then
+            assertTrue(RouteDistanceMatrix.isRegistered(venusStation));
+            assertEquals(RouteDistanceFactory.create(earthToMars).calculate(), RouteDistanceMatrix.getDistance(earthToMars));
+            assertEquals(RouteDistanceFactory.create(marsToVenus).calculate(), RouteDistanceMatrix.getDistance(marsToVenus));
+            assertEquals(RouteDistanceMatrix.getDistance(earthStation, venusStation), RouteDistanceMatrix.getDistance(venusStation, earthStation));
+            assertEquals(0, RouteDistanceMatrix.getDistance(marsStation, marsStation));
+        }
+
+        @Test
+        void whenAStationIsNotRegistered() {
+            // Given
+            Route route = ROUTE_BUILDER.create(createStation(326, 1), createStation(13.1, 1.5), SHUTTLE_MODEL);
+
+            // When
+            double routeDistance = RouteDistanceMatrix.getDistance(route);
+
+            // Then
+            assertFalse(RouteDistanceMatrix.isRegistered(route.getOrigin()));
+            assertEquals(RouteDistanceFactory.create(route).calculate(), routeDistance);
+        }
+
+        @Test
+        void whenTheRouteIsMissing() {
+            // When
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> RouteDistanceMatrix.getDistance(null));
+
+            // Then
+            assertEquals("The route to calculate the voyage distance with is missing.", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package jp.co.nova.gate.api.features.spaceShuttle.domain;
+
+import jp.co.nova.gate.api.features.pod.domain.Pod;
+import jp.co.nova.gate.api.features.pod.domain.PodStatus;
+import jp.co.nova.gate.api.features.spaceShuttleModel.domain.SpaceShuttleModel;
+import jp.co.nova.gate.utils.features.spaceShuttle.SpaceShuttleTestDataBuilder;
+import jp.co.nova.gate.utils.features.spaceShuttleModel.SpaceShuttleModelTestDataBuilder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SpaceShuttleLayoutRegistry} class.
+ */
+public class SpaceShuttleLayoutRegistryTest {
+
+    /**
+     * The builder to create {@link SpaceShuttle}s with.
+     */
+    private final SpaceShuttleTestDataBuilder spaceShuttleBuilder = new SpaceShuttleTestDataBuilder();
+
+    /**
+     * The builder to create {@link SpaceShuttleModel}s with.
+     */
+    private final SpaceShuttleModelTestDataBuilder spaceShuttleModelBuilder = new SpaceShuttleModelTestDataBuilder();
+
+    @Nested
+    class get {
+        @Test
+        void returnsTheSameLayoutForTheSameModel() {
+            // Given
+            SpaceShuttleModel shuttleModel = spaceShuttleModelBuilder.create();
+            SpaceShuttle firstShuttle = spaceShuttleBuilder.withModel(shuttleModel).create();
+            SpaceShuttle secondShuttle = spaceShuttleBuilder.withModel(shuttleModel).create();
+
+            // When
+            SpaceShuttleLayout firstLayout = firstShuttle.getLayout();
+            SpaceShuttleLayout secondLayout = secondShuttle.getLayout();
+
+            // Then
+            assertSame(firstLayout, secondLayout);
+            assertEquals(shuttleModel.getMaxCapacity(), firstLayout.getAllPods().size());
+        }
+
+        @Test
+        void returnsADifferentLayoutForADifferentModel() {
+            // Given
+            SpaceShuttleModel smallModel = spaceShuttleModelBuilder.withMaxCapacity(100).create();
+            SpaceShuttleModel largeModel = spaceShuttleModelBuilder.withMaxCapacity(200).create();
+
+            // When
+            SpaceShuttleLayout smallLayout = SpaceShuttleLayoutRegistry.get(smallModel);
+            SpaceShuttleLayout largeLayout = SpaceShuttleLayoutRegistry.get(largeModel);
+
+            // Then
+            assertNotSame(smallLayout, largeLayout);
+            assertEquals(100, smallLayout.getAllPods().size());
+            assertEquals(200, largeLayout.getAllPods().size());
+        }
+
+        @Test
+        void whenModelIsMissing() {
+            // Then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> SpaceShuttleLayoutRegistry.get(null));
+
+            assertEquals("The model of a space shuttle is missing.", exception.getMessage());
+        }
+
+        @Test
+        void layoutPodsAreNotModified() {
+            // Given
+            SpaceShuttleLayout layout = SpaceShuttleLayoutRegistry.get(spaceShuttleModelBuilder.create());
+            Pod firstPod = layout.getAllPods().getFirst();
+
+            // When
+            Pod unavailablePod = firstPod.withStatus(PodStatus.UNAVAILABLE);
+            List<Pod> podsWithAvailability = layout.getAllPodsWithAvailability(List.of());
+
+            // Then
+            assertEquals(PodStatus.UNAVAILABLE, unavailablePod.getStatus());
+            assertEquals(PodStatus.AVAILABLE, firstPod.getStatus());
+            assertTrue(podsWithAvailability.stream().allMatch(pod -> pod.getStatus() == PodStatus.AVAILABLE));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package jp.co.nova.gate.api.features.user.domain;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PasswordHashFactory} class.
+ */
+public class PasswordHashFactoryTest {
+
+    private static final String EXAMPLE_PASSWORD = "p@ssw0rd";
+
+    @Nested
+    class hash {
+        @Test
+        void withACost() {
+            // When
+            String hashedPassword = new PasswordHashFactory(EXAMPLE_PASSWORD, 5).hash();
+
+            // Then
+            assertTrue(hashedPassword.startsWith("$2a$05$"));
+            assertTrue(BCrypt.checkpw(EXAMPLE_PASSWORD, hashedPassword));
+        }
+
+        @Test
+        void withoutACost() {
+            // When
+            String hashedPassword = new PasswordHashFactory(EXAMPLE_PASSWORD).hash();
+
+            // Then
+            assertTrue(hashedPassword.startsWith("$2a$10$"));
+        }
+
+        @Test
+        void withAnInvalidCost() {
+            // When
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new PasswordHashFactory(EXAMPLE_PASSWORD, 3));
+
+            // Then
+            assertEquals("The cost factor of the password hash is invalid.", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package jp.co.nova.gate.api.features.voyage.domain;
+
+import jp.co.nova.gate.api.features.voyage.exception.VoyageException;
+import jp.co.nova.gate.utils.features.voyage.VoyageTestDataBuilder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link VoyageSearchCursor} class.
+ */
+public class VoyageSearchCursorTest {
+
+    @Nested
+    class decode {
+        @Test
+        void whenTokenWasEncodedByACursor() {
+            // Given
+            Voyage voyage = new VoyageTestDataBuilder().create();
+            VoyageSearchCursor cursor = VoyageSearchCursor.create(VoyageSortOrder.ARRIVAL_DATE_DESCENDING, voyage);
+
+            // When
+            VoyageSearchCursor decodedCursor = VoyageSearchCursor.decode(cursor.encode());
+
+            // Then
+            assertEquals(VoyageSortOrder.ARRIVAL_DATE_DESCENDING, decodedCursor.getSortOrder());
+            assertEquals(voyage.getId(), decodedCursor.getVoyageId());
+            assertTrue(voyage.getArrivalDate().isEqual(decodedCursor.getValue()));
+        }
+
+        @Test
+        void whenTokenIsInvalid() {
+            // Then
+            VoyageException exception = assertThrows(VoyageException.class, () -> VoyageSearchCursor.decode("not a cursor"));
+
+            assertEquals("The cursor of the voyage search is invalid.", exception.getMessage());
+        }
+    }
+}
@@ -5,24 +5,51 @@ import io.helidon.microprofile.testing.junit5.AddBean;
 import io.helidon.microprofile.testing.junit5.AddBeans;
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.InboundSseEvent;
+import jakarta.ws.rs.sse.SseEventSource;
+import jp.co.nova.gate.api.features.booking.input.BookingCreationForm;
 import jp.co.nova.gate.api.features.catalog.domain.PodType;
+import jp.co.nova.gate.api.features.passenger.input.PassengerCreationForm;
+import jp.co.nova.gate.api.features.pod.domain.PodStatus;
 import jp.co.nova.gate.api.features.pod.dto.PodDto;
+import jp.co.nova.gate.api.features.pod.service.PodAvailabilityBroadcaster;
 import jp.co.nova.gate.api.features.voyage.dto.VoyageBasicDto;
 import jp.co.nova.gate.api.features.voyage.dto.VoyageDto;
+import jp.co.nova.gate.api.features.voyage.dto.VoyageSearchPageDto;
+import jp.co.nova.gate.api.features.voyage.exception.VoyageError;
+import jp.co.nova.gate.api.shared.dto.DomainErrorDto;
+import jp.co.nova.gate.utils.features.passenger.PassengerCreationFormTestDataBuilder;
 import jp.co.nova.gate.utils.features.route.PersistedRouteTestScenario;
 import jp.co.nova.gate.utils.features.spaceShuttle.PersistedSpaceShuttleTestScenario;
 import jp.co.nova.gate.utils.features.spaceShuttleModel.PersistedSpaceShuttleModelTestScenario;
 import jp.co.nova.gate.utils.features.user.PersistedUserTestScenario;
 import jp.co.nova.gate.utils.features.voyage.PersistedVoyageTestScenario;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayoutFactory.DISTRIBUTION_RATIOS_BY_TYPE;
 import static jp.co.nova.gate.api.features.spaceShuttle.domain.SpaceShuttleLayoutFactory.MAX_PODS_PER_DECK_BY_TYPE;
@@ -54,6 +81,9 @@ public class VoyageEndpointTest {
     @Inject
     private WebTarget target;
 
+    @PersistenceUnit(unitName = "domain")
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     public void beforeEach() {
         persistedVoyageTestScenario.setup();
@@ -110,6 +140,31 @@ public class VoyageEndpointTest {
         testVoyageBasicDto(voyages.getFirst());
     }
 
+    @Test
+    void getAllVoyages_loadsAllVoyagesInOneStatement() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            // When
+            Response response = target.path("/voyages").request().get();
+
+            // Then
+            assertEquals(Status.OK_200.code(), response.getStatus());
+
+            List<VoyageBasicDto> voyages = response.readEntity(new GenericType<>() {
+            });
+            assertTrue(voyages.size() > 1);
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(1, statistics.getQueryExecutionCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void getVoyageById() {
         // Given
@@ -191,6 +246,65 @@ public class VoyageEndpointTest {
         testVoyageBasicDto(voyages.getFirst());
     }
 
+    @Test
+    void searchVoyages() {
+        // Given
+        List<VoyageBasicDto> foundVoyages = new ArrayList<>();
+        String cursor = null;
+
+        // When
+        do {
+            WebTarget searchTarget = target.path("/voyages/search")
+                    .queryParam("originId", JAPAN_SPACE_STATION_ID)
+                    .queryParam("limit", 5);
+
+            if (cursor != null) {
+                searchTarget = searchTarget.queryParam("cursor", cursor);
+            }
+
+            Response response = searchTarget.request().get();
+            assertEquals(Status.OK_200.code(), response.getStatus());
+
+            VoyageSearchPageDto page = response.readEntity(VoyageSearchPageDto.class);
+            assertTrue(page.voyages.size() <= 5);
+
+            foundVoyages.addAll(page.voyages);
+            cursor = page.nextCursor;
+        } while (cursor != null);
+
+        // Then
+        List<VoyageBasicDto> expectedVoyages = target.path(String.format("/voyages/from/%s", JAPAN_SPACE_STATION_ID)).request().get()
+                .readEntity(new GenericType<>() {
+                });
+
+        assertFalse(foundVoyages.isEmpty());
+        assertEquals(expectedVoyages.size(), foundVoyages.size());
+        assertEquals(foundVoyages.size(), new HashSet<>(foundVoyages.stream().map(voyage -> voyage.id).toList()).size());
+
+        foundVoyages.forEach(voyage -> assertEquals(JAPAN_SPACE_STATION_ID, voyage.originId));
+
+        for (int index = 1; index < foundVoyages.size(); index++) {
+            ZonedDateTime previousDeparture = ZonedDateTime.parse(foundVoyages.get(index - 1).departureDate);
+            ZonedDateTime departure = ZonedDateTime.parse(foundVoyages.get(index).departureDate);
+            assertFalse(departure.isBefore(previousDeparture));
+        }
+
+        testVoyageBasicDto(foundVoyages.getFirst());
+    }
+
+    @Test
+    void searchVoyages_whenSortIsUnknown() {
+        // When
+        Response response = target.path("/voyages/search").queryParam("sort", "price").request().get();
+
+        // Then
+        assertNotNull(response);
+        assertEquals(Status.BAD_REQUEST_400.code(), response.getStatus());
+
+        DomainErrorDto error = response.readEntity(DomainErrorDto.class);
+        assertEquals(VoyageError.INVALID_SEARCH_CRITERIA.getKey(), error.key);
+    }
+
     @Test
     void getAllVoyagePods() {
         // When
@@ -232,4 +346,73 @@ public class VoyageEndpointTest {
         testTypePodDtoCollection(pods, PodType.ENHANCED_POD);
         testTypePodDtoCollection(pods, PodType.PRIVATE_SUITE_POD);
     }
+
+    @Test
+    void streamVoyagePods() throws Exception {
+        // Given
+        CompletableFuture<InboundSseEvent> firstEvent = new CompletableFuture<>();
+
+        // When
+        try (SseEventSource eventSource = SseEventSource.target(target.path(String.format("/voyages/%s/pods/stream", persistedVoyageTestScenario.getPersistedVoyage().getId()))).build()) {
+            eventSource.register(firstEvent::complete, firstEvent::completeExceptionally);
+            eventSource.open();
+
+            InboundSseEvent event = firstEvent.get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(PodAvailabilityBroadcaster.PODS_EVENT, event.getName());
+
+            List<PodDto> pods = event.readData(new GenericType<>() {
+            }, MediaType.APPLICATION_JSON_TYPE);
+            assertEquals(persistedVoyageTestScenario.getPersistedSpaceShuttle().getModel().getMaxCapacity(), pods.size());
+        }
+    }
+
+    @Test
+    void streamVoyagePods_whenABookingIsCreated() throws Exception {
+        // Given
+        String voyageId = persistedVoyageTestScenario.getPersistedVoyage().getId();
+        PassengerCreationForm passengerForm = new PassengerCreationFormTestDataBuilder().create();
+        BlockingQueue<InboundSseEvent> events = new LinkedBlockingQueue<>();
+
+        try (SseEventSource eventSource = SseEventSource.target(target.path(String.format("/voyages/%s/pods/stream", voyageId))).build()) {
+            eventSource.register(events::add);
+            eventSource.open();
+
+            InboundSseEvent seatMapEvent = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(seatMapEvent);
+            assertEquals(PodAvailabilityBroadcaster.PODS_EVENT, seatMapEvent.getName());
+
+            // When
+            Response response = target.path("bookings").request()
+                    .header(HttpHeaders.AUTHORIZATION, persistedUserTestScenario.generateAuthenticationHeader())
+                    .post(Entity.json(new BookingCreationForm(voyageId, List.of(passengerForm))));
+
+            // Then
+            assertEquals(Status.OK_200.code(), response.getStatus());
+
+            InboundSseEvent podStatusEvent = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(podStatusEvent);
+            assertEquals(PodAvailabilityBroadcaster.POD_STATUS_EVENT, podStatusEvent.getName());
+
+            try (JsonReader reader = Json.createReader(new StringReader(podStatusEvent.readData()))) {
+                JsonObject podStatuses = reader.readObject();
+                assertEquals(PodStatus.UNAVAILABLE.getLabel(), podStatuses.getString(passengerForm.podCode));
+            }
+        }
+    }
+
+    @Test
+    void streamVoyagePods_whenTheVoyageIsUnknown() {
+        // When
+        Response response = target.path("/voyages/unknown/pods/stream").request(MediaType.SERVER_SENT_EVENTS)
+                .header(HttpHeaders.AUTHORIZATION, persistedUserTestScenario.generateAuthenticationHeader())
+                .get();
+
+        // Then
+        assertEquals(Status.NOT_FOUND_404.code(), response.getStatus());
+
+        DomainErrorDto error = response.readEntity(DomainErrorDto.class);
+        assertEquals(VoyageError.FIND_BY_ID.getKey(), error.key);
+    }
 }
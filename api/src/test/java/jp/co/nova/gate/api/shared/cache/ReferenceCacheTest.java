@@ -0,0 +1,164 @@
+package jp.co.nova.gate.api.shared.cache;
+
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ReferenceCache} class.
+ */
+@HelidonTest
+public class ReferenceCacheTest {
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Creates a new {@link ReferenceCache} of IDs with a unique name.
+     *
+     * @param maxSize The maximum size of the cache.
+     * @return A new {@link ReferenceCache}.
+     */
+    private ReferenceCache<String> createCache(int maxSize) {
+        return new ReferenceCache<>("test." + UUID.randomUUID(), maxSize, Function.identity(), metricRegistry);
+    }
+
+    private long getCount(ReferenceCache<?> cache, String metric) {
+        return metricRegistry.counter(String.format("cache.%s.%s", cache.getName(), metric)).getCount();
+    }
+
+    @Nested
+    class findById {
+        @Test
+        void whenTheEntityIsCached() {
+            // Given
+            ReferenceCache<String> cache = createCache(10);
+            AtomicInteger loads = new AtomicInteger();
+            Function<String, Optional<String>> loader = id -> {
+                loads.incrementAndGet();
+                return Optional.of(id);
+            };
+
+            // When
+            Optional<String> firstResult = cache.findById("a", loader);
+            Optional<String> secondResult = cache.findById("a", loader);
+
+            // Then
+            assertEquals(Optional.of("a"), firstResult);
+            assertEquals(Optional.of("a"), secondResult);
+            assertEquals(1, loads.get());
+            assertEquals(1, getCount(cache, "hits"));
+            assertEquals(1, getCount(cache, "misses"));
+        }
+
+        @Test
+        void whenTheEntityDoesNotExist() {
+            // Given
+            ReferenceCache<String> cache = createCache(10);
+            AtomicInteger loads = new AtomicInteger();
+
+            // When
+            cache.findById("a", id -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+            Optional<String> result = cache.findById("a", id -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+
+            // Then
+            assertTrue(result.isEmpty());
+            assertEquals(2, loads.get());
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        void whenTheCacheIsFull() {
+            // Given
+            ReferenceCache<String> cache = createCache(2);
+
+            // When
+            List.of("a", "b", "c").forEach(id -> cache.findById(id, Optional::of));
+
+            // Then
+            assertEquals(2, cache.size());
+            assertEquals(Optional.of("c"), cache.findById("c", id -> Optional.empty()));
+        }
+    }
+
+    @Nested
+    class getAll {
+        @Test
+        void whenTheEntitiesAreCached() {
+            // Given
+            ReferenceCache<String> cache = createCache(10);
+            AtomicInteger loads = new AtomicInteger();
+
+            // When
+            cache.getAll(() -> {
+                loads.incrementAndGet();
+                return List.of("a", "b");
+            });
+            List<String> result = cache.getAll(() -> {
+                loads.incrementAndGet();
+                return List.of();
+            });
+
+            // Then
+            assertEquals(List.of("a", "b"), result);
+            assertEquals(1, loads.get());
+            assertEquals(Optional.of("b"), cache.findById("b", id -> Optional.empty()));
+        }
+
+        @Test
+        void whenTheEntitiesExceedTheMaximumSize() {
+            // Given
+            ReferenceCache<String> cache = createCache(1);
+            AtomicInteger loads = new AtomicInteger();
+
+            // When
+            cache.getAll(() -> {
+                loads.incrementAndGet();
+                return List.of("a", "b");
+            });
+            List<String> result = cache.getAll(() -> {
+                loads.incrementAndGet();
+                return List.of("a", "b");
+            });
+
+            // Then
+            assertEquals(List.of("a", "b"), result);
+            assertEquals(2, loads.get());
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Nested
+    class invalidate {
+        @Test
+        void whenTheCacheHasEntities() {
+            // Given
+            ReferenceCache<String> cache = createCache(10);
+            cache.getAll(() -> List.of("a", "b"));
+
+            // When
+            cache.invalidate();
+
+            // Then
+            assertEquals(0, cache.size());
+            assertEquals(List.of("c"), cache.getAll(() -> List.of("c")));
+            assertTrue(cache.findById("a", id -> Optional.empty()).isEmpty());
+        }
+    }
+}
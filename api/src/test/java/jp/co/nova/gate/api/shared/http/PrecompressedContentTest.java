@@ -0,0 +1,132 @@
+package jp.co.nova.gate.api.shared.http;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PrecompressedContent} class.
+ */
+public class PrecompressedContentTest {
+
+    private static final byte[] CONTENT = "{\"hello\":\"world\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Nested
+    class create {
+        @Test
+        void withContent() throws IOException {
+            // When
+            PrecompressedContent precompressedContent = PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, CONTENT);
+
+            // Then
+            assertArrayEquals(CONTENT, precompressedContent.getContent());
+            assertTrue(precompressedContent.getEtag().startsWith("\""));
+
+            try (InputStream gzipContent = new GZIPInputStream(new ByteArrayInputStream(precompressedContent.getGzipContent()))) {
+                assertArrayEquals(CONTENT, gzipContent.readAllBytes());
+            }
+
+            assertEquals(Brotli4jLoader.isAvailable(), precompressedContent.getBrotliContent().isPresent());
+
+            if (Brotli4jLoader.isAvailable()) {
+                assertArrayEquals(CONTENT, Decoder.decompress(precompressedContent.getBrotliContent().orElseThrow()).getDecompressedData());
+            }
+        }
+
+        @Test
+        void withTheSameContent() {
+            // When
+            PrecompressedContent firstContent = PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, CONTENT);
+            PrecompressedContent secondContent = PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, CONTENT.clone());
+
+            // Then
+            assertEquals(firstContent.getEtag(), secondContent.getEtag());
+        }
+
+        @Test
+        void withoutContent() {
+            // When
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, null));
+
+            // Then
+            assertEquals("The content is missing.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    class accepts {
+        @Test
+        void whenTheCodingIsAccepted() {
+            assertTrue(PrecompressedContent.accepts("gzip", PrecompressedContent.GZIP));
+            assertTrue(PrecompressedContent.accepts("br, gzip;q=0.8", PrecompressedContent.GZIP));
+            assertTrue(PrecompressedContent.accepts("br, gzip;q=0.8", PrecompressedContent.BROTLI));
+            assertTrue(PrecompressedContent.accepts("*", PrecompressedContent.BROTLI));
+        }
+
+        @Test
+        void whenTheCodingIsNotAccepted() {
+            assertFalse(PrecompressedContent.accepts(null, PrecompressedContent.GZIP));
+            assertFalse(PrecompressedContent.accepts("identity", PrecompressedContent.GZIP));
+            assertFalse(PrecompressedContent.accepts("gzip;q=0", PrecompressedContent.GZIP));
+            assertFalse(PrecompressedContent.accepts("gzip", PrecompressedContent.BROTLI));
+            assertFalse(PrecompressedContent.accepts("br;q=0, gzip", PrecompressedContent.BROTLI));
+        }
+    }
+
+    @Nested
+    class toResponse {
+        @Test
+        void whenBrotliAndGzipAreAccepted() {
+            // Given
+            PrecompressedContent precompressedContent = PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, CONTENT);
+
+            // When
+            Response response = precompressedContent.toResponse("gzip, br").build();
+
+            // Then
+            String expectedCoding = Brotli4jLoader.isAvailable() ? PrecompressedContent.BROTLI : PrecompressedContent.GZIP;
+
+            assertEquals(expectedCoding, response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+            assertTrue(response.getHeaderString(HttpHeaders.ETAG).endsWith("-" + expectedCoding + "\""));
+            assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaderString(HttpHeaders.VARY));
+        }
+
+        @Test
+        void whenOnlyGzipIsAccepted() {
+            // Given
+            PrecompressedContent precompressedContent = PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, CONTENT);
+
+            // When
+            Response response = precompressedContent.toResponse("gzip").build();
+
+            // Then
+            assertEquals(PrecompressedContent.GZIP, response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+            assertArrayEquals(precompressedContent.getGzipContent(), (byte[]) response.getEntity());
+        }
+
+        @Test
+        void whenNoCodingIsAccepted() {
+            // Given
+            PrecompressedContent precompressedContent = PrecompressedContent.create(MediaType.APPLICATION_JSON_TYPE, CONTENT);
+
+            // When
+            Response response = precompressedContent.toResponse(null).build();
+
+            // Then
+            assertNull(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(precompressedContent.getEtag(), response.getHeaderString(HttpHeaders.ETAG));
+        }
+    }
+}
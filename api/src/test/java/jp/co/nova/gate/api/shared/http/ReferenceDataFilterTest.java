@@ -0,0 +1,107 @@
+package jp.co.nova.gate.api.shared.http;
+
+import io.helidon.http.Status;
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ReferenceDataFilter} class.
+ */
+@HelidonTest
+public class ReferenceDataFilterTest {
+
+    @Inject
+    private WebTarget target;
+
+    @Inject
+    private ReferenceDataFilter referenceDataFilter;
+
+    @AfterEach
+    void invalidate() {
+        referenceDataFilter.invalidate();
+    }
+
+    @Nested
+    class matches {
+        @Test
+        void whenTheTagMatches() {
+            assertTrue(ReferenceDataFilter.matches("\"a\"", "\"a\""));
+            assertTrue(ReferenceDataFilter.matches("\"b\", \"a\"", "\"a\""));
+            assertTrue(ReferenceDataFilter.matches("W/\"a\"", "\"a\""));
+            assertTrue(ReferenceDataFilter.matches("*", "\"a\""));
+        }
+
+        @Test
+        void whenTheTagDoesNotMatch() {
+            assertFalse(ReferenceDataFilter.matches("\"b\"", "\"a\""));
+            assertFalse(ReferenceDataFilter.matches(null, "\"a\""));
+            assertFalse(ReferenceDataFilter.matches("\"a\"", null));
+        }
+    }
+
+    @Nested
+    class filter {
+        @Test
+        void whenTheResponseIsNew() {
+            // When
+            Response response = target.path("catalog/genders").request().get();
+
+            // Then
+            assertEquals(Status.OK_200.code(), response.getStatus());
+            assertNotNull(response.getHeaderString(HttpHeaders.ETAG));
+            assertTrue(response.getHeaderString(HttpHeaders.CACHE_CONTROL).contains("max-age="));
+        }
+
+        @Test
+        void whenTheResponseIsUnchanged() {
+            // Given
+            String etag = target.path("catalog/genders").request().get().getHeaderString(HttpHeaders.ETAG);
+
+            // When
+            Response response = target.path("catalog/genders").request().header(HttpHeaders.IF_NONE_MATCH, etag).get();
+
+            // Then
+            assertEquals(Status.NOT_MODIFIED_304.code(), response.getStatus());
+            assertEquals(etag, response.getHeaderString(HttpHeaders.ETAG));
+            assertFalse(response.hasEntity());
+        }
+
+        @Test
+        void whenTheResponseChanged() {
+            // When
+            Response response = target.path("catalog/genders").request().header(HttpHeaders.IF_NONE_MATCH, "\"outdated\"").get();
+
+            // Then
+            assertEquals(Status.OK_200.code(), response.getStatus());
+            assertNotEquals("\"outdated\"", response.getHeaderString(HttpHeaders.ETAG));
+        }
+
+        @Test
+        void whenTheRequestHasAnUnknownQueryParameter() {
+            // When
+            Response response = target.path("locations").queryParam("unknown", "1").request().get();
+
+            // Then
+            assertEquals(Status.OK_200.code(), response.getStatus());
+            assertNull(response.getHeaderString(HttpHeaders.ETAG));
+            assertTrue(response.getHeaderString(HttpHeaders.CACHE_CONTROL).contains("max-age="));
+        }
+
+        @Test
+        void whenTheEndpointIsNotReferenceData() {
+            // When
+            Response response = target.path("bookings").request().get();
+
+            // Then
+            assertNull(response.getHeaderString(HttpHeaders.ETAG));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package jp.co.nova.gate.api.shared.repository;
+
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnit;
+import jakarta.transaction.Transactional;
+import jp.co.nova.gate.api.features.location.domain.Location;
+import jp.co.nova.gate.api.features.location.repository.LocationRepository;
+import jp.co.nova.gate.utils.features.location.LocationTestDataBuilder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BulkWriter} class.
+ */
+@Transactional(Transactional.TxType.REQUIRED)
+@HelidonTest
+class BulkWriterTest {
+
+    @Inject
+    private LocationRepository locationRepository;
+
+    @PersistenceContext(unitName = "domain")
+    private EntityManager entityManager;
+
+    @PersistenceUnit(unitName = "domain")
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void afterEach() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    /**
+     * Creates new locations with a distinct name.
+     *
+     * @param count The amount of locations to create.
+     * @param name  The prefix of the names of the locations.
+     * @return A {@link List} of new {@link Location}s.
+     */
+    private List<Location> createLocations(int count, String name) {
+        List<Location> locations = new ArrayList<>(count);
+
+        for (int index = 0; index < count; index++) {
+            locations.add(new LocationTestDataBuilder().withName(String.format("%s %d", name, index)).create());
+        }
+
+        return locations;
+    }
+
+    /**
+     * Persists the provided locations, and detaches them from the persistence context.
+     *
+     * @param locations The locations to persist.
+     */
+    private void persistAndDetach(List<Location> locations) {
+        locations.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void save_persistsNewAndMergesExistingEntitiesAcrossBatches() {
+        // Given
+        int batchSize = BulkWriter.getBatchSize(entityManager);
+        int entityCount = batchSize + batchSize / 2;
+
+        List<Location> existingLocations = createLocations(entityCount / 2, "Existing location");
+        persistAndDetach(existingLocations);
+
+        List<Location> locations = new ArrayList<>(entityCount);
+
+        for (Location existingLocation : existingLocations) {
+            locations.add(Location.reconstruct(existingLocation.getId(), existingLocation.getName() + " renamed", existingLocation.getLatitude(), existingLocation.getLongitude(), existingLocation.getRadialDistance(), Collections.emptyList()));
+        }
+
+        List<Location> newLocations = createLocations(entityCount - existingLocations.size(), "New location");
+        locations.addAll(newLocations);
+        Collections.shuffle(locations);
+
+        statistics.clear();
+
+        // When
+        List<Location> savedLocations = locationRepository.save(locations);
+
+        // Then
+        int batchCount = (entityCount + batchSize - 1) / batchSize;
+
+        assertEquals(batchCount, statistics.getQueryExecutionCount());
+        assertEquals(newLocations.size(), statistics.getEntityInsertCount());
+        assertEquals(existingLocations.size(), statistics.getEntityUpdateCount());
+        assertEquals(existingLocations.size(), statistics.getEntityLoadCount());
+
+        assertEquals(locations.size(), savedLocations.size());
+
+        for (int index = 0; index < locations.size(); index++) {
+            Location location = locations.get(index);
+            Location savedLocation = savedLocations.get(index);
+
+            assertEquals(location.getId(), savedLocation.getId());
+            assertEquals(location.getName(), savedLocation.getName());
+
+            if (newLocations.contains(location)) {
+                assertSame(location, savedLocation);
+            } else {
+                assertNotSame(location, savedLocation);
+            }
+        }
+
+        entityManager.clear();
+
+        for (Location existingLocation : existingLocations) {
+            assertTrue(entityManager.find(Location.class, existingLocation.getId()).getName().endsWith(" renamed"));
+        }
+    }
+
+    @Test
+    void save_clearsThePersistenceContextBetweenBatches() {
+        // Given
+        int batchSize = BulkWriter.getBatchSize(entityManager);
+        List<Location> locations = createLocations(batchSize + 1, "Location");
+
+        // When
+        List<Location> savedLocations = locationRepository.save(locations);
+
+        // Then
+        assertFalse(entityManager.contains(savedLocations.getFirst()));
+        assertFalse(entityManager.contains(savedLocations.get(batchSize - 1)));
+        assertTrue(entityManager.contains(savedLocations.getLast()));
+
+        entityManager.clear();
+
+        for (Location location : locations) {
+            assertNotNull(entityManager.find(Location.class, location.getId()));
+        }
+    }
+
+    @Test
+    void save_sendsFewerStatementsThanSavingOneAtATime() {
+        // Given
+        int entityCount = BulkWriter.getBatchSize(entityManager) * 2;
+
+        List<Location> singleLocations = createLocations(entityCount, "Single location");
+        List<Location> bulkLocations = createLocations(entityCount, "Bulk location");
+
+        statistics.clear();
+        singleLocations.forEach(locationRepository::save);
+        entityManager.flush();
+        long singleStatementCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+
+        // When
+        locationRepository.save(bulkLocations);
+
+        // Then
+        long bulkStatementCount = statistics.getPrepareStatementCount();
+
+        assertTrue(singleStatementCount >= entityCount, String.format("Expected a query per location, but %d statements were prepared.", singleStatementCount));
+        assertTrue(bulkStatementCount <= 4, String.format("Expected one query and one batched insert per batch, but %d statements were prepared.", bulkStatementCount));
+    }
+}
@@ -0,0 +1,78 @@
+package jp.co.nova.gate.api.shared.tracing;
+
+import io.helidon.http.Status;
+import io.helidon.microprofile.testing.junit5.AddConfig;
+import io.helidon.microprofile.testing.junit5.HelidonTest;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Response;
+import jp.co.nova.gate.utils.shared.TestSpanExporterProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the calls to {@link Traced} beans are recorded by the {@link TracedInterceptor} as spans of the trace of
+ * their request.
+ */
+@HelidonTest
+@AddConfig(key = "otel.traces.exporter", value = "memory")
+@AddConfig(key = "otel.bsp.schedule.delay", value = "10")
+public class TracedInterceptorTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    @Inject
+    private WebTarget target;
+
+    @BeforeEach
+    void clear() {
+        TestSpanExporterProvider.clear();
+    }
+
+    /**
+     * Waits until a span with the provided name is exported, since the spans are exported in batches.
+     *
+     * @param name The name of the span.
+     * @return The exported span, if it was exported within a few seconds.
+     */
+    private Optional<SpanData> awaitSpan(String name) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Optional<SpanData> span = TestSpanExporterProvider.getSpans().stream()
+                    .filter(spanData -> spanData.getName().equals(name))
+                    .findFirst();
+
+            if (span.isPresent()) {
+                return span;
+            }
+
+            Thread.sleep(50);
+        }
+
+        return Optional.empty();
+    }
+
+    @Test
+    void whenARequestContinuesATrace() throws InterruptedException {
+        // When
+        Response response = target.path("locations").request()
+                .header("traceparent", String.format("00-%s-%s-01", TRACE_ID, PARENT_SPAN_ID))
+                .get();
+
+        // Then
+        assertEquals(Status.OK_200.code(), response.getStatus());
+
+        SpanData serviceSpan = awaitSpan("LocationService.getAll").orElseThrow();
+        List<SpanData> spans = TestSpanExporterProvider.getSpans();
+
+        assertEquals(TRACE_ID, serviceSpan.getTraceId());
+        assertTrue(serviceSpan.getParentSpanContext().isValid());
+        assertTrue(spans.stream().anyMatch(span -> span.getParentSpanId().equals(PARENT_SPAN_ID)), spans::toString);
+    }
+}
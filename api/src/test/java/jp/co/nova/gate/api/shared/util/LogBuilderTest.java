@@ -1,9 +1,18 @@
 package jp.co.nova.gate.api.shared.util;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
 import jp.co.nova.gate.api.features.booking.exception.BookingError;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -89,6 +98,70 @@ class LogBuilderTest {
             // Then
             assertEquals(String.format("Hello world: %s [%s=%s]", exception.getMessage(), propertyKey, propertyValue), logMessage);
         }
+
+        @Test
+        void withinATrace() {
+            // Given
+            String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+            Span span = Span.wrap(SpanContext.create(traceId, "00f067aa0ba902b7", TraceFlags.getSampled(), TraceState.getDefault()));
+
+            // When
+            String logMessage;
+
+            try (Scope ignored = span.makeCurrent()) {
+                logMessage = new LogBuilder(BASE_MESSAGE).withProperty("id", "404").build();
+            }
+
+            // Then
+            assertEquals(String.format("%s [traceId=%s, id=404]", BASE_MESSAGE, traceId), logMessage);
+        }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class get {
+        @Test
+        void whenTheLevelIsEnabled() {
+            // Given
+            LogBuilder logBuilder = new LogBuilder(BookingError.MISSING_ID).withProperty("id", "404");
+
+            // When
+            String logMessage = logBuilder.get();
+
+            // Then
+            assertEquals(logBuilder.build(), logMessage);
+        }
+
+        @Test
+        void whenTheLevelIsDisabled() {
+            // Given
+            Logger logger = Logger.getLogger(LogBuilderTest.class.getName());
+            logger.setLevel(Level.OFF);
+
+            AtomicInteger renderCount = new AtomicInteger();
+            Object property = new Object() {
+                @Override
+                public String toString() {
+                    return String.valueOf(renderCount.incrementAndGet());
+                }
+            };
+
+            // When
+            logger.warning(new LogBuilder("Hello world!").withProperty("count", property));
+
+            // Then
+            assertEquals(0, renderCount.get());
+        }
+
+        @Test
+        void whenTheMessageEndsWithWhitespace() {
+            // Given
+            RuntimeException exception = new RuntimeException("The roof is on fire!");
+
+            // When
+            String logMessage = new LogBuilder("Hello world! \n").withException(exception).get();
+
+            // Then
+            assertEquals(String.format("Hello world: %s", exception.getMessage()), logMessage);
+        }
+    }
+}
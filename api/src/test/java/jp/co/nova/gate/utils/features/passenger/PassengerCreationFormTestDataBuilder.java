@@ -26,6 +26,7 @@ public class PassengerCreationFormTestDataBuilder {
 
     private PackageType packageType;
     private MealPreference mealPreference;
+    private boolean withoutPodCode;
 
     public PassengerCreationFormTestDataBuilder() {
     }
@@ -40,6 +41,11 @@ public class PassengerCreationFormTestDataBuilder {
         return this;
     }
 
+    public PassengerCreationFormTestDataBuilder withoutPodCode() {
+        this.withoutPodCode = true;
+        return this;
+    }
+
     /**
      * Creates a new test {@link PassengerCreationForm}.
      *
@@ -50,7 +56,7 @@ public class PassengerCreationFormTestDataBuilder {
             PackageType selectedPackageType = Optional.ofNullable(packageType).orElse(DEFAULT_PACKAGE_TYPE);
 
             PodType selectedPodType = PodType.findByPackageType(selectedPackageType).orElseThrow(() -> new PodException(PodError.MISSING_TYPE));
-            String podCode = new PodCodeFactory(selectedPodType.getPodCodePrefix(), DEFAULT_POD_DECK_NUMBER, DEFAULT_POD_NUMBER).create();
+            String podCode = withoutPodCode ? null : new PodCodeFactory(selectedPodType.getPodCodePrefix(), DEFAULT_POD_DECK_NUMBER, DEFAULT_POD_NUMBER).create();
 
             return new PassengerCreationForm(
                     podCode,
@@ -1,6 +1,9 @@
 package jp.co.nova.gate.utils.shared;
 
+import jakarta.enterprise.inject.spi.CDI;
 import jp.co.nova.gate.api.application.FlywayProvider;
+import jp.co.nova.gate.api.shared.cache.ReferenceCacheFactory;
+import jp.co.nova.gate.api.shared.http.ReferenceDataFilter;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
@@ -8,5 +11,7 @@ public class DatabaseResetExtension implements AfterEachCallback {
     @Override
     public void afterEach(ExtensionContext context) throws Exception {
         FlywayProvider.reset();
+        CDI.current().select(ReferenceCacheFactory.class).get().invalidateAll();
+        CDI.current().select(ReferenceDataFilter.class).get().invalidate();
     }
 }
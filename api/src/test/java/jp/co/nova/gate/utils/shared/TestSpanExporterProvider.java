@@ -0,0 +1,62 @@
+package jp.co.nova.gate.utils.shared;
+
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Provider of the {@code memory} span exporter, which keeps the exported spans in memory so that the tests can check
+ * them. A test uses it by setting {@code otel.traces.exporter} to {@code memory}.
+ */
+public class TestSpanExporterProvider implements ConfigurableSpanExporterProvider {
+
+    private static final List<SpanData> SPANS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the spans exported since they were last cleared.
+     *
+     * @return A {@link List} of the exported spans.
+     */
+    public static List<SpanData> getSpans() {
+        return List.copyOf(SPANS);
+    }
+
+    /**
+     * Clears the exported spans.
+     */
+    public static void clear() {
+        SPANS.clear();
+    }
+
+    @Override
+    public SpanExporter createExporter(ConfigProperties config) {
+        return new SpanExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                SPANS.addAll(spans);
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode flush() {
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofSuccess();
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+}